@@ -0,0 +1,31 @@
+/*
+ * Copyright DataStax, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.quarkus.deployment.internal;
+
+import io.quarkus.builder.item.MultiBuildItem;
+
+/** The name of a named Cassandra client, as found in a {@code @CassandraClient} qualifier. */
+public final class CassandraClientNameBuildItem extends MultiBuildItem {
+  private final String name;
+
+  public CassandraClientNameBuildItem(String name) {
+    this.name = name;
+  }
+
+  public String getName() {
+    return name;
+  }
+}
@@ -23,13 +23,18 @@ import com.datastax.oss.driver.internal.core.metrics.DefaultMetricsFactory;
 import com.datastax.oss.driver.internal.core.metrics.TaggingMetricIdGenerator;
 import com.datastax.oss.driver.internal.core.os.Native;
 import com.datastax.oss.quarkus.deployment.api.CassandraClientBuildTimeConfig;
+import com.datastax.oss.quarkus.runtime.api.session.CassandraClient;
+import com.datastax.oss.quarkus.runtime.api.session.QuarkusCqlSession;
 import com.datastax.oss.quarkus.runtime.internal.quarkus.CassandraClientProducer;
 import com.datastax.oss.quarkus.runtime.internal.quarkus.CassandraClientRecorder;
 import com.datastax.oss.quarkus.runtime.internal.quarkus.CassandraClientStarter;
 import io.quarkus.arc.deployment.AdditionalBeanBuildItem;
 import io.quarkus.arc.deployment.BeanContainerBuildItem;
+import io.quarkus.arc.deployment.BeanRegistrationPhaseBuildItem;
+import io.quarkus.arc.deployment.SyntheticBeanBuildItem;
 import io.quarkus.arc.deployment.SyntheticBeansRuntimeInitBuildItem;
 import io.quarkus.arc.deployment.UnremovableBeanBuildItem;
+import io.quarkus.arc.processor.InjectionPointInfo;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.annotations.Consume;
@@ -42,12 +47,21 @@ import io.quarkus.deployment.builditem.nativeimage.RuntimeInitializedClassBuildI
 import io.quarkus.deployment.metrics.MetricsCapabilityBuildItem;
 import io.quarkus.runtime.metrics.MetricsFactory;
 import io.quarkus.smallrye.health.deployment.spi.HealthBuildItem;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CompletionStage;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.ClassType;
 import org.jboss.jandex.DotName;
+import org.jboss.jandex.ParameterizedType;
+import org.jboss.jandex.Type;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -57,6 +71,20 @@ class CassandraClientProcessor {
 
   private static final Logger LOG = LoggerFactory.getLogger(CassandraClientProcessor.class);
 
+  private static final DotName CASSANDRA_CLIENT_QUALIFIER =
+      DotName.createSimple(CassandraClient.class.getName());
+
+  private static final Type SESSION_TYPE =
+      ClassType.create(DotName.createSimple(QuarkusCqlSession.class.getName()));
+
+  private static final Type SESSION_STAGE_TYPE =
+      ParameterizedType.create(
+          DotName.createSimple(CompletionStage.class.getName()), new Type[] {SESSION_TYPE}, null);
+
+  private static final Type SESSION_UNI_TYPE =
+      ParameterizedType.create(
+          DotName.createSimple(Uni.class.getName()), new Type[] {SESSION_TYPE}, null);
+
   @BuildStep
   FeatureBuildItem feature() {
     return new FeatureBuildItem(CASSANDRA_CLIENT);
@@ -306,6 +334,59 @@ class CassandraClientProcessor {
     return new CassandraClientBuildItem(recorder.buildClient(shutdown));
   }
 
+  @BuildStep
+  void collectCassandraClientNames(
+      BeanRegistrationPhaseBuildItem registrationPhase,
+      BuildProducer<CassandraClientNameBuildItem> clientNames) {
+    Set<String> names = new TreeSet<>();
+    for (InjectionPointInfo injectionPoint : registrationPhase.getInjectionPoints()) {
+      AnnotationInstance qualifier =
+          injectionPoint.getRequiredQualifier(CASSANDRA_CLIENT_QUALIFIER);
+      if (qualifier != null) {
+        names.add(qualifier.value().asString());
+      }
+    }
+    for (String name : names) {
+      LOG.debug("Found named Cassandra client: {}", name);
+      clientNames.produce(new CassandraClientNameBuildItem(name));
+    }
+  }
+
+  @BuildStep
+  @Record(RUNTIME_INIT)
+  void cassandraNamedClients(
+      CassandraClientRecorder recorder,
+      List<CassandraClientNameBuildItem> clientNames,
+      BuildProducer<SyntheticBeanBuildItem> syntheticBeans) {
+    for (CassandraClientNameBuildItem clientName : clientNames) {
+      String name = clientName.getName();
+      AnnotationInstance qualifier =
+          AnnotationInstance.builder(CASSANDRA_CLIENT_QUALIFIER).value(name).build();
+      syntheticBeans.produce(
+          namedClientBean(SESSION_STAGE_TYPE, qualifier)
+              .supplier(recorder.namedSessionStageSupplier(name))
+              .done());
+      syntheticBeans.produce(
+          namedClientBean(SESSION_TYPE, qualifier)
+              .supplier(recorder.namedSessionSupplier(name))
+              .done());
+      syntheticBeans.produce(
+          namedClientBean(SESSION_UNI_TYPE, qualifier)
+              .supplier(recorder.namedSessionUniSupplier(name))
+              .done());
+    }
+  }
+
+  private static SyntheticBeanBuildItem.ExtendedBeanConfigurator namedClientBean(
+      Type type, AnnotationInstance qualifier) {
+    return SyntheticBeanBuildItem.configure(type.name())
+        .types(type)
+        .addQualifier(qualifier)
+        .scope(ApplicationScoped.class)
+        .unremovable()
+        .setRuntimeInit();
+  }
+
   @BuildStep
   HealthBuildItem addHealthCheck(CassandraClientBuildTimeConfig buildTimeConfig) {
     return new HealthBuildItem(
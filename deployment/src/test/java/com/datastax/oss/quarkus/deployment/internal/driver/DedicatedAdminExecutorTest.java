@@ -0,0 +1,59 @@
+/*
+ * Copyright DataStax, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.quarkus.deployment.internal.driver;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.datastax.oss.driver.internal.core.context.NettyOptions;
+import com.datastax.oss.quarkus.runtime.api.session.QuarkusCqlSession;
+import com.datastax.oss.quarkus.runtime.internal.context.QuarkusDriverContext;
+import com.datastax.oss.quarkus.runtime.internal.driver.QuarkusNettyOptions;
+import com.datastax.oss.quarkus.test.CassandraTestResource;
+import io.netty.channel.DefaultEventLoopGroup;
+import io.netty.channel.MultithreadEventLoopGroup;
+import io.quarkus.test.QuarkusUnitTest;
+import jakarta.inject.Inject;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+public class DedicatedAdminExecutorTest {
+  @Inject QuarkusCqlSession cqlSession;
+
+  @RegisterExtension
+  static QuarkusUnitTest runner =
+      new QuarkusUnitTest()
+          .setArchiveProducer(
+              () -> ShrinkWrap.create(JavaArchive.class).addClasses(CassandraTestResource.class))
+          .overrideConfigKey("quarkus.cassandra.init.use-quarkus-event-loop", "true")
+          .overrideConfigKey("quarkus.cassandra.init.dedicated-admin-executor", "true")
+          .overrideConfigKey("quarkus.cassandra.init.admin-executor-size", "1");
+
+  @Test
+  public void should_run_admin_tasks_on_dedicated_executor_group() {
+    // when
+    NettyOptions nettyOptions = ((QuarkusDriverContext) cqlSession.getContext()).getNettyOptions();
+
+    // then
+    assertThat(nettyOptions).isInstanceOf(QuarkusNettyOptions.class);
+    assertThat(nettyOptions.adminEventExecutorGroup())
+        .isNotSameAs(nettyOptions.ioEventLoopGroup())
+        .isInstanceOf(DefaultEventLoopGroup.class);
+    assertThat(((MultithreadEventLoopGroup) nettyOptions.adminEventExecutorGroup()).executorCount())
+        .isEqualTo(1);
+  }
+}
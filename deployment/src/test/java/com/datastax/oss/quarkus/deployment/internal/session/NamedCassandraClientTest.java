@@ -0,0 +1,92 @@
+/*
+ * Copyright DataStax, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.quarkus.deployment.internal.session;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.datastax.oss.driver.api.core.config.DefaultDriverOption;
+import com.datastax.oss.driver.api.core.config.DriverExecutionProfile;
+import com.datastax.oss.quarkus.runtime.api.session.CassandraClient;
+import com.datastax.oss.quarkus.runtime.api.session.QuarkusCqlSession;
+import com.datastax.oss.quarkus.test.CassandraTestResource;
+import io.quarkus.test.QuarkusUnitTest;
+import io.quarkus.test.common.QuarkusTestResource;
+import io.smallrye.mutiny.Uni;
+import jakarta.inject.Inject;
+import java.time.Duration;
+import java.util.concurrent.CompletionStage;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+@QuarkusTestResource(CassandraTestResource.class)
+public class NamedCassandraClientTest {
+
+  @RegisterExtension
+  static QuarkusUnitTest runner =
+      new QuarkusUnitTest()
+          .overrideConfigKey("quarkus.cassandra.request.page-size", "1000")
+          .overrideConfigKey(
+              "quarkus.cassandra.analytics.contact-points", "${quarkus.cassandra.contact-points}")
+          .overrideConfigKey(
+              "quarkus.cassandra.analytics.local-datacenter",
+              "${quarkus.cassandra.local-datacenter}")
+          .overrideConfigKey("quarkus.cassandra.analytics.request.page-size", "50")
+          .overrideConfigKey("quarkus.cassandra.analytics.request.timeout", "PT30S")
+          .setArchiveProducer(
+              () -> ShrinkWrap.create(JavaArchive.class).addClasses(CassandraTestResource.class));
+
+  @Inject QuarkusCqlSession session;
+
+  @Inject
+  @CassandraClient("analytics")
+  QuarkusCqlSession analyticsSession;
+
+  @Inject
+  @CassandraClient("analytics")
+  CompletionStage<QuarkusCqlSession> analyticsSessionStage;
+
+  @Inject
+  @CassandraClient("analytics")
+  Uni<QuarkusCqlSession> analyticsSessionUni;
+
+  @Test
+  public void should_execute_query_using_named_client() {
+    assertThat(analyticsSession.execute("SELECT * FROM system.local")).isNotEmpty();
+  }
+
+  @Test
+  public void should_isolate_named_client_from_default_client() {
+    assertThat(analyticsSession.getContext()).isNotSameAs(session.getContext());
+    assertThat(analyticsSession.getName()).isEqualTo("analytics");
+    DriverExecutionProfile defaultProfile = session.getContext().getConfig().getDefaultProfile();
+    DriverExecutionProfile analyticsProfile =
+        analyticsSession.getContext().getConfig().getDefaultProfile();
+    assertThat(defaultProfile.getInt(DefaultDriverOption.REQUEST_PAGE_SIZE)).isEqualTo(1000);
+    assertThat(analyticsProfile.getInt(DefaultDriverOption.REQUEST_PAGE_SIZE)).isEqualTo(50);
+    assertThat(analyticsProfile.getDuration(DefaultDriverOption.REQUEST_TIMEOUT))
+        .isEqualTo(Duration.ofSeconds(30));
+  }
+
+  @Test
+  public void should_inject_same_session_for_all_named_client_types() {
+    QuarkusCqlSession fromStage = analyticsSessionStage.toCompletableFuture().join();
+    QuarkusCqlSession fromUni = analyticsSessionUni.await().atMost(Duration.ofSeconds(10));
+    assertThat(fromStage.getContext()).isSameAs(analyticsSession.getContext());
+    assertThat(fromUni.getContext()).isSameAs(analyticsSession.getContext());
+  }
+}
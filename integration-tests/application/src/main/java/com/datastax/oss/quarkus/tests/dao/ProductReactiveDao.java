@@ -25,12 +25,18 @@ import com.datastax.oss.driver.api.mapper.annotations.Query;
 import com.datastax.oss.driver.api.mapper.annotations.QueryProvider;
 import com.datastax.oss.driver.api.mapper.annotations.Select;
 import com.datastax.oss.driver.api.mapper.annotations.Update;
+import com.datastax.oss.quarkus.runtime.api.mapper.Cached;
+import com.datastax.oss.quarkus.runtime.api.mapper.CoalescedIncrement;
+import com.datastax.oss.quarkus.runtime.api.mapper.ContinuousPaging;
 import com.datastax.oss.quarkus.runtime.api.reactive.MutinyReactiveResultSet;
+import com.datastax.oss.quarkus.runtime.api.reactive.mapper.LwtResult;
 import com.datastax.oss.quarkus.runtime.api.reactive.mapper.MutinyMappedReactiveResultSet;
 import com.datastax.oss.quarkus.tests.entity.Product;
 import com.datastax.oss.quarkus.tests.entity.Votes;
 import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
+import java.util.Collection;
+import java.util.Map;
 import java.util.UUID;
 
 /**
@@ -52,6 +58,9 @@ public interface ProductReactiveDao {
   @Insert(ifNotExists = true)
   Uni<Product> createUniProduct(Product product);
 
+  @Insert(ifNotExists = true)
+  Uni<LwtResult<Product>> createUniLwtResult(Product product);
+
   @Insert(ifNotExists = true)
   MutinyReactiveResultSet createResultSet(Product product);
 
@@ -61,6 +70,15 @@ public interface ProductReactiveDao {
   @Insert(ifNotExists = true)
   Multi<Row> createMultiRow(Product product);
 
+  @Insert
+  Uni<Void> createAll(Multi<Product> products);
+
+  @Insert
+  Uni<Long> createAllUniLong(Multi<Product> products);
+
+  @Insert(ifNotExists = true)
+  Multi<Product> createAllMultiProduct(Multi<Product> products);
+
   // update
 
   @Update
@@ -69,6 +87,9 @@ public interface ProductReactiveDao {
   @Update(ifExists = true)
   Uni<Boolean> updateUniBoolean(Product product);
 
+  @Update(customIfClause = "name = :expectedName")
+  Uni<LwtResult<Product>> updateUniLwtResult(Product product, String expectedName);
+
   @Update(ifExists = true)
   MutinyReactiveResultSet updateResultSet(Product product);
 
@@ -86,6 +107,9 @@ public interface ProductReactiveDao {
   @Delete(ifExists = true)
   Uni<Boolean> deleteUniBoolean(Product product);
 
+  @Delete(ifExists = true)
+  Uni<LwtResult<Product>> deleteUniLwtResult(Product product);
+
   @Delete(entityClass = Product.class, ifExists = true)
   MutinyReactiveResultSet deleteResultSet(UUID productId);
 
@@ -100,12 +124,26 @@ public interface ProductReactiveDao {
   @Select
   Uni<Product> findById(UUID productId);
 
+  @Select
+  @Cached(maximumSize = 100, expireAfterWrite = 10)
+  Uni<Product> findByIdCached(UUID productId);
+
   @Select
   Multi<Product> findAll();
 
+  @Select
+  @ContinuousPaging(maxPagesPerSecond = 100, maxEnqueuedPages = 4)
+  Multi<Product> findAllContinuously();
+
   @Select
   MutinyMappedReactiveResultSet<Product> selectMappedResultSet();
 
+  @Select
+  Uni<Map<UUID, Product>> findByIds(Collection<UUID> productIds);
+
+  @Select
+  Multi<Product> findByIds(Multi<UUID> productIds);
+
   // query
 
   @Query("SELECT * FROM product")
@@ -138,6 +176,9 @@ public interface ProductReactiveDao {
   @Query("UPDATE product set name = :name WHERE id = :id IF EXISTS")
   Uni<Boolean> queryUpdateUniBoolean(UUID id, String name);
 
+  @Query("UPDATE product set name = :name WHERE id = :id IF name = :expectedName")
+  Uni<LwtResult<Product>> queryUpdateUniLwtResult(UUID id, String name, String expectedName);
+
   @Query("SELECT COUNT(*) FROM product")
   Uni<Long> querySelectCount();
 
@@ -183,4 +224,8 @@ public interface ProductReactiveDao {
 
   @Increment(entityClass = Votes.class)
   MutinyReactiveResultSet incrementDownVotes(UUID productId, long downVotes);
+
+  @Increment(entityClass = Votes.class)
+  @CoalescedIncrement(flushInterval = 50)
+  Uni<Void> incrementVotesCoalesced(UUID productId, long upVotes, long downVotes);
 }
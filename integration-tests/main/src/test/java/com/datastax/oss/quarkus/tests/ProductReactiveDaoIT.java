@@ -16,10 +16,12 @@
 package com.datastax.oss.quarkus.tests;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
 
 import com.datastax.dse.driver.api.core.cql.reactive.ReactiveRow;
 import com.datastax.oss.driver.api.core.cql.Row;
 import com.datastax.oss.quarkus.runtime.api.reactive.MutinyReactiveResultSet;
+import com.datastax.oss.quarkus.runtime.api.reactive.mapper.LwtResult;
 import com.datastax.oss.quarkus.runtime.api.reactive.mapper.MutinyMappedReactiveResultSet;
 import com.datastax.oss.quarkus.runtime.api.session.QuarkusCqlSession;
 import com.datastax.oss.quarkus.test.CassandraTestResource;
@@ -33,6 +35,7 @@ import io.smallrye.mutiny.helpers.test.AssertSubscriber;
 import io.smallrye.mutiny.helpers.test.UniAssertSubscriber;
 import jakarta.inject.Inject;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -115,6 +118,34 @@ class ProductReactiveDaoIT {
     subscriber.awaitItem().assertCompleted().assertItem(previous);
   }
 
+  @Test
+  void createUniLwtResultSuccess() {
+    // when
+    Uni<LwtResult<Product>> uni = dao.createUniLwtResult(product);
+    // then
+    UniAssertSubscriber<LwtResult<Product>> subscriber =
+        uni.subscribe().withSubscriber(UniAssertSubscriber.create());
+    LwtResult<Product> result = subscriber.awaitItem().assertCompleted().getItem();
+    assertThat(result.wasApplied()).isTrue();
+    assertThat(result.getEntity()).isNull();
+  }
+
+  @Test
+  void createUniLwtResultFailure() {
+    // given
+    Product previous = new Product(product.getId(), "previous");
+    session.execute(
+        "INSERT INTO product (id, name) VALUES (?, ?)", previous.getId(), previous.getName());
+    // when
+    Uni<LwtResult<Product>> uni = dao.createUniLwtResult(product);
+    // then
+    UniAssertSubscriber<LwtResult<Product>> subscriber =
+        uni.subscribe().withSubscriber(UniAssertSubscriber.create());
+    LwtResult<Product> result = subscriber.awaitItem().assertCompleted().getItem();
+    assertThat(result.wasApplied()).isFalse();
+    assertThat(result.getEntity()).isEqualTo(previous);
+  }
+
   @Test
   void createResultSetSuccess() {
     // when
@@ -288,6 +319,23 @@ class ProductReactiveDaoIT {
     subscriber.awaitItem().assertCompleted().assertItem(false);
   }
 
+  @Test
+  void updateUniLwtResultFailure() {
+    // given
+    session.execute(
+        "INSERT INTO product (id, name) VALUES (?, ?)", product.getId(), product.getName());
+    // when
+    Product updated = new Product(product.getId(), "updated");
+    Uni<LwtResult<Product>> uni = dao.updateUniLwtResult(updated, "unexpected");
+    // then
+    UniAssertSubscriber<LwtResult<Product>> subscriber =
+        uni.subscribe().withSubscriber(UniAssertSubscriber.create());
+    LwtResult<Product> result = subscriber.awaitItem().assertCompleted().getItem();
+    assertThat(result.wasApplied()).isFalse();
+    // only the columns of the condition are returned
+    assertThat(result.getEntity().getName()).isEqualTo(product.getName());
+  }
+
   @Test
   void updateResultSetSuccess() {
     // given
@@ -605,6 +653,37 @@ class ProductReactiveDaoIT {
     subscriber.awaitCompletion().assertItems(product);
   }
 
+  @Test
+  void findByIdsUniMap() {
+    // given
+    Product other = new Product(UUID.randomUUID(), "other");
+    session.execute(
+        "INSERT INTO product (id, name) VALUES (?, ?)", product.getId(), product.getName());
+    session.execute("INSERT INTO product (id, name) VALUES (?, ?)", other.getId(), other.getName());
+    UUID missing = UUID.randomUUID();
+    // when
+    Uni<Map<UUID, Product>> uni = dao.findByIds(List.of(other.getId(), missing, product.getId()));
+    // then
+    UniAssertSubscriber<Map<UUID, Product>> subscriber =
+        uni.subscribe().withSubscriber(UniAssertSubscriber.create());
+    Map<UUID, Product> products = subscriber.awaitItem().assertCompleted().getItem();
+    assertThat(products)
+        .containsExactly(entry(other.getId(), other), entry(product.getId(), product));
+  }
+
+  @Test
+  void findByIdsMulti() {
+    // given
+    session.execute(
+        "INSERT INTO product (id, name) VALUES (?, ?)", product.getId(), product.getName());
+    // when
+    Multi<Product> rs = dao.findByIds(Multi.createFrom().items(product.getId(), UUID.randomUUID()));
+    // then
+    AssertSubscriber<Product> subscriber =
+        rs.subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+    subscriber.awaitCompletion().assertItems(product);
+  }
+
   @Test
   void selectMappedResultSet() {
     // given
@@ -1084,6 +1163,24 @@ class ProductReactiveDaoIT {
     assertThat(counter).isEqualTo(10);
   }
 
+  @Test
+  void incrementVotesCoalesced() {
+    // when
+    Uni<Void> first = dao.incrementVotesCoalesced(product.getId(), 10, 1);
+    Uni<Void> second = dao.incrementVotesCoalesced(product.getId(), 5, 0);
+    // then
+    Uni.combine()
+        .all()
+        .unis(first, second)
+        .discardItems()
+        .subscribe()
+        .withSubscriber(UniAssertSubscriber.create())
+        .awaitItem()
+        .assertCompleted();
+    assertThat(getCounterValue("up_votes")).isEqualTo(15);
+    assertThat(getCounterValue("down_votes")).isEqualTo(1);
+  }
+
   private long getCounterValue(String counterColumn) {
     Row row =
         session
@@ -31,6 +31,7 @@ import com.datastax.oss.driver.internal.mapper.processor.dao.DaoReturnTypeParser
 import com.datastax.oss.driver.internal.mapper.processor.mapper.MapperImplementationSharedCode;
 import com.datastax.oss.driver.internal.mapper.processor.util.NameIndex;
 import com.datastax.oss.quarkus.internal.mapper.processor.dao.QuarkusDaoDeleteMethodGenerator;
+import com.datastax.oss.quarkus.internal.mapper.processor.dao.QuarkusDaoImplementationGenerator;
 import com.datastax.oss.quarkus.internal.mapper.processor.dao.QuarkusDaoIncrementMethodGenerator;
 import com.datastax.oss.quarkus.internal.mapper.processor.dao.QuarkusDaoInsertMethodGenerator;
 import com.datastax.oss.quarkus.internal.mapper.processor.dao.QuarkusDaoQueryMethodGenerator;
@@ -40,8 +41,10 @@ import com.datastax.oss.quarkus.internal.mapper.processor.dao.QuarkusDaoSelectMe
 import com.datastax.oss.quarkus.internal.mapper.processor.dao.QuarkusDaoUpdateMethodGenerator;
 import com.datastax.oss.quarkus.internal.mapper.processor.mapper.QuarkusMapperDaoFactoryMethodGenerator;
 import com.datastax.oss.quarkus.internal.mapper.processor.mapper.QuarkusMapperGenerator;
+import com.datastax.oss.quarkus.internal.mapper.processor.mapper.QuarkusMapperImplementationGenerator;
 import com.datastax.oss.quarkus.internal.mapper.processor.producer.QuarkusDaoProducerGenerator;
 import com.datastax.oss.quarkus.internal.mapper.processor.producer.QuarkusDaoProducerMethodGenerator;
+import com.datastax.oss.quarkus.internal.mapper.processor.producer.QuarkusLazyFacadeGenerator;
 import java.util.Map;
 import java.util.Optional;
 import javax.lang.model.element.ExecutableElement;
@@ -63,12 +66,14 @@ public class QuarkusCodeGeneratorFactory extends DefaultCodeGeneratorFactory {
     return new QuarkusDaoProducerGenerator(interfaceElement, context, daoProducerMethodNames);
   }
 
-  public Optional<MethodGenerator> newDaoProducerMethod(ExecutableElement methodElement) {
+  public Optional<MethodGenerator> newDaoProducerMethod(
+      ExecutableElement methodElement, QuarkusLazyFacadeGenerator lazyFacades) {
     if (methodElement.getAnnotation(DaoFactory.class) == null) {
       return Optional.empty();
     } else {
       return Optional.of(
-          new QuarkusDaoProducerMethodGenerator(methodElement, context, daoProducerMethodNames));
+          new QuarkusDaoProducerMethodGenerator(
+              methodElement, context, daoProducerMethodNames, lazyFacades));
     }
   }
 
@@ -77,6 +82,11 @@ public class QuarkusCodeGeneratorFactory extends DefaultCodeGeneratorFactory {
     return new QuarkusMapperGenerator(interfaceElement, context);
   }
 
+  @Override
+  public CodeGenerator newMapperImplementation(TypeElement interfaceElement) {
+    return new QuarkusMapperImplementationGenerator(interfaceElement, context);
+  }
+
   @Override
   public Optional<MethodGenerator> newMapperImplementationMethod(
       ExecutableElement methodElement,
@@ -90,6 +100,11 @@ public class QuarkusCodeGeneratorFactory extends DefaultCodeGeneratorFactory {
     }
   }
 
+  @Override
+  public CodeGenerator newDaoImplementation(TypeElement interfaceElement) {
+    return new QuarkusDaoImplementationGenerator(interfaceElement, context);
+  }
+
   @Override
   public Optional<MethodGenerator> newDaoImplementationMethod(
       ExecutableElement methodElement,
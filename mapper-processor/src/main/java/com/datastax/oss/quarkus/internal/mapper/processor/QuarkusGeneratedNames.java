@@ -18,7 +18,10 @@ package com.datastax.oss.quarkus.internal.mapper.processor;
 import com.datastax.oss.driver.api.mapper.annotations.Mapper;
 import com.datastax.oss.quarkus.runtime.api.mapper.QuarkusGeneratedDaoBean;
 import com.datastax.oss.quarkus.runtime.api.mapper.QuarkusGeneratedMapperBean;
+import com.datastax.oss.quarkus.runtime.api.session.CassandraClient;
 import com.datastax.oss.quarkus.runtime.api.session.QuarkusCqlSession;
+import com.datastax.oss.quarkus.runtime.internal.mapper.LazyDelegate;
+import com.datastax.oss.quarkus.runtime.internal.mapper.LazyFacade;
 import com.squareup.javapoet.ClassName;
 import com.squareup.javapoet.ParameterizedTypeName;
 import io.quarkus.arc.DefaultBean;
@@ -54,6 +57,12 @@ public class QuarkusGeneratedNames {
 
   public static final ClassName GENERATED_DAO_BEAN = ClassName.get(QuarkusGeneratedDaoBean.class);
 
+  public static final ClassName CASSANDRA_CLIENT = ClassName.get(CassandraClient.class);
+
+  public static final ClassName LAZY_DELEGATE = ClassName.get(LazyDelegate.class);
+
+  public static final ClassName LAZY_FACADE = ClassName.get(LazyFacade.class);
+
   public static ClassName daoProducer(TypeElement mapperInterface) {
     String custom = mapperInterface.getAnnotation(Mapper.class).builderName();
     if (custom.isEmpty()) {
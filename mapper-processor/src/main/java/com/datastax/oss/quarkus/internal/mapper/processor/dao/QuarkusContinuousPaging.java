@@ -0,0 +1,85 @@
+/*
+ * Copyright DataStax, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.quarkus.internal.mapper.processor.dao;
+
+import com.datastax.oss.driver.internal.mapper.processor.ProcessorContext;
+import com.datastax.oss.driver.internal.mapper.processor.dao.DaoImplementationSharedCode;
+import com.datastax.oss.driver.internal.mapper.processor.dao.DaoReturnType;
+import com.datastax.oss.driver.internal.mapper.processor.dao.DaoReturnTypeKind;
+import com.datastax.oss.driver.shaded.guava.common.collect.ImmutableSet;
+import com.datastax.oss.quarkus.runtime.api.mapper.ContinuousPaging;
+import com.squareup.javapoet.CodeBlock;
+import java.util.Set;
+import javax.lang.model.element.ExecutableElement;
+
+/**
+ * Handles the {@link ContinuousPaging} annotation: the bound statement is given an execution
+ * profile that makes its reactive execution use DSE continuous paging. The profile is held by a
+ * field of the DAO, and derived once for all the invocations of the method.
+ */
+public class QuarkusContinuousPaging {
+
+  private static final Set<DaoReturnTypeKind> SUPPORTED_RETURN_TYPES =
+      ImmutableSet.of(
+          QuarkusDaoReturnTypeKind.MULTI_OF_ENTITY,
+          QuarkusDaoReturnTypeKind.MULTI_OF_ROW,
+          QuarkusDaoReturnTypeKind.MULTI_OF_REACTIVE_ROW,
+          QuarkusDaoReturnTypeKind.MUTINY_MAPPED_REACTIVE_RESULT_SET,
+          QuarkusDaoReturnTypeKind.MUTINY_REACTIVE_RESULT_SET);
+
+  /**
+   * Generates the code that enables continuous paging on the bound statement, if the method is
+   * annotated with {@link ContinuousPaging}.
+   *
+   * @return false if the method can't use continuous paging; an error has been reported.
+   */
+  public static boolean populateBuilder(
+      CodeBlock.Builder builder,
+      ExecutableElement methodElement,
+      DaoReturnType returnType,
+      DaoImplementationSharedCode enclosingClass,
+      ProcessorContext context) {
+    ContinuousPaging annotation = methodElement.getAnnotation(ContinuousPaging.class);
+    if (annotation == null) {
+      return true;
+    }
+    if (!SUPPORTED_RETURN_TYPES.contains(returnType.getKind())) {
+      context
+          .getMessager()
+          .error(
+              methodElement,
+              "Invalid return type: %s methods must return a Multi of entities, rows or reactive "
+                  + "rows, a MutinyMappedReactiveResultSet or a MutinyReactiveResultSet",
+              ContinuousPaging.class.getSimpleName());
+      return false;
+    }
+    if (QuarkusPagingStates.findParameter(methodElement, context) != null) {
+      context
+          .getMessager()
+          .error(
+              methodElement,
+              "Invalid parameter list: %s methods cannot be resumed from a PagingState",
+              ContinuousPaging.class.getSimpleName());
+      return false;
+    }
+    String fieldName =
+        ((QuarkusDaoImplementationGenerator) enclosingClass)
+            .addContinuousPagingField(methodElement.getSimpleName().toString(), annotation);
+    builder.addStatement(
+        "boundStatement = $L.apply(boundStatement, context.getSession().getContext())", fieldName);
+    return true;
+  }
+}
@@ -0,0 +1,343 @@
+/*
+ * Copyright DataStax, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.quarkus.internal.mapper.processor.dao;
+
+import com.datastax.oss.driver.api.mapper.annotations.Select;
+import com.datastax.oss.driver.internal.mapper.processor.ProcessorContext;
+import com.datastax.oss.driver.internal.mapper.processor.dao.DaoImplementationSharedCode;
+import com.datastax.oss.driver.internal.mapper.processor.dao.DaoReturnType;
+import com.datastax.oss.driver.internal.mapper.processor.dao.DaoReturnTypeKind;
+import com.datastax.oss.driver.internal.mapper.processor.dao.DefaultDaoReturnTypeKind;
+import com.datastax.oss.driver.internal.mapper.processor.entity.EntityDefinition;
+import com.datastax.oss.driver.internal.mapper.processor.entity.PropertyDefinition;
+import com.datastax.oss.driver.internal.mapper.processor.util.generation.GeneratedCodePatterns;
+import com.datastax.oss.driver.shaded.guava.common.collect.ImmutableMap;
+import com.datastax.oss.driver.shaded.guava.common.collect.ImmutableSet;
+import com.datastax.oss.quarkus.runtime.api.mapper.Cached;
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.MethodSpec;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Name;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+
+/**
+ * Handles the {@link Cached} annotation: cached {@code @Select} methods look up the entity cache of
+ * the DAO before executing their query, and write methods on the same entity invalidate it before
+ * and after they execute.
+ */
+public class QuarkusDaoCaches {
+
+  /** The {@code DaoCache} methods that wrap writes, by return type of the write method. */
+  private static final Map<DaoReturnTypeKind, String> WRAPPER_METHODS =
+      ImmutableMap.<DaoReturnTypeKind, String>builder()
+          .put(DefaultDaoReturnTypeKind.VOID, "invalidatingVoid")
+          .put(DefaultDaoReturnTypeKind.BOOLEAN, "invalidating")
+          .put(DefaultDaoReturnTypeKind.LONG, "invalidating")
+          .put(DefaultDaoReturnTypeKind.ROW, "invalidating")
+          .put(DefaultDaoReturnTypeKind.ENTITY, "invalidating")
+          .put(DefaultDaoReturnTypeKind.OPTIONAL_ENTITY, "invalidating")
+          .put(DefaultDaoReturnTypeKind.RESULT_SET, "invalidating")
+          .put(DefaultDaoReturnTypeKind.FUTURE_OF_VOID, "invalidatingAsync")
+          .put(DefaultDaoReturnTypeKind.FUTURE_OF_BOOLEAN, "invalidatingAsync")
+          .put(DefaultDaoReturnTypeKind.FUTURE_OF_LONG, "invalidatingAsync")
+          .put(DefaultDaoReturnTypeKind.FUTURE_OF_ROW, "invalidatingAsync")
+          .put(DefaultDaoReturnTypeKind.FUTURE_OF_ENTITY, "invalidatingAsync")
+          .put(DefaultDaoReturnTypeKind.FUTURE_OF_OPTIONAL_ENTITY, "invalidatingAsync")
+          .put(DefaultDaoReturnTypeKind.FUTURE_OF_ASYNC_RESULT_SET, "invalidatingAsync")
+          .put(QuarkusDaoReturnTypeKind.UNI_OF_VOID, "invalidatingUni")
+          .put(QuarkusDaoReturnTypeKind.UNI_OF_BOOLEAN, "invalidatingUni")
+          .put(QuarkusDaoReturnTypeKind.UNI_OF_LONG, "invalidatingUni")
+          .put(QuarkusDaoReturnTypeKind.UNI_OF_ROW, "invalidatingUni")
+          .put(QuarkusDaoReturnTypeKind.UNI_OF_ENTITY, "invalidatingUni")
+          .put(QuarkusDaoReturnTypeKind.UNI_OF_LWT_RESULT, "invalidatingUni")
+          .put(QuarkusDaoReturnTypeKind.MULTI_OF_ROW, "invalidatingMulti")
+          .put(QuarkusDaoReturnTypeKind.MULTI_OF_REACTIVE_ROW, "invalidatingMulti")
+          .build();
+
+  private static final Set<DaoReturnTypeKind> FUTURE_KINDS =
+      ImmutableSet.of(
+          DefaultDaoReturnTypeKind.FUTURE_OF_VOID,
+          DefaultDaoReturnTypeKind.FUTURE_OF_BOOLEAN,
+          DefaultDaoReturnTypeKind.FUTURE_OF_LONG,
+          DefaultDaoReturnTypeKind.FUTURE_OF_ROW,
+          DefaultDaoReturnTypeKind.FUTURE_OF_ENTITY,
+          DefaultDaoReturnTypeKind.FUTURE_OF_OPTIONAL_ENTITY,
+          DefaultDaoReturnTypeKind.FUTURE_OF_ASYNC_RESULT_SET);
+
+  /**
+   * Wraps the body of a generated {@code @Select} method with a cache lookup if the method is
+   * annotated with {@link Cached}, or returns it unchanged otherwise.
+   */
+  public static Optional<MethodSpec> cachedSelect(
+      MethodSpec uncachedMethod,
+      ExecutableElement methodElement,
+      Map<Name, TypeElement> typeParameters,
+      DaoReturnType returnType,
+      DaoImplementationSharedCode enclosingClass,
+      ProcessorContext context) {
+    Cached annotation = methodElement.getAnnotation(Cached.class);
+    if (annotation == null || !(enclosingClass instanceof QuarkusDaoImplementationGenerator)) {
+      return Optional.of(uncachedMethod);
+    }
+    DaoReturnTypeKind kind = returnType.getKind();
+    String lookupMethod;
+    if (kind == DefaultDaoReturnTypeKind.ENTITY) {
+      lookupMethod = "get";
+    } else if (kind == DefaultDaoReturnTypeKind.FUTURE_OF_ENTITY) {
+      lookupMethod = "getAsync";
+    } else if (kind == QuarkusDaoReturnTypeKind.UNI_OF_ENTITY) {
+      lookupMethod = "getUni";
+    } else {
+      context
+          .getMessager()
+          .error(
+              methodElement,
+              "Invalid return type: %s methods must return an entity, a CompletionStage of an "
+                  + "entity or a Uni of an entity",
+              Cached.class.getSimpleName());
+      return Optional.empty();
+    }
+    if (!methodElement.getAnnotation(Select.class).customWhereClause().isEmpty()) {
+      context
+          .getMessager()
+          .error(
+              methodElement,
+              "Invalid annotation parameters: %s methods cannot have a custom where clause",
+              Cached.class.getSimpleName());
+      return Optional.empty();
+    }
+    TypeElement entityElement = returnType.getEntityElement();
+    EntityDefinition entityDefinition = context.getEntityFactory().getDefinition(entityElement);
+    List<? extends VariableElement> parameters = methodElement.getParameters();
+    if (parameters.size() != entityDefinition.getPrimaryKey().size()) {
+      context
+          .getMessager()
+          .error(
+              methodElement,
+              "Wrong number of parameters: %s methods must take the full primary key of %s, "
+                  + "and nothing else",
+              Cached.class.getSimpleName(),
+              entityElement.getSimpleName());
+      return Optional.empty();
+    }
+    QuarkusDaoImplementationGenerator daoGenerator =
+        (QuarkusDaoImplementationGenerator) enclosingClass;
+    ClassName entityClassName = ClassName.get(entityElement);
+    daoGenerator.configureEntityCache(entityClassName, methodElement, annotation);
+    String cacheFieldName = daoGenerator.addEntityCacheField(entityClassName);
+    MethodSpec.Builder method = GeneratedCodePatterns.override(methodElement, typeParameters);
+    method.addCode(
+        CodeBlock.builder()
+            .add("return $L.$L(\n$>$>", cacheFieldName, lookupMethod)
+            .add("$L,\n", parameterKey(parameters))
+            .add("() -> {\n$>")
+            .add(uncachedMethod.code)
+            // the method may be declared to return a CompletableFuture
+            .add(
+                "$<})$L;\n$<$<",
+                kind == DefaultDaoReturnTypeKind.FUTURE_OF_ENTITY ? ".toCompletableFuture()" : "")
+            .build());
+    return Optional.of(method.build());
+  }
+
+  /**
+   * Generates a write method that invalidates the cached entries of the given entity, if the DAO
+   * caches it.
+   *
+   * <p>When possible, the write is wrapped so that the entries are invalidated both before it is
+   * executed and once it has completed; otherwise, they are only invalidated before it is executed.
+   *
+   * @param write generates the method, given the block that creates its statement.
+   * @param key the primary key values of the written entity, or null to invalidate all entries.
+   */
+  public static Optional<MethodSpec> invalidatingWrite(
+      CodeBlock.Builder createStatementBlock,
+      Function<CodeBlock.Builder, Optional<MethodSpec>> write,
+      DaoReturnType returnType,
+      TypeElement entityElement,
+      CodeBlock key,
+      ExecutableElement methodElement,
+      TypeElement processedType,
+      Map<Name, TypeElement> typeParameters,
+      DaoImplementationSharedCode enclosingClass,
+      ProcessorContext context) {
+    String cacheFieldName =
+        entityCacheField(entityElement, processedType, typeParameters, enclosingClass, context);
+    if (cacheFieldName == null) {
+      return write.apply(createStatementBlock);
+    }
+    DaoReturnTypeKind kind = returnType.getKind();
+    String wrapperMethod = WRAPPER_METHODS.get(kind);
+    if (wrapperMethod == null) {
+      // the result is not a plain value, future or stream (e.g. a bound statement or a
+      // ReactiveResultSet), there is no reliable way to know when the write completes
+      addInvalidation(createStatementBlock, cacheFieldName, key);
+      return write.apply(createStatementBlock);
+    }
+    return write
+        .apply(createStatementBlock)
+        .map(
+            uninvalidatedMethod ->
+                GeneratedCodePatterns.override(methodElement, typeParameters)
+                    .addCode(
+                        CodeBlock.builder()
+                            .add(
+                                "$L$L.$L(\n$>$>",
+                                kind == DefaultDaoReturnTypeKind.VOID ? "" : "return ",
+                                cacheFieldName,
+                                wrapperMethod)
+                            .add("$L,\n", key == null ? "null" : key)
+                            .add("() -> {\n$>")
+                            .add(uninvalidatedMethod.code)
+                            // the method may be declared to return a CompletableFuture
+                            .add(
+                                "$<})$L;\n$<$<",
+                                FUTURE_KINDS.contains(kind) ? ".toCompletableFuture()" : "")
+                            .build())
+                    .build());
+  }
+
+  /**
+   * Generates the callback that invalidates the cached entry of each entity written by a streaming
+   * insert, or returns null if the DAO does not cache the entity.
+   */
+  public static CodeBlock writtenEntityCallback(
+      TypeElement entityElement,
+      TypeElement processedType,
+      Map<Name, TypeElement> typeParameters,
+      DaoImplementationSharedCode enclosingClass,
+      ProcessorContext context) {
+    String cacheFieldName =
+        entityCacheField(entityElement, processedType, typeParameters, enclosingClass, context);
+    return cacheFieldName == null
+        ? null
+        : CodeBlock.of(
+            "writtenEntity -> $L.invalidate($L)",
+            cacheFieldName,
+            entityKey("writtenEntity", entityElement, context));
+  }
+
+  /**
+   * Generates the code that invalidates the cached entries of the given entity, if the DAO caches
+   * it.
+   *
+   * @param key the primary key values of the written entity, or null to invalidate all entries.
+   */
+  public static void addInvalidation(
+      CodeBlock.Builder builder,
+      TypeElement entityElement,
+      CodeBlock key,
+      TypeElement processedType,
+      Map<Name, TypeElement> typeParameters,
+      DaoImplementationSharedCode enclosingClass,
+      ProcessorContext context) {
+    String cacheFieldName =
+        entityCacheField(entityElement, processedType, typeParameters, enclosingClass, context);
+    if (cacheFieldName != null) {
+      addInvalidation(builder, cacheFieldName, key);
+    }
+  }
+
+  /** Generates the cache key of an entity instance, from the getters of its primary key. */
+  public static CodeBlock entityKey(
+      String entityExpression, TypeElement entityElement, ProcessorContext context) {
+    CodeBlock.Builder key = CodeBlock.builder().add("$T.<Object>asList(", Arrays.class);
+    String separator = "";
+    for (PropertyDefinition property :
+        context.getEntityFactory().getDefinition(entityElement).getPrimaryKey()) {
+      key.add("$L$L.$L()", separator, entityExpression, property.getGetterName());
+      separator = ", ";
+    }
+    return key.add(")").build();
+  }
+
+  /** Generates the cache key from primary key parameters. */
+  public static CodeBlock parameterKey(List<? extends VariableElement> parameters) {
+    CodeBlock.Builder key = CodeBlock.builder().add("$T.<Object>asList(", Arrays.class);
+    String separator = "";
+    for (VariableElement parameter : parameters) {
+      key.add("$L$L", separator, parameter.getSimpleName());
+      separator = ", ";
+    }
+    return key.add(")").build();
+  }
+
+  /** Generates the statement that invalidates the given key, or all entries if it is null. */
+  private static void addInvalidation(
+      CodeBlock.Builder builder, String cacheFieldName, CodeBlock key) {
+    if (key == null) {
+      builder.addStatement("$L.invalidateAll()", cacheFieldName);
+    } else {
+      builder.addStatement("$L.invalidate($L)", cacheFieldName, key);
+    }
+  }
+
+  /**
+   * Returns the name of the cache field of the given entity, or null if the DAO doesn't cache it.
+   */
+  private static String entityCacheField(
+      TypeElement entityElement,
+      TypeElement processedType,
+      Map<Name, TypeElement> typeParameters,
+      DaoImplementationSharedCode enclosingClass,
+      ProcessorContext context) {
+    if (entityElement == null
+        || !(enclosingClass instanceof QuarkusDaoImplementationGenerator)
+        || !hasCachedSelect(processedType, entityElement, typeParameters, context)) {
+      return null;
+    }
+    return ((QuarkusDaoImplementationGenerator) enclosingClass)
+        .addEntityCacheField(ClassName.get(entityElement));
+  }
+
+  /**
+   * Whether the DAO declares a cached {@code @Select} method returning the given entity. Write
+   * methods may be generated before that method, so the DAO interface is scanned.
+   */
+  private static boolean hasCachedSelect(
+      TypeElement processedType,
+      TypeElement entityElement,
+      Map<Name, TypeElement> typeParameters,
+      ProcessorContext context) {
+    for (Element element : context.getElementUtils().getAllMembers(processedType)) {
+      if (element.getKind() == ElementKind.METHOD
+          && element.getAnnotation(Select.class) != null
+          && element.getAnnotation(Cached.class) != null) {
+        TypeElement returnedEntity =
+            context
+                .getCodeGeneratorFactory()
+                .getDaoReturnTypeParser()
+                .parse(((ExecutableElement) element).getReturnType(), typeParameters)
+                .getEntityElement();
+        if (returnedEntity != null
+            && returnedEntity.getQualifiedName().contentEquals(entityElement.getQualifiedName())) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+}
@@ -15,16 +15,24 @@
  */
 package com.datastax.oss.quarkus.internal.mapper.processor.dao;
 
+import com.datastax.oss.driver.api.mapper.annotations.Delete;
 import com.datastax.oss.driver.internal.mapper.processor.ProcessorContext;
 import com.datastax.oss.driver.internal.mapper.processor.dao.DaoDeleteMethodGenerator;
 import com.datastax.oss.driver.internal.mapper.processor.dao.DaoImplementationSharedCode;
+import com.datastax.oss.driver.internal.mapper.processor.dao.DaoReturnType;
 import com.datastax.oss.driver.internal.mapper.processor.dao.DaoReturnTypeKind;
+import com.datastax.oss.driver.internal.mapper.processor.dao.EntityUtils;
 import com.datastax.oss.driver.shaded.guava.common.collect.ImmutableSet;
+import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.MethodSpec;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import javax.lang.model.element.ExecutableElement;
 import javax.lang.model.element.Name;
 import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
 
 public class QuarkusDaoDeleteMethodGenerator extends DaoDeleteMethodGenerator {
 
@@ -43,9 +51,59 @@ public class QuarkusDaoDeleteMethodGenerator extends DaoDeleteMethodGenerator {
     types.addAll(super.getSupportedReturnTypes());
     types.add(QuarkusDaoReturnTypeKind.UNI_OF_VOID);
     types.add(QuarkusDaoReturnTypeKind.UNI_OF_BOOLEAN);
+    types.add(QuarkusDaoReturnTypeKind.UNI_OF_LWT_RESULT);
     types.add(QuarkusDaoReturnTypeKind.MUTINY_REACTIVE_RESULT_SET);
     types.add(QuarkusDaoReturnTypeKind.MULTI_OF_ROW);
     types.add(QuarkusDaoReturnTypeKind.MULTI_OF_REACTIVE_ROW);
     return types.build();
   }
+
+  @Override
+  protected Optional<MethodSpec> crudMethod(
+      CodeBlock.Builder createStatementBlock, DaoReturnType returnType, String helperFieldName) {
+    List<? extends VariableElement> parameters = methodElement.getParameters();
+    if (findBoundStatementFunction(methodElement) != null) {
+      parameters = parameters.subList(0, parameters.size() - 1);
+    }
+    TypeElement entityElement = EntityUtils.asEntityElement(parameters.get(0), typeParameters);
+    CodeBlock key;
+    if (entityElement != null) {
+      key =
+          QuarkusDaoCaches.entityKey(
+              parameters.get(0).getSimpleName().toString(), entityElement, context);
+    } else {
+      entityElement = getEntityClassFromAnnotation(Delete.class);
+      // deleting a whole partition, or rows matching a custom clause, invalidates all entries
+      int primaryKeySize =
+          entityElement == null
+              ? 0
+              : context.getEntityFactory().getDefinition(entityElement).getPrimaryKey().size();
+      key =
+          methodElement.getAnnotation(Delete.class).customWhereClause().isEmpty()
+                  && parameters.size() >= primaryKeySize
+              ? QuarkusDaoCaches.parameterKey(parameters.subList(0, primaryKeySize))
+              : null;
+    }
+    if (returnType.getEntityElement() != null
+        && !returnType.getEntityElement().equals(entityElement)) {
+      context
+          .getMessager()
+          .error(
+              methodElement,
+              "Invalid return type: %s methods must return the same entity as the one they delete",
+              Delete.class.getSimpleName());
+      return Optional.empty();
+    }
+    return QuarkusDaoCaches.invalidatingWrite(
+        createStatementBlock,
+        block -> super.crudMethod(block, returnType, helperFieldName),
+        returnType,
+        entityElement,
+        key,
+        methodElement,
+        processedType,
+        typeParameters,
+        enclosingClass,
+        context);
+  }
 }
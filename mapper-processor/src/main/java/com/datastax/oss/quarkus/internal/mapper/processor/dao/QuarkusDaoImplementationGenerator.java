@@ -0,0 +1,315 @@
+/*
+ * Copyright DataStax, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.quarkus.internal.mapper.processor.dao;
+
+import com.datastax.oss.driver.api.core.cql.BoundStatement;
+import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+import com.datastax.oss.driver.api.mapper.MapperContext;
+import com.datastax.oss.driver.internal.mapper.processor.GeneratedNames;
+import com.datastax.oss.driver.internal.mapper.processor.ProcessorContext;
+import com.datastax.oss.driver.internal.mapper.processor.dao.DaoImplementationGenerator;
+import com.datastax.oss.driver.internal.mapper.processor.util.Capitalizer;
+import com.datastax.oss.quarkus.runtime.api.mapper.Cached;
+import com.datastax.oss.quarkus.runtime.api.mapper.CoalescedIncrement;
+import com.datastax.oss.quarkus.runtime.api.mapper.ContinuousPaging;
+import com.datastax.oss.quarkus.runtime.internal.mapper.CounterCoalescer;
+import com.datastax.oss.quarkus.runtime.internal.mapper.DaoCache;
+import com.datastax.oss.quarkus.runtime.internal.mapper.ReleasableDao;
+import com.datastax.oss.quarkus.runtime.internal.mapper.StatementCatalog;
+import com.datastax.oss.quarkus.runtime.internal.reactive.ContinuousPagingProfile;
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.FieldSpec;
+import com.squareup.javapoet.JavaFile;
+import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.ParameterizedTypeName;
+import com.squareup.javapoet.TypeSpec;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+
+/**
+ * Generates DAO implementations, adding one {@link DaoCache} field per entity returned by a {@link
+ * Cached} method, one {@link CounterCoalescer} field per {@link CoalescedIncrement} method, and one
+ * {@link ContinuousPagingProfile} field per {@link ContinuousPaging} method. DAOs with caches or
+ * coalescers implement {@link ReleasableDao}. All DAOs get a static {@code statementCatalog} method
+ * that builds the statements they prepare, for the {@link StatementCatalog} of their mapper.
+ */
+public class QuarkusDaoImplementationGenerator extends DaoImplementationGenerator {
+
+  private final TypeElement interfaceElement;
+  private final Map<ClassName, GeneratedCache> caches = new LinkedHashMap<>();
+  private final Map<String, GeneratedCoalescer> coalescers = new LinkedHashMap<>();
+  private final List<FieldSpec> continuousPagingProfiles = new ArrayList<>();
+  private final Map<ClassName, String> entityHelpers = new LinkedHashMap<>();
+  private final List<CatalogStatement> catalogStatements = new ArrayList<>();
+
+  public QuarkusDaoImplementationGenerator(TypeElement interfaceElement, ProcessorContext context) {
+    super(interfaceElement, context);
+    this.interfaceElement = interfaceElement;
+  }
+
+  /**
+   * Requests a cache field for the given entity, and returns its name. All the methods that operate
+   * on the same entity share the same field.
+   */
+  public String addEntityCacheField(ClassName entityClassName) {
+    return caches.computeIfAbsent(
+            entityClassName,
+            k ->
+                new GeneratedCache(
+                    getNameIndex().uniqueField(Capitalizer.decapitalize(k.simpleName()) + "Cache")))
+        .fieldName;
+  }
+
+  /**
+   * Configures the cache of the given entity from the annotation of a cached method; reports an
+   * error if another method of the same DAO configured it differently.
+   */
+  public void configureEntityCache(
+      ClassName entityClassName, ExecutableElement methodElement, Cached annotation) {
+    addEntityCacheField(entityClassName);
+    GeneratedCache cache = caches.get(entityClassName);
+    long maximumSize = annotation.maximumSize();
+    long expireAfterWriteNanos =
+        annotation.expireAfterWrite() <= 0
+            ? 0
+            : annotation.timeUnit().toNanos(annotation.expireAfterWrite());
+    if (cache.configuredBy == null) {
+      cache.configuredBy = methodElement;
+      cache.maximumSize = maximumSize;
+      cache.expireAfterWriteNanos = expireAfterWriteNanos;
+    } else if (cache.maximumSize != maximumSize
+        || cache.expireAfterWriteNanos != expireAfterWriteNanos) {
+      context
+          .getMessager()
+          .error(
+              methodElement,
+              "Invalid annotation parameters: %s methods returning the same entity share the same "
+                  + "cache and must have the same settings (this method conflicts with %s)",
+              Cached.class.getSimpleName(),
+              cache.configuredBy.getSimpleName());
+    }
+  }
+
+  /**
+   * Adds a {@link CounterCoalescer} field for a {@link CoalescedIncrement} method, and returns its
+   * name. The field comes with a private method that creates the statement writing the increments
+   * of a key; it can't be a lambda in the initializer of the field, since the prepared statements
+   * are only assigned in the constructor.
+   *
+   * @param binderBody the body of that method, which returns the statement built from its
+   *     parameters {@code keyName} (the primary key values) and {@code deltasName} (the summed
+   *     increments).
+   */
+  public String addCounterCoalescerField(
+      String methodName,
+      CoalescedIncrement annotation,
+      String keyName,
+      String deltasName,
+      CodeBlock binderBody) {
+    String fieldName = getNameIndex().uniqueField(methodName + "Coalescer");
+    MethodSpec binder =
+        MethodSpec.methodBuilder(getNameIndex().uniqueField(methodName + "CoalescedStatement"))
+            .addModifiers(Modifier.PRIVATE)
+            .returns(BoundStatement.class)
+            .addParameter(ParameterizedTypeName.get(List.class, Object.class), keyName)
+            .addParameter(long[].class, deltasName)
+            .addCode(binderBody)
+            .build();
+    coalescers.put(
+        fieldName,
+        new GeneratedCoalescer(
+            methodName,
+            annotation.timeUnit().toNanos(annotation.flushInterval()),
+            annotation.maxPendingKeys(),
+            binder));
+    return fieldName;
+  }
+
+  /**
+   * Adds a {@link ContinuousPagingProfile} field for a {@link ContinuousPaging} method, and returns
+   * its name. The field derives the execution profile of the method once, instead of on each
+   * invocation.
+   */
+  public String addContinuousPagingField(String methodName, ContinuousPaging annotation) {
+    String fieldName = getNameIndex().uniqueField(methodName + "ContinuousPaging");
+    continuousPagingProfiles.add(
+        FieldSpec.builder(
+                ContinuousPagingProfile.class, fieldName, Modifier.PRIVATE, Modifier.FINAL)
+            .initializer(
+                "new $T($L, $L)",
+                ContinuousPagingProfile.class,
+                annotation.maxPagesPerSecond(),
+                annotation.maxEnqueuedPages())
+            .build());
+    return fieldName;
+  }
+
+  @Override
+  public String addEntityHelperField(ClassName entityClassName) {
+    String fieldName = super.addEntityHelperField(entityClassName);
+    entityHelpers.put(GeneratedNames.entityHelper(entityClassName), fieldName);
+    return fieldName;
+  }
+
+  @Override
+  public String addPreparedStatement(
+      ExecutableElement methodElement,
+      BiConsumer<MethodSpec.Builder, String> simpleStatementGenerator) {
+    String fieldName = super.addPreparedStatement(methodElement, simpleStatementGenerator);
+    catalogStatements.add(new CatalogStatement(methodElement, fieldName, simpleStatementGenerator));
+    return fieldName;
+  }
+
+  @Override
+  protected JavaFile.Builder getContents() {
+    // generates the methods, and therefore registers the caches and statements
+    JavaFile file = super.getContents().build();
+    TypeSpec.Builder classBuilder = file.typeSpec.toBuilder();
+    classBuilder.addMethod(generateStatementCatalog());
+    continuousPagingProfiles.forEach(classBuilder::addField);
+    if (caches.isEmpty() && coalescers.isEmpty()) {
+      return JavaFile.builder(file.packageName, classBuilder.build())
+          .skipJavaLangImports(file.skipJavaLangImports);
+    }
+    MethodSpec.Builder releaseResources =
+        MethodSpec.methodBuilder("releaseResources")
+            .addAnnotation(Override.class)
+            .addModifiers(Modifier.PUBLIC);
+    for (Map.Entry<ClassName, GeneratedCache> entry : caches.entrySet()) {
+      ClassName entityClassName = entry.getKey();
+      GeneratedCache cache = entry.getValue();
+      if (cache.configuredBy == null) {
+        // only referenced by write methods, the cached method failed validation
+        continue;
+      }
+      classBuilder.addField(
+          FieldSpec.builder(
+                  ParameterizedTypeName.get(ClassName.get(DaoCache.class), entityClassName),
+                  cache.fieldName,
+                  Modifier.PRIVATE,
+                  Modifier.FINAL)
+              .initializer(
+                  "$T.create(context, $S, $S, $LL, $LL)",
+                  DaoCache.class,
+                  interfaceElement.getSimpleName().toString(),
+                  entityClassName.simpleName(),
+                  cache.maximumSize,
+                  cache.expireAfterWriteNanos)
+              .build());
+      releaseResources.addStatement("$L.close()", cache.fieldName);
+    }
+    for (Map.Entry<String, GeneratedCoalescer> entry : coalescers.entrySet()) {
+      GeneratedCoalescer coalescer = entry.getValue();
+      classBuilder
+          .addField(
+              FieldSpec.builder(
+                      CounterCoalescer.class, entry.getKey(), Modifier.PRIVATE, Modifier.FINAL)
+                  .initializer(
+                      "$T.create(context, $S, $S, $LL, $L, this::$L, this::executeAsync)",
+                      CounterCoalescer.class,
+                      interfaceElement.getSimpleName().toString(),
+                      coalescer.methodName,
+                      coalescer.flushIntervalNanos,
+                      coalescer.maxPendingKeys,
+                      coalescer.binder.name)
+                  .build())
+          .addMethod(coalescer.binder);
+      releaseResources.addStatement("$L.close()", entry.getKey());
+    }
+    // lets the mapper release the caches and coalescers when it evicts this DAO
+    classBuilder.addSuperinterface(ReleasableDao.class).addMethod(releaseResources.build());
+    return JavaFile.builder(file.packageName, classBuilder.build())
+        .skipJavaLangImports(file.skipJavaLangImports);
+  }
+
+  /**
+   * Generates a static method that builds the statements prepared by {@code initAsync}, with the
+   * same entity helpers and statement generators, but without preparing them.
+   */
+  private MethodSpec generateStatementCatalog() {
+    MethodSpec.Builder method =
+        MethodSpec.methodBuilder("statementCatalog")
+            .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+            .returns(ParameterizedTypeName.get(List.class, SimpleStatement.class))
+            .addParameter(MapperContext.class, "context")
+            .addStatement(
+                "$T<$T> statements = new $T<>()",
+                List.class,
+                SimpleStatement.class,
+                ArrayList.class);
+    for (Map.Entry<ClassName, String> entry : entityHelpers.entrySet()) {
+      method.addStatement("$1T $2L = new $1T(context)", entry.getKey(), entry.getValue());
+    }
+    for (CatalogStatement statement : catalogStatements) {
+      method.addComment("Statement of `$L`:", statement.methodElement.toString());
+      String simpleStatementName = statement.fieldName + "_simple";
+      statement.simpleStatementGenerator.accept(method, simpleStatementName);
+      method.addStatement(
+          "statements.add($T.withExecutionProfile($L, context))",
+          StatementCatalog.class,
+          simpleStatementName);
+    }
+    return method.addStatement("return statements").build();
+  }
+
+  private static class CatalogStatement {
+    final ExecutableElement methodElement;
+    final String fieldName;
+    final BiConsumer<MethodSpec.Builder, String> simpleStatementGenerator;
+
+    CatalogStatement(
+        ExecutableElement methodElement,
+        String fieldName,
+        BiConsumer<MethodSpec.Builder, String> simpleStatementGenerator) {
+      this.methodElement = methodElement;
+      this.fieldName = fieldName;
+      this.simpleStatementGenerator = simpleStatementGenerator;
+    }
+  }
+
+  private static class GeneratedCoalescer {
+    final String methodName;
+    final long flushIntervalNanos;
+    final int maxPendingKeys;
+    final MethodSpec binder;
+
+    GeneratedCoalescer(
+        String methodName, long flushIntervalNanos, int maxPendingKeys, MethodSpec binder) {
+      this.methodName = methodName;
+      this.flushIntervalNanos = flushIntervalNanos;
+      this.maxPendingKeys = maxPendingKeys;
+      this.binder = binder;
+    }
+  }
+
+  private static class GeneratedCache {
+    final String fieldName;
+    ExecutableElement configuredBy;
+    long maximumSize;
+    long expireAfterWriteNanos;
+
+    GeneratedCache(String fieldName) {
+      this.fieldName = fieldName;
+    }
+  }
+}
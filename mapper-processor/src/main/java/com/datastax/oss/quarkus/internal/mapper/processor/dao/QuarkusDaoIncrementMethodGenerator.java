@@ -15,16 +15,29 @@
  */
 package com.datastax.oss.quarkus.internal.mapper.processor.dao;
 
+import com.datastax.oss.driver.api.mapper.annotations.Increment;
 import com.datastax.oss.driver.internal.mapper.processor.ProcessorContext;
 import com.datastax.oss.driver.internal.mapper.processor.dao.DaoImplementationSharedCode;
 import com.datastax.oss.driver.internal.mapper.processor.dao.DaoIncrementMethodGenerator;
+import com.datastax.oss.driver.internal.mapper.processor.dao.DaoReturnType;
 import com.datastax.oss.driver.internal.mapper.processor.dao.DaoReturnTypeKind;
+import com.datastax.oss.driver.internal.mapper.processor.dao.DefaultDaoReturnTypeKind;
+import com.datastax.oss.driver.internal.mapper.processor.util.generation.GeneratedCodePatterns;
 import com.datastax.oss.driver.shaded.guava.common.collect.ImmutableSet;
+import com.datastax.oss.quarkus.runtime.api.mapper.CoalescedIncrement;
+import com.datastax.oss.quarkus.runtime.internal.mapper.CounterCoalescer;
+import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.TypeName;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import javax.lang.model.element.ExecutableElement;
 import javax.lang.model.element.Name;
 import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.TypeKind;
 
 public class QuarkusDaoIncrementMethodGenerator extends DaoIncrementMethodGenerator {
 
@@ -39,10 +52,144 @@ public class QuarkusDaoIncrementMethodGenerator extends DaoIncrementMethodGenera
 
   @Override
   protected Set<DaoReturnTypeKind> getSupportedReturnTypes() {
+    if (isCoalesced()) {
+      return ImmutableSet.of(
+          DefaultDaoReturnTypeKind.VOID,
+          DefaultDaoReturnTypeKind.FUTURE_OF_VOID,
+          QuarkusDaoReturnTypeKind.UNI_OF_VOID);
+    }
     ImmutableSet.Builder<DaoReturnTypeKind> types = ImmutableSet.builder();
     types.addAll(super.getSupportedReturnTypes());
     types.add(QuarkusDaoReturnTypeKind.UNI_OF_VOID);
     types.add(QuarkusDaoReturnTypeKind.MUTINY_REACTIVE_RESULT_SET);
     return types.build();
   }
+
+  @Override
+  public Optional<MethodSpec> generate() {
+    if (isCoalesced()) {
+      CoalescedIncrement annotation = methodElement.getAnnotation(CoalescedIncrement.class);
+      if (findBoundStatementFunction(methodElement) != null) {
+        context
+            .getMessager()
+            .error(
+                methodElement,
+                "Invalid parameter list: %s methods cannot take a function to customize the "
+                    + "bound statement",
+                CoalescedIncrement.class.getSimpleName());
+        return Optional.empty();
+      }
+      if (annotation.flushInterval() <= 0 || annotation.maxPendingKeys() <= 0) {
+        context
+            .getMessager()
+            .error(
+                methodElement,
+                "Invalid annotation parameters: %s must have a strictly positive flush interval "
+                    + "and maximum number of pending keys",
+                CoalescedIncrement.class.getSimpleName());
+        return Optional.empty();
+      }
+    }
+    return super.generate();
+  }
+
+  /**
+   * Generates the method body; for {@link CoalescedIncrement} methods, the statement block becomes
+   * the binder of a {@link CounterCoalescer} field, and the method adds its increments to it.
+   */
+  @Override
+  protected Optional<MethodSpec> crudMethod(
+      CodeBlock.Builder createStatementBlock, DaoReturnType returnType, String helperFieldName) {
+    if (!isCoalesced()) {
+      return super.crudMethod(createStatementBlock, returnType, helperFieldName);
+    }
+    int primaryKeySize =
+        context
+            .getEntityFactory()
+            .getDefinition(getEntityClassFromAnnotation(Increment.class))
+            .getPrimaryKey()
+            .size();
+    List<? extends VariableElement> parameters = methodElement.getParameters();
+    List<? extends VariableElement> primaryKeyParameters = parameters.subList(0, primaryKeySize);
+    List<? extends VariableElement> incrementParameters =
+        parameters.subList(primaryKeySize, parameters.size());
+
+    // the binder redeclares the parameters from the key values and the summed increments
+    String keyName = binderParameterName("key", parameters);
+    String deltasName = binderParameterName("deltas", parameters);
+    CodeBlock.Builder binder = CodeBlock.builder();
+    for (int i = 0; i < primaryKeyParameters.size(); i++) {
+      VariableElement parameter = primaryKeyParameters.get(i);
+      TypeName type = GeneratedCodePatterns.getTypeName(parameter.asType(), typeParameters);
+      binder.addStatement(
+          "final $T $L = ($T) $L.get($L)", type, parameter.getSimpleName(), type, keyName, i);
+    }
+    for (int i = 0; i < incrementParameters.size(); i++) {
+      VariableElement parameter = incrementParameters.get(i);
+      binder.addStatement(
+          "final $T $L = $L[$L]",
+          GeneratedCodePatterns.getTypeName(parameter.asType(), typeParameters),
+          parameter.getSimpleName(),
+          deltasName,
+          i);
+    }
+    binder.add(createStatementBlock.build()).addStatement("return boundStatement");
+    String coalescerFieldName =
+        ((QuarkusDaoImplementationGenerator) enclosingClass)
+            .addCounterCoalescerField(
+                methodElement.getSimpleName().toString(),
+                methodElement.getAnnotation(CoalescedIncrement.class),
+                keyName,
+                deltasName,
+                binder.build());
+
+    CodeBlock.Builder deltas = CodeBlock.builder().add("new long[] {");
+    String separator = "";
+    for (VariableElement parameter : incrementParameters) {
+      if (parameter.asType().getKind() == TypeKind.LONG) {
+        deltas.add("$L$L", separator, parameter.getSimpleName());
+      } else {
+        // a null increment leaves the counter unchanged
+        deltas.add("$1L$2L == null ? 0L : $2L", separator, parameter.getSimpleName());
+      }
+      separator = ", ";
+    }
+    deltas.add("}");
+    CodeBlock key = QuarkusDaoCaches.parameterKey(primaryKeyParameters);
+
+    MethodSpec.Builder method = GeneratedCodePatterns.override(methodElement, typeParameters);
+    DaoReturnTypeKind kind = returnType.getKind();
+    if (kind == DefaultDaoReturnTypeKind.VOID) {
+      method.addStatement("$L.add($L, $L)", coalescerFieldName, key, deltas.build());
+    } else if (kind == DefaultDaoReturnTypeKind.FUTURE_OF_VOID) {
+      // the method may be declared to return a CompletableFuture
+      method.addStatement(
+          "return $L.add($L, $L).toCompletableFuture()", coalescerFieldName, key, deltas.build());
+    } else {
+      method.addStatement("return $L.addUni($L, $L)", coalescerFieldName, key, deltas.build());
+    }
+    return Optional.of(method.build());
+  }
+
+  private boolean isCoalesced() {
+    return methodElement.getAnnotation(CoalescedIncrement.class) != null
+        && enclosingClass instanceof QuarkusDaoImplementationGenerator;
+  }
+
+  private static String binderParameterName(
+      String baseName, List<? extends VariableElement> parameters) {
+    String name = baseName;
+    boolean clash = true;
+    while (clash) {
+      clash = false;
+      for (VariableElement parameter : parameters) {
+        if (parameter.getSimpleName().contentEquals(name)) {
+          name += "_";
+          clash = true;
+          break;
+        }
+      }
+    }
+    return name;
+  }
 }
@@ -15,19 +15,46 @@
  */
 package com.datastax.oss.quarkus.internal.mapper.processor.dao;
 
+import com.datastax.oss.driver.api.core.cql.BoundStatementBuilder;
+import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+import com.datastax.oss.driver.api.mapper.annotations.Insert;
+import com.datastax.oss.driver.api.mapper.entity.saving.NullSavingStrategy;
 import com.datastax.oss.driver.internal.mapper.processor.ProcessorContext;
 import com.datastax.oss.driver.internal.mapper.processor.dao.DaoImplementationSharedCode;
 import com.datastax.oss.driver.internal.mapper.processor.dao.DaoInsertMethodGenerator;
+import com.datastax.oss.driver.internal.mapper.processor.dao.DaoReturnType;
 import com.datastax.oss.driver.internal.mapper.processor.dao.DaoReturnTypeKind;
+import com.datastax.oss.driver.internal.mapper.processor.dao.EntityUtils;
+import com.datastax.oss.driver.internal.mapper.processor.dao.NullSavingStrategyValidation;
+import com.datastax.oss.driver.internal.mapper.processor.util.generation.GeneratedCodePatterns;
 import com.datastax.oss.driver.shaded.guava.common.collect.ImmutableSet;
+import com.datastax.oss.quarkus.runtime.internal.reactive.mapper.MapperMutinyWrappers;
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.MethodSpec;
+import io.smallrye.mutiny.Multi;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import javax.lang.model.element.ExecutableElement;
 import javax.lang.model.element.Name;
 import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
 
 public class QuarkusDaoInsertMethodGenerator extends DaoInsertMethodGenerator {
 
+  private static final Set<DaoReturnTypeKind> STREAMING_RETURN_TYPES =
+      ImmutableSet.of(
+          QuarkusDaoReturnTypeKind.UNI_OF_VOID,
+          QuarkusDaoReturnTypeKind.UNI_OF_LONG,
+          QuarkusDaoReturnTypeKind.MULTI_OF_ENTITY);
+
+  private final NullSavingStrategyValidation nullSavingStrategyValidation;
+
   public QuarkusDaoInsertMethodGenerator(
       ExecutableElement methodElement,
       Map<Name, TypeElement> typeParameters,
@@ -35,6 +62,7 @@ public class QuarkusDaoInsertMethodGenerator extends DaoInsertMethodGenerator {
       DaoImplementationSharedCode enclosingClass,
       ProcessorContext context) {
     super(methodElement, typeParameters, processedType, enclosingClass, context);
+    this.nullSavingStrategyValidation = new NullSavingStrategyValidation(context);
   }
 
   @Override
@@ -44,9 +72,180 @@ public class QuarkusDaoInsertMethodGenerator extends DaoInsertMethodGenerator {
     types.add(QuarkusDaoReturnTypeKind.UNI_OF_VOID);
     types.add(QuarkusDaoReturnTypeKind.UNI_OF_BOOLEAN);
     types.add(QuarkusDaoReturnTypeKind.UNI_OF_ENTITY);
+    types.add(QuarkusDaoReturnTypeKind.UNI_OF_LWT_RESULT);
     types.add(QuarkusDaoReturnTypeKind.MUTINY_REACTIVE_RESULT_SET);
     types.add(QuarkusDaoReturnTypeKind.MULTI_OF_ROW);
     types.add(QuarkusDaoReturnTypeKind.MULTI_OF_REACTIVE_ROW);
     return types.build();
   }
+
+  @Override
+  public boolean requiresReactive() {
+    if (findStreamedEntity() != null) {
+      return true;
+    }
+    return super.requiresReactive();
+  }
+
+  @Override
+  public Optional<MethodSpec> generate() {
+    TypeElement entityElement = findStreamedEntity();
+    if (entityElement == null) {
+      return super.generate();
+    }
+    return generateStreaming(entityElement);
+  }
+
+  @Override
+  protected Optional<MethodSpec> crudMethod(
+      CodeBlock.Builder createStatementBlock, DaoReturnType returnType, String helperFieldName) {
+    VariableElement entityParameter = methodElement.getParameters().get(0);
+    TypeElement entityElement = EntityUtils.asEntityElement(entityParameter, typeParameters);
+    return QuarkusDaoCaches.invalidatingWrite(
+        createStatementBlock,
+        block -> super.crudMethod(block, returnType, helperFieldName),
+        returnType,
+        entityElement,
+        QuarkusDaoCaches.entityKey(
+            entityParameter.getSimpleName().toString(), entityElement, context),
+        methodElement,
+        processedType,
+        typeParameters,
+        enclosingClass,
+        context);
+  }
+
+  /**
+   * Returns the entity of the first parameter if it is a {@code Multi} of entities, or null
+   * otherwise.
+   */
+  private TypeElement findStreamedEntity() {
+    List<? extends VariableElement> parameters = methodElement.getParameters();
+    if (parameters.isEmpty()) {
+      return null;
+    }
+    TypeMirror mirror = parameters.get(0).asType();
+    if (mirror.getKind() != TypeKind.DECLARED
+        || !context.getClassUtils().isSame(((DeclaredType) mirror).asElement(), Multi.class)) {
+      return null;
+    }
+    return EntityUtils.typeArgumentAsEntityElement(mirror, typeParameters);
+  }
+
+  /**
+   * Generates a method writing a stream of entities: each entity is bound to the insert statement
+   * in a lambda, and the stream is written by {@link MapperMutinyWrappers} with a bounded number of
+   * requests in flight.
+   */
+  private Optional<MethodSpec> generateStreaming(TypeElement entityElement) {
+    List<? extends VariableElement> parameters = methodElement.getParameters();
+    VariableElement boundStatementFunction = findBoundStatementFunction(methodElement);
+    if (boundStatementFunction != null) {
+      parameters = parameters.subList(0, parameters.size() - 1);
+    }
+    DaoReturnType returnType =
+        parseAndValidateReturnType(STREAMING_RETURN_TYPES, Insert.class.getSimpleName());
+    if (returnType == null) {
+      return Optional.empty();
+    }
+    if (returnType.getEntityElement() != null
+        && !returnType.getEntityElement().equals(entityElement)) {
+      context
+          .getMessager()
+          .error(
+              methodElement,
+              "Invalid return type: %s methods must return the same entity as their argument ",
+              Insert.class.getSimpleName());
+      return Optional.empty();
+    }
+    String helperFieldName = enclosingClass.addEntityHelperField(ClassName.get(entityElement));
+    Insert annotation = methodElement.getAnnotation(Insert.class);
+    String statementName =
+        enclosingClass.addPreparedStatement(
+            methodElement,
+            (methodBuilder, requestName) ->
+                generatePrepareRequest(methodBuilder, requestName, helperFieldName, annotation));
+
+    CodeBlock.Builder bindBlock = CodeBlock.builder();
+    bindBlock.addStatement(
+        "$T boundStatementBuilder = $L.boundStatementBuilder()",
+        BoundStatementBuilder.class,
+        statementName);
+    populateBuilderWithStatementAttributes(bindBlock, methodElement);
+    populateBuilderWithFunction(bindBlock, boundStatementFunction);
+    warnIfCqlNamePresent(parameters.subList(0, 1));
+    NullSavingStrategy nullSavingStrategy =
+        nullSavingStrategyValidation.getNullSavingStrategy(
+            Insert.class, Insert::nullSavingStrategy, methodElement, enclosingClass);
+    bindBlock.addStatement(
+        "$1L.set(writtenEntity, boundStatementBuilder, $2T.$3L, false)",
+        helperFieldName,
+        NullSavingStrategy.class,
+        nullSavingStrategy);
+    if (parameters.size() > 1) {
+      List<? extends VariableElement> bindMarkers = parameters.subList(1, parameters.size());
+      if (validateCqlNamesPresent(bindMarkers)) {
+        GeneratedCodePatterns.bindParameters(
+            bindMarkers, bindBlock, enclosingClass, context, false);
+      } else {
+        return Optional.empty();
+      }
+    }
+    QuarkusDaoCaches.addInvalidation(
+        bindBlock,
+        entityElement,
+        QuarkusDaoCaches.entityKey("writtenEntity", entityElement, context),
+        processedType,
+        typeParameters,
+        enclosingClass,
+        context);
+    bindBlock.addStatement("return boundStatementBuilder.build()");
+
+    String wrapperMethod;
+    DaoReturnTypeKind kind = returnType.getKind();
+    if (kind == QuarkusDaoReturnTypeKind.MULTI_OF_ENTITY) {
+      wrapperMethod = "toWrittenEntityMulti";
+    } else if (kind == QuarkusDaoReturnTypeKind.UNI_OF_LONG) {
+      wrapperMethod = "toWrittenCountUni";
+    } else {
+      wrapperMethod = "toWrittenVoidUni";
+    }
+    // invalidate each cached entity again once its write was applied
+    CodeBlock onWritten =
+        QuarkusDaoCaches.writtenEntityCallback(
+            entityElement, processedType, typeParameters, enclosingClass, context);
+    CodeBlock executeBlock =
+        CodeBlock.builder()
+            .add("return $T.$L(\n$>$>", MapperMutinyWrappers.class, wrapperMethod)
+            .add("$L,\n", parameters.get(0).getSimpleName())
+            .add("writtenEntity -> {\n$>")
+            .add(bindBlock.build())
+            .add("$<},\n")
+            // conditional inserts can't be grouped into batches
+            .add("$L,\n", !annotation.ifNotExists())
+            .add("this::executeAsync,\n")
+            .add("context.getSession().getContext()")
+            .add(onWritten == null ? CodeBlock.of("") : CodeBlock.of(",\n$L", onWritten))
+            .add(");\n$<$<")
+            .build();
+    MethodSpec.Builder method = GeneratedCodePatterns.override(methodElement, typeParameters);
+    method.addCode(kind.wrapWithErrorHandling(executeBlock, methodElement, typeParameters));
+    return Optional.of(method.build());
+  }
+
+  /** Copy of {@code DaoInsertMethodGenerator#generatePrepareRequest}, which is private. */
+  private void generatePrepareRequest(
+      MethodSpec.Builder methodBuilder,
+      String requestName,
+      String helperFieldName,
+      Insert annotation) {
+    methodBuilder.addCode(
+        "$[$T $L = $L.insert()", SimpleStatement.class, requestName, helperFieldName);
+    if (annotation.ifNotExists()) {
+      methodBuilder.addCode(".ifNotExists()");
+    }
+    maybeAddTtl(annotation.ttl(), methodBuilder);
+    maybeAddTimestamp(annotation.timestamp(), methodBuilder);
+    methodBuilder.addCode(".build()$];\n");
+  }
 }
@@ -18,13 +18,18 @@ package com.datastax.oss.quarkus.internal.mapper.processor.dao;
 import com.datastax.oss.driver.internal.mapper.processor.ProcessorContext;
 import com.datastax.oss.driver.internal.mapper.processor.dao.DaoImplementationSharedCode;
 import com.datastax.oss.driver.internal.mapper.processor.dao.DaoQueryMethodGenerator;
+import com.datastax.oss.driver.internal.mapper.processor.dao.DaoReturnType;
 import com.datastax.oss.driver.internal.mapper.processor.dao.DaoReturnTypeKind;
 import com.datastax.oss.driver.shaded.guava.common.collect.ImmutableSet;
+import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.MethodSpec;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import javax.lang.model.element.ExecutableElement;
 import javax.lang.model.element.Name;
 import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
 
 public class QuarkusDaoQueryMethodGenerator extends DaoQueryMethodGenerator {
 
@@ -46,4 +51,44 @@ public class QuarkusDaoQueryMethodGenerator extends DaoQueryMethodGenerator {
     }
     return types.build();
   }
+
+  @Override
+  protected VariableElement findBoundStatementFunction(ExecutableElement methodElement) {
+    VariableElement pagingState = QuarkusPagingStates.findParameter(methodElement, context);
+    return pagingState != null ? pagingState : super.findBoundStatementFunction(methodElement);
+  }
+
+  @Override
+  protected void populateBuilderWithFunction(
+      CodeBlock.Builder builder, VariableElement functionParam) {
+    if (functionParam != null && QuarkusPagingStates.isPagingState(functionParam, context)) {
+      QuarkusPagingStates.populateBuilder(builder, functionParam);
+    } else {
+      super.populateBuilderWithFunction(builder, functionParam);
+    }
+  }
+
+  @Override
+  protected Optional<MethodSpec> crudMethod(
+      CodeBlock.Builder createStatementBlock, DaoReturnType returnType, String helperFieldName) {
+    VariableElement pagingState = QuarkusPagingStates.findParameter(methodElement, context);
+    if (pagingState != null) {
+      QuarkusPagingStates.checkBoundStatement(createStatementBlock, pagingState);
+    }
+    if (!QuarkusContinuousPaging.populateBuilder(
+        createStatementBlock, methodElement, returnType, enclosingClass, context)) {
+      return Optional.empty();
+    }
+    Optional<MethodSpec> decodingMethod =
+        QuarkusEntityDecoderGenerator.decodingCrudMethod(
+            methodElement,
+            typeParameters,
+            createStatementBlock,
+            returnType,
+            enclosingClass,
+            context);
+    return decodingMethod.isPresent()
+        ? decodingMethod
+        : super.crudMethod(createStatementBlock, returnType, helperFieldName);
+  }
 }
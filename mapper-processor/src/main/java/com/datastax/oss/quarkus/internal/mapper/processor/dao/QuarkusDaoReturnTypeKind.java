@@ -235,6 +235,28 @@ public enum QuarkusDaoReturnTypeKind implements DaoReturnTypeKind {
     }
   },
 
+  UNI_OF_LWT_RESULT {
+    @Override
+    public void addExecuteStatement(
+        CodeBlock.Builder methodBuilder,
+        String helperFieldName,
+        ExecutableElement methodElement,
+        Map<Name, TypeElement> typeParameters) {
+      methodBuilder.addStatement(
+          "return $T.toLwtResultUni(executeReactive(boundStatement), $L)",
+          MapperMutinyWrappers.class,
+          helperFieldName);
+    }
+
+    @Override
+    public CodeBlock wrapWithErrorHandling(
+        CodeBlock innerBlock,
+        ExecutableElement methodElement,
+        Map<Name, TypeElement> typeParameters) {
+      return wrapWithErrorHandling(innerBlock, FAILED_UNI);
+    }
+  },
+
   UNI_OF_LONG {
     @Override
     public void addExecuteStatement(
@@ -254,6 +276,48 @@ public enum QuarkusDaoReturnTypeKind implements DaoReturnTypeKind {
       return wrapWithErrorHandling(innerBlock, FAILED_UNI);
     }
   },
+
+  UNI_OF_ENTITY_PAGE {
+    @Override
+    public void addExecuteStatement(
+        CodeBlock.Builder methodBuilder,
+        String helperFieldName,
+        ExecutableElement methodElement,
+        Map<Name, TypeElement> typeParameters) {
+      methodBuilder.addStatement(
+          "return $T.toEntityPageUni(() -> executeAsync(boundStatement), $L)",
+          MapperMutinyWrappers.class,
+          helperFieldName);
+    }
+
+    @Override
+    public CodeBlock wrapWithErrorHandling(
+        CodeBlock innerBlock,
+        ExecutableElement methodElement,
+        Map<Name, TypeElement> typeParameters) {
+      return wrapWithErrorHandling(innerBlock, FAILED_UNI);
+    }
+  },
+
+  UNI_OF_ROW_PAGE {
+    @Override
+    public void addExecuteStatement(
+        CodeBlock.Builder methodBuilder,
+        String helperFieldName,
+        ExecutableElement methodElement,
+        Map<Name, TypeElement> typeParameters) {
+      methodBuilder.addStatement(
+          "return $T.toRowPageUni(() -> executeAsync(boundStatement))", MapperMutinyWrappers.class);
+    }
+
+    @Override
+    public CodeBlock wrapWithErrorHandling(
+        CodeBlock innerBlock,
+        ExecutableElement methodElement,
+        Map<Name, TypeElement> typeParameters) {
+      return wrapWithErrorHandling(innerBlock, FAILED_UNI);
+    }
+  },
   ;
 
   @Override
@@ -21,7 +21,9 @@ import com.datastax.oss.driver.internal.mapper.processor.ProcessorContext;
 import com.datastax.oss.driver.internal.mapper.processor.dao.DaoReturnType;
 import com.datastax.oss.driver.internal.mapper.processor.dao.DefaultDaoReturnTypeParser;
 import com.datastax.oss.driver.internal.mapper.processor.dao.EntityUtils;
+import com.datastax.oss.quarkus.runtime.api.reactive.MutinyPage;
 import com.datastax.oss.quarkus.runtime.api.reactive.MutinyReactiveResultSet;
+import com.datastax.oss.quarkus.runtime.api.reactive.mapper.LwtResult;
 import com.datastax.oss.quarkus.runtime.api.reactive.mapper.MutinyMappedReactiveResultSet;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import io.smallrye.mutiny.Multi;
@@ -60,6 +62,9 @@ public class QuarkusDaoReturnTypeParser extends DefaultDaoReturnTypeParser {
   private static final DaoReturnType UNI_OF_LONG =
       new DaoReturnType(QuarkusDaoReturnTypeKind.UNI_OF_LONG);
 
+  private static final DaoReturnType UNI_OF_ROW_PAGE =
+      new DaoReturnType(QuarkusDaoReturnTypeKind.UNI_OF_ROW_PAGE);
+
   public QuarkusDaoReturnTypeParser(ProcessorContext context) {
     super(context);
   }
@@ -139,6 +144,16 @@ public class QuarkusDaoReturnTypeParser extends DefaultDaoReturnTypeParser {
             if (context.getClassUtils().isSame(typeArgumentMirror, Long.class)) {
               return UNI_OF_LONG;
             }
+            // Uni<MutinyPage<Row>> and Uni<MutinyPage<EntityT>>
+            DaoReturnType pageType = parsePage(typeArgumentMirror, typeParameters);
+            if (pageType != null) {
+              return pageType;
+            }
+            // Uni<LwtResult<EntityT>>
+            DaoReturnType lwtResultType = parseLwtResult(typeArgumentMirror, typeParameters);
+            if (lwtResultType != null) {
+              return lwtResultType;
+            }
             // Uni<EntityT>
             TypeElement entityElement =
                 EntityUtils.asEntityElement(typeArgumentMirror, typeParameters);
@@ -151,4 +166,39 @@ public class QuarkusDaoReturnTypeParser extends DefaultDaoReturnTypeParser {
     }
     return super.parse(returnTypeMirror, typeParameters);
   }
+
+  private DaoReturnType parsePage(
+      TypeMirror typeArgumentMirror, Map<Name, TypeElement> typeParameters) {
+    DeclaredType pageDeclared = (DeclaredType) typeArgumentMirror;
+    if (context.getClassUtils().isSame(pageDeclared.asElement(), MutinyPage.class)
+        && pageDeclared.getTypeArguments().size() == 1) {
+      TypeMirror itemMirror = pageDeclared.getTypeArguments().get(0);
+      if (itemMirror.getKind() == TypeKind.DECLARED) {
+        // MutinyPage<Row>
+        if (context.getClassUtils().isSame(itemMirror, Row.class)) {
+          return UNI_OF_ROW_PAGE;
+        }
+        // MutinyPage<EntityT>
+        TypeElement entityElement = EntityUtils.asEntityElement(itemMirror, typeParameters);
+        if (entityElement != null) {
+          return new DaoReturnType(QuarkusDaoReturnTypeKind.UNI_OF_ENTITY_PAGE, entityElement);
+        }
+      }
+    }
+    return null;
+  }
+
+  private DaoReturnType parseLwtResult(
+      TypeMirror typeArgumentMirror, Map<Name, TypeElement> typeParameters) {
+    DeclaredType resultDeclared = (DeclaredType) typeArgumentMirror;
+    if (context.getClassUtils().isSame(resultDeclared.asElement(), LwtResult.class)
+        && resultDeclared.getTypeArguments().size() == 1) {
+      TypeElement entityElement =
+          EntityUtils.asEntityElement(resultDeclared.getTypeArguments().get(0), typeParameters);
+      if (entityElement != null) {
+        return new DaoReturnType(QuarkusDaoReturnTypeKind.UNI_OF_LWT_RESULT, entityElement);
+      }
+    }
+    return null;
+  }
 }
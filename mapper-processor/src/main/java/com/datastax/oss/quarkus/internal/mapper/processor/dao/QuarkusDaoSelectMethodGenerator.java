@@ -15,16 +15,41 @@
  */
 package com.datastax.oss.quarkus.internal.mapper.processor.dao;
 
+import com.datastax.oss.driver.api.core.cql.BoundStatementBuilder;
+import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+import com.datastax.oss.driver.api.mapper.annotations.Select;
 import com.datastax.oss.driver.internal.mapper.processor.ProcessorContext;
 import com.datastax.oss.driver.internal.mapper.processor.dao.DaoImplementationSharedCode;
+import com.datastax.oss.driver.internal.mapper.processor.dao.DaoReturnType;
 import com.datastax.oss.driver.internal.mapper.processor.dao.DaoReturnTypeKind;
 import com.datastax.oss.driver.internal.mapper.processor.dao.DaoSelectMethodGenerator;
+import com.datastax.oss.driver.internal.mapper.processor.dao.EntityUtils;
+import com.datastax.oss.driver.internal.mapper.processor.entity.EntityDefinition;
+import com.datastax.oss.driver.internal.mapper.processor.entity.PropertyDefinition;
+import com.datastax.oss.driver.internal.mapper.processor.util.generation.GeneratedCodePatterns;
 import com.datastax.oss.driver.shaded.guava.common.collect.ImmutableSet;
+import com.datastax.oss.quarkus.runtime.api.mapper.Cached;
+import com.datastax.oss.quarkus.runtime.api.mapper.ContinuousPaging;
+import com.datastax.oss.quarkus.runtime.internal.reactive.mapper.MapperMutinyWrappers;
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.TypeName;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import javax.lang.model.element.ExecutableElement;
 import javax.lang.model.element.Name;
 import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Types;
 
 public class QuarkusDaoSelectMethodGenerator extends DaoSelectMethodGenerator {
 
@@ -44,6 +69,304 @@ public class QuarkusDaoSelectMethodGenerator extends DaoSelectMethodGenerator {
     types.add(QuarkusDaoReturnTypeKind.MUTINY_MAPPED_REACTIVE_RESULT_SET);
     types.add(QuarkusDaoReturnTypeKind.MULTI_OF_ENTITY);
     types.add(QuarkusDaoReturnTypeKind.UNI_OF_ENTITY);
+    types.add(QuarkusDaoReturnTypeKind.UNI_OF_ENTITY_PAGE);
     return types.build();
   }
+
+  @Override
+  public boolean requiresReactive() {
+    if (findKeysParameter() != null) {
+      return true;
+    }
+    return super.requiresReactive();
+  }
+
+  @Override
+  public Optional<MethodSpec> generate() {
+    VariableElement keysParameter = findKeysParameter();
+    if (keysParameter == null) {
+      return super.generate();
+    }
+    return generateMultiGet(keysParameter);
+  }
+
+  @Override
+  protected VariableElement findBoundStatementFunction(ExecutableElement methodElement) {
+    VariableElement pagingState = QuarkusPagingStates.findParameter(methodElement, context);
+    return pagingState != null ? pagingState : super.findBoundStatementFunction(methodElement);
+  }
+
+  @Override
+  protected void populateBuilderWithFunction(
+      CodeBlock.Builder builder, VariableElement functionParam) {
+    if (functionParam != null && QuarkusPagingStates.isPagingState(functionParam, context)) {
+      QuarkusPagingStates.populateBuilder(builder, functionParam);
+    } else {
+      super.populateBuilderWithFunction(builder, functionParam);
+    }
+  }
+
+  @Override
+  protected Optional<MethodSpec> crudMethod(
+      CodeBlock.Builder createStatementBlock, DaoReturnType returnType, String helperFieldName) {
+    VariableElement pagingState = QuarkusPagingStates.findParameter(methodElement, context);
+    if (pagingState != null) {
+      QuarkusPagingStates.checkBoundStatement(createStatementBlock, pagingState);
+    }
+    if (!QuarkusContinuousPaging.populateBuilder(
+        createStatementBlock, methodElement, returnType, enclosingClass, context)) {
+      return Optional.empty();
+    }
+    Optional<MethodSpec> decodingMethod =
+        QuarkusEntityDecoderGenerator.decodingCrudMethod(
+            methodElement,
+            typeParameters,
+            createStatementBlock,
+            returnType,
+            enclosingClass,
+            context);
+    Optional<MethodSpec> method =
+        decodingMethod.isPresent()
+            ? decodingMethod
+            : super.crudMethod(createStatementBlock, returnType, helperFieldName);
+    return method.flatMap(
+        m ->
+            QuarkusDaoCaches.cachedSelect(
+                m, methodElement, typeParameters, returnType, enclosingClass, context));
+  }
+
+  /**
+   * Returns the first parameter if it is a {@code Multi} or a {@code Collection} of keys, rather
+   * than a key itself, or null otherwise.
+   */
+  private VariableElement findKeysParameter() {
+    List<? extends VariableElement> parameters = methodElement.getParameters();
+    if (parameters.isEmpty()
+        || !methodElement.getAnnotation(Select.class).customWhereClause().isEmpty()) {
+      return null;
+    }
+    VariableElement parameter = parameters.get(0);
+    TypeMirror mirror = parameter.asType();
+    if (mirror.getKind() != TypeKind.DECLARED
+        || ((DeclaredType) mirror).getTypeArguments().size() != 1) {
+      return null;
+    }
+    if (context.getClassUtils().isSame(((DeclaredType) mirror).asElement(), Multi.class)) {
+      return parameter;
+    }
+    Types types = context.getTypeUtils();
+    TypeMirror collection =
+        types.erasure(
+            context.getElementUtils().getTypeElement(Collection.class.getName()).asType());
+    if (!types.isAssignable(types.erasure(mirror), collection)) {
+      return null;
+    }
+    // a collection can also be the key itself, for example a frozen list as partition key
+    TypeElement entityElement = findReturnedEntity();
+    if (entityElement == null) {
+      return null;
+    }
+    List<PropertyDefinition> primaryKey =
+        context.getEntityFactory().getDefinition(entityElement).getPrimaryKey();
+    if (!primaryKey.isEmpty()
+        && TypeName.get(mirror).equals(primaryKey.get(0).getType().asTypeName())) {
+      return null;
+    }
+    return parameter;
+  }
+
+  /**
+   * Returns the entity of a {@code Multi<EntityT>} or {@code Uni<Map<KeyT, EntityT>>} return type,
+   * or null if the method returns something else.
+   */
+  private TypeElement findReturnedEntity() {
+    TypeMirror mirror = methodElement.getReturnType();
+    if (mirror.getKind() != TypeKind.DECLARED) {
+      return null;
+    }
+    DeclaredType declared = (DeclaredType) mirror;
+    if (context.getClassUtils().isSame(declared.asElement(), Multi.class)) {
+      return EntityUtils.typeArgumentAsEntityElement(mirror, typeParameters);
+    }
+    if (context.getClassUtils().isSame(declared.asElement(), Uni.class)
+        && declared.getTypeArguments().size() == 1
+        && declared.getTypeArguments().get(0).getKind() == TypeKind.DECLARED) {
+      DeclaredType map = (DeclaredType) declared.getTypeArguments().get(0);
+      if (context.getClassUtils().isSame(map.asElement(), Map.class)
+          && map.getTypeArguments().size() == 2) {
+        return EntityUtils.asEntityElement(map.getTypeArguments().get(1), typeParameters);
+      }
+    }
+    return null;
+  }
+
+  /** Returns the key type of a {@code Uni<Map<KeyT, EntityT>>} return type. */
+  private TypeMirror returnedMapKey() {
+    DeclaredType uni = (DeclaredType) methodElement.getReturnType();
+    return ((DeclaredType) uni.getTypeArguments().get(0)).getTypeArguments().get(0);
+  }
+
+  /**
+   * Generates a method reading many keys: each key is bound to the select statement in a lambda,
+   * and the keys are read by {@link MapperMutinyWrappers}, with one single-partition request per
+   * key and a bounded number of requests in flight.
+   */
+  private Optional<MethodSpec> generateMultiGet(VariableElement keysParameter) {
+    List<? extends VariableElement> parameters = methodElement.getParameters();
+    VariableElement boundStatementFunction = super.findBoundStatementFunction(methodElement);
+    if (boundStatementFunction != null) {
+      parameters = parameters.subList(0, parameters.size() - 1);
+    }
+    if (parameters.size() != 1) {
+      context
+          .getMessager()
+          .error(
+              methodElement,
+              "Invalid parameter list: %s methods that take several keys must not have other "
+                  + "parameters, except a function to customize the statement",
+              Select.class.getSimpleName());
+      return Optional.empty();
+    }
+    Select annotation = methodElement.getAnnotation(Select.class);
+    if (annotation.orderBy().length > 0
+        || annotation.groupBy().length > 0
+        || methodElement.getAnnotation(Cached.class) != null
+        || methodElement.getAnnotation(ContinuousPaging.class) != null) {
+      context
+          .getMessager()
+          .error(
+              methodElement,
+              "%s methods that take several keys do not support orderBy, groupBy, @%s or @%s",
+              Select.class.getSimpleName(),
+              Cached.class.getSimpleName(),
+              ContinuousPaging.class.getSimpleName());
+      return Optional.empty();
+    }
+    boolean multi =
+        context
+            .getClassUtils()
+            .isSame(((DeclaredType) keysParameter.asType()).asElement(), Multi.class);
+    boolean returnsMulti =
+        methodElement.getReturnType().getKind() == TypeKind.DECLARED
+            && context
+                .getClassUtils()
+                .isSame(((DeclaredType) methodElement.getReturnType()).asElement(), Multi.class);
+    TypeElement entityElement = findReturnedEntity();
+    TypeMirror keyMirror = ((DeclaredType) keysParameter.asType()).getTypeArguments().get(0);
+    if (entityElement == null
+        || (multi && !returnsMulti)
+        || (!returnsMulti && !TypeName.get(keyMirror).equals(TypeName.get(returnedMapKey())))) {
+      context
+          .getMessager()
+          .error(
+              methodElement,
+              "Invalid return type: %s methods that take several keys must return "
+                  + "Multi<EntityT>, or Uni<Map<KeyT, EntityT>> if they take a Collection of keys",
+              Select.class.getSimpleName());
+      return Optional.empty();
+    }
+    EntityDefinition entityDefinition = context.getEntityFactory().getDefinition(entityElement);
+    PropertyDefinition keyProperty =
+        entityDefinition.getPartitionKey().size() == 1
+            ? entityDefinition.getPartitionKey().get(0)
+            : null;
+    if (keyProperty == null
+        || !TypeName.get(keyMirror).box().equals(keyProperty.getType().asTypeName().box())) {
+      context
+          .getMessager()
+          .error(
+              methodElement,
+              "Invalid parameter list: %s methods that take several keys must take keys of the "
+                  + "type of the partition key, and the partition key of %s must have a single "
+                  + "column",
+              Select.class.getSimpleName(),
+              entityElement.getSimpleName());
+      return Optional.empty();
+    }
+    if (!returnsMulti && !entityDefinition.getClusteringColumns().isEmpty()) {
+      context
+          .getMessager()
+          .error(
+              methodElement,
+              "Invalid return type: %s methods returning a Map by key require entities without "
+                  + "clustering columns, %s has some; return a Multi instead",
+              Select.class.getSimpleName(),
+              entityElement.getSimpleName());
+      return Optional.empty();
+    }
+    String helperFieldName = enclosingClass.addEntityHelperField(ClassName.get(entityElement));
+    String statementName =
+        enclosingClass.addPreparedStatement(
+            methodElement,
+            (methodBuilder, requestName) ->
+                generateMultiGetRequest(methodBuilder, requestName, helperFieldName, annotation));
+
+    String keyName =
+        keysParameter.getSimpleName().contentEquals("readKey") ? "readKey_" : "readKey";
+    CodeBlock.Builder bindBlock = CodeBlock.builder();
+    bindBlock.addStatement(
+        "$T boundStatementBuilder = $L.boundStatementBuilder()",
+        BoundStatementBuilder.class,
+        statementName);
+    populateBuilderWithStatementAttributes(bindBlock, methodElement);
+    super.populateBuilderWithFunction(bindBlock, boundStatementFunction);
+    GeneratedCodePatterns.setValue(
+        keyProperty.getCqlName(),
+        keyProperty.getType(),
+        CodeBlock.of("$L", keyName),
+        "boundStatementBuilder",
+        bindBlock,
+        enclosingClass);
+    bindBlock.addStatement("return boundStatementBuilder.build()");
+
+    CodeBlock keys =
+        multi || !returnsMulti
+            ? CodeBlock.of("$L", keysParameter.getSimpleName())
+            : CodeBlock.of(
+                "$T.createFrom().iterable($L)", Multi.class, keysParameter.getSimpleName());
+    QuarkusDaoReturnTypeKind kind =
+        returnsMulti
+            ? QuarkusDaoReturnTypeKind.MULTI_OF_ENTITY
+            : QuarkusDaoReturnTypeKind.UNI_OF_ENTITY;
+    CodeBlock executeBlock =
+        CodeBlock.builder()
+            .add(
+                "return $T.$L(\n$>$>",
+                MapperMutinyWrappers.class,
+                returnsMulti ? "toMultiGetEntityMulti" : "toMultiGetEntityMapUni")
+            .add("$L,\n", keys)
+            .add("$L -> {\n$>", keyName)
+            .add(bindBlock.build())
+            .add("$<},\n")
+            .add("$L,\n", helperFieldName)
+            .add("this::executeAsync,\n")
+            .add("context.getSession().getContext());\n$<$<")
+            .build();
+    MethodSpec.Builder method = GeneratedCodePatterns.override(methodElement, typeParameters);
+    method.addCode(kind.wrapWithErrorHandling(executeBlock, methodElement, typeParameters));
+    return Optional.of(method.build());
+  }
+
+  private void generateMultiGetRequest(
+      MethodSpec.Builder methodBuilder,
+      String requestName,
+      String helperFieldName,
+      Select annotation) {
+    methodBuilder.addCode(
+        "$[$T $L = $L.selectByPrimaryKeyParts(1)",
+        SimpleStatement.class,
+        requestName,
+        helperFieldName);
+    maybeAddSimpleClause(annotation.limit(), Integer::parseInt, "limit", "limit", methodBuilder);
+    maybeAddSimpleClause(
+        annotation.perPartitionLimit(),
+        Integer::parseInt,
+        "perPartitionLimit",
+        "perPartitionLimit",
+        methodBuilder);
+    if (annotation.allowFiltering()) {
+      methodBuilder.addCode(".allowFiltering()");
+    }
+    methodBuilder.addCode(".build();$]\n");
+  }
 }
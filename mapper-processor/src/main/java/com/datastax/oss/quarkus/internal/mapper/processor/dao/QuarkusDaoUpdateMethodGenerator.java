@@ -15,16 +15,23 @@
  */
 package com.datastax.oss.quarkus.internal.mapper.processor.dao;
 
+import com.datastax.oss.driver.api.mapper.annotations.Update;
 import com.datastax.oss.driver.internal.mapper.processor.ProcessorContext;
 import com.datastax.oss.driver.internal.mapper.processor.dao.DaoImplementationSharedCode;
+import com.datastax.oss.driver.internal.mapper.processor.dao.DaoReturnType;
 import com.datastax.oss.driver.internal.mapper.processor.dao.DaoReturnTypeKind;
 import com.datastax.oss.driver.internal.mapper.processor.dao.DaoUpdateMethodGenerator;
+import com.datastax.oss.driver.internal.mapper.processor.dao.EntityUtils;
 import com.datastax.oss.driver.shaded.guava.common.collect.ImmutableSet;
+import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.MethodSpec;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import javax.lang.model.element.ExecutableElement;
 import javax.lang.model.element.Name;
 import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
 
 public class QuarkusDaoUpdateMethodGenerator extends DaoUpdateMethodGenerator {
 
@@ -43,9 +50,43 @@ public class QuarkusDaoUpdateMethodGenerator extends DaoUpdateMethodGenerator {
     types.addAll(super.getSupportedReturnTypes());
     types.add(QuarkusDaoReturnTypeKind.UNI_OF_VOID);
     types.add(QuarkusDaoReturnTypeKind.UNI_OF_BOOLEAN);
+    types.add(QuarkusDaoReturnTypeKind.UNI_OF_LWT_RESULT);
     types.add(QuarkusDaoReturnTypeKind.MUTINY_REACTIVE_RESULT_SET);
     types.add(QuarkusDaoReturnTypeKind.MULTI_OF_ROW);
     types.add(QuarkusDaoReturnTypeKind.MULTI_OF_REACTIVE_ROW);
     return types.build();
   }
+
+  @Override
+  protected Optional<MethodSpec> crudMethod(
+      CodeBlock.Builder createStatementBlock, DaoReturnType returnType, String helperFieldName) {
+    VariableElement entityParameter = methodElement.getParameters().get(0);
+    TypeElement entityElement = EntityUtils.asEntityElement(entityParameter, typeParameters);
+    if (returnType.getEntityElement() != null
+        && !returnType.getEntityElement().equals(entityElement)) {
+      context
+          .getMessager()
+          .error(
+              methodElement,
+              "Invalid return type: %s methods must return the same entity as the one they update",
+              Update.class.getSimpleName());
+      return Optional.empty();
+    }
+    CodeBlock key =
+        methodElement.getAnnotation(Update.class).customWhereClause().isEmpty()
+            ? QuarkusDaoCaches.entityKey(
+                entityParameter.getSimpleName().toString(), entityElement, context)
+            : null;
+    return QuarkusDaoCaches.invalidatingWrite(
+        createStatementBlock,
+        block -> super.crudMethod(block, returnType, helperFieldName),
+        returnType,
+        entityElement,
+        key,
+        methodElement,
+        processedType,
+        typeParameters,
+        enclosingClass,
+        context);
+  }
 }
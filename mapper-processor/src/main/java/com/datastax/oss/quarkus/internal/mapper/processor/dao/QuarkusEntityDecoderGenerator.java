@@ -0,0 +1,181 @@
+/*
+ * Copyright DataStax, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.quarkus.internal.mapper.processor.dao;
+
+import com.datastax.oss.driver.api.core.type.codec.TypeCodec;
+import com.datastax.oss.driver.internal.mapper.processor.ProcessorContext;
+import com.datastax.oss.driver.internal.mapper.processor.dao.DaoReturnType;
+import com.datastax.oss.driver.internal.mapper.processor.dao.DaoReturnTypeKind;
+import com.datastax.oss.driver.internal.mapper.processor.entity.EntityDefinition;
+import com.datastax.oss.driver.internal.mapper.processor.entity.PropertyDefinition;
+import com.datastax.oss.driver.internal.mapper.processor.util.generation.BindableHandlingSharedCode;
+import com.datastax.oss.driver.internal.mapper.processor.util.generation.GeneratedCodePatterns;
+import com.datastax.oss.driver.internal.mapper.processor.util.generation.PropertyType;
+import com.datastax.oss.quarkus.runtime.internal.reactive.mapper.DefaultMutinyMappedReactiveResultSet;
+import com.datastax.oss.quarkus.runtime.internal.reactive.mapper.EntityDecoderFactory;
+import com.datastax.oss.quarkus.runtime.internal.reactive.mapper.MapperMutinyWrappers;
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.TypeName;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Name;
+import javax.lang.model.element.TypeElement;
+
+/**
+ * Generates positional entity decoders for reactive DAO reads.
+ *
+ * <p>The entity helper generated by the driver resolves every column by name, for every row. The
+ * decoders generated here resolve the index and the codec of each column once per result set, then
+ * read each row by position, with primitive getters for primitive properties. Entities with
+ * properties mapped to other entities (UDTs) keep using the entity helper.
+ */
+public class QuarkusEntityDecoderGenerator {
+
+  /**
+   * Generates the implementation of a DAO method that decodes its results with a positional
+   * decoder, or returns empty if the return type or the entity does not support it.
+   */
+  public static Optional<MethodSpec> decodingCrudMethod(
+      ExecutableElement methodElement,
+      Map<Name, TypeElement> typeParameters,
+      CodeBlock.Builder createStatementBlock,
+      DaoReturnType returnType,
+      BindableHandlingSharedCode enclosingClass,
+      ProcessorContext context) {
+    DaoReturnTypeKind kind = returnType.getKind();
+    if (kind != QuarkusDaoReturnTypeKind.MULTI_OF_ENTITY
+        && kind != QuarkusDaoReturnTypeKind.MUTINY_MAPPED_REACTIVE_RESULT_SET
+        && kind != QuarkusDaoReturnTypeKind.UNI_OF_ENTITY
+        && kind != QuarkusDaoReturnTypeKind.UNI_OF_ENTITY_PAGE) {
+      return Optional.empty();
+    }
+    EntityDefinition entityDefinition =
+        context.getEntityFactory().getDefinition(returnType.getEntityElement());
+    Optional<CodeBlock> decoderFactory = generateDecoderFactory(entityDefinition, enclosingClass);
+    if (!decoderFactory.isPresent()) {
+      return Optional.empty();
+    }
+    createStatementBlock.add(decoderFactory.get());
+    if (kind == QuarkusDaoReturnTypeKind.UNI_OF_ENTITY) {
+      createStatementBlock.addStatement(
+          "return $T.toEntityUni(executeReactive(boundStatement), entityDecoderFactory)",
+          MapperMutinyWrappers.class);
+    } else if (kind == QuarkusDaoReturnTypeKind.UNI_OF_ENTITY_PAGE) {
+      createStatementBlock.addStatement(
+          "return $T.toEntityPageUni(() -> executeAsync(boundStatement), entityDecoderFactory)",
+          MapperMutinyWrappers.class);
+    } else {
+      createStatementBlock.addStatement(
+          "return new $T<>($T.toDecodedResultSet(executeReactive(boundStatement), entityDecoderFactory))",
+          DefaultMutinyMappedReactiveResultSet.class,
+          MapperMutinyWrappers.class);
+    }
+    MethodSpec.Builder method = GeneratedCodePatterns.override(methodElement, typeParameters);
+    method.addCode(
+        kind.wrapWithErrorHandling(createStatementBlock.build(), methodElement, typeParameters));
+    return Optional.of(method.build());
+  }
+
+  /**
+   * Generates a local variable {@code entityDecoderFactory} holding the decoder factory, or returns
+   * empty if some properties of the entity can't be decoded by position.
+   */
+  static Optional<CodeBlock> generateDecoderFactory(
+      EntityDefinition entityDefinition, BindableHandlingSharedCode enclosingClass) {
+    ClassName entityClass = entityDefinition.getClassName();
+    CodeBlock.Builder resolution = CodeBlock.builder();
+    List<CodeBlock> values = new ArrayList<>();
+    int i = 0;
+    for (PropertyDefinition property : entityDefinition.getAllValues()) {
+      PropertyType type = property.getType();
+      if (!(type instanceof PropertyType.Simple)) {
+        return Optional.empty();
+      }
+      TypeName typeName = ((PropertyType.Simple) type).typeName;
+      String indexName = "columnIndex" + i;
+      String codecName = "columnCodec" + i;
+      resolution.addStatement(
+          "int $L = resolvedColumns.indexOf($L)", indexName, property.getCqlName());
+      String primitiveAccessor = GeneratedCodePatterns.PRIMITIVE_ACCESSORS.get(typeName);
+      if (primitiveAccessor != null) {
+        resolution.addStatement(
+            "$T<$T> $L = resolvedColumns.codecFor($L, $T.class)",
+            TypeCodec.class,
+            typeName.box(),
+            codecName,
+            indexName,
+            typeName.box());
+        values.add(
+            CodeBlock.of(
+                "resolvedColumns.get$L(decodedRow, $L, $L)",
+                primitiveAccessor,
+                indexName,
+                codecName));
+      } else {
+        if (typeName instanceof ClassName) {
+          resolution.addStatement(
+              "$T<$T> $L = resolvedColumns.codecFor($L, $T.class)",
+              TypeCodec.class,
+              typeName,
+              codecName,
+              indexName,
+              typeName);
+        } else {
+          resolution.addStatement(
+              "$T<$T> $L = resolvedColumns.codecFor($L, $L)",
+              TypeCodec.class,
+              typeName,
+              codecName,
+              indexName,
+              enclosingClass.addGenericTypeConstant(typeName));
+        }
+        values.add(CodeBlock.of("resolvedColumns.get(decodedRow, $L, $L)", indexName, codecName));
+      }
+      i += 1;
+    }
+    CodeBlock.Builder factory =
+        CodeBlock.builder()
+            .add(
+                "$T<$T> entityDecoderFactory =\n$>resolvedColumns -> {\n$>",
+                EntityDecoderFactory.class,
+                entityClass)
+            .add(resolution.build());
+    if (entityDefinition.isMutable()) {
+      factory.add("return decodedRow -> {\n$>");
+      factory.addStatement("$1T returnValue = new $1T()", entityClass);
+      int j = 0;
+      for (PropertyDefinition property : entityDefinition.getAllValues()) {
+        factory.addStatement("returnValue.$L($L)", property.getSetterName(), values.get(j));
+        j += 1;
+      }
+      factory.addStatement("return returnValue");
+      factory.add("$<};\n");
+    } else {
+      factory.add("return decodedRow ->\n$>new $T(", entityClass);
+      for (int j = 0; j < values.size(); j++) {
+        factory.add(j == 0 ? "\n$>$L" : ",\n$L", values.get(j));
+      }
+      factory.add(values.isEmpty() ? ");\n$<" : ");\n$<$<");
+    }
+    factory.add("$<};\n$<");
+    return Optional.of(factory.build());
+  }
+}
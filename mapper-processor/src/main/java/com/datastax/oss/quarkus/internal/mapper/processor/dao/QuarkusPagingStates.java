@@ -0,0 +1,64 @@
+/*
+ * Copyright DataStax, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.quarkus.internal.mapper.processor.dao;
+
+import com.datastax.oss.driver.api.core.cql.PagingState;
+import com.datastax.oss.driver.internal.mapper.processor.ProcessorContext;
+import com.datastax.oss.quarkus.runtime.internal.reactive.mapper.MapperMutinyWrappers;
+import com.squareup.javapoet.CodeBlock;
+import java.util.List;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.VariableElement;
+
+/**
+ * Handles a {@link PagingState} declared as the last parameter of a DAO method: the statement is
+ * resumed from that paging state, if not null, instead of binding it to a bind marker.
+ */
+public class QuarkusPagingStates {
+
+  /** Returns the paging state parameter of the given method, or null if it has none. */
+  public static VariableElement findParameter(
+      ExecutableElement methodElement, ProcessorContext context) {
+    List<? extends VariableElement> parameters = methodElement.getParameters();
+    if (!parameters.isEmpty()) {
+      VariableElement lastParameter = parameters.get(parameters.size() - 1);
+      if (isPagingState(lastParameter, context)) {
+        return lastParameter;
+      }
+    }
+    return null;
+  }
+
+  public static boolean isPagingState(VariableElement parameter, ProcessorContext context) {
+    return context.getClassUtils().isSame(parameter.asType(), PagingState.class);
+  }
+
+  /** Generates the code that resumes the statement builder from the paging state parameter. */
+  public static void populateBuilder(CodeBlock.Builder builder, VariableElement parameter) {
+    builder.addStatement(
+        "boundStatementBuilder = $T.withPagingState(boundStatementBuilder, $L)",
+        MapperMutinyWrappers.class,
+        parameter.getSimpleName());
+  }
+
+  /** Generates the code that checks the paging state parameter against the bound statement. */
+  public static void checkBoundStatement(CodeBlock.Builder builder, VariableElement parameter) {
+    builder.addStatement(
+        "$T.checkPagingState(boundStatement, $L)",
+        MapperMutinyWrappers.class,
+        parameter.getSimpleName());
+  }
+}
@@ -46,8 +46,9 @@ import javax.lang.model.type.TypeMirror;
 /**
  * Implementation note: this class is functionally equivalent to {@link
  * com.datastax.oss.driver.internal.mapper.processor.mapper.MapperDaoFactoryMethodGenerator}, with
- * the sole exception that it adds support for reactive return types in DAO factory methods, in
- * addition to sync and async types.
+ * the exceptions that it adds support for reactive return types in DAO factory methods, in addition
+ * to sync and async types, and that DAOs created for method arguments are kept in a bounded {@link
+ * com.datastax.oss.quarkus.runtime.internal.mapper.DaoInstanceCache DaoInstanceCache}.
  */
 public class QuarkusMapperDaoFactoryMethodGenerator implements MethodGenerator {
 
@@ -227,26 +228,25 @@ public class QuarkusMapperDaoFactoryMethodGenerator implements MethodGenerator {
   private void generateCacheKeyLookupStatement(String fieldName, MethodSpec.Builder methodBuilder) {
     if (methodType == QuarkusDaoFactoryMethodType.SYNC) {
       methodBuilder.addStatement(
-          "return $L.computeIfAbsent(key, "
+          "return $L.get(key, "
               + "k -> $T.init(context.withDaoParameters(k.getKeyspaceId(), k.getTableId(), "
               + "k.getExecutionProfileName(), k.getExecutionProfile())))",
           fieldName,
           daoImplementationName);
     } else if (methodType == QuarkusDaoFactoryMethodType.ASYNC) {
       methodBuilder.addStatement(
-          "return $L.computeIfAbsent(key, "
+          "return $L.get(key, "
               + "k -> $T.initAsync(context.withDaoParameters(k.getKeyspaceId(), k.getTableId(), "
               + "k.getExecutionProfileName(), k.getExecutionProfile())))",
           fieldName,
           daoImplementationName);
     } else {
       methodBuilder.addStatement(
-          "return $L.computeIfAbsent(key, "
-              + "k -> return $T.createFrom().completionStage("
-              + "$T.initAsync(context.withDaoParameters(k.getKeyspaceId(), k.getTableId(), "
+          "return $T.createFrom().completionStage($L.get(key, "
+              + "k -> $T.initAsync(context.withDaoParameters(k.getKeyspaceId(), k.getTableId(), "
               + "k.getExecutionProfileName(), k.getExecutionProfile()))))",
-          fieldName,
           QuarkusGeneratedNames.UNI,
+          fieldName,
           daoImplementationName);
     }
   }
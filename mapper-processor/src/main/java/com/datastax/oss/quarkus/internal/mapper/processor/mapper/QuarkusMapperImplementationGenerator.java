@@ -0,0 +1,189 @@
+/*
+ * Copyright DataStax, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.quarkus.internal.mapper.processor.mapper;
+
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+import com.datastax.oss.driver.internal.mapper.processor.ProcessorContext;
+import com.datastax.oss.driver.internal.mapper.processor.mapper.MapperImplementationGenerator;
+import com.datastax.oss.quarkus.runtime.api.mapper.QuarkusMapper;
+import com.datastax.oss.quarkus.runtime.internal.mapper.DaoInstanceCache;
+import com.datastax.oss.quarkus.runtime.internal.mapper.StatementCatalog;
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.FieldSpec;
+import com.squareup.javapoet.JavaFile;
+import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.ParameterizedTypeName;
+import com.squareup.javapoet.TypeName;
+import com.squareup.javapoet.TypeSpec;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+
+/**
+ * Generates mapper implementations, replacing the unbounded maps of DAOs created by DAO factory
+ * methods with arguments by {@link DaoInstanceCache} fields, configured with {@link QuarkusMapper}.
+ * Mappers with DAO factory methods without arguments implement {@link StatementCatalog}, listing
+ * the statements of those DAOs.
+ */
+public class QuarkusMapperImplementationGenerator extends MapperImplementationGenerator {
+
+  private final TypeElement interfaceElement;
+  private final Map<String, DaoCacheField> daoCacheFields = new LinkedHashMap<>();
+  private final Set<TypeName> catalogDaos = new LinkedHashSet<>();
+
+  public QuarkusMapperImplementationGenerator(
+      TypeElement interfaceElement, ProcessorContext context) {
+    super(interfaceElement, context);
+    this.interfaceElement = interfaceElement;
+  }
+
+  @Override
+  public String addDaoMapField(String suggestedFieldName, TypeName mapValueType) {
+    String fieldName = super.addDaoMapField(suggestedFieldName, mapValueType);
+    // the suggested name is the name of the DAO factory method followed by "Cache"
+    String methodName =
+        suggestedFieldName.endsWith("Cache")
+            ? suggestedFieldName.substring(0, suggestedFieldName.length() - "Cache".length())
+            : suggestedFieldName;
+    daoCacheFields.put(fieldName, new DaoCacheField(methodName, mapValueType));
+    return fieldName;
+  }
+
+  @Override
+  public String addDaoSimpleField(
+      String suggestedFieldName,
+      TypeName fieldType,
+      TypeName daoImplementationType,
+      boolean isAsync) {
+    catalogDaos.add(daoImplementationType);
+    return super.addDaoSimpleField(suggestedFieldName, fieldType, daoImplementationType, isAsync);
+  }
+
+  @Override
+  protected JavaFile.Builder getContents() {
+    // generates the methods, and therefore registers the fields
+    JavaFile file = super.getContents().build();
+    if (daoCacheFields.isEmpty() && catalogDaos.isEmpty()) {
+      return file.toBuilder();
+    }
+    TypeSpec.Builder classBuilder = file.typeSpec.toBuilder();
+    if (!catalogDaos.isEmpty()) {
+      addStatementCatalog(classBuilder);
+    }
+    if (daoCacheFields.isEmpty()) {
+      return JavaFile.builder(file.packageName, classBuilder.build())
+          .skipJavaLangImports(file.skipJavaLangImports);
+    }
+    long maximumSize = 1000;
+    long expireAfterAccessNanos = 0;
+    QuarkusMapper quarkusMapper = interfaceElement.getAnnotation(QuarkusMapper.class);
+    if (quarkusMapper != null) {
+      maximumSize = quarkusMapper.daoCacheMaximumSize();
+      TimeUnit timeUnit = quarkusMapper.daoCacheTimeUnit();
+      expireAfterAccessNanos =
+          quarkusMapper.daoCacheExpireAfterAccess() <= 0
+              ? 0
+              : timeUnit.toNanos(quarkusMapper.daoCacheExpireAfterAccess());
+    }
+    if (maximumSize <= 0) {
+      context
+          .getMessager()
+          .error(
+              interfaceElement,
+              "Invalid annotation parameters: %s.daoCacheMaximumSize must be strictly positive",
+              QuarkusMapper.class.getSimpleName());
+      return file.toBuilder();
+    }
+    classBuilder.fieldSpecs.removeIf(field -> daoCacheFields.containsKey(field.name));
+    for (int i = 0; i < classBuilder.methodSpecs.size(); i++) {
+      MethodSpec method = classBuilder.methodSpecs.get(i);
+      if (method.isConstructor()) {
+        MethodSpec.Builder constructor = method.toBuilder();
+        for (Map.Entry<String, DaoCacheField> entry : daoCacheFields.entrySet()) {
+          String fieldName = entry.getKey();
+          DaoCacheField field = entry.getValue();
+          classBuilder.addField(
+              FieldSpec.builder(
+                      ParameterizedTypeName.get(
+                          ClassName.get(DaoInstanceCache.class), field.valueType),
+                      fieldName,
+                      Modifier.PRIVATE,
+                      Modifier.FINAL)
+                  .build());
+          constructor.addStatement(
+              "this.$L = $T.create(context, $S, $S, $LL, $LL)",
+              fieldName,
+              DaoInstanceCache.class,
+              interfaceElement.getSimpleName().toString(),
+              field.methodName,
+              maximumSize,
+              expireAfterAccessNanos);
+        }
+        classBuilder.methodSpecs.set(i, constructor.build());
+      }
+    }
+    return JavaFile.builder(file.packageName, classBuilder.build())
+        .skipJavaLangImports(file.skipJavaLangImports);
+  }
+
+  /**
+   * Implements {@link StatementCatalog} with the statements of the DAOs returned by the DAO factory
+   * methods without arguments, which share the context of the mapper.
+   */
+  private void addStatementCatalog(TypeSpec.Builder classBuilder) {
+    MethodSpec.Builder getCatalogStatements =
+        MethodSpec.methodBuilder("getCatalogStatements")
+            .addAnnotation(Override.class)
+            .addModifiers(Modifier.PUBLIC)
+            .returns(ParameterizedTypeName.get(List.class, SimpleStatement.class))
+            .addStatement(
+                "$T<$T> statements = new $T<>()",
+                List.class,
+                SimpleStatement.class,
+                ArrayList.class);
+    for (TypeName daoImplementationType : catalogDaos) {
+      getCatalogStatements.addStatement(
+          "statements.addAll($T.statementCatalog(context))", daoImplementationType);
+    }
+    classBuilder
+        .addSuperinterface(StatementCatalog.class)
+        .addMethod(
+            MethodSpec.methodBuilder("getCatalogSession")
+                .addAnnotation(Override.class)
+                .addModifiers(Modifier.PUBLIC)
+                .returns(CqlSession.class)
+                .addStatement("return context.getSession()")
+                .build())
+        .addMethod(getCatalogStatements.addStatement("return statements").build());
+  }
+
+  private static class DaoCacheField {
+    final String methodName;
+    final TypeName valueType;
+
+    DaoCacheField(String methodName, TypeName valueType) {
+      this.methodName = methodName;
+      this.valueType = valueType;
+    }
+  }
+}
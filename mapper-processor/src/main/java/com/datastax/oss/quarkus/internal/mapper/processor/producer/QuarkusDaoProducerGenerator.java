@@ -24,11 +24,13 @@ import com.datastax.oss.driver.internal.mapper.processor.util.NameIndex;
 import com.datastax.oss.quarkus.internal.mapper.processor.QuarkusCodeGeneratorFactory;
 import com.datastax.oss.quarkus.internal.mapper.processor.QuarkusGeneratedNames;
 import com.datastax.oss.quarkus.internal.mapper.processor.mapper.QuarkusMapperGenerator;
+import com.datastax.oss.quarkus.runtime.api.mapper.QuarkusMapper;
 import com.squareup.javapoet.AnnotationSpec;
 import com.squareup.javapoet.ClassName;
 import com.squareup.javapoet.FieldSpec;
 import com.squareup.javapoet.JavaFile;
 import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.ParameterSpec;
 import com.squareup.javapoet.ParameterizedTypeName;
 import com.squareup.javapoet.TypeSpec;
 import jakarta.annotation.Generated;
@@ -36,7 +38,6 @@ import java.time.Instant;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletionStage;
-import java.util.concurrent.ExecutionException;
 import javax.lang.model.element.Element;
 import javax.lang.model.element.ElementKind;
 import javax.lang.model.element.ExecutableElement;
@@ -51,6 +52,7 @@ public class QuarkusDaoProducerGenerator extends SingleFileCodeGenerator {
   private final String asyncMethodName;
   private final String syncMethodName;
   private final String reactiveMethodName;
+  private final QuarkusLazyFacadeGenerator lazyFacades;
 
   public QuarkusDaoProducerGenerator(
       TypeElement interfaceElement, ProcessorContext context, NameIndex daoProducerMethodNames) {
@@ -58,6 +60,7 @@ public class QuarkusDaoProducerGenerator extends SingleFileCodeGenerator {
     this.interfaceElement = interfaceElement;
     this.producerName = QuarkusGeneratedNames.daoProducer(interfaceElement);
     this.builderName = GeneratedNames.mapperBuilder(interfaceElement);
+    this.lazyFacades = new QuarkusLazyFacadeGenerator(context, producerName);
     asyncMethodName =
         daoProducerMethodNames.uniqueField(
             "produce"
@@ -119,7 +122,7 @@ public class QuarkusDaoProducerGenerator extends SingleFileCodeGenerator {
                 MethodSpec.constructorBuilder()
                     .addModifiers(Modifier.PUBLIC)
                     .addAnnotation(QuarkusGeneratedNames.INJECT)
-                    .addParameter(QuarkusGeneratedNames.SESSION_FUTURE, "sessionStage")
+                    .addParameter(generateSessionStageParameter())
                     .addStatement("this.sessionStage = sessionStage")
                     .addStatement(
                         "mapperStage = sessionStage.thenApply(session -> new $T(session).build())",
@@ -137,16 +140,30 @@ public class QuarkusDaoProducerGenerator extends SingleFileCodeGenerator {
         if (!modifiers.contains(Modifier.STATIC) && !modifiers.contains(Modifier.DEFAULT)) {
           Optional<MethodGenerator> maybeGenerator =
               ((QuarkusCodeGeneratorFactory) context.getCodeGeneratorFactory())
-                  .newDaoProducerMethod(methodElement);
+                  .newDaoProducerMethod(methodElement, lazyFacades);
           if (maybeGenerator.isPresent()) {
             maybeGenerator.flatMap(MethodGenerator::generate).ifPresent(classContents::addMethod);
           }
         }
       }
     }
+    lazyFacades.getFacades().forEach(classContents::addType);
     return JavaFile.builder(producerName.packageName(), classContents.build());
   }
 
+  private ParameterSpec generateSessionStageParameter() {
+    ParameterSpec.Builder parameter =
+        ParameterSpec.builder(QuarkusGeneratedNames.SESSION_FUTURE, "sessionStage");
+    QuarkusMapper quarkusMapper = interfaceElement.getAnnotation(QuarkusMapper.class);
+    if (quarkusMapper != null && !quarkusMapper.clientName().isEmpty()) {
+      parameter.addAnnotation(
+          AnnotationSpec.builder(QuarkusGeneratedNames.CASSANDRA_CLIENT)
+              .addMember("value", "$S", quarkusMapper.clientName())
+              .build());
+    }
+    return parameter.build();
+  }
+
   private MethodSpec generateMapperProducerAsyncMethod() {
     return MethodSpec.methodBuilder(asyncMethodName)
         .addModifiers(Modifier.PUBLIC)
@@ -170,10 +187,11 @@ public class QuarkusDaoProducerGenerator extends SingleFileCodeGenerator {
         .addAnnotation(QuarkusGeneratedNames.DEFAULT)
         .addAnnotation(QuarkusGeneratedNames.DEFAULT_BEAN)
         .addAnnotation(QuarkusGeneratedNames.GENERATED_MAPPER_BEAN)
-        .addException(ExecutionException.class)
-        .addException(InterruptedException.class)
         .returns(ClassName.get(interfaceElement))
-        .addStatement("return mapperStage.toCompletableFuture().get()")
+        .addStatement(
+            "return new $T($T.of(mapperStage))",
+            lazyFacades.facadeFor(interfaceElement),
+            QuarkusGeneratedNames.LAZY_DELEGATE)
         .build();
   }
 
@@ -31,10 +31,10 @@ import com.squareup.javapoet.ParameterizedTypeName;
 import com.squareup.javapoet.TypeName;
 import io.smallrye.mutiny.Uni;
 import java.util.Optional;
-import java.util.concurrent.ExecutionException;
 import javax.lang.model.element.Element;
 import javax.lang.model.element.ExecutableElement;
 import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
 import javax.lang.model.element.VariableElement;
 import javax.lang.model.type.DeclaredType;
 import javax.lang.model.type.TypeKind;
@@ -45,16 +45,22 @@ public class QuarkusDaoProducerMethodGenerator implements MethodGenerator {
   private final ExecutableElement methodElement;
   private final ProcessorContext context;
   private final String methodName;
+  private final QuarkusLazyFacadeGenerator lazyFacades;
 
   private TypeName daoInterfaceName;
+  private TypeElement daoInterfaceElement;
   private ParameterizedTypeName daoUniTypeName;
   private ParameterizedTypeName daoStageTypeName;
   private QuarkusDaoFactoryMethodType methodType;
 
   public QuarkusDaoProducerMethodGenerator(
-      ExecutableElement methodElement, ProcessorContext context, NameIndex daoProducerMethodNames) {
+      ExecutableElement methodElement,
+      ProcessorContext context,
+      NameIndex daoProducerMethodNames,
+      QuarkusLazyFacadeGenerator lazyFacades) {
     this.methodElement = methodElement;
     this.context = context;
+    this.lazyFacades = lazyFacades;
     methodName =
         daoProducerMethodNames.uniqueField(
             "produce" + Capitalizer.capitalize(methodElement.getSimpleName().toString()));
@@ -88,6 +94,7 @@ public class QuarkusDaoProducerMethodGenerator implements MethodGenerator {
         if (returnTypeElement.getAnnotation(Dao.class) != null) {
           methodType = QuarkusDaoFactoryMethodType.SYNC;
           daoInterfaceName = ClassName.get(declaredReturnType);
+          daoInterfaceElement = (TypeElement) returnTypeElement;
           return true;
         }
       } else if (context.getClassUtils().isFuture(declaredReturnType)) {
@@ -172,11 +179,12 @@ public class QuarkusDaoProducerMethodGenerator implements MethodGenerator {
         .addAnnotation(QuarkusGeneratedNames.DEFAULT_BEAN)
         .addAnnotation(QuarkusGeneratedNames.DEFAULT)
         .addAnnotation(QuarkusGeneratedNames.GENERATED_DAO_BEAN)
-        .addException(ExecutionException.class)
-        .addException(InterruptedException.class)
         .returns(daoInterfaceName)
         .addStatement(
-            "return mapperStage.toCompletableFuture().get().$L()", methodElement.getSimpleName())
+            "return new $T($T.of(mapperStage).map(mapper -> mapper.$L()))",
+            lazyFacades.facadeFor(daoInterfaceElement),
+            QuarkusGeneratedNames.LAZY_DELEGATE,
+            methodElement.getSimpleName())
         .build();
   }
 
@@ -0,0 +1,189 @@
+/*
+ * Copyright DataStax, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.quarkus.internal.mapper.processor.producer;
+
+import com.datastax.oss.driver.api.mapper.annotations.Dao;
+import com.datastax.oss.driver.internal.mapper.processor.ProcessorContext;
+import com.datastax.oss.driver.internal.mapper.processor.util.NameIndex;
+import com.datastax.oss.quarkus.internal.mapper.processor.QuarkusGeneratedNames;
+import com.datastax.oss.quarkus.runtime.api.reactive.MutinyReactiveResultSet;
+import com.datastax.oss.quarkus.runtime.api.reactive.mapper.MutinyMappedReactiveResultSet;
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.ParameterizedTypeName;
+import com.squareup.javapoet.TypeSpec;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.stream.Collectors;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.ExecutableType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+
+/**
+ * Generates the lazy facades returned by the synchronous mapper and DAO producers, as nested
+ * classes of the producer.
+ *
+ * <p>A facade implements the mapper or DAO interface and forwards each call to a {@code
+ * LazyDelegate}: methods returning a {@link Uni}, a {@link Multi}, a Mutiny result set or a {@link
+ * CompletionStage} compose on the initialization of the target without blocking; synchronous DAO
+ * factory methods return another facade; all other methods block until the target is initialized.
+ */
+public class QuarkusLazyFacadeGenerator {
+
+  private final ProcessorContext context;
+  private final ClassName producerName;
+  private final NameIndex facadeNames = new NameIndex();
+  private final Map<TypeElement, ClassName> facadesByInterface = new LinkedHashMap<>();
+  private final List<TypeSpec> facades = new ArrayList<>();
+
+  public QuarkusLazyFacadeGenerator(ProcessorContext context, ClassName producerName) {
+    this.context = context;
+    this.producerName = producerName;
+  }
+
+  /** Returns the name of the facade for the given interface, generating it on first use. */
+  public ClassName facadeFor(TypeElement interfaceElement) {
+    ClassName facadeName = facadesByInterface.get(interfaceElement);
+    if (facadeName == null) {
+      facadeName =
+          producerName.nestedClass(
+              facadeNames.uniqueField("Lazy" + interfaceElement.getSimpleName()));
+      // registered before generation: a DAO factory method may return another facade
+      facadesByInterface.put(interfaceElement, facadeName);
+      facades.add(generateFacade(interfaceElement, facadeName));
+    }
+    return facadeName;
+  }
+
+  public List<TypeSpec> getFacades() {
+    return facades;
+  }
+
+  private TypeSpec generateFacade(TypeElement interfaceElement, ClassName facadeName) {
+    ClassName interfaceName = ClassName.get(interfaceElement);
+    ParameterizedTypeName delegateType =
+        ParameterizedTypeName.get(QuarkusGeneratedNames.LAZY_DELEGATE, interfaceName);
+    TypeSpec.Builder facade =
+        TypeSpec.classBuilder(facadeName)
+            .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+            .addJavadoc(
+                "A lazy facade for {@link $T} that does not wait for its initialization.",
+                interfaceName)
+            .addSuperinterface(interfaceName)
+            .addSuperinterface(QuarkusGeneratedNames.LAZY_FACADE)
+            .addField(delegateType, "delegate", Modifier.PRIVATE, Modifier.FINAL)
+            .addMethod(
+                MethodSpec.constructorBuilder()
+                    .addModifiers(Modifier.PUBLIC)
+                    .addParameter(delegateType, "delegate")
+                    .addStatement("this.delegate = delegate")
+                    .build())
+            .addMethod(
+                MethodSpec.methodBuilder("lazyDelegate")
+                    .addAnnotation(Override.class)
+                    .addModifiers(Modifier.PUBLIC)
+                    .returns(delegateType)
+                    .addStatement("return delegate")
+                    .build());
+    DeclaredType interfaceType = (DeclaredType) interfaceElement.asType();
+    for (ExecutableElement methodElement :
+        ElementFilter.methodsIn(context.getElementUtils().getAllMembers(interfaceElement))) {
+      if (methodElement.getModifiers().contains(Modifier.ABSTRACT)) {
+        facade.addMethod(generateMethod(methodElement, interfaceType));
+      }
+    }
+    return facade.build();
+  }
+
+  private MethodSpec generateMethod(ExecutableElement methodElement, DeclaredType interfaceType) {
+    MethodSpec.Builder method =
+        MethodSpec.overriding(methodElement, interfaceType, context.getTypeUtils());
+    Set<String> parameterNames =
+        methodElement.getParameters().stream()
+            .map(VariableElement::getSimpleName)
+            .map(Object::toString)
+            .collect(Collectors.toSet());
+    String target = "target";
+    for (int i = 1; parameterNames.contains(target); i++) {
+      target = "target" + i;
+    }
+    CodeBlock invocation =
+        CodeBlock.of(
+            "$L($L)",
+            methodElement.getSimpleName(),
+            methodElement.getParameters().stream()
+                .map(parameter -> parameter.getSimpleName().toString())
+                .collect(Collectors.joining(", ")));
+    CodeBlock call = CodeBlock.of("$L.$L", target, invocation);
+    TypeMirror returnType =
+        ((ExecutableType) context.getTypeUtils().asMemberOf(interfaceType, methodElement))
+            .getReturnType();
+    if (returnType.getKind() == TypeKind.VOID) {
+      return method.addStatement("delegate.get().$L", invocation).build();
+    }
+    String operation = null;
+    if (returnType.getKind() == TypeKind.DECLARED) {
+      DeclaredType declaredReturnType = (DeclaredType) returnType;
+      Element returnElement = declaredReturnType.asElement();
+      if (context.getClassUtils().isSame(returnElement, Uni.class)) {
+        operation = "uni";
+      } else if (context.getClassUtils().isSame(returnElement, Multi.class)) {
+        operation = "multi";
+      } else if (context.getClassUtils().isSame(returnElement, MutinyReactiveResultSet.class)) {
+        operation = "resultSet";
+      } else if (context
+          .getClassUtils()
+          .isSame(returnElement, MutinyMappedReactiveResultSet.class)) {
+        operation = "mappedResultSet";
+      } else if (context.getClassUtils().isSame(returnElement, CompletionStage.class)) {
+        operation = "stage";
+      } else if (context.getClassUtils().isSame(returnElement, CompletableFuture.class)) {
+        return method
+            .addStatement("return delegate.stage($L -> $L).toCompletableFuture()", target, call)
+            .build();
+      } else if (returnElement.getAnnotation(Dao.class) != null
+          && declaredReturnType.getTypeArguments().isEmpty()) {
+        // a synchronous DAO factory method: initialize the DAO off the calling thread
+        return method
+            .addStatement(
+                "return new $T(delegate.map($L -> $L))",
+                facadeFor((TypeElement) returnElement),
+                target,
+                call)
+            .build();
+      }
+    }
+    if (operation == null) {
+      return method.addStatement("return delegate.get().$L", invocation).build();
+    }
+    return method.addStatement("return delegate.$L($L -> $L)", operation, target, call).build();
+  }
+}
@@ -0,0 +1,311 @@
+/*
+ * Copyright DataStax, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.quarkus.internal.mapper.processor.dao;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.datastax.oss.driver.api.mapper.annotations.ClusteringColumn;
+import com.datastax.oss.driver.api.mapper.annotations.Dao;
+import com.datastax.oss.driver.api.mapper.annotations.Delete;
+import com.datastax.oss.driver.api.mapper.annotations.Entity;
+import com.datastax.oss.driver.api.mapper.annotations.Insert;
+import com.datastax.oss.driver.api.mapper.annotations.PartitionKey;
+import com.datastax.oss.driver.api.mapper.annotations.Select;
+import com.datastax.oss.driver.api.mapper.annotations.Update;
+import com.datastax.oss.driver.internal.mapper.processor.MapperProcessor;
+import com.datastax.oss.driver.internal.mapper.processor.dao.DaoMethodGeneratorTest;
+import com.datastax.oss.quarkus.internal.mapper.processor.QuarkusMapperProcessor;
+import com.datastax.oss.quarkus.runtime.api.mapper.Cached;
+import com.google.testing.compile.Compilation;
+import com.squareup.javapoet.AnnotationSpec;
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.ParameterizedTypeName;
+import com.squareup.javapoet.TypeName;
+import com.squareup.javapoet.TypeSpec;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import java.io.IOException;
+import java.util.UUID;
+import java.util.concurrent.CompletionStage;
+import javax.lang.model.element.Modifier;
+import org.junit.jupiter.api.Test;
+
+class QuarkusDaoCachesTest extends DaoMethodGeneratorTest {
+
+  private static final ClassName ITEM_CLASS_NAME = ClassName.get("test", "Item");
+  private static final ClassName DAO_CLASS_NAME = ClassName.get("test", "ItemDao");
+
+  private static final TypeSpec ITEM_SPEC =
+      TypeSpec.classBuilder(ITEM_CLASS_NAME)
+          .addModifiers(Modifier.PUBLIC)
+          .addAnnotation(Entity.class)
+          .addField(UUID.class, "id", Modifier.PRIVATE)
+          .addField(int.class, "version", Modifier.PRIVATE)
+          .addField(String.class, "name", Modifier.PRIVATE)
+          .addMethod(getter("getId", UUID.class, "id").addAnnotation(PartitionKey.class).build())
+          .addMethod(setter("setId", UUID.class, "id"))
+          .addMethod(
+              getter("getVersion", int.class, "version")
+                  .addAnnotation(ClusteringColumn.class)
+                  .build())
+          .addMethod(setter("setVersion", int.class, "version"))
+          .addMethod(getter("getName", String.class, "name").build())
+          .addMethod(setter("setName", String.class, "name"))
+          .build();
+
+  @NonNull
+  protected MapperProcessor getMapperProcessor() {
+    return new QuarkusMapperProcessor();
+  }
+
+  @Test
+  void should_cache_selects_and_invalidate_on_writes() throws IOException {
+    // given
+    TypeSpec daoSpec =
+        TypeSpec.interfaceBuilder(DAO_CLASS_NAME)
+            .addModifiers(Modifier.PUBLIC)
+            .addAnnotation(Dao.class)
+            // declared before the cached methods on purpose
+            .addMethod(
+                write("update", Update.class)
+                    .addParameter(ITEM_CLASS_NAME, "item")
+                    .returns(void.class)
+                    .build())
+            .addMethod(
+                cachedSelect("findById", ITEM_CLASS_NAME)
+                    .addParameter(UUID.class, "id")
+                    .addParameter(int.class, "version")
+                    .build())
+            .addMethod(
+                cachedSelect(
+                        "findByIdAsync",
+                        ParameterizedTypeName.get(
+                            ClassName.get(CompletionStage.class), ITEM_CLASS_NAME))
+                    .addParameter(UUID.class, "id")
+                    .addParameter(int.class, "version")
+                    .build())
+            .addMethod(
+                cachedSelect(
+                        "findByIdReactive",
+                        ParameterizedTypeName.get(ClassName.get(Uni.class), ITEM_CLASS_NAME))
+                    .addParameter(UUID.class, "id")
+                    .addParameter(int.class, "version")
+                    .build())
+            .addMethod(
+                write("create", Insert.class)
+                    .addParameter(ITEM_CLASS_NAME, "item")
+                    .returns(
+                        ParameterizedTypeName.get(ClassName.get(Uni.class), TypeName.VOID.box()))
+                    .build())
+            .addMethod(
+                deleteBy("deleteById")
+                    .addParameter(UUID.class, "id")
+                    .addParameter(int.class, "version")
+                    .build())
+            .addMethod(deleteBy("deletePartition").addParameter(UUID.class, "id").build())
+            .build();
+
+    // when
+    String daoSource = compileDao(daoSpec);
+
+    // then
+    assertThat(daoSource)
+        .containsOnlyOnce("private final DaoCache<Item> itemCache = DaoCache.create(")
+        .contains("DaoCache.create(context, \"ItemDao\", \"Item\", 100L, 30000000000L)")
+        .contains("return itemCache.get(\n")
+        .contains("return itemCache.getAsync(\n")
+        .contains(".toCompletableFuture();")
+        .contains("return itemCache.getUni(\n")
+        .contains("Arrays.<Object>asList(id, version),\n")
+        .contains(
+            "return itemCache.invalidatingUni(\n"
+                + "        Arrays.<Object>asList(item.getId(), item.getVersion()),\n")
+        .contains("itemCache.invalidatingVoid(\n" + "        Arrays.<Object>asList(id, version),\n")
+        .contains("itemCache.invalidatingVoid(\n        null,\n");
+  }
+
+  @Test
+  void should_invalidate_once_writes_complete() throws IOException {
+    // given
+    TypeSpec daoSpec =
+        TypeSpec.interfaceBuilder(DAO_CLASS_NAME)
+            .addModifiers(Modifier.PUBLIC)
+            .addAnnotation(Dao.class)
+            .addMethod(
+                cachedSelect("findById", ITEM_CLASS_NAME)
+                    .addParameter(UUID.class, "id")
+                    .addParameter(int.class, "version")
+                    .build())
+            .addMethod(
+                write("update", Update.class)
+                    .addParameter(ITEM_CLASS_NAME, "item")
+                    .returns(void.class)
+                    .build())
+            .addMethod(
+                deleteBy("deleteById")
+                    .addParameter(UUID.class, "id")
+                    .addParameter(int.class, "version")
+                    .returns(
+                        ParameterizedTypeName.get(
+                            ClassName.get(CompletionStage.class), TypeName.VOID.box()))
+                    .build())
+            .addMethod(
+                write("createAll", Insert.class)
+                    .addParameter(
+                        ParameterizedTypeName.get(ClassName.get(Multi.class), ITEM_CLASS_NAME),
+                        "items")
+                    .returns(
+                        ParameterizedTypeName.get(ClassName.get(Uni.class), TypeName.VOID.box()))
+                    .build())
+            .build();
+
+    // when
+    String daoSource = compileDao(daoSpec);
+
+    // then
+    // sync writes are executed inside the wrapper, which invalidates before and after them
+    String update = method(daoSource, "public void update(");
+    assertThat(update)
+        .startsWith("public void update(Item item) {\n    itemCache.invalidatingVoid(\n")
+        .doesNotContain("itemCache.invalidate(");
+    assertThat(update.indexOf("() -> {")).isLessThan(update.indexOf("execute(boundStatement)"));
+    // async writes are executed inside the wrapper, which invalidates again on completion
+    String delete = method(daoSource, "public CompletionStage<Void> deleteById(");
+    assertThat(delete)
+        .contains("return itemCache.invalidatingAsync(\n")
+        .endsWith("}).toCompletableFuture();\n  }")
+        .doesNotContain("itemCache.invalidate(");
+    assertThat(delete.indexOf("() -> {"))
+        .isLessThan(delete.indexOf("executeAsyncAndMapToVoid(boundStatement)"));
+    // streaming inserts invalidate each entity when it is bound, and again once it was written
+    String createAll = method(daoSource, "public Uni<Void> createAll(");
+    assertThat(createAll.indexOf("itemCache.invalidate("))
+        .isPositive()
+        .isLessThan(createAll.indexOf("return boundStatementBuilder.build();"));
+    assertThat(createAll)
+        .contains(
+            "context.getSession().getContext(),\n"
+                + "          writtenEntity -> itemCache.invalidate("
+                + "Arrays.<Object>asList(writtenEntity.getId(), writtenEntity.getVersion())));");
+  }
+
+  @Test
+  void should_not_generate_cache_when_no_select_is_cached() throws IOException {
+    // given
+    TypeSpec daoSpec =
+        TypeSpec.interfaceBuilder(DAO_CLASS_NAME)
+            .addModifiers(Modifier.PUBLIC)
+            .addAnnotation(Dao.class)
+            .addMethod(
+                write("update", Update.class)
+                    .addParameter(ITEM_CLASS_NAME, "item")
+                    .returns(void.class)
+                    .build())
+            .build();
+
+    // when
+    String daoSource = compileDao(daoSpec);
+
+    // then
+    assertThat(daoSource).doesNotContain("DaoCache").doesNotContain("invalidate");
+  }
+
+  @Test
+  void should_fail_when_cached_select_does_not_take_the_full_primary_key() {
+    // given
+    TypeSpec daoSpec =
+        TypeSpec.interfaceBuilder(DAO_CLASS_NAME)
+            .addModifiers(Modifier.PUBLIC)
+            .addAnnotation(Dao.class)
+            .addMethod(
+                cachedSelect("findById", ITEM_CLASS_NAME).addParameter(UUID.class, "id").build())
+            .build();
+
+    // when
+    Compilation compilation = compileWithMapperProcessor("test", ITEM_SPEC, daoSpec);
+
+    // then
+    assertThat(compilation.errors())
+        .anySatisfy(
+            error ->
+                assertThat(error.getMessage(null))
+                    .contains(
+                        "Cached methods must take the full primary key of Item, and nothing else"));
+  }
+
+  /** Returns the source of the generated method that starts with the given signature. */
+  private static String method(String daoSource, String signature) {
+    int start = daoSource.indexOf(signature);
+    assertThat(start).isNotNegative();
+    return daoSource.substring(start, daoSource.indexOf("\n  }\n", start) + 4);
+  }
+
+  private String compileDao(TypeSpec daoSpec) throws IOException {
+    Compilation compilation = compileWithMapperProcessor("test", ITEM_SPEC, daoSpec);
+    assertThat(compilation.errors()).isEmpty();
+    return compilation
+        .generatedSourceFile("test.ItemDaoImpl__MapperGenerated")
+        .get()
+        .getCharContent(true)
+        .toString();
+  }
+
+  private static MethodSpec.Builder cachedSelect(String name, TypeName returnType) {
+    return MethodSpec.methodBuilder(name)
+        .addAnnotation(Select.class)
+        .addAnnotation(
+            AnnotationSpec.builder(Cached.class)
+                .addMember("maximumSize", "100")
+                .addMember("expireAfterWrite", "30")
+                .build())
+        .addModifiers(Modifier.PUBLIC, Modifier.ABSTRACT)
+        .returns(returnType);
+  }
+
+  private static MethodSpec.Builder write(String name, Class<?> annotation) {
+    return MethodSpec.methodBuilder(name)
+        .addAnnotation(annotation)
+        .addModifiers(Modifier.PUBLIC, Modifier.ABSTRACT);
+  }
+
+  private static MethodSpec.Builder deleteBy(String name) {
+    return MethodSpec.methodBuilder(name)
+        .addAnnotation(
+            AnnotationSpec.builder(Delete.class)
+                .addMember("entityClass", "$T.class", ITEM_CLASS_NAME)
+                .build())
+        .addModifiers(Modifier.PUBLIC, Modifier.ABSTRACT)
+        .returns(void.class);
+  }
+
+  private static MethodSpec.Builder getter(String name, Object type, String field) {
+    return MethodSpec.methodBuilder(name)
+        .addModifiers(Modifier.PUBLIC)
+        .returns(type instanceof TypeName ? (TypeName) type : TypeName.get((Class<?>) type))
+        .addStatement("return $L", field);
+  }
+
+  private static MethodSpec setter(String name, Object type, String field) {
+    return MethodSpec.methodBuilder(name)
+        .addModifiers(Modifier.PUBLIC)
+        .addParameter(
+            type instanceof TypeName ? (TypeName) type : TypeName.get((Class<?>) type), field)
+        .addStatement("this.$1L = $1L", field)
+        .build();
+  }
+}
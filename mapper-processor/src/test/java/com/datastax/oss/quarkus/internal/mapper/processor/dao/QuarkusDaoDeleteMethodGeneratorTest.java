@@ -27,6 +27,7 @@ import com.datastax.oss.driver.internal.mapper.processor.dao.DaoMethodGeneratorT
 import com.datastax.oss.driver.shaded.guava.common.collect.ImmutableList;
 import com.datastax.oss.quarkus.internal.mapper.processor.QuarkusMapperProcessor;
 import com.datastax.oss.quarkus.runtime.api.reactive.MutinyReactiveResultSet;
+import com.datastax.oss.quarkus.runtime.api.reactive.mapper.LwtResult;
 import com.datastax.oss.quarkus.runtime.api.reactive.mapper.MutinyMappedReactiveResultSet;
 import com.google.testing.compile.Compilation;
 import com.squareup.javapoet.AnnotationSpec;
@@ -106,6 +107,18 @@ public class QuarkusDaoDeleteMethodGeneratorTest extends DaoMethodGeneratorTest
             .returns(ParameterizedTypeName.get(Multi.class, Row.class))
             .build()
       },
+      {
+        MethodSpec.methodBuilder("delete")
+            .addAnnotation(
+                AnnotationSpec.builder(Delete.class).addMember("ifExists", "true").build())
+            .addModifiers(Modifier.PUBLIC, Modifier.ABSTRACT)
+            .addParameter(ENTITY_CLASS_NAME, "product")
+            .returns(
+                ParameterizedTypeName.get(
+                    ClassName.get(Uni.class),
+                    ParameterizedTypeName.get(ClassName.get(LwtResult.class), ENTITY_CLASS_NAME)))
+            .build()
+      },
     };
   }
 
@@ -183,7 +196,7 @@ public class QuarkusDaoDeleteMethodGeneratorTest extends DaoMethodGeneratorTest
       {
         "Delete methods must return one of [VOID, FUTURE_OF_VOID, BOOLEAN, FUTURE_OF_BOOLEAN, "
             + "RESULT_SET, BOUND_STATEMENT, FUTURE_OF_ASYNC_RESULT_SET, REACTIVE_RESULT_SET, "
-            + "UNI_OF_VOID, UNI_OF_BOOLEAN, MUTINY_REACTIVE_RESULT_SET, "
+            + "UNI_OF_VOID, UNI_OF_BOOLEAN, UNI_OF_LWT_RESULT, MUTINY_REACTIVE_RESULT_SET, "
             + "MULTI_OF_ROW, MULTI_OF_REACTIVE_ROW]",
         MethodSpec.methodBuilder("delete")
             .addAnnotation(Delete.class)
@@ -15,6 +15,7 @@
  */
 package com.datastax.oss.quarkus.internal.mapper.processor.dao;
 
+import com.datastax.oss.driver.api.core.cql.BoundStatementBuilder;
 import com.datastax.oss.driver.api.mapper.annotations.Dao;
 import com.datastax.oss.driver.api.mapper.annotations.Entity;
 import com.datastax.oss.driver.api.mapper.annotations.Increment;
@@ -22,6 +23,7 @@ import com.datastax.oss.driver.api.mapper.annotations.PartitionKey;
 import com.datastax.oss.driver.internal.mapper.processor.MapperProcessor;
 import com.datastax.oss.driver.internal.mapper.processor.dao.DaoMethodGeneratorTest;
 import com.datastax.oss.quarkus.internal.mapper.processor.QuarkusMapperProcessor;
+import com.datastax.oss.quarkus.runtime.api.mapper.CoalescedIncrement;
 import com.datastax.oss.quarkus.runtime.api.reactive.MutinyReactiveResultSet;
 import com.squareup.javapoet.AnnotationSpec;
 import com.squareup.javapoet.ClassName;
@@ -32,6 +34,9 @@ import com.squareup.javapoet.TypeSpec;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import io.smallrye.mutiny.Uni;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.UnaryOperator;
 import javax.lang.model.element.Modifier;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -83,6 +88,53 @@ public class QuarkusDaoIncrementMethodGeneratorTest extends DaoMethodGeneratorTe
             .returns(MutinyReactiveResultSet.class)
             .build()
       },
+      {
+        MethodSpec.methodBuilder("increment")
+            .addAnnotation(
+                AnnotationSpec.builder(Increment.class)
+                    .addMember("entityClass", "$T.class", VOTES_CLASS_NAME)
+                    .build())
+            .addAnnotation(CoalescedIncrement.class)
+            .addModifiers(Modifier.PUBLIC, Modifier.ABSTRACT)
+            .addParameter(UUID.class, "id")
+            .addParameter(Long.TYPE, "up")
+            .addParameter(Long.class, "down")
+            .returns(ParameterizedTypeName.get(Uni.class, Void.class))
+            .build()
+      },
+      {
+        MethodSpec.methodBuilder("increment")
+            .addAnnotation(
+                AnnotationSpec.builder(Increment.class)
+                    .addMember("entityClass", "$T.class", VOTES_CLASS_NAME)
+                    .build())
+            .addAnnotation(
+                AnnotationSpec.builder(CoalescedIncrement.class)
+                    .addMember("flushInterval", "1")
+                    .addMember("timeUnit", "$T.SECONDS", TimeUnit.class)
+                    .build())
+            .addModifiers(Modifier.PUBLIC, Modifier.ABSTRACT)
+            .addParameter(UUID.class, "key")
+            .addParameter(Long.TYPE, "up")
+            .returns(TypeName.VOID)
+            .build()
+      },
+      {
+        MethodSpec.methodBuilder("increment")
+            .addAnnotation(
+                AnnotationSpec.builder(Increment.class)
+                    .addMember("entityClass", "$T.class", VOTES_CLASS_NAME)
+                    .build())
+            .addAnnotation(
+                AnnotationSpec.builder(CoalescedIncrement.class)
+                    .addMember("maxPendingKeys", "100")
+                    .build())
+            .addModifiers(Modifier.PUBLIC, Modifier.ABSTRACT)
+            .addParameter(UUID.class, "id")
+            .addParameter(Long.class, "down")
+            .returns(ParameterizedTypeName.get(CompletableFuture.class, Void.class))
+            .build()
+      },
     };
   }
 
@@ -119,6 +171,42 @@ public class QuarkusDaoIncrementMethodGeneratorTest extends DaoMethodGeneratorTe
             .build(),
         VOTES_SPEC
       },
+      {
+        "Invalid return type: Increment methods must return one of [VOID, FUTURE_OF_VOID, "
+            + "UNI_OF_VOID]",
+        MethodSpec.methodBuilder("increment")
+            .addAnnotation(
+                AnnotationSpec.builder(Increment.class)
+                    .addMember("entityClass", "$T.class", VOTES_CLASS_NAME)
+                    .build())
+            .addAnnotation(CoalescedIncrement.class)
+            .addModifiers(Modifier.PUBLIC, Modifier.ABSTRACT)
+            .addParameter(UUID.class, "id")
+            .addParameter(Long.TYPE, "up")
+            .returns(MutinyReactiveResultSet.class)
+            .build(),
+        VOTES_SPEC
+      },
+      {
+        "Invalid parameter list: CoalescedIncrement methods cannot take a function to customize "
+            + "the bound statement",
+        MethodSpec.methodBuilder("increment")
+            .addAnnotation(
+                AnnotationSpec.builder(Increment.class)
+                    .addMember("entityClass", "$T.class", VOTES_CLASS_NAME)
+                    .build())
+            .addAnnotation(CoalescedIncrement.class)
+            .addModifiers(Modifier.PUBLIC, Modifier.ABSTRACT)
+            .addParameter(UUID.class, "id")
+            .addParameter(Long.TYPE, "up")
+            .addParameter(
+                ParameterizedTypeName.get(
+                    ClassName.get(UnaryOperator.class), ClassName.get(BoundStatementBuilder.class)),
+                "function")
+            .returns(ParameterizedTypeName.get(Uni.class, Void.class))
+            .build(),
+        VOTES_SPEC
+      },
     };
   }
 
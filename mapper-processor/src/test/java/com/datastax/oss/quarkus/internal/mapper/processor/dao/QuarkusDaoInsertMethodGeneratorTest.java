@@ -23,8 +23,10 @@ import com.datastax.oss.driver.internal.mapper.processor.dao.DaoMethodGeneratorT
 import com.datastax.oss.quarkus.internal.mapper.processor.QuarkusGeneratedNames;
 import com.datastax.oss.quarkus.internal.mapper.processor.QuarkusMapperProcessor;
 import com.datastax.oss.quarkus.runtime.api.reactive.MutinyReactiveResultSet;
+import com.datastax.oss.quarkus.runtime.api.reactive.mapper.LwtResult;
 import com.datastax.oss.quarkus.runtime.api.reactive.mapper.MutinyMappedReactiveResultSet;
 import com.squareup.javapoet.AnnotationSpec;
+import com.squareup.javapoet.ClassName;
 import com.squareup.javapoet.MethodSpec;
 import com.squareup.javapoet.ParameterSpec;
 import com.squareup.javapoet.ParameterizedTypeName;
@@ -103,6 +105,51 @@ public class QuarkusDaoInsertMethodGeneratorTest extends DaoMethodGeneratorTest
             .returns(ParameterizedTypeName.get(Multi.class, Row.class))
             .build()
       },
+      {
+        MethodSpec.methodBuilder("insertAll")
+            .addAnnotation(Insert.class)
+            .addModifiers(Modifier.PUBLIC, Modifier.ABSTRACT)
+            .addParameter(
+                ParameterizedTypeName.get(ClassName.get(Multi.class), ENTITY_CLASS_NAME),
+                "products")
+            .returns(ParameterizedTypeName.get(Uni.class, Long.class))
+            .build()
+      },
+      {
+        MethodSpec.methodBuilder("insertAll")
+            .addAnnotation(
+                AnnotationSpec.builder(Insert.class).addMember("ifNotExists", "true").build())
+            .addModifiers(Modifier.PUBLIC, Modifier.ABSTRACT)
+            .addParameter(
+                ParameterizedTypeName.get(ClassName.get(Multi.class), ENTITY_CLASS_NAME),
+                "products")
+            .returns(ParameterizedTypeName.get(ClassName.get(Multi.class), ENTITY_CLASS_NAME))
+            .build()
+      },
+      {
+        MethodSpec.methodBuilder("insertAll")
+            .addAnnotation(
+                AnnotationSpec.builder(Insert.class).addMember("ttl", "$S", ":ttl").build())
+            .addModifiers(Modifier.PUBLIC, Modifier.ABSTRACT)
+            .addParameter(
+                ParameterizedTypeName.get(ClassName.get(Multi.class), ENTITY_CLASS_NAME),
+                "products")
+            .addParameter(int.class, "ttl")
+            .returns(ParameterizedTypeName.get(Uni.class, Void.class))
+            .build()
+      },
+      {
+        MethodSpec.methodBuilder("insert")
+            .addAnnotation(
+                AnnotationSpec.builder(Insert.class).addMember("ifNotExists", "true").build())
+            .addModifiers(Modifier.PUBLIC, Modifier.ABSTRACT)
+            .addParameter(ENTITY_CLASS_NAME, "product")
+            .returns(
+                ParameterizedTypeName.get(
+                    ClassName.get(Uni.class),
+                    ParameterizedTypeName.get(ClassName.get(LwtResult.class), ENTITY_CLASS_NAME)))
+            .build()
+      },
     };
   }
 
@@ -135,7 +182,7 @@ public class QuarkusDaoInsertMethodGeneratorTest extends DaoMethodGeneratorTest
         "Insert methods must return one of [VOID, FUTURE_OF_VOID, ENTITY, FUTURE_OF_ENTITY, "
             + "OPTIONAL_ENTITY, FUTURE_OF_OPTIONAL_ENTITY, BOOLEAN, FUTURE_OF_BOOLEAN, RESULT_SET, "
             + "BOUND_STATEMENT, FUTURE_OF_ASYNC_RESULT_SET, REACTIVE_RESULT_SET, "
-            + "UNI_OF_VOID, UNI_OF_BOOLEAN, UNI_OF_ENTITY, MUTINY_REACTIVE_RESULT_SET, "
+            + "UNI_OF_VOID, UNI_OF_BOOLEAN, UNI_OF_ENTITY, UNI_OF_LWT_RESULT, MUTINY_REACTIVE_RESULT_SET, "
             + "MULTI_OF_ROW, MULTI_OF_REACTIVE_ROW]",
         MethodSpec.methodBuilder("insert")
             .addAnnotation(Insert.class)
@@ -144,6 +191,17 @@ public class QuarkusDaoInsertMethodGeneratorTest extends DaoMethodGeneratorTest
             .returns(MutinyMappedReactiveResultSet.class)
             .build(),
       },
+      {
+        "Insert methods must return one of [UNI_OF_VOID, UNI_OF_LONG, MULTI_OF_ENTITY]",
+        MethodSpec.methodBuilder("insertAll")
+            .addAnnotation(Insert.class)
+            .addModifiers(Modifier.PUBLIC, Modifier.ABSTRACT)
+            .addParameter(
+                ParameterizedTypeName.get(ClassName.get(Multi.class), ENTITY_CLASS_NAME),
+                "products")
+            .returns(ParameterizedTypeName.get(Uni.class, Boolean.class))
+            .build(),
+      },
     };
   }
 
@@ -16,12 +16,14 @@
 package com.datastax.oss.quarkus.internal.mapper.processor.dao;
 
 import com.datastax.dse.driver.api.core.cql.reactive.ReactiveRow;
+import com.datastax.oss.driver.api.core.cql.PagingState;
 import com.datastax.oss.driver.api.core.cql.Row;
 import com.datastax.oss.driver.api.mapper.annotations.Query;
 import com.datastax.oss.driver.internal.mapper.processor.MapperProcessor;
 import com.datastax.oss.driver.internal.mapper.processor.dao.DaoMethodGeneratorTest;
 import com.datastax.oss.quarkus.internal.mapper.processor.QuarkusGeneratedNames;
 import com.datastax.oss.quarkus.internal.mapper.processor.QuarkusMapperProcessor;
+import com.datastax.oss.quarkus.runtime.api.reactive.MutinyPage;
 import com.datastax.oss.quarkus.runtime.api.reactive.MutinyReactiveResultSet;
 import com.datastax.oss.quarkus.runtime.api.reactive.mapper.MutinyMappedReactiveResultSet;
 import com.squareup.javapoet.AnnotationSpec;
@@ -52,6 +54,31 @@ public class QuarkusDaoQueryMethodGeneratorTest extends DaoMethodGeneratorTest {
   @SuppressWarnings("unused")
   static Object[][] should_succeed_without_error() {
     return new Object[][] {
+      {
+        MethodSpec.methodBuilder("query")
+            .addAnnotation(
+                AnnotationSpec.builder(Query.class).addMember("value", "$S", "irrelevant").build())
+            .addModifiers(Modifier.PUBLIC, Modifier.ABSTRACT)
+            .addParameter(UUID.class, "id")
+            .addParameter(PagingState.class, "pagingState")
+            .returns(
+                ParameterizedTypeName.get(
+                    ClassName.get(Uni.class),
+                    ParameterizedTypeName.get(ClassName.get(MutinyPage.class), ENTITY_CLASS_NAME)))
+            .build()
+      },
+      {
+        MethodSpec.methodBuilder("query")
+            .addAnnotation(
+                AnnotationSpec.builder(Query.class).addMember("value", "$S", "irrelevant").build())
+            .addModifiers(Modifier.PUBLIC, Modifier.ABSTRACT)
+            .addParameter(UUID.class, "id")
+            .returns(
+                ParameterizedTypeName.get(
+                    ClassName.get(Uni.class),
+                    ParameterizedTypeName.get(MutinyPage.class, Row.class)))
+            .build()
+      },
       {
         MethodSpec.methodBuilder("query")
             .addAnnotation(
@@ -175,7 +202,8 @@ public class QuarkusDaoQueryMethodGeneratorTest extends DaoMethodGeneratorTest {
             + "STREAM, FUTURE_OF_STREAM, "
             + "MUTINY_REACTIVE_RESULT_SET, MUTINY_MAPPED_REACTIVE_RESULT_SET, MULTI_OF_ROW, "
             + "MULTI_OF_REACTIVE_ROW, MULTI_OF_ENTITY, UNI_OF_ROW, UNI_OF_REACTIVE_ROW, UNI_OF_ENTITY, "
-            + "UNI_OF_VOID, UNI_OF_BOOLEAN, UNI_OF_LONG]",
+            + "UNI_OF_VOID, UNI_OF_BOOLEAN, UNI_OF_LWT_RESULT, UNI_OF_LONG, UNI_OF_ENTITY_PAGE, "
+            + "UNI_OF_ROW_PAGE]",
         MethodSpec.methodBuilder("select")
             .addAnnotation(
                 AnnotationSpec.builder(Query.class)
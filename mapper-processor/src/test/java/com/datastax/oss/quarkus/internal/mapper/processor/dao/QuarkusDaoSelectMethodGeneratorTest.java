@@ -15,20 +15,35 @@
  */
 package com.datastax.oss.quarkus.internal.mapper.processor.dao;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.datastax.oss.driver.api.core.cql.PagingState;
+import com.datastax.oss.driver.api.mapper.annotations.Dao;
 import com.datastax.oss.driver.api.mapper.annotations.Select;
 import com.datastax.oss.driver.internal.mapper.processor.MapperProcessor;
 import com.datastax.oss.driver.internal.mapper.processor.dao.DaoMethodGeneratorTest;
 import com.datastax.oss.quarkus.internal.mapper.processor.QuarkusGeneratedNames;
 import com.datastax.oss.quarkus.internal.mapper.processor.QuarkusMapperProcessor;
+import com.datastax.oss.quarkus.runtime.api.mapper.ContinuousPaging;
+import com.datastax.oss.quarkus.runtime.api.reactive.MutinyPage;
 import com.datastax.oss.quarkus.runtime.api.reactive.mapper.MutinyMappedReactiveResultSet;
+import com.google.testing.compile.Compilation;
+import com.squareup.javapoet.AnnotationSpec;
 import com.squareup.javapoet.ClassName;
 import com.squareup.javapoet.MethodSpec;
 import com.squareup.javapoet.ParameterizedTypeName;
+import com.squareup.javapoet.TypeSpec;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.CompletionStage;
 import javax.lang.model.element.Modifier;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 
@@ -39,6 +54,47 @@ public class QuarkusDaoSelectMethodGeneratorTest extends DaoMethodGeneratorTest
     return new QuarkusMapperProcessor();
   }
 
+  @Test
+  void should_derive_continuous_paging_profile_once_per_method() throws IOException {
+    // given
+    TypeSpec daoSpec =
+        TypeSpec.interfaceBuilder(ClassName.get("test", "ProductDao"))
+            .addModifiers(Modifier.PUBLIC)
+            .addAnnotation(Dao.class)
+            .addMethod(
+                MethodSpec.methodBuilder("findAll")
+                    .addAnnotation(Select.class)
+                    .addAnnotation(
+                        AnnotationSpec.builder(ContinuousPaging.class)
+                            .addMember("maxPagesPerSecond", "100")
+                            .addMember("maxEnqueuedPages", "4")
+                            .build())
+                    .addModifiers(Modifier.PUBLIC, Modifier.ABSTRACT)
+                    .returns(
+                        ParameterizedTypeName.get(ClassName.get(Multi.class), ENTITY_CLASS_NAME))
+                    .build())
+            .build();
+
+    // when
+    Compilation compilation = compileWithMapperProcessor("test", ENTITY_SPEC, daoSpec);
+
+    // then
+    assertThat(compilation.errors()).isEmpty();
+    String daoSource =
+        compilation
+            .generatedSourceFile("test.ProductDaoImpl__MapperGenerated")
+            .get()
+            .getCharContent(true)
+            .toString();
+    assertThat(daoSource)
+        .containsOnlyOnce(
+            "private final ContinuousPagingProfile findAllContinuousPaging = "
+                + "new ContinuousPagingProfile(100, 4);")
+        .contains(
+            "boundStatement = findAllContinuousPaging.apply(boundStatement, "
+                + "context.getSession().getContext());");
+  }
+
   @ParameterizedTest
   @MethodSource
   void should_succeed_without_error(MethodSpec method) {
@@ -74,6 +130,67 @@ public class QuarkusDaoSelectMethodGeneratorTest extends DaoMethodGeneratorTest
             .returns(ParameterizedTypeName.get(ClassName.get(Multi.class), ENTITY_CLASS_NAME))
             .build()
       },
+      {
+        MethodSpec.methodBuilder("select")
+            .addAnnotation(Select.class)
+            .addModifiers(Modifier.PUBLIC, Modifier.ABSTRACT)
+            .returns(
+                ParameterizedTypeName.get(
+                    ClassName.get(Uni.class),
+                    ParameterizedTypeName.get(ClassName.get(MutinyPage.class), ENTITY_CLASS_NAME)))
+            .build()
+      },
+      {
+        MethodSpec.methodBuilder("select")
+            .addAnnotation(Select.class)
+            .addModifiers(Modifier.PUBLIC, Modifier.ABSTRACT)
+            .addParameter(UUID.class, "id")
+            .addParameter(PagingState.class, "pagingState")
+            .returns(
+                ParameterizedTypeName.get(
+                    ClassName.get(Uni.class),
+                    ParameterizedTypeName.get(ClassName.get(MutinyPage.class), ENTITY_CLASS_NAME)))
+            .build()
+      },
+      {
+        MethodSpec.methodBuilder("select")
+            .addAnnotation(Select.class)
+            .addAnnotation(
+                AnnotationSpec.builder(ContinuousPaging.class)
+                    .addMember("maxPagesPerSecond", "100")
+                    .build())
+            .addModifiers(Modifier.PUBLIC, Modifier.ABSTRACT)
+            .returns(ParameterizedTypeName.get(ClassName.get(Multi.class), ENTITY_CLASS_NAME))
+            .build()
+      },
+      {
+        MethodSpec.methodBuilder("findByIds")
+            .addAnnotation(Select.class)
+            .addModifiers(Modifier.PUBLIC, Modifier.ABSTRACT)
+            .addParameter(ParameterizedTypeName.get(Collection.class, UUID.class), "ids")
+            .returns(
+                ParameterizedTypeName.get(
+                    ClassName.get(Uni.class),
+                    ParameterizedTypeName.get(
+                        ClassName.get(Map.class), ClassName.get(UUID.class), ENTITY_CLASS_NAME)))
+            .build()
+      },
+      {
+        MethodSpec.methodBuilder("findByIds")
+            .addAnnotation(Select.class)
+            .addModifiers(Modifier.PUBLIC, Modifier.ABSTRACT)
+            .addParameter(ParameterizedTypeName.get(Multi.class, UUID.class), "ids")
+            .returns(ParameterizedTypeName.get(ClassName.get(Multi.class), ENTITY_CLASS_NAME))
+            .build()
+      },
+      {
+        MethodSpec.methodBuilder("findByIds")
+            .addAnnotation(Select.class)
+            .addModifiers(Modifier.PUBLIC, Modifier.ABSTRACT)
+            .addParameter(ParameterizedTypeName.get(List.class, UUID.class), "readKey")
+            .returns(ParameterizedTypeName.get(ClassName.get(Multi.class), ENTITY_CLASS_NAME))
+            .build()
+      },
     };
   }
 
@@ -91,7 +208,7 @@ public class QuarkusDaoSelectMethodGeneratorTest extends DaoMethodGeneratorTest
         "Invalid return type: Select methods must return one of [ENTITY, OPTIONAL_ENTITY, "
             + "FUTURE_OF_ENTITY, FUTURE_OF_OPTIONAL_ENTITY, PAGING_ITERABLE, STREAM, "
             + "FUTURE_OF_ASYNC_PAGING_ITERABLE, FUTURE_OF_STREAM, MAPPED_REACTIVE_RESULT_SET, "
-            + "MUTINY_MAPPED_REACTIVE_RESULT_SET, MULTI_OF_ENTITY, UNI_OF_ENTITY]",
+            + "MUTINY_MAPPED_REACTIVE_RESULT_SET, MULTI_OF_ENTITY, UNI_OF_ENTITY, UNI_OF_ENTITY_PAGE]",
         MethodSpec.methodBuilder("select")
             .addAnnotation(Select.class)
             .addModifiers(Modifier.PUBLIC, Modifier.ABSTRACT)
@@ -102,7 +219,7 @@ public class QuarkusDaoSelectMethodGeneratorTest extends DaoMethodGeneratorTest
         "Invalid return type: Select methods must return one of [ENTITY, OPTIONAL_ENTITY, "
             + "FUTURE_OF_ENTITY, FUTURE_OF_OPTIONAL_ENTITY, PAGING_ITERABLE, STREAM, "
             + "FUTURE_OF_ASYNC_PAGING_ITERABLE, FUTURE_OF_STREAM, MAPPED_REACTIVE_RESULT_SET, "
-            + "MUTINY_MAPPED_REACTIVE_RESULT_SET, MULTI_OF_ENTITY, UNI_OF_ENTITY]",
+            + "MUTINY_MAPPED_REACTIVE_RESULT_SET, MULTI_OF_ENTITY, UNI_OF_ENTITY, UNI_OF_ENTITY_PAGE]",
         MethodSpec.methodBuilder("select")
             .addAnnotation(Select.class)
             .addModifiers(Modifier.PUBLIC, Modifier.ABSTRACT)
@@ -120,6 +237,52 @@ public class QuarkusDaoSelectMethodGeneratorTest extends DaoMethodGeneratorTest
             .returns(ENTITY_CLASS_NAME)
             .build(),
       },
+      {
+        "Invalid return type: ContinuousPaging methods must return a Multi of entities, rows or "
+            + "reactive rows, a MutinyMappedReactiveResultSet or a MutinyReactiveResultSet",
+        MethodSpec.methodBuilder("select")
+            .addAnnotation(Select.class)
+            .addAnnotation(ContinuousPaging.class)
+            .addModifiers(Modifier.PUBLIC, Modifier.ABSTRACT)
+            .addParameter(UUID.class, "id")
+            .returns(ParameterizedTypeName.get(QuarkusGeneratedNames.UNI, ENTITY_CLASS_NAME))
+            .build(),
+      },
+      {
+        "Invalid parameter list: ContinuousPaging methods cannot be resumed from a PagingState",
+        MethodSpec.methodBuilder("select")
+            .addAnnotation(Select.class)
+            .addAnnotation(ContinuousPaging.class)
+            .addModifiers(Modifier.PUBLIC, Modifier.ABSTRACT)
+            .addParameter(PagingState.class, "pagingState")
+            .returns(ParameterizedTypeName.get(ClassName.get(Multi.class), ENTITY_CLASS_NAME))
+            .build(),
+      },
+      {
+        "Invalid return type: Select methods that take several keys must return Multi<EntityT>, "
+            + "or Uni<Map<KeyT, EntityT>> if they take a Collection of keys",
+        MethodSpec.methodBuilder("findByIds")
+            .addAnnotation(Select.class)
+            .addModifiers(Modifier.PUBLIC, Modifier.ABSTRACT)
+            .addParameter(ParameterizedTypeName.get(Multi.class, UUID.class), "ids")
+            .returns(
+                ParameterizedTypeName.get(
+                    ClassName.get(Uni.class),
+                    ParameterizedTypeName.get(
+                        ClassName.get(Map.class), ClassName.get(UUID.class), ENTITY_CLASS_NAME)))
+            .build(),
+      },
+      {
+        "Invalid parameter list: Select methods that take several keys must take keys of the "
+            + "type of the partition key, and the partition key of Product must have a single "
+            + "column",
+        MethodSpec.methodBuilder("findByIds")
+            .addAnnotation(Select.class)
+            .addModifiers(Modifier.PUBLIC, Modifier.ABSTRACT)
+            .addParameter(ParameterizedTypeName.get(Multi.class, String.class), "ids")
+            .returns(ParameterizedTypeName.get(ClassName.get(Multi.class), ENTITY_CLASS_NAME))
+            .build(),
+      },
     };
   }
 }
@@ -30,7 +30,9 @@ import com.datastax.oss.driver.internal.mapper.processor.dao.DaoMethodGeneratorT
 import com.datastax.oss.driver.internal.mapper.processor.dao.DaoUpdateMethodGenerator;
 import com.datastax.oss.quarkus.internal.mapper.processor.QuarkusMapperProcessor;
 import com.datastax.oss.quarkus.runtime.api.reactive.MutinyReactiveResultSet;
+import com.datastax.oss.quarkus.runtime.api.reactive.mapper.LwtResult;
 import com.squareup.javapoet.AnnotationSpec;
+import com.squareup.javapoet.ClassName;
 import com.squareup.javapoet.CodeBlock;
 import com.squareup.javapoet.MethodSpec;
 import com.squareup.javapoet.MethodSpec.Builder;
@@ -112,6 +114,27 @@ public class QuarkusDaoUpdateMethodGeneratorTest extends DaoMethodGeneratorTest
             .returns(ParameterizedTypeName.get(Multi.class, Row.class))
             .build()
       },
+      {
+        MethodSpec.methodBuilder("update")
+            .addAnnotation(
+                AnnotationSpec.builder(Update.class)
+                    .addMember("customIfClause", "$S", "description = :expected")
+                    .build())
+            .addModifiers(Modifier.PUBLIC, Modifier.ABSTRACT)
+            .addParameter(ENTITY_CLASS_NAME, "product")
+            .addParameter(
+                ParameterSpec.builder(String.class, "expected")
+                    .addAnnotation(
+                        AnnotationSpec.builder(CqlName.class)
+                            .addMember("value", "$S", "expected")
+                            .build())
+                    .build())
+            .returns(
+                ParameterizedTypeName.get(
+                    ClassName.get(Uni.class),
+                    ParameterizedTypeName.get(ClassName.get(LwtResult.class), ENTITY_CLASS_NAME)))
+            .build()
+      },
     };
   }
 
@@ -144,7 +167,7 @@ public class QuarkusDaoUpdateMethodGeneratorTest extends DaoMethodGeneratorTest
         "Invalid return type: Update methods must return one of [VOID, FUTURE_OF_VOID, "
             + "RESULT_SET, BOUND_STATEMENT, FUTURE_OF_ASYNC_RESULT_SET, BOOLEAN, "
             + "FUTURE_OF_BOOLEAN, REACTIVE_RESULT_SET, "
-            + "UNI_OF_VOID, UNI_OF_BOOLEAN, MUTINY_REACTIVE_RESULT_SET, "
+            + "UNI_OF_VOID, UNI_OF_BOOLEAN, UNI_OF_LWT_RESULT, MUTINY_REACTIVE_RESULT_SET, "
             + "MULTI_OF_ROW, MULTI_OF_REACTIVE_ROW]",
         MethodSpec.methodBuilder("update")
             .addAnnotation(UPDATE_ANNOTATION)
@@ -0,0 +1,219 @@
+/*
+ * Copyright DataStax, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.quarkus.internal.mapper.processor.dao;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.datastax.oss.driver.api.core.cql.PagingState;
+import com.datastax.oss.driver.api.mapper.annotations.Dao;
+import com.datastax.oss.driver.api.mapper.annotations.Entity;
+import com.datastax.oss.driver.api.mapper.annotations.PartitionKey;
+import com.datastax.oss.driver.api.mapper.annotations.PropertyStrategy;
+import com.datastax.oss.driver.api.mapper.annotations.Select;
+import com.datastax.oss.driver.internal.mapper.processor.MapperProcessor;
+import com.datastax.oss.driver.internal.mapper.processor.dao.DaoMethodGeneratorTest;
+import com.datastax.oss.quarkus.internal.mapper.processor.QuarkusMapperProcessor;
+import com.datastax.oss.quarkus.runtime.api.reactive.MutinyPage;
+import com.google.testing.compile.Compilation;
+import com.squareup.javapoet.AnnotationSpec;
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.ParameterizedTypeName;
+import com.squareup.javapoet.TypeName;
+import com.squareup.javapoet.TypeSpec;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import java.io.IOException;
+import java.util.List;
+import java.util.UUID;
+import javax.lang.model.element.Modifier;
+import org.junit.jupiter.api.Test;
+
+class QuarkusEntityDecoderGeneratorTest extends DaoMethodGeneratorTest {
+
+  private static final ClassName ITEM_CLASS_NAME = ClassName.get("test", "Item");
+  private static final ClassName DIMENSIONS_CLASS_NAME = ClassName.get("test", "Dimensions");
+  private static final TypeName TAGS_TYPE_NAME =
+      ParameterizedTypeName.get(List.class, String.class);
+
+  @NonNull
+  protected MapperProcessor getMapperProcessor() {
+    return new QuarkusMapperProcessor();
+  }
+
+  @Test
+  void should_decode_mutable_entity_by_position() throws IOException {
+    // given
+    TypeSpec entitySpec =
+        TypeSpec.classBuilder(ITEM_CLASS_NAME)
+            .addModifiers(Modifier.PUBLIC)
+            .addAnnotation(Entity.class)
+            .addMethod(MethodSpec.constructorBuilder().addModifiers(Modifier.PUBLIC).build())
+            .addField(UUID.class, "id", Modifier.PRIVATE)
+            .addField(int.class, "stock", Modifier.PRIVATE)
+            .addField(TAGS_TYPE_NAME, "tags", Modifier.PRIVATE)
+            .addMethod(getter("getId", UUID.class, "id").addAnnotation(PartitionKey.class).build())
+            .addMethod(setter("setId", UUID.class, "id"))
+            .addMethod(getter("getStock", int.class, "stock").build())
+            .addMethod(setter("setStock", int.class, "stock"))
+            .addMethod(getter("getTags", TAGS_TYPE_NAME, "tags").build())
+            .addMethod(setter("setTags", TAGS_TYPE_NAME, "tags"))
+            .build();
+
+    // when
+    String daoSource = compileDao(entitySpec);
+
+    // then
+    assertThat(daoSource)
+        .contains("resolvedColumns.indexOf(\"stock\")")
+        .contains("returnValue.setStock(resolvedColumns.getInt(decodedRow, columnIndex1,")
+        .contains("returnValue.setTags(resolvedColumns.get(decodedRow, columnIndex2,")
+        .contains("MapperMutinyWrappers.toDecodedResultSet(")
+        .contains(
+            "MapperMutinyWrappers.toEntityUni(executeReactive(boundStatement), entityDecoderFactory)")
+        .contains(
+            "boundStatementBuilder = MapperMutinyWrappers.withPagingState(boundStatementBuilder, pagingState)")
+        .contains("MapperMutinyWrappers.checkPagingState(boundStatement, pagingState)")
+        .contains(
+            "MapperMutinyWrappers.toEntityPageUni(() -> executeAsync(boundStatement), entityDecoderFactory)");
+  }
+
+  @Test
+  void should_decode_immutable_entity_by_position() throws IOException {
+    // given
+    TypeSpec entitySpec =
+        TypeSpec.classBuilder(ITEM_CLASS_NAME)
+            .addModifiers(Modifier.PUBLIC)
+            .addAnnotation(Entity.class)
+            .addAnnotation(
+                AnnotationSpec.builder(PropertyStrategy.class)
+                    .addMember("mutable", "false")
+                    .build())
+            .addField(UUID.class, "id", Modifier.PRIVATE, Modifier.FINAL)
+            .addField(long.class, "stock", Modifier.PRIVATE, Modifier.FINAL)
+            .addMethod(
+                MethodSpec.constructorBuilder()
+                    .addModifiers(Modifier.PUBLIC)
+                    .addParameter(UUID.class, "id")
+                    .addParameter(long.class, "stock")
+                    .addStatement("this.id = id")
+                    .addStatement("this.stock = stock")
+                    .build())
+            .addMethod(getter("getId", UUID.class, "id").addAnnotation(PartitionKey.class).build())
+            .addMethod(getter("getStock", long.class, "stock").build())
+            .build();
+
+    // when
+    String daoSource = compileDao(entitySpec);
+
+    // then
+    assertThat(daoSource)
+        .contains("new Item(")
+        .contains("resolvedColumns.getLong(decodedRow, columnIndex1, columnCodec1)")
+        .doesNotContain("returnValue");
+  }
+
+  @Test
+  void should_keep_entity_helper_for_nested_entities() throws IOException {
+    // given
+    TypeSpec dimensionsSpec =
+        TypeSpec.classBuilder(DIMENSIONS_CLASS_NAME)
+            .addModifiers(Modifier.PUBLIC)
+            .addAnnotation(Entity.class)
+            .addField(int.class, "length", Modifier.PRIVATE)
+            .addMethod(getter("getLength", int.class, "length").build())
+            .addMethod(setter("setLength", int.class, "length"))
+            .build();
+    TypeSpec entitySpec =
+        TypeSpec.classBuilder(ITEM_CLASS_NAME)
+            .addModifiers(Modifier.PUBLIC)
+            .addAnnotation(Entity.class)
+            .addField(UUID.class, "id", Modifier.PRIVATE)
+            .addField(DIMENSIONS_CLASS_NAME, "dimensions", Modifier.PRIVATE)
+            .addMethod(getter("getId", UUID.class, "id").addAnnotation(PartitionKey.class).build())
+            .addMethod(setter("setId", UUID.class, "id"))
+            .addMethod(getter("getDimensions", DIMENSIONS_CLASS_NAME, "dimensions").build())
+            .addMethod(setter("setDimensions", DIMENSIONS_CLASS_NAME, "dimensions"))
+            .build();
+
+    // when
+    String daoSource = compileDao(entitySpec, dimensionsSpec);
+
+    // then
+    assertThat(daoSource)
+        .doesNotContain("entityDecoderFactory")
+        .contains("executeReactiveAndMap(boundStatement, itemHelper)");
+  }
+
+  private String compileDao(TypeSpec... entitySpecs) throws IOException {
+    TypeSpec daoSpec =
+        TypeSpec.interfaceBuilder(ClassName.get("test", "ItemDao"))
+            .addModifiers(Modifier.PUBLIC)
+            .addAnnotation(Dao.class)
+            .addMethod(
+                MethodSpec.methodBuilder("findAll")
+                    .addAnnotation(Select.class)
+                    .addModifiers(Modifier.PUBLIC, Modifier.ABSTRACT)
+                    .returns(ParameterizedTypeName.get(ClassName.get(Multi.class), ITEM_CLASS_NAME))
+                    .build())
+            .addMethod(
+                MethodSpec.methodBuilder("findById")
+                    .addAnnotation(Select.class)
+                    .addModifiers(Modifier.PUBLIC, Modifier.ABSTRACT)
+                    .addParameter(UUID.class, "id")
+                    .returns(ParameterizedTypeName.get(ClassName.get(Uni.class), ITEM_CLASS_NAME))
+                    .build())
+            .addMethod(
+                MethodSpec.methodBuilder("findPage")
+                    .addAnnotation(Select.class)
+                    .addModifiers(Modifier.PUBLIC, Modifier.ABSTRACT)
+                    .addParameter(PagingState.class, "pagingState")
+                    .returns(
+                        ParameterizedTypeName.get(
+                            ClassName.get(Uni.class),
+                            ParameterizedTypeName.get(
+                                ClassName.get(MutinyPage.class), ITEM_CLASS_NAME)))
+                    .build())
+            .build();
+    TypeSpec[] typeSpecs = new TypeSpec[entitySpecs.length + 1];
+    System.arraycopy(entitySpecs, 0, typeSpecs, 0, entitySpecs.length);
+    typeSpecs[entitySpecs.length] = daoSpec;
+    Compilation compilation = compileWithMapperProcessor("test", typeSpecs);
+    assertThat(compilation.errors()).isEmpty();
+    return compilation
+        .generatedSourceFile("test.ItemDaoImpl__MapperGenerated")
+        .get()
+        .getCharContent(true)
+        .toString();
+  }
+
+  private static MethodSpec.Builder getter(String name, Object type, String field) {
+    return MethodSpec.methodBuilder(name)
+        .addModifiers(Modifier.PUBLIC)
+        .returns(type instanceof TypeName ? (TypeName) type : TypeName.get((Class<?>) type))
+        .addStatement("return $L", field);
+  }
+
+  private static MethodSpec setter(String name, Object type, String field) {
+    return MethodSpec.methodBuilder(name)
+        .addModifiers(Modifier.PUBLIC)
+        .addParameter(
+            type instanceof TypeName ? (TypeName) type : TypeName.get((Class<?>) type), field)
+        .addStatement("this.$1L = $1L", field)
+        .build();
+  }
+}
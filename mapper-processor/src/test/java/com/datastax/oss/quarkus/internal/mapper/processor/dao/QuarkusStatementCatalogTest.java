@@ -0,0 +1,193 @@
+/*
+ * Copyright DataStax, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.quarkus.internal.mapper.processor.dao;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.datastax.oss.driver.api.mapper.annotations.Dao;
+import com.datastax.oss.driver.api.mapper.annotations.DaoFactory;
+import com.datastax.oss.driver.api.mapper.annotations.DaoKeyspace;
+import com.datastax.oss.driver.api.mapper.annotations.Entity;
+import com.datastax.oss.driver.api.mapper.annotations.Insert;
+import com.datastax.oss.driver.api.mapper.annotations.Mapper;
+import com.datastax.oss.driver.api.mapper.annotations.PartitionKey;
+import com.datastax.oss.driver.api.mapper.annotations.Select;
+import com.datastax.oss.driver.internal.mapper.processor.MapperProcessor;
+import com.datastax.oss.driver.internal.mapper.processor.dao.DaoMethodGeneratorTest;
+import com.datastax.oss.quarkus.internal.mapper.processor.QuarkusMapperProcessor;
+import com.datastax.oss.quarkus.runtime.api.mapper.QuarkusMapper;
+import com.google.testing.compile.Compilation;
+import com.squareup.javapoet.AnnotationSpec;
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.ParameterSpec;
+import com.squareup.javapoet.TypeSpec;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.io.IOException;
+import java.util.UUID;
+import javax.lang.model.element.Modifier;
+import org.junit.jupiter.api.Test;
+
+class QuarkusStatementCatalogTest extends DaoMethodGeneratorTest {
+
+  private static final ClassName ITEM_CLASS_NAME = ClassName.get("test", "Item");
+  private static final ClassName DAO_CLASS_NAME = ClassName.get("test", "ItemDao");
+  private static final ClassName MAPPER_CLASS_NAME = ClassName.get("test", "InventoryMapper");
+
+  private static final TypeSpec ITEM_SPEC =
+      TypeSpec.classBuilder(ITEM_CLASS_NAME)
+          .addModifiers(Modifier.PUBLIC)
+          .addAnnotation(Entity.class)
+          .addField(UUID.class, "id", Modifier.PRIVATE)
+          .addMethod(
+              MethodSpec.methodBuilder("getId")
+                  .addAnnotation(PartitionKey.class)
+                  .addModifiers(Modifier.PUBLIC)
+                  .returns(UUID.class)
+                  .addStatement("return id")
+                  .build())
+          .addMethod(
+              MethodSpec.methodBuilder("setId")
+                  .addModifiers(Modifier.PUBLIC)
+                  .addParameter(UUID.class, "id")
+                  .addStatement("this.id = id")
+                  .build())
+          .build();
+
+  private static final TypeSpec DAO_SPEC =
+      TypeSpec.interfaceBuilder(DAO_CLASS_NAME)
+          .addModifiers(Modifier.PUBLIC)
+          .addAnnotation(Dao.class)
+          .addMethod(
+              MethodSpec.methodBuilder("findById")
+                  .addAnnotation(Select.class)
+                  .addModifiers(Modifier.PUBLIC, Modifier.ABSTRACT)
+                  .addParameter(UUID.class, "id")
+                  .returns(ITEM_CLASS_NAME)
+                  .build())
+          .addMethod(
+              MethodSpec.methodBuilder("create")
+                  .addAnnotation(Insert.class)
+                  .addModifiers(Modifier.PUBLIC, Modifier.ABSTRACT)
+                  .addParameter(ITEM_CLASS_NAME, "item")
+                  .returns(void.class)
+                  .build())
+          .build();
+
+  @NonNull
+  protected MapperProcessor getMapperProcessor() {
+    return new QuarkusMapperProcessor();
+  }
+
+  @Test
+  void should_generate_statement_catalog_of_dao() throws IOException {
+    // when
+    Compilation compilation = compile(mapper(daoFactory("itemDao")));
+
+    // then
+    assertThat(compilation.errors()).isEmpty();
+    String daoSource = source(compilation, "test.ItemDaoImpl__MapperGenerated");
+    String catalog =
+        daoSource.substring(
+            daoSource.indexOf(
+                "public static List<SimpleStatement> statementCatalog(MapperContext context) {"));
+    assertThat(catalog)
+        .contains(
+            "ItemHelper__MapperGenerated itemHelper = new ItemHelper__MapperGenerated(context);")
+        .contains("SimpleStatement findByIdStatement_simple = ")
+        .contains(
+            "statements.add(StatementCatalog.withExecutionProfile(findByIdStatement_simple, context));")
+        .contains("SimpleStatement createStatement_simple = ")
+        .contains(
+            "statements.add(StatementCatalog.withExecutionProfile(createStatement_simple, context));")
+        .contains("return statements;");
+    // the catalog only builds the statements, the DAO prepares them when it is initialized
+    assertThat(catalog.substring(0, catalog.indexOf("return statements;")))
+        .doesNotContain("prepare(")
+        .doesNotContain("validateEntityFields()");
+  }
+
+  @Test
+  void should_list_statements_of_daos_without_arguments_in_mapper_catalog() throws IOException {
+    // when
+    Compilation compilation =
+        compile(
+            mapper(
+                daoFactory("itemDao"),
+                daoFactory("itemDaoInKeyspace")
+                    .addParameter(
+                        ParameterSpec.builder(String.class, "keyspace")
+                            .addAnnotation(DaoKeyspace.class)
+                            .build())));
+
+    // then
+    assertThat(compilation.errors()).isEmpty();
+    String mapperSource = source(compilation, "test.InventoryMapperImpl__MapperGenerated");
+    assertThat(mapperSource)
+        .contains("implements InventoryMapper, StatementCatalog {")
+        .contains("public CqlSession getCatalogSession() {\n    return context.getSession();\n")
+        .containsOnlyOnce(
+            "statements.addAll(ItemDaoImpl__MapperGenerated.statementCatalog(context));");
+  }
+
+  @Test
+  void should_not_implement_catalog_when_mapper_has_only_daos_with_arguments() throws IOException {
+    // when
+    Compilation compilation =
+        compile(
+            mapper(
+                daoFactory("itemDaoInKeyspace")
+                    .addParameter(
+                        ParameterSpec.builder(String.class, "keyspace")
+                            .addAnnotation(DaoKeyspace.class)
+                            .build())));
+
+    // then
+    assertThat(compilation.errors()).isEmpty();
+    assertThat(source(compilation, "test.InventoryMapperImpl__MapperGenerated"))
+        .doesNotContain("StatementCatalog");
+  }
+
+  private Compilation compile(TypeSpec mapperSpec) {
+    return compileWithMapperProcessor("test", ITEM_SPEC, DAO_SPEC, mapperSpec);
+  }
+
+  private static TypeSpec mapper(MethodSpec.Builder... daoFactories) {
+    TypeSpec.Builder mapper =
+        TypeSpec.interfaceBuilder(MAPPER_CLASS_NAME)
+            .addModifiers(Modifier.PUBLIC)
+            .addAnnotation(Mapper.class)
+            .addAnnotation(
+                AnnotationSpec.builder(QuarkusMapper.class)
+                    .addMember("generateProducers", "false")
+                    .build());
+    for (MethodSpec.Builder daoFactory : daoFactories) {
+      mapper.addMethod(daoFactory.build());
+    }
+    return mapper.build();
+  }
+
+  private static MethodSpec.Builder daoFactory(String name) {
+    return MethodSpec.methodBuilder(name)
+        .addAnnotation(DaoFactory.class)
+        .addModifiers(Modifier.PUBLIC, Modifier.ABSTRACT)
+        .returns(DAO_CLASS_NAME);
+  }
+
+  private static String source(Compilation compilation, String className) throws IOException {
+    return compilation.generatedSourceFile(className).get().getCharContent(true).toString();
+  }
+}
@@ -35,7 +35,9 @@ import edu.umd.cs.findbugs.annotations.NonNull;
 import io.smallrye.mutiny.Uni;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
 import javax.lang.model.element.Modifier;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 
@@ -218,7 +220,75 @@ class QuarkusMapperDaoFactoryMethodGeneratorTest extends MapperMethodGeneratorTe
                     .addAnnotation(DaoKeyspace.class)
                     .build())
             .build()
+      },
+      {
+        MethodSpec.methodBuilder("productDao")
+            .addAnnotation(DaoFactory.class)
+            .addModifiers(Modifier.PUBLIC, Modifier.ABSTRACT)
+            .returns(ParameterizedTypeName.get(ClassName.get(Uni.class), DAO_CLASS_NAME))
+            .addParameter(
+                ParameterSpec.builder(String.class, "keyspace")
+                    .addAnnotation(DaoKeyspace.class)
+                    .build())
+            .build()
       }
     };
   }
+
+  @Test
+  public void should_bound_dao_instances_created_for_arguments() {
+    should_succeed_without_warnings(
+        "test",
+        DAO_SPEC,
+        TypeSpec.interfaceBuilder(ClassName.get("test", "InventoryMapper"))
+            .addModifiers(Modifier.PUBLIC)
+            .addAnnotation(Mapper.class)
+            .addAnnotation(
+                AnnotationSpec.builder(QuarkusMapper.class)
+                    .addMember("generateProducers", "false")
+                    .addMember("daoCacheMaximumSize", "10")
+                    .addMember("daoCacheExpireAfterAccess", "5")
+                    .addMember("daoCacheTimeUnit", "$T.MINUTES", TimeUnit.class)
+                    .build())
+            .addMethod(
+                MethodSpec.methodBuilder("productDao")
+                    .addAnnotation(DaoFactory.class)
+                    .addModifiers(Modifier.PUBLIC, Modifier.ABSTRACT)
+                    .returns(
+                        ParameterizedTypeName.get(
+                            ClassName.get(CompletionStage.class), DAO_CLASS_NAME))
+                    .addParameter(
+                        ParameterSpec.builder(String.class, "keyspace")
+                            .addAnnotation(DaoKeyspace.class)
+                            .build())
+                    .build())
+            .build());
+  }
+
+  @Test
+  public void should_fail_when_dao_cache_maximum_size_is_not_positive() {
+    should_fail_with_expected_error(
+        "Invalid annotation parameters: QuarkusMapper.daoCacheMaximumSize must be strictly positive",
+        "test",
+        DAO_SPEC,
+        TypeSpec.interfaceBuilder(ClassName.get("test", "InventoryMapper"))
+            .addModifiers(Modifier.PUBLIC)
+            .addAnnotation(Mapper.class)
+            .addAnnotation(
+                AnnotationSpec.builder(QuarkusMapper.class)
+                    .addMember("generateProducers", "false")
+                    .addMember("daoCacheMaximumSize", "0")
+                    .build())
+            .addMethod(
+                MethodSpec.methodBuilder("productDao")
+                    .addAnnotation(DaoFactory.class)
+                    .addModifiers(Modifier.PUBLIC, Modifier.ABSTRACT)
+                    .returns(DAO_CLASS_NAME)
+                    .addParameter(
+                        ParameterSpec.builder(String.class, "keyspace")
+                            .addAnnotation(DaoKeyspace.class)
+                            .build())
+                    .build())
+            .build());
+  }
 }
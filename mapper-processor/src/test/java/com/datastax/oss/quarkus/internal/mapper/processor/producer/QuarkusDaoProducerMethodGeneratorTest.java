@@ -21,6 +21,7 @@ import com.datastax.oss.driver.api.mapper.annotations.DaoKeyspace;
 import com.datastax.oss.driver.api.mapper.annotations.DaoProfile;
 import com.datastax.oss.driver.api.mapper.annotations.DaoTable;
 import com.datastax.oss.driver.api.mapper.annotations.Mapper;
+import com.datastax.oss.driver.api.mapper.annotations.Query;
 import com.datastax.oss.driver.internal.mapper.processor.MapperProcessor;
 import com.datastax.oss.driver.internal.mapper.processor.MapperProcessorTest;
 import com.datastax.oss.quarkus.internal.mapper.processor.QuarkusMapperProcessor;
@@ -180,4 +181,65 @@ class QuarkusDaoProducerMethodGeneratorTest extends MapperProcessorTest {
                     .build())
             .build());
   }
+
+  @Test
+  void should_bind_producers_to_named_client() {
+    should_succeed_without_warnings(
+        "test",
+        DAO_SPEC,
+        TypeSpec.interfaceBuilder(ClassName.get("test", "InventoryMapper"))
+            .addModifiers(Modifier.PUBLIC)
+            .addAnnotation(Mapper.class)
+            .addAnnotation(
+                AnnotationSpec.builder(QuarkusMapper.class)
+                    .addMember("clientName", "$S", "analytics")
+                    .build())
+            .addMethod(
+                MethodSpec.methodBuilder("productDao")
+                    .addAnnotation(DaoFactory.class)
+                    .addModifiers(Modifier.PUBLIC, Modifier.ABSTRACT)
+                    .returns(DAO_CLASS_NAME)
+                    .build())
+            .build());
+  }
+
+  @Test
+  void should_generate_lazy_facade_for_synchronous_dao() {
+    should_succeed_without_warnings(
+        "test",
+        TypeSpec.interfaceBuilder(DAO_CLASS_NAME)
+            .addModifiers(Modifier.PUBLIC)
+            .addAnnotation(Dao.class)
+            // the parameter name must not clash with the lambda parameter of the facade
+            .addMethod(
+                MethodSpec.methodBuilder("truncate")
+                    .addAnnotation(
+                        AnnotationSpec.builder(Query.class)
+                            .addMember("value", "$S", "TRUNCATE ks.product")
+                            .build())
+                    .addModifiers(Modifier.PUBLIC, Modifier.ABSTRACT)
+                    .returns(ParameterizedTypeName.get(CompletionStage.class, Void.class))
+                    .addParameter(String.class, "target")
+                    .build())
+            .addMethod(
+                MethodSpec.methodBuilder("truncateReactive")
+                    .addAnnotation(
+                        AnnotationSpec.builder(Query.class)
+                            .addMember("value", "$S", "TRUNCATE ks.product")
+                            .build())
+                    .addModifiers(Modifier.PUBLIC, Modifier.ABSTRACT)
+                    .returns(ParameterizedTypeName.get(Uni.class, Void.class))
+                    .build())
+            .build(),
+        TypeSpec.interfaceBuilder(ClassName.get("test", "InventoryMapper"))
+            .addModifiers(Modifier.PUBLIC)
+            .addAnnotation(Mapper.class)
+            .addMethod(
+                MethodSpec.methodBuilder("productDao")
+                    .addAnnotation(DaoFactory.class)
+                    .addModifiers(Modifier.PUBLIC, Modifier.ABSTRACT)
+                    .returns(DAO_CLASS_NAME)
+                    .build())
+            .build());
+  }
 }
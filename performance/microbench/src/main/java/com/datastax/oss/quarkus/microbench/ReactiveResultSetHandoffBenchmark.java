@@ -0,0 +1,174 @@
+/*
+ * Copyright DataStax, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.quarkus.microbench;
+
+import com.datastax.dse.driver.internal.core.cql.reactive.DefaultReactiveResultSet;
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
+import com.datastax.oss.driver.api.core.cql.ColumnDefinitions;
+import com.datastax.oss.driver.api.core.cql.ExecutionInfo;
+import com.datastax.oss.driver.api.core.cql.Row;
+import com.datastax.oss.quarkus.runtime.internal.reactive.DefaultMutinyReactiveResultSet;
+import com.datastax.oss.quarkus.runtime.internal.reactive.MockAsyncResultSet;
+import com.datastax.oss.quarkus.runtime.internal.reactive.VertxContextPages;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares per-row and per-page handoffs of reactive results to the subscriber's Vert.x context.
+ *
+ * <p>Each operation subscribes, from a Vert.x context, to a reactive result set built on {@link
+ * MockAsyncResultSet} pages, and consumes all of its rows. Pages complete on a separate thread,
+ * like driver pages completing on a connection's event loop:
+ *
+ * <ul>
+ *   <li>{@code row}: rows are drained on the driver thread and dispatched to the context one by
+ *       one;
+ *   <li>{@code page}: pages are handed over to the context by {@link VertxContextPages}, and their
+ *       rows are drained there.
+ * </ul>
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ReactiveResultSetHandoffBenchmark {
+
+  @Param({"row", "page"})
+  public String handoff;
+
+  @Param({"10"})
+  public int pages;
+
+  @Param({"5000"})
+  public int rowsPerPage;
+
+  private Vertx vertx;
+  private Context context;
+  private ExecutorService driverThread;
+  private CompletableFuture<AsyncResultSet> results;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    vertx = Vertx.vertx();
+    context = vertx.getOrCreateContext();
+    driverThread = Executors.newSingleThreadExecutor();
+    results = MockAsyncResultSet.createResults(pages, rowsPerPage);
+  }
+
+  @TearDown(Level.Trial)
+  public void teardown() throws Exception {
+    driverThread.shutdownNow();
+    vertx.close().toCompletionStage().toCompletableFuture().get(5, TimeUnit.SECONDS);
+  }
+
+  @Benchmark
+  public long consumeAllRows() throws Exception {
+    CompletableFuture<Long> done = new CompletableFuture<>();
+    context.runOnContext(
+        v -> {
+          Callable<CompletionStage<AsyncResultSet>> firstPage =
+              () -> onDriverThread(results, driverThread);
+          if (handoff.equals("page")) {
+            firstPage = VertxContextPages.onCurrentContext(firstPage);
+          }
+          new DefaultMutinyReactiveResultSet(new DefaultReactiveResultSet(firstPage))
+              .collect()
+              .in(() -> new long[1], (count, row) -> count[0]++)
+              .subscribe()
+              .with(count -> done.complete(count[0]), done::completeExceptionally);
+        });
+    return done.get();
+  }
+
+  private static CompletionStage<AsyncResultSet> onDriverThread(
+      CompletionStage<AsyncResultSet> page, ExecutorService driverThread) {
+    return page.thenApplyAsync(
+        rs -> new DriverThreadAsyncResultSet(rs, driverThread), driverThread);
+  }
+
+  /** Completes the following pages on the driver thread. */
+  private static class DriverThreadAsyncResultSet implements AsyncResultSet {
+
+    private final AsyncResultSet delegate;
+    private final ExecutorService driverThread;
+
+    private DriverThreadAsyncResultSet(AsyncResultSet delegate, ExecutorService driverThread) {
+      this.delegate = delegate;
+      this.driverThread = driverThread;
+    }
+
+    @NonNull
+    @Override
+    public ColumnDefinitions getColumnDefinitions() {
+      return delegate.getColumnDefinitions();
+    }
+
+    @NonNull
+    @Override
+    public ExecutionInfo getExecutionInfo() {
+      return delegate.getExecutionInfo();
+    }
+
+    @Override
+    public int remaining() {
+      return delegate.remaining();
+    }
+
+    @NonNull
+    @Override
+    public Iterable<Row> currentPage() {
+      return delegate.currentPage();
+    }
+
+    @Override
+    public boolean hasMorePages() {
+      return delegate.hasMorePages();
+    }
+
+    @NonNull
+    @Override
+    public CompletionStage<AsyncResultSet> fetchNextPage() throws IllegalStateException {
+      return onDriverThread(delegate.fetchNextPage(), driverThread);
+    }
+
+    @Override
+    public boolean wasApplied() {
+      return delegate.wasApplied();
+    }
+  }
+}
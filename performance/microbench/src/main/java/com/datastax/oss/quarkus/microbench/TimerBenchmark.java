@@ -0,0 +1,115 @@
+/*
+ * Copyright DataStax, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.quarkus.microbench;
+
+import com.datastax.oss.quarkus.runtime.internal.driver.EventLoopTimer;
+import io.netty.channel.EventLoop;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.util.HashedWheelTimer;
+import io.netty.util.Timeout;
+import io.netty.util.Timer;
+import io.netty.util.TimerTask;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the driver's default {@link HashedWheelTimer} with {@link EventLoopTimer}.
+ *
+ * <p>{@link #scheduleAndCancel} models the common case of request timeouts: a timeout is created
+ * from an event loop for each request, and cancelled when the response arrives. {@link
+ * #fireLatency} measures how long it takes for a short timeout to fire back on the event loop that
+ * created it, which is what happens to timed out requests and speculative executions.
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class TimerBenchmark {
+
+  private static final int BATCH_SIZE = 1000;
+
+  private static final TimerTask NOOP = timeout -> {};
+
+  @Param({"wheel", "event-loop"})
+  public String timerType;
+
+  private EventLoopGroup group;
+  private EventLoop eventLoop;
+  private Timer timer;
+  private Runnable scheduleAndCancelBatch;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    group = new NioEventLoopGroup(2);
+    eventLoop = group.next();
+    if (timerType.equals("wheel")) {
+      // same settings as the driver defaults
+      HashedWheelTimer wheelTimer = new HashedWheelTimer(1, TimeUnit.MILLISECONDS, 2048);
+      wheelTimer.start();
+      timer = wheelTimer;
+    } else {
+      timer = new EventLoopTimer(group);
+    }
+    scheduleAndCancelBatch =
+        () -> {
+          for (int i = 0; i < BATCH_SIZE; i++) {
+            Timeout timeout = timer.newTimeout(NOOP, 2, TimeUnit.SECONDS);
+            timeout.cancel();
+          }
+        };
+  }
+
+  @TearDown(Level.Trial)
+  public void teardown() {
+    timer.stop();
+    group.shutdownGracefully(0, 1, TimeUnit.SECONDS).syncUninterruptibly();
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.Throughput)
+  @OutputTimeUnit(TimeUnit.SECONDS)
+  @OperationsPerInvocation(BATCH_SIZE)
+  public void scheduleAndCancel() throws Exception {
+    eventLoop.submit(scheduleAndCancelBatch).get();
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.SampleTime)
+  @OutputTimeUnit(TimeUnit.MICROSECONDS)
+  public Object fireLatency() throws Exception {
+    CompletableFuture<Boolean> fired = new CompletableFuture<>();
+    eventLoop.execute(
+        () ->
+            timer.newTimeout(
+                timeout -> fired.complete(eventLoop.inEventLoop()), 1, TimeUnit.MILLISECONDS));
+    return fired.get();
+  }
+}
@@ -15,46 +15,46 @@
  */
 package com.datastax.oss.quarkus.runtime.api.config;
 
+import io.quarkus.runtime.annotations.ConfigDocMapKey;
 import io.quarkus.runtime.annotations.ConfigPhase;
 import io.quarkus.runtime.annotations.ConfigRoot;
 import io.smallrye.config.ConfigMapping;
-import io.smallrye.config.WithName;
+import io.smallrye.config.WithDefaults;
 import io.smallrye.config.WithParentName;
+import java.util.Map;
 
 /**
  * This class holds runtime configuration items for the Cassandra Quarkus extension.
  *
  * <p>Settings specified in application.properties under the {@code quarkus.cassandra} prefix will
  * be mapped to fields in this class and its child configuration classes.
+ *
+ * <p>Settings specified under the {@code quarkus.cassandra."client-name"} prefix configure the
+ * named client of the same name, which can be injected using the {@link
+ * com.datastax.oss.quarkus.runtime.api.session.CassandraClient CassandraClient} qualifier. Named
+ * clients do not inherit any runtime setting from the default client.
  */
 @ConfigMapping(prefix = "quarkus.cassandra")
 @ConfigRoot(phase = ConfigPhase.RUN_TIME)
-public interface CassandraClientConfig {
-  /** The client connection configuration settings. */
+public interface CassandraClientConfig extends CassandraClientSessionConfig {
+
+  /**
+   * Named clients.
+   *
+   * <p>Each named client gets its own session, with its own connection pools, metrics and health
+   * check data. All the clients that use the Quarkus event loop share the same event loop group; to
+   * give a named client its own I/O threads, set its {@code init.use-quarkus-event-loop} property
+   * to false. Named clients are only created if they are injected somewhere in the application with
+   * the {@link com.datastax.oss.quarkus.runtime.api.session.CassandraClient CassandraClient}
+   * qualifier, for example:
+   *
+   * <pre>{@code
+   * quarkus.cassandra."analytics".contact-points=10.0.0.1:9042
+   * quarkus.cassandra."analytics".local-datacenter=analytics-dc
+   * }</pre>
+   */
   @WithParentName
-  CassandraClientConnectionConfig cassandraClientConnectionConfig();
-
-  /** The metrics settings. */
-  @WithName("metrics")
-  CassandraClientMetricsConfig cassandraClientMetricsConfig();
-
-  /** The cloud (DataStax Astra) configuration settings. */
-  @WithName("cloud")
-  CassandraClientCloudConfig cassandraClientCloudConfig();
-
-  /** The session initialization settings. */
-  @WithName("init")
-  CassandraClientInitConfig cassandraClientInitConfig();
-
-  /** The authentication settings. */
-  @WithName("auth")
-  CassandraClientAuthConfig cassandraClientAuthConfig();
-
-  /** The request settings. */
-  @WithName("request")
-  CassandraClientRequestConfig cassandraClientRequestConfig();
-
-  /** The DSE Graph settings. */
-  @WithName("graph")
-  CassandraClientGraphConfig cassandraClientGraphConfig();
+  @WithDefaults
+  @ConfigDocMapKey("client-name")
+  Map<String, CassandraClientSessionConfig> namedClients();
 }
@@ -18,6 +18,7 @@ package com.datastax.oss.quarkus.runtime.api.config;
 import io.quarkus.runtime.annotations.ConfigGroup;
 import io.smallrye.config.WithDefault;
 import java.time.Duration;
+import java.util.OptionalInt;
 
 /** This class holds runtime configuration items related to session initialization. */
 @ConfigGroup
@@ -58,6 +59,21 @@ public interface CassandraClientInitConfig {
   @WithDefault("PT10S")
   Duration eagerInitTimeout();
 
+  /**
+   * How many statements may be prepared concurrently during eager initialization. Ignored when
+   * {@link #eagerInit} is false.
+   *
+   * <p>The statements of all the DAOs returned by mappers, as listed at build time, are prepared
+   * before the DAOs are initialized, no more than this many at a time; the DAOs are then
+   * initialized concurrently, also no more than this many at a time. Preparing statements
+   * concurrently reduces startup time, while this limit protects the cluster from a burst of
+   * PREPARE requests when the application declares a large number of DAOs.
+   *
+   * <p>The default is 8.
+   */
+  @WithDefault("8")
+  int prepareConcurrency();
+
   /**
    * Whether to log an informational message explaining how to best use eager initialization.
    *
@@ -130,4 +146,71 @@ public interface CassandraClientInitConfig {
    */
   @WithDefault("true")
   boolean useQuarkusEventLoop();
+
+  /**
+   * Whether the driver should run its administrative tasks on a dedicated executor group when it
+   * uses the Quarkus main event loop group. Ignored when {@link #useQuarkusEventLoop} is false.
+   *
+   * <p>When set to true, I/O tasks keep running on the Quarkus/Vert.x event loops, but metadata
+   * refreshes, schema agreement checks and the processing of server events run on a small executor
+   * group created and managed by the driver. This isolates HTTP request handling from bursts of
+   * administrative work, such as schema refresh storms, and removes the risk of deadlocks when the
+   * main event loop group is small.
+   *
+   * <p>The default is false: administrative tasks share the Quarkus main event loop group.
+   */
+  @WithDefault("false")
+  boolean dedicatedAdminExecutor();
+
+  /**
+   * The number of threads of the dedicated administrative executor group. Ignored unless {@link
+   * #dedicatedAdminExecutor} is true. If not specified, the driver setting {@code
+   * advanced.netty.admin-group.size} is used, which defaults to 2.
+   */
+  OptionalInt adminExecutorSize();
+
+  /**
+   * The Netty ByteBuf allocator used by driver connections when they share the Quarkus main event
+   * loop group. Ignored when {@link #useQuarkusEventLoop} is false.
+   *
+   * <p>Valid values are:
+   *
+   * <ul>
+   *   <li><code>default</code>: Netty's default allocator, {@code ByteBufAllocator.DEFAULT} - this
+   *       is the default value.
+   *   <li><code>vertx</code>: the pooled allocator used by Vert.x for its own connections, so that
+   *       the driver and Vert.x share the same arenas.
+   *   <li><code>pooled</code>: a pooled allocator dedicated to the session, with {@link
+   *       #allocatorArenas} heap and direct arenas, and thread caches on event loop threads only.
+   * </ul>
+   *
+   * <p>When metrics are enabled with Micrometer, the memory used by the allocator is reported by
+   * the {@code <prefix>.netty.allocator.*} gauges.
+   */
+  @WithDefault("default")
+  String allocator();
+
+  /**
+   * The number of heap and direct arenas of the <code>pooled</code> allocator. Ignored unless
+   * {@link #allocator} is <code>pooled</code>. If not specified, one arena per event loop of the
+   * Quarkus main event loop group is created. Fewer arenas reduce the direct memory footprint, at
+   * the cost of more contention between event loops.
+   */
+  OptionalInt allocatorArenas();
+
+  /**
+   * Whether the driver should schedule request timeouts, speculative executions and other timer
+   * tasks on the Quarkus main event loop group, instead of a dedicated timer thread. Ignored when
+   * {@link #useQuarkusEventLoop} is false.
+   *
+   * <p>When set to true, timer tasks are scheduled on the event loop that creates them, which is
+   * usually the event loop of the connection handling the request; a timed out or speculative
+   * request is then processed without any thread handoff, and no timer thread is started for the
+   * session. The driver settings {@code advanced.netty.timer.tick-duration} and {@code
+   * advanced.netty.timer.ticks-per-wheel} are ignored in this case.
+   *
+   * <p>The default is false: timer tasks run on a dedicated {@code HashedWheelTimer} thread.
+   */
+  @WithDefault("false")
+  boolean useEventLoopTimer();
 }
@@ -0,0 +1,44 @@
+/*
+ * Copyright DataStax, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.quarkus.runtime.api.config;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import java.util.OptionalInt;
+
+/** This class holds runtime configuration items related to connection pools. */
+@ConfigGroup
+public interface CassandraClientPoolConfig {
+
+  /**
+   * The number of connections in the pool of each node of the local datacenter.
+   *
+   * <p>This option can be changed while the application is running, see {@code
+   * quarkus.cassandra.config-reload.interval}; pools are resized accordingly.
+   *
+   * <p>If this property is not set, the driver default is used (1 connection).
+   */
+  OptionalInt localSize();
+
+  /**
+   * The number of connections in the pool of each node of remote datacenters.
+   *
+   * <p>This option can be changed while the application is running, see {@code
+   * quarkus.cassandra.config-reload.interval}; pools are resized accordingly.
+   *
+   * <p>If this property is not set, the driver default is used (1 connection).
+   */
+  OptionalInt remoteSize();
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright DataStax, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.quarkus.runtime.api.config;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.smallrye.config.WithDefault;
+import java.time.Duration;
+
+/** This class holds runtime configuration items related to live configuration reloading. */
+@ConfigGroup
+public interface CassandraClientReloadConfig {
+
+  /**
+   * How often the session reloads its hot-reloadable options from the Quarkus configuration.
+   *
+   * <p>Only a fixed set of options, which the driver applies to running sessions safely, are
+   * reloaded: {@code request.timeout}, {@code request.consistency-level}, {@code
+   * request.serial-consistency-level}, {@code request.page-size}, {@code request.read-ahead-pages},
+   * {@code pool.local-size}, {@code pool.remote-size} and {@code graph.request.timeout}. Other
+   * options, as well as the driver's {@code application.conf} file, keep the values they had when
+   * the session was created. The values are read again from the Quarkus config sources at each
+   * reload, so changing them requires a config source whose values can change at runtime.
+   *
+   * <p>When options changed, a {@link CassandraConfigChangeEvent} listing the changes is fired.
+   *
+   * <p>A reload can also be triggered at any time with {@code
+   * session.getContext().getConfigLoader().reload()}, for example from a management endpoint of the
+   * application.
+   *
+   * <p>The default is zero, which disables periodic reloading.
+   */
+  @WithDefault("PT0S")
+  Duration interval();
+}
@@ -17,6 +17,7 @@ package com.datastax.oss.quarkus.runtime.api.config;
 
 import com.datastax.oss.driver.api.core.ConsistencyLevel;
 import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.configuration.MemorySize;
 import io.smallrye.config.WithName;
 import java.time.Duration;
 import java.util.Optional;
@@ -61,4 +62,96 @@ public interface CassandraClientRequestConfig {
 
   /** The default idempotence of a request. If not specified, it defaults to false. */
   Optional<Boolean> defaultIdempotence();
+
+  /**
+   * The maximum number of pages of a reactive result set that are fetched in the background, ahead
+   * of the page being consumed. If not specified, the driver fetches the next page as soon as a
+   * page is received, and keeps up to 4 received pages in memory.
+   *
+   * <p>0 fetches the next page only when all received rows have been consumed; 1 fetches the next
+   * page while the current one is being consumed, and so on. Higher values hide the latency of page
+   * fetches from slow subscribers, at the cost of more memory; the driver never keeps more than 4
+   * received pages in memory though.
+   *
+   * <p>This setting applies to {@link
+   * com.datastax.oss.quarkus.runtime.api.reactive.MutinyReactiveResultSet} and {@link
+   * com.datastax.oss.quarkus.runtime.api.reactive.mapper.MutinyMappedReactiveResultSet}, but not to
+   * continuous paging.
+   */
+  OptionalInt readAheadPages();
+
+  /**
+   * The maximum size of the pages of a reactive result set that are fetched in the background but
+   * not consumed yet, for example {@code 16M}. Page sizes are measured by their response size in
+   * bytes. When this budget is exceeded, the next page is only fetched once all received pages have
+   * been consumed. If not specified, read-ahead is only bounded by {@link #readAheadPages}.
+   */
+  Optional<MemorySize> readAheadBudget();
+
+  /**
+   * The maximum number of requests in flight for streaming bulk writes, i.e. DAO methods annotated
+   * with {@code @Insert} that take a {@code Multi} of entities. This limit is shared by all the
+   * DAOs of a client: when reached, further entities are only requested from upstream as earlier
+   * writes complete. The flushes of {@code @CoalescedIncrement} DAO methods share the same limit.
+   * If not specified, it defaults to 128.
+   */
+  OptionalInt bulkMaxInFlight();
+
+  /**
+   * The number of consecutive entities of a streaming bulk write that are grouped by partition key
+   * into unlogged batches, each batch being sent as a single request. If not specified, or lower
+   * than 2, each entity is written with its own request.
+   *
+   * <p>Batches only group entities of the same partition, so they do not put any extra load on the
+   * coordinator. Entities are accumulated until this number is reached, {@link #bulkBatchMaxDelay}
+   * elapses or the stream completes. Inserts with {@code IF NOT EXISTS} are never batched.
+   */
+  OptionalInt bulkBatchSize();
+
+  /**
+   * How long a batch of a streaming bulk write waits for more entities before being sent, when
+   * batching is enabled with {@link #bulkBatchSize}. This bounds the latency added by batching to
+   * slow or unbounded streams. If not specified, it defaults to 10 milliseconds.
+   */
+  Optional<Duration> bulkBatchMaxDelay();
+
+  /**
+   * The maximum number of requests in flight for multi-get reads, i.e. DAO methods annotated with
+   * {@code @Select} that take a {@code Collection} or a {@code Multi} of keys. Each key is read
+   * with its own single-partition request, routed to a replica of its partition; this limit is
+   * shared by all the DAOs of a client. If not specified, it defaults to 32.
+   */
+  OptionalInt multiGetMaxInFlight();
+
+  /**
+   * How long writes submitted with {@link
+   * com.datastax.oss.quarkus.runtime.api.reactive.MutinyReactiveSession#executeCoalesced} wait for
+   * other writes to the same partition, before being sent together as an unlogged batch. If not
+   * specified, it defaults to 2 milliseconds.
+   */
+  Optional<Duration> coalescingWindow();
+
+  /**
+   * The maximum number of writes submitted with {@link
+   * com.datastax.oss.quarkus.runtime.api.reactive.MutinyReactiveSession#executeCoalesced} that are
+   * sent together as an unlogged batch; a batch is sent as soon as it is full, without waiting for
+   * {@link #coalescingWindow}. If not specified, it defaults to 32.
+   */
+  OptionalInt coalescingMaxStatements();
+
+  /**
+   * Whether concurrent reactive executions of identical reads share a single in-flight request. If
+   * not specified, it defaults to false.
+   *
+   * <p>Reads are identical when they are bound statements with the same prepared statement, bound
+   * values, consistency levels, execution profile, page size, paging state, routing key and token,
+   * and query timestamp; reads that target a specific node are never shared. While such a read is
+   * in flight, identical reads wait for its results instead of sending their own request; results
+   * are not cached once received.
+   *
+   * <p>This setting applies to the default execution profile; it can also be enabled for specific
+   * DAO methods or statements only, by setting {@code advanced.request.single-flight = true} in a
+   * dedicated execution profile of {@code application.conf}.
+   */
+  Optional<Boolean> singleFlight();
 }
@@ -0,0 +1,75 @@
+/*
+ * Copyright DataStax, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.quarkus.runtime.api.config;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.smallrye.config.WithName;
+import io.smallrye.config.WithParentName;
+
+/**
+ * The runtime configuration items of a single Cassandra client.
+ *
+ * <p>The default client reads these settings from the {@code quarkus.cassandra} prefix; named
+ * clients read them from the {@code quarkus.cassandra."client-name"} prefix.
+ *
+ * @see CassandraClientConfig
+ */
+@ConfigGroup
+public interface CassandraClientSessionConfig {
+  /** The client connection configuration settings. */
+  @WithParentName
+  CassandraClientConnectionConfig cassandraClientConnectionConfig();
+
+  /** The metrics settings. */
+  @WithName("metrics")
+  CassandraClientMetricsConfig cassandraClientMetricsConfig();
+
+  /** The cloud (DataStax Astra) configuration settings. */
+  @WithName("cloud")
+  CassandraClientCloudConfig cassandraClientCloudConfig();
+
+  /** The session initialization settings. */
+  @WithName("init")
+  CassandraClientInitConfig cassandraClientInitConfig();
+
+  /** The session shutdown settings. */
+  @WithName("shutdown")
+  CassandraClientShutdownConfig cassandraClientShutdownConfig();
+
+  /** The live configuration reloading settings. */
+  @WithName("config-reload")
+  CassandraClientReloadConfig cassandraClientReloadConfig();
+
+  /** The connection pool settings. */
+  @WithName("pool")
+  CassandraClientPoolConfig cassandraClientPoolConfig();
+
+  /** The authentication settings. */
+  @WithName("auth")
+  CassandraClientAuthConfig cassandraClientAuthConfig();
+
+  /** The request settings. */
+  @WithName("request")
+  CassandraClientRequestConfig cassandraClientRequestConfig();
+
+  /** The native transport socket settings. */
+  @WithName("socket")
+  CassandraClientSocketConfig cassandraClientSocketConfig();
+
+  /** The DSE Graph settings. */
+  @WithName("graph")
+  CassandraClientGraphConfig cassandraClientGraphConfig();
+}
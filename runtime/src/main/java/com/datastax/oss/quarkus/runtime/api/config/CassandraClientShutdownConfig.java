@@ -0,0 +1,45 @@
+/*
+ * Copyright DataStax, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.quarkus.runtime.api.config;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.smallrye.config.WithDefault;
+import java.time.Duration;
+
+/** This class holds runtime configuration items related to session shutdown. */
+@ConfigGroup
+public interface CassandraClientShutdownConfig {
+
+  /**
+   * How long to wait, when the application shuts down, for the requests in flight to complete
+   * before closing the session.
+   *
+   * <p>Once shutdown begins, new requests fail fast with a {@link
+   * com.datastax.oss.driver.api.core.RequestThrottlingException}, while the requests already in
+   * flight and the table scans already started keep running until they complete, or until this
+   * timeout elapses. The session is then closed; if the timeout elapsed, the requests still in
+   * flight are aborted.
+   *
+   * <p>When metrics are enabled with Micrometer, the duration of the drain is reported by the
+   * {@code <prefix>.session.drain.duration} timer, and the numbers of rejected and aborted requests
+   * by the {@code <prefix>.session.drain.rejected-requests} and {@code
+   * <prefix>.session.drain.aborted-requests} counters.
+   *
+   * <p>The default is 5 seconds. Zero disables draining: the session is closed right away.
+   */
+  @WithDefault("PT5S")
+  Duration drainTimeout();
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright DataStax, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.quarkus.runtime.api.config;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.smallrye.config.WithName;
+import java.util.Optional;
+import java.util.OptionalInt;
+
+/**
+ * This class holds runtime configuration items related to socket settings that are only available
+ * with native transports.
+ *
+ * <p>When the driver shares the Quarkus event loop, it uses the same transport as Vert.x: a native
+ * transport (epoll, io_uring or kqueue) is used if {@code quarkus.vertx.prefer-native-transport} is
+ * true and the corresponding Netty library is available, otherwise NIO is used. Options that are
+ * not supported by the transport in use are ignored, and a warning is logged.
+ */
+@ConfigGroup
+public interface CassandraClientSocketConfig {
+
+  /**
+   * Whether to enable TCP_QUICKACK on driver connections, to send ACKs immediately instead of
+   * delaying them. Only supported by the epoll and io_uring transports. If not specified, the
+   * operating system default is used.
+   */
+  @WithName("tcp-quick-ack")
+  Optional<Boolean> tcpQuickAck();
+
+  /**
+   * The approximate time in microseconds to busy poll on a blocking receive when there is no data
+   * (SO_BUSY_POLL). This trades CPU for lower latency on high-throughput connections. Only
+   * supported by the epoll transport. If not specified, the operating system default is used.
+   */
+  OptionalInt busyPoll();
+}
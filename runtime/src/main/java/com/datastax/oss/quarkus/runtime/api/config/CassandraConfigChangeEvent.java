@@ -0,0 +1,104 @@
+/*
+ * Copyright DataStax, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.quarkus.runtime.api.config;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.util.List;
+
+/**
+ * A CDI event fired when a running session applied new values of its hot-reloadable options, see
+ * {@link CassandraClientReloadConfig#interval()}.
+ *
+ * <p>Observers are notified synchronously on a driver thread, and must not block.
+ */
+public final class CassandraConfigChangeEvent {
+
+  private final String clientName;
+  private final String sessionName;
+  private final List<Change> changes;
+
+  public CassandraConfigChangeEvent(
+      @Nullable String clientName, @NonNull String sessionName, @NonNull List<Change> changes) {
+    this.clientName = clientName;
+    this.sessionName = sessionName;
+    this.changes = List.copyOf(changes);
+  }
+
+  /** Returns the name of the client whose session changed, or null for the default client. */
+  @Nullable
+  public String getClientName() {
+    return clientName;
+  }
+
+  /** Returns the name of the session, as it appears in log messages and metric tags. */
+  @NonNull
+  public String getSessionName() {
+    return sessionName;
+  }
+
+  /** Returns the options that changed. */
+  @NonNull
+  public List<Change> getChanges() {
+    return changes;
+  }
+
+  @Override
+  public String toString() {
+    return "CassandraConfigChangeEvent[session=" + sessionName + ", changes=" + changes + "]";
+  }
+
+  /** The change of a single option. */
+  public static final class Change {
+
+    private final String property;
+    private final String previousValue;
+    private final String newValue;
+
+    public Change(
+        @NonNull String property, @Nullable String previousValue, @Nullable String newValue) {
+      this.property = property;
+      this.previousValue = previousValue;
+      this.newValue = newValue;
+    }
+
+    /**
+     * Returns the name of the Quarkus property that changed, relative to the prefix of the client,
+     * for example {@code request.timeout}.
+     */
+    @NonNull
+    public String getProperty() {
+      return property;
+    }
+
+    /** Returns the previous value of the option, or null if it had none. */
+    @Nullable
+    public String getPreviousValue() {
+      return previousValue;
+    }
+
+    /** Returns the new value of the option, or null if it has none. */
+    @Nullable
+    public String getNewValue() {
+      return newValue;
+    }
+
+    @Override
+    public String toString() {
+      return property + ": " + previousValue + " -> " + newValue;
+    }
+  }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright DataStax, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.quarkus.runtime.api.mapper;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Annotates a {@code @Select} DAO method to cache the entities it returns in memory.
+ *
+ * <p>The mapper processor generates a bounded cache in front of the query, keyed by the primary key
+ * values the method is invoked with. The method must therefore take the full primary key of the
+ * entity as parameters, in the same order as the key columns, and nothing else; it must not have a
+ * custom where clause. It must return the entity itself, a {@code CompletionStage} of the entity,
+ * or a {@code Uni} of the entity. Empty results are not cached.
+ *
+ * <p>Example:
+ *
+ * <pre>
+ * &#64;Dao
+ * public interface ProductDao {
+ *   &#64;Select
+ *   &#64;Cached(maximumSize = 10_000, expireAfterWrite = 30)
+ *   Uni&lt;Product&gt; findById(UUID id);
+ *
+ *   &#64;Update
+ *   Uni&lt;Void&gt; update(Product product);
+ * }
+ * </pre>
+ *
+ * <p>All the cached {@code @Select} methods of a DAO that return the same entity share one cache,
+ * and must therefore declare the same settings. Every {@code @Insert}, {@code @Update} or
+ * {@code @Delete} method of the same DAO that operates on that entity invalidates the matching
+ * entry when it is invoked and again once the write has completed, or the whole cache if the
+ * written primary key cannot be determined (custom where clauses, partial primary keys); reads that
+ * are in flight during the write therefore do not cache the previous value. Methods that return a
+ * bound statement or a {@code ReactiveResultSet} only invalidate when they are invoked. Writes
+ * issued by other DAOs, other application instances or other clients are not seen: {@link
+ * #expireAfterWrite()} bounds how long such stale entries can be served.
+ *
+ * <p>When metrics are enabled with Micrometer, the cache publishes the {@code
+ * <prefix>.dao.cache.hits}, {@code <prefix>.dao.cache.misses} and {@code
+ * <prefix>.dao.cache.evictions} counters, as well as the {@code <prefix>.dao.cache.size} gauge,
+ * tagged with the session name, the DAO and the entity.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Cached {
+
+  /** The maximum number of entities to keep; the least recently used ones are evicted first. */
+  long maximumSize() default 1000;
+
+  /**
+   * How long an entity is kept after it was loaded, in {@link #timeUnit()}. Zero or a negative
+   * value means that entities never expire, and are only evicted by size or invalidated by writes.
+   */
+  long expireAfterWrite() default 60;
+
+  /** The unit of {@link #expireAfterWrite()}. */
+  TimeUnit timeUnit() default TimeUnit.SECONDS;
+}
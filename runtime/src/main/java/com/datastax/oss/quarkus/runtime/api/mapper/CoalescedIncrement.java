@@ -0,0 +1,75 @@
+/*
+ * Copyright DataStax, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.quarkus.runtime.api.mapper;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Annotates an {@code @Increment} DAO method to coalesce the increments it is invoked with in
+ * memory, and write them as one aggregated increment per primary key.
+ *
+ * <p>The mapper processor generates an in-memory map of pending increments in front of the method,
+ * keyed by primary key values. Every pending key is written with a single {@code UPDATE ... SET c =
+ * c + ?} statement, carrying the sum of its increments, once {@link #flushInterval()} has elapsed
+ * since the previous flush, or as soon as {@link #maxPendingKeys()} keys are pending. Keys whose
+ * increments sum up to zero are not written. Flushes go through the bound on requests in flight
+ * shared with streaming bulk writes ({@code quarkus.cassandra.request.bulk-max-in-flight}).
+ *
+ * <p>Example:
+ *
+ * <pre>
+ * &#64;Dao
+ * public interface VotesDao {
+ *   &#64;Increment(entityClass = Votes.class)
+ *   &#64;CoalescedIncrement(flushInterval = 250)
+ *   Uni&lt;Void&gt; incrementLikes(UUID productId, long likes);
+ * }
+ * </pre>
+ *
+ * <p>The method must return {@code void}, a {@code CompletionStage<Void>} or a {@code Uni<Void>},
+ * and cannot take a function to customize the bound statement. A {@code void} method returns as
+ * soon as the increment is recorded, and write failures are only logged. A {@code CompletionStage}
+ * or a {@code Uni} completes when the flush carrying the increment is written, and fails if that
+ * write fails; a {@code Uni} records the increment on every subscription.
+ *
+ * <p>Pending increments are kept in memory, and are lost if the application stops abruptly. They
+ * are flushed when the DAO is evicted from its mapper, and before the session is closed at
+ * shutdown.
+ *
+ * <p>When metrics are enabled with Micrometer, each method publishes the {@code
+ * <prefix>.dao.coalesced-increments.increments} and {@code
+ * <prefix>.dao.coalesced-increments.writes} counters, the {@code
+ * <prefix>.dao.coalesced-increments.pending-keys} gauge and the {@code
+ * <prefix>.dao.coalesced-increments.flush-lag} timer, tagged with the session name, the DAO and the
+ * method.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface CoalescedIncrement {
+
+  /** How long increments are kept in memory before they are written, in {@link #timeUnit()}. */
+  long flushInterval() default 100;
+
+  /** The unit of {@link #flushInterval()}. */
+  TimeUnit timeUnit() default TimeUnit.MILLISECONDS;
+
+  /** The number of pending keys that triggers a flush before {@link #flushInterval()} elapses. */
+  int maxPendingKeys() default 10_000;
+}
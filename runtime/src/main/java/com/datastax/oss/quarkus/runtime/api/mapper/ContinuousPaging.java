@@ -0,0 +1,61 @@
+/*
+ * Copyright DataStax, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.quarkus.runtime.api.mapper;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Annotates a {@code @Select} or {@code @Query} DAO method to execute it with DSE continuous
+ * paging: the server pushes result pages as fast as they are consumed, instead of waiting for a
+ * request for each page. This is only available with DataStax Enterprise 5.1 and higher; executing
+ * such a method against an Apache Cassandra&reg; cluster will result in a runtime error.
+ *
+ * <p>The method must return a {@code Multi} of entities, rows or reactive rows, a {@code
+ * MutinyMappedReactiveResultSet} or a {@code MutinyReactiveResultSet}, and cannot take a {@code
+ * PagingState} parameter. Example:
+ *
+ * <pre>
+ * &#64;Dao
+ * public interface ProductDao {
+ *   &#64;Select
+ *   &#64;ContinuousPaging(maxPagesPerSecond = 100)
+ *   Multi&lt;Product&gt; findAll();
+ * }
+ * </pre>
+ *
+ * <p>The other continuous paging settings (page size, maximum number of pages, timeouts) are read
+ * from the execution profile of the statement, under {@code advanced.continuous-paging}.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ContinuousPaging {
+
+  /**
+   * The maximum number of pages per second that the server will send, or zero for no limit. A
+   * negative value, the default, uses {@code advanced.continuous-paging.max-pages-per-second}.
+   */
+  int maxPagesPerSecond() default -1;
+
+  /**
+   * The maximum number of pages that the client enqueues before the server stops sending them until
+   * they are consumed. Zero or a negative value, the default, uses {@code
+   * advanced.continuous-paging.max-enqueued-pages}.
+   */
+  int maxEnqueuedPages() default -1;
+}
@@ -19,18 +19,19 @@ import java.lang.annotation.ElementType;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Companion annotation to the driver's {@link com.datastax.oss.driver.api.mapper.annotations.Mapper
  * Mapper} annotation. It allows to customize Quarkus-specific features when generating code for a
  * Mapper-annotated interface.
  *
- * <p>Currently only one attribute is supported: {@link #generateProducers()}. When the annotation
- * is absent, or when it is present and the attribute is true (the default), bean producers will be
- * generated for the annotated Mapper interface itself, and for all of the DAO factory methods
- * declared in it, except those taking arguments. This makes it possible to inject such beans
- * automatically. When the attribute is false, the mapper annotation processor will skip the
- * generation of bean producers completely, and injection of such beans has to be done manually.
+ * <p>The {@link #generateProducers()} attribute controls bean producer generation. When the
+ * annotation is absent, or when it is present and the attribute is true (the default), bean
+ * producers will be generated for the annotated Mapper interface itself, and for all of the DAO
+ * factory methods declared in it, except those taking arguments. This makes it possible to inject
+ * such beans automatically. When the attribute is false, the mapper annotation processor will skip
+ * the generation of bean producers completely, and injection of such beans has to be done manually.
  *
  * <p>Example:
  *
@@ -45,6 +46,32 @@ import java.lang.annotation.Target;
  *
  * The mapper annotation processor would still generate an implementation and a builder for the
  * above Mapper interface, but no bean producer would be generated.
+ *
+ * <p>The {@link #clientName()} attribute binds the generated bean producers to a named Cassandra
+ * client instead of the default one:
+ *
+ * <pre>
+ * &#64;Mapper
+ * &#64;QuarkusMapper(clientName="analytics")
+ * public interface AnalyticsMapper {
+ *   &#64;DaoFactory
+ *   EventDao eventDao();
+ * }
+ * </pre>
+ *
+ * <p>The {@link #daoCacheMaximumSize()}, {@link #daoCacheExpireAfterAccess()} and {@link
+ * #daoCacheTimeUnit()} attributes bound the DAO instances that the mapper keeps for DAO factory
+ * methods taking {@code @DaoKeyspace}, {@code @DaoTable} or {@code @DaoProfile} arguments, for
+ * example when using one keyspace per tenant:
+ *
+ * <pre>
+ * &#64;Mapper
+ * &#64;QuarkusMapper(daoCacheMaximumSize=10000, daoCacheExpireAfterAccess=30, daoCacheTimeUnit=TimeUnit.MINUTES)
+ * public interface TenantMapper {
+ *   &#64;DaoFactory
+ *   OrderDao orderDao(&#64;DaoKeyspace String tenant);
+ * }
+ * </pre>
  */
 @Target(ElementType.TYPE)
 @Retention(RetentionPolicy.RUNTIME)
@@ -58,4 +85,32 @@ public @interface QuarkusMapper {
    * this feature, set this attribute to false.
    */
   boolean generateProducers() default true;
+
+  /**
+   * The name of the Cassandra client that generated bean producers should use. When empty (the
+   * default), the default client is used; otherwise, the producers inject the session of the named
+   * client configured with the {@code quarkus.cassandra."client-name"} prefix. This attribute is
+   * ignored if {@link #generateProducers()} is false.
+   *
+   * @see com.datastax.oss.quarkus.runtime.api.session.CassandraClient
+   */
+  String clientName() default "";
+
+  /**
+   * The maximum number of DAO instances kept by each DAO factory method taking
+   * {@code @DaoKeyspace}, {@code @DaoTable} or {@code @DaoProfile} arguments. Once it is reached,
+   * the least recently used DAO is evicted, and created anew if it is requested again. Defaults to
+   * 1000.
+   */
+  long daoCacheMaximumSize() default 1000;
+
+  /**
+   * How long a DAO instance created for given {@code @DaoKeyspace}, {@code @DaoTable} or
+   * {@code @DaoProfile} arguments is kept after it was last requested, in {@link
+   * #daoCacheTimeUnit()}. Zero or negative values, the default, mean that DAOs never expire.
+   */
+  long daoCacheExpireAfterAccess() default 0;
+
+  /** The time unit of {@link #daoCacheExpireAfterAccess()}. Defaults to seconds. */
+  TimeUnit daoCacheTimeUnit() default TimeUnit.SECONDS;
 }
@@ -17,13 +17,11 @@ package com.datastax.oss.quarkus.runtime.api.reactive;
 
 import com.datastax.dse.driver.api.core.cql.continuous.ContinuousSession;
 import com.datastax.dse.driver.api.core.cql.continuous.reactive.ContinuousReactiveSession;
-import com.datastax.dse.driver.internal.core.cql.continuous.reactive.ContinuousCqlRequestReactiveProcessor;
 import com.datastax.oss.driver.api.core.cql.SimpleStatement;
 import com.datastax.oss.driver.api.core.cql.Statement;
-import com.datastax.oss.quarkus.runtime.internal.reactive.DefaultMutinyReactiveResultSet;
+import com.datastax.oss.quarkus.runtime.internal.reactive.ContinuousReads;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import io.smallrye.mutiny.Multi;
-import java.util.Objects;
 
 /**
  * A specialized session type that supports the Reactive Mutiny API for continuous paging queries.
@@ -66,9 +64,8 @@ public interface MutinyContinuousReactiveSession extends ContinuousReactiveSessi
   @Override
   default MutinyContinuousReactiveResultSet executeContinuouslyReactive(
       @NonNull Statement<?> statement) {
-    return new DefaultMutinyReactiveResultSet(
-        Objects.requireNonNull(
-            execute(
-                statement, ContinuousCqlRequestReactiveProcessor.CONTINUOUS_REACTIVE_RESULT_SET)));
+    // equivalent to execute(statement, CONTINUOUS_REACTIVE_RESULT_SET), but with result pages
+    // handed over to the current Vert.x context, if any, one page at a time
+    return ContinuousReads.execute(this, statement);
   }
 }
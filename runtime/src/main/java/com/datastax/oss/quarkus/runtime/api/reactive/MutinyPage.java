@@ -0,0 +1,68 @@
+/*
+ * Copyright DataStax, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.quarkus.runtime.api.reactive;
+
+import com.datastax.oss.driver.api.core.cql.ColumnDefinitions;
+import com.datastax.oss.driver.api.core.cql.ExecutionInfo;
+import com.datastax.oss.driver.api.core.cql.PagingState;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.util.List;
+
+/**
+ * A single page of results, along with the paging state to resume from.
+ *
+ * <p>DAO methods returning {@code Uni<MutinyPage<EntityT>>} or {@code Uni<MutinyPage<Row>>} fetch
+ * exactly one page of results. To fetch the next page, declare a {@link PagingState} as the last
+ * parameter of the DAO method, and pass it the paging state of the previous page:
+ *
+ * <pre>{@code
+ * @Select
+ * Uni<MutinyPage<Product>> findAll(PagingState pagingState);
+ * }</pre>
+ *
+ * The paging state can be passed around as a string with {@link PagingState#toString()} and {@link
+ * PagingState#fromString(String)}; a null paging state fetches the first page. Paging states are
+ * checked against the statement they are used with, and the DAO method fails with an {@link
+ * IllegalArgumentException} if they do not match.
+ *
+ * @param <T> the type of items in the page.
+ */
+public interface MutinyPage<T> {
+
+  /** Returns the items of this page, in the order they were returned by the server. */
+  @NonNull
+  List<T> getItems();
+
+  /** Returns whether there are more pages after this one. */
+  boolean hasMorePages();
+
+  /**
+   * Returns the paging state to fetch the next page, or null if this is the last page.
+   *
+   * @see ExecutionInfo#getSafePagingState()
+   */
+  @Nullable
+  PagingState getPagingState();
+
+  /** Returns the column definitions of the page. */
+  @NonNull
+  ColumnDefinitions getColumnDefinitions();
+
+  /** Returns information about the execution of the request that returned this page. */
+  @NonNull
+  ExecutionInfo getExecutionInfo();
+}
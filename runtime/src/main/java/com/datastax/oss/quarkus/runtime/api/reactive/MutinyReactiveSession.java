@@ -15,14 +15,27 @@
  */
 package com.datastax.oss.quarkus.runtime.api.reactive;
 
+import com.datastax.dse.driver.api.core.cql.reactive.ReactiveRow;
 import com.datastax.dse.driver.api.core.cql.reactive.ReactiveSession;
-import com.datastax.dse.driver.internal.core.cql.reactive.CqlRequestReactiveProcessor;
+import com.datastax.dse.driver.internal.core.cql.reactive.DefaultReactiveResultSet;
+import com.datastax.oss.driver.api.core.CqlIdentifier;
+import com.datastax.oss.driver.api.core.config.DriverExecutionProfile;
+import com.datastax.oss.driver.api.core.cql.BatchableStatement;
 import com.datastax.oss.driver.api.core.cql.SimpleStatement;
 import com.datastax.oss.driver.api.core.cql.Statement;
+import com.datastax.oss.quarkus.runtime.internal.reactive.ContinuousReads;
 import com.datastax.oss.quarkus.runtime.internal.reactive.DefaultMutinyReactiveResultSet;
+import com.datastax.oss.quarkus.runtime.internal.reactive.PartitionWriteCoalescer;
+import com.datastax.oss.quarkus.runtime.internal.reactive.ReadAheadPages;
+import com.datastax.oss.quarkus.runtime.internal.reactive.SingleFlightReads;
+import com.datastax.oss.quarkus.runtime.internal.reactive.TokenRangeScan;
+import com.datastax.oss.quarkus.runtime.internal.reactive.VertxContextPages;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import java.util.List;
 import java.util.Objects;
+import java.util.stream.Collectors;
 
 /**
  * A specialized {@link ReactiveSession} that supports the Reactive Mutiny API.
@@ -49,14 +62,106 @@ public interface MutinyReactiveSession extends ReactiveSession {
    * Returns a {@link Multi} that, once subscribed to, executes the given query and emits all the
    * results.
    *
+   * <p>If the execution profile of the statement enables {@code
+   * advanced.continuous-paging.reactive} (only available with DataStax Enterprise), the statement
+   * is executed with continuous paging, as with {@link
+   * MutinyContinuousReactiveSession#executeContinuouslyReactive(Statement)}.
+   *
    * @param statement the statement to execute.
    * @return The {@link Multi} that will publish the returned results.
    */
   @NonNull
   @Override
   default MutinyReactiveResultSet executeReactive(@NonNull Statement<?> statement) {
+    // equivalent to execute(statement, CqlRequestReactiveProcessor.REACTIVE_RESULT_SET), but with
+    // result pages handed over to the current Vert.x context, if any, one page at a time, and
+    // fetched according to the read-ahead settings; identical reads may share their pages
+    DriverExecutionProfile profile = ReadAheadPages.resolveProfile(statement, getContext());
+    if (ContinuousReads.isEnabled(profile)) {
+      return ContinuousReads.execute(this, statement);
+    }
     return new DefaultMutinyReactiveResultSet(
-        Objects.requireNonNull(
-            execute(statement, CqlRequestReactiveProcessor.REACTIVE_RESULT_SET)));
+        new DefaultReactiveResultSet(
+            ReadAheadPages.withReadAhead(
+                VertxContextPages.onCurrentContext(
+                    () -> Objects.requireNonNull(SingleFlightReads.execute(this, statement))),
+                profile)));
+  }
+
+  /**
+   * Returns a {@link Uni} that, once subscribed to, submits the given write to be sent together
+   * with other writes to the same partition, and completes when they have been written.
+   *
+   * <p>Writes submitted within a short window ({@code quarkus.cassandra.request.coalescing-window},
+   * 2 milliseconds by default) are grouped by routing keyspace and routing token or key, execution
+   * profile, consistency level and idempotence, into unlogged batches of at most {@code
+   * quarkus.cassandra.request.coalescing-max-statements} statements. Each batch is routed to a
+   * replica of its partition. This trades a little latency for fewer requests, when many small
+   * writes target the same partitions.
+   *
+   * <p>The statement must have routing information, which is the case for bound statements of
+   * tables whose partition key columns are all bound; other statements are executed right away.
+   * Since writes are grouped into unlogged batches, conditional statements should not be submitted.
+   *
+   * @param statement the write to execute.
+   * @return The {@link Uni} that will complete once the write is done.
+   */
+  @NonNull
+  default Uni<Void> executeCoalesced(@NonNull BatchableStatement<?> statement) {
+    return PartitionWriteCoalescer.execute(this, statement);
+  }
+
+  /**
+   * Returns a {@link Multi} that, once subscribed to, scans the whole given table and emits all its
+   * rows.
+   *
+   * <p>The token ring is split into ranges according to the session's token metadata, and each
+   * range is queried with {@code token(pk) > ? AND token(pk) <= ?}, routed to a replica of the
+   * range. Ranges are queried concurrently and their rows are merged as they arrive, or emitted one
+   * range after the other in token order if {@link ScanOptions#isOrdered()} is true, with the first
+   * pages of the next ranges fetched ahead.
+   *
+   * <p>Token metadata must be enabled ({@code advanced.metadata.token-map.enabled}), and the table
+   * must be known to the session's schema metadata.
+   *
+   * @param keyspace the keyspace of the table to scan.
+   * @param table the table to scan.
+   * @param columns the columns to select, or an empty list to select all columns.
+   * @param options the scan options.
+   * @return The {@link Multi} that will publish the rows of the table.
+   */
+  @NonNull
+  default Multi<ReactiveRow> scanTable(
+      @NonNull CqlIdentifier keyspace,
+      @NonNull CqlIdentifier table,
+      @NonNull List<CqlIdentifier> columns,
+      @NonNull ScanOptions options) {
+    return TokenRangeScan.scan(this, keyspace, table, columns, options);
+  }
+
+  /**
+   * Returns a {@link Multi} that, once subscribed to, scans the whole given table and emits all its
+   * rows.
+   *
+   * <p>This is a shortcut for {@link #scanTable(CqlIdentifier, CqlIdentifier, List, ScanOptions)
+   * scanTable(CqlIdentifier.fromCql(keyspace), CqlIdentifier.fromCql(table), ...)}.
+   *
+   * @param keyspace the keyspace of the table to scan.
+   * @param table the table to scan.
+   * @param columns the columns to select, or an empty list to select all columns.
+   * @param options the scan options.
+   * @return The {@link Multi} that will publish the rows of the table.
+   */
+  @NonNull
+  default Multi<ReactiveRow> scanTable(
+      @NonNull String keyspace,
+      @NonNull String table,
+      @NonNull List<String> columns,
+      @NonNull ScanOptions options) {
+    return scanTable(
+        CqlIdentifier.fromCql(keyspace),
+        CqlIdentifier.fromCql(table),
+        columns.stream().map(CqlIdentifier::fromCql).collect(Collectors.toList()),
+        options);
   }
 }
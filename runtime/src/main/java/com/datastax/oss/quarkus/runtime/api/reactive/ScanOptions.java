@@ -0,0 +1,150 @@
+/*
+ * Copyright DataStax, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.quarkus.runtime.api.reactive;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.util.Objects;
+
+/**
+ * Options of a token range table scan, see {@link MutinyReactiveSession#scanTable}.
+ *
+ * <p>Instances of this class are immutable; each {@code withXxx} method returns a new instance.
+ */
+public final class ScanOptions {
+
+  /** The default options: one range per token range of the ring, 4 concurrent ranges, unordered. */
+  public static final ScanOptions DEFAULT = new ScanOptions(1, 4, false, 0, null);
+
+  private final int splits;
+  private final int concurrency;
+  private final boolean ordered;
+  private final int pageSize;
+  private final String executionProfileName;
+
+  private ScanOptions(
+      int splits, int concurrency, boolean ordered, int pageSize, String executionProfileName) {
+    this.splits = splits;
+    this.concurrency = concurrency;
+    this.ordered = ordered;
+    this.pageSize = pageSize;
+    this.executionProfileName = executionProfileName;
+  }
+
+  /**
+   * Returns the minimum number of ranges the ring is split into. The ring is never split more
+   * coarsely than its token ranges, so that each range is owned by a single set of replicas.
+   */
+  public int getSplits() {
+    return splits;
+  }
+
+  /** Returns the maximum number of ranges queried at the same time. */
+  public int getConcurrency() {
+    return concurrency;
+  }
+
+  /**
+   * Returns whether rows are emitted in token order. In ordered mode, the rows of each range are
+   * emitted once the previous ranges are done, but the first page of up to {@link
+   * #getConcurrency()} ranges is fetched ahead of their turn.
+   */
+  public boolean isOrdered() {
+    return ordered;
+  }
+
+  /** Returns the page size of the range queries, or 0 to use the one of the execution profile. */
+  public int getPageSize() {
+    return pageSize;
+  }
+
+  /** Returns the execution profile of the range queries, or null to use the default one. */
+  @Nullable
+  public String getExecutionProfileName() {
+    return executionProfileName;
+  }
+
+  @NonNull
+  public ScanOptions withSplits(int splits) {
+    if (splits < 1) {
+      throw new IllegalArgumentException("splits must be strictly positive, got " + splits);
+    }
+    return new ScanOptions(splits, concurrency, ordered, pageSize, executionProfileName);
+  }
+
+  @NonNull
+  public ScanOptions withConcurrency(int concurrency) {
+    if (concurrency < 1) {
+      throw new IllegalArgumentException(
+          "concurrency must be strictly positive, got " + concurrency);
+    }
+    return new ScanOptions(splits, concurrency, ordered, pageSize, executionProfileName);
+  }
+
+  @NonNull
+  public ScanOptions withOrdered(boolean ordered) {
+    return new ScanOptions(splits, concurrency, ordered, pageSize, executionProfileName);
+  }
+
+  @NonNull
+  public ScanOptions withPageSize(int pageSize) {
+    if (pageSize < 0) {
+      throw new IllegalArgumentException("pageSize must be positive, got " + pageSize);
+    }
+    return new ScanOptions(splits, concurrency, ordered, pageSize, executionProfileName);
+  }
+
+  @NonNull
+  public ScanOptions withExecutionProfileName(@Nullable String executionProfileName) {
+    return new ScanOptions(splits, concurrency, ordered, pageSize, executionProfileName);
+  }
+
+  @Override
+  public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    } else if (other instanceof ScanOptions) {
+      ScanOptions that = (ScanOptions) other;
+      return this.splits == that.splits
+          && this.concurrency == that.concurrency
+          && this.ordered == that.ordered
+          && this.pageSize == that.pageSize
+          && Objects.equals(this.executionProfileName, that.executionProfileName);
+    } else {
+      return false;
+    }
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(splits, concurrency, ordered, pageSize, executionProfileName);
+  }
+
+  @Override
+  public String toString() {
+    return "ScanOptions(splits="
+        + splits
+        + ", concurrency="
+        + concurrency
+        + ", ordered="
+        + ordered
+        + ", pageSize="
+        + pageSize
+        + ", executionProfileName="
+        + executionProfileName
+        + ")";
+  }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright DataStax, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.quarkus.runtime.api.reactive.mapper;
+
+import edu.umd.cs.findbugs.annotations.Nullable;
+
+/**
+ * The outcome of a conditional (lightweight transaction) write, along with the entity returned by
+ * the server.
+ *
+ * <p>DAO methods annotated with {@code @Insert}, {@code @Update}, {@code @Delete} or {@code @Query}
+ * can return {@code Uni<LwtResult<EntityT>>}:
+ *
+ * <pre>{@code
+ * @Update(customIfClause = "quantity = :expected")
+ * Uni<LwtResult<Stock>> updateIfQuantity(Stock stock, int expected);
+ * }</pre>
+ *
+ * Both the outcome and the entity are read from the same response, so there is no need to issue a
+ * follow-up query to find out why a write was not applied.
+ *
+ * @param <EntityT> the type of the entity.
+ */
+public interface LwtResult<EntityT> {
+
+  /**
+   * Returns whether the write was applied. Unconditional writes are always applied.
+   *
+   * @see com.datastax.oss.driver.api.core.cql.AsyncResultSet#wasApplied()
+   */
+  boolean wasApplied();
+
+  /**
+   * Returns the entity returned by the server when the write was not applied, or null if the write
+   * was applied, or if the server did not return any column of the entity.
+   *
+   * <p>For an insert {@code IF NOT EXISTS}, this is the existing entity. For an update or a delete
+   * with conditions, only the properties of the columns in the conditions are set, and the others
+   * keep the values of a newly constructed entity.
+   */
+  @Nullable
+  EntityT getEntity();
+}
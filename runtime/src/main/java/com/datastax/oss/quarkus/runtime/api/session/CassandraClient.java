@@ -0,0 +1,70 @@
+/*
+ * Copyright DataStax, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.quarkus.runtime.api.session;
+
+import jakarta.enterprise.util.AnnotationLiteral;
+import jakarta.inject.Qualifier;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Qualifier used to inject a named Cassandra client instead of the default one.
+ *
+ * <p>A named client is configured with the {@code quarkus.cassandra."client-name"} prefix, and is
+ * completely isolated from the default client: it has its own session, connection pools, event loop
+ * assignment, metrics and health check data. All the session types that can be injected for the
+ * default client can also be injected for a named client:
+ *
+ * <pre>
+ * &#64;Inject &#64;CassandraClient("analytics") QuarkusCqlSession session;
+ * &#64;Inject &#64;CassandraClient("analytics") CompletionStage&lt;QuarkusCqlSession&gt; sessionStage;
+ * &#64;Inject &#64;CassandraClient("analytics") Uni&lt;QuarkusCqlSession&gt; sessionUni;
+ * </pre>
+ *
+ * Generated DAOs can be bound to a named client with {@link
+ * com.datastax.oss.quarkus.runtime.api.mapper.QuarkusMapper#clientName()}.
+ */
+@Target({ElementType.METHOD, ElementType.FIELD, ElementType.PARAMETER, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@Qualifier
+public @interface CassandraClient {
+
+  /** The name of the client, as used in the {@code quarkus.cassandra."client-name"} prefix. */
+  String value();
+
+  /** Supports inline instantiation of this qualifier. */
+  final class Literal extends AnnotationLiteral<CassandraClient> implements CassandraClient {
+
+    private static final long serialVersionUID = 1L;
+
+    private final String value;
+
+    public static Literal of(String value) {
+      return new Literal(value);
+    }
+
+    private Literal(String value) {
+      this.value = value;
+    }
+
+    @Override
+    public String value() {
+      return value;
+    }
+  }
+}
@@ -16,17 +16,40 @@
 package com.datastax.oss.quarkus.runtime.internal.context;
 
 import com.datastax.oss.driver.api.core.config.DriverConfigLoader;
+import com.datastax.oss.driver.api.core.config.DriverExecutionProfile;
 import com.datastax.oss.driver.api.core.session.ProgrammaticArguments;
 import com.datastax.oss.driver.internal.core.context.DefaultDriverContext;
 import com.datastax.oss.driver.internal.core.context.NettyOptions;
+import com.datastax.oss.driver.internal.core.util.concurrent.LazyReference;
+import com.datastax.oss.quarkus.runtime.internal.driver.QuarkusDriverOption;
 import com.datastax.oss.quarkus.runtime.internal.driver.QuarkusNettyOptions;
+import com.datastax.oss.quarkus.runtime.internal.mapper.CounterCoalescer;
+import com.datastax.oss.quarkus.runtime.internal.reactive.InFlightLimiter;
+import com.datastax.oss.quarkus.runtime.internal.reactive.PartitionWriteCoalescer;
+import com.datastax.oss.quarkus.runtime.internal.reactive.SingleFlightReads;
+import com.datastax.oss.quarkus.runtime.internal.session.RequestDrainer;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
 import io.netty.channel.EventLoopGroup;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class QuarkusDriverContext extends DefaultDriverContext {
 
   private final EventLoopGroup quarkusEventLoop;
+  private final LazyReference<InFlightLimiter> bulkWriteLimiterRef =
+      new LazyReference<>("bulkWriteLimiter", this::buildBulkWriteLimiter, cycleDetector);
+  private final LazyReference<InFlightLimiter> multiGetLimiterRef =
+      new LazyReference<>("multiGetLimiter", this::buildMultiGetLimiter, cycleDetector);
+  private final SingleFlightReads singleFlightReads = new SingleFlightReads();
+  private final Set<CounterCoalescer> counterCoalescers = ConcurrentHashMap.newKeySet();
+  private final LazyReference<PartitionWriteCoalescer> partitionWriteCoalescerRef =
+      new LazyReference<>(
+          "partitionWriteCoalescer", this::buildPartitionWriteCoalescer, cycleDetector);
+  private final LazyReference<RequestDrainer> requestDrainerRef =
+      new LazyReference<>("requestDrainer", this::buildRequestDrainer, cycleDetector);
 
   public QuarkusDriverContext(
       @NonNull DriverConfigLoader configLoader,
@@ -36,9 +59,100 @@ public class QuarkusDriverContext extends DefaultDriverContext {
     this.quarkusEventLoop = quarkusEventLoop;
   }
 
+  /** Returns the limiter shared by all the streaming bulk writes of this context. */
+  @NonNull
+  public InFlightLimiter getBulkWriteLimiter() {
+    return bulkWriteLimiterRef.get();
+  }
+
+  protected InFlightLimiter buildBulkWriteLimiter() {
+    return new InFlightLimiter(
+        getConfig()
+            .getDefaultProfile()
+            .getInt(
+                QuarkusDriverOption.REQUEST_BULK_MAX_IN_FLIGHT,
+                InFlightLimiter.DEFAULT_BULK_MAX_IN_FLIGHT));
+  }
+
+  /** Returns the limiter shared by all the multi-get reads of this context. */
+  @NonNull
+  public InFlightLimiter getMultiGetLimiter() {
+    return multiGetLimiterRef.get();
+  }
+
+  protected InFlightLimiter buildMultiGetLimiter() {
+    return new InFlightLimiter(
+        getConfig()
+            .getDefaultProfile()
+            .getInt(
+                QuarkusDriverOption.REQUEST_MULTI_GET_MAX_IN_FLIGHT,
+                InFlightLimiter.DEFAULT_MULTI_GET_MAX_IN_FLIGHT));
+  }
+
+  /** Returns the coalescer shared by all the coalesced writes of this context. */
+  @NonNull
+  public PartitionWriteCoalescer getPartitionWriteCoalescer() {
+    return partitionWriteCoalescerRef.get();
+  }
+
+  protected PartitionWriteCoalescer buildPartitionWriteCoalescer() {
+    DriverExecutionProfile profile = getConfig().getDefaultProfile();
+    return new PartitionWriteCoalescer(
+        profile.getDuration(
+            QuarkusDriverOption.REQUEST_COALESCING_WINDOW, PartitionWriteCoalescer.DEFAULT_WINDOW),
+        profile.getInt(
+            QuarkusDriverOption.REQUEST_COALESCING_MAX_STATEMENTS,
+            PartitionWriteCoalescer.DEFAULT_MAX_STATEMENTS),
+        // event loops schedule tasks with a finer precision than the driver's timer
+        getNettyOptions().adminEventExecutorGroup());
+  }
+
+  /** Registers a coalescer whose pending increments must be flushed before the session closes. */
+  public void addCounterCoalescer(@NonNull CounterCoalescer coalescer) {
+    counterCoalescers.add(coalescer);
+  }
+
+  public void removeCounterCoalescer(@NonNull CounterCoalescer coalescer) {
+    counterCoalescers.remove(coalescer);
+  }
+
+  /**
+   * Flushes the pending increments of all the registered coalescers, and returns a stage that
+   * completes when they are written.
+   */
+  @NonNull
+  public CompletionStage<Void> flushCounterCoalescers() {
+    return CompletableFuture.allOf(
+        counterCoalescers.stream()
+            .map(coalescer -> coalescer.flush().toCompletableFuture())
+            .toArray(CompletableFuture<?>[]::new));
+  }
+
+  /** Returns the drainer that tracks the requests in flight of the session of this context. */
+  @NonNull
+  public RequestDrainer getRequestDrainer() {
+    return requestDrainerRef.get();
+  }
+
+  protected RequestDrainer buildRequestDrainer() {
+    return RequestDrainer.create(this);
+  }
+
+  /** Returns the in-flight reads shared by identical reads of this context. */
+  @NonNull
+  public SingleFlightReads getSingleFlightReads() {
+    return singleFlightReads;
+  }
+
   @Override
   protected NettyOptions buildNettyOptions() {
     if (quarkusEventLoop != null) {
+      if (getConfig()
+          .getDefaultProfile()
+          .getBoolean(QuarkusDriverOption.NETTY_ADMIN_DEDICATED, false)) {
+        return new QuarkusNettyOptions(
+            this, quarkusEventLoop, QuarkusNettyOptions.newAdminEventLoopGroup(this), true);
+      }
       return new QuarkusNettyOptions(this, quarkusEventLoop, quarkusEventLoop);
     } else {
       return super.buildNettyOptions();
@@ -0,0 +1,84 @@
+/*
+ * Copyright DataStax, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.quarkus.runtime.internal.context;
+
+import com.datastax.oss.driver.api.core.config.DefaultDriverOption;
+import com.datastax.oss.driver.api.core.context.DriverContext;
+import com.datastax.oss.driver.internal.core.context.InternalDriverContext;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+
+/**
+ * Registers the meters of the components that this extension adds to a session, next to the
+ * driver's own meters.
+ *
+ * <p>Meters are only registered when the session metrics are enabled with Micrometer; the meter
+ * classes reference Micrometer types, and are only loaded in that case.
+ */
+public class SessionMeters {
+
+  /** Creates the meters of a component. */
+  @FunctionalInterface
+  public interface Factory<MetersT> {
+
+    /**
+     * @param registry the Micrometer {@code MeterRegistry} of the session.
+     * @param prefix the prefix of the session meter names.
+     * @param sessionName the name of the session, to tag the meters with.
+     */
+    @NonNull
+    MetersT create(@NonNull Object registry, @NonNull String prefix, @NonNull String sessionName);
+  }
+
+  /**
+   * Creates meters with the given factory if the metrics of the session are enabled with
+   * Micrometer.
+   *
+   * @return the created meters, or null if the metrics of the session are disabled or not backed by
+   *     Micrometer.
+   */
+  @Nullable
+  public static <MetersT> MetersT register(
+      @NonNull DriverContext context, @NonNull Factory<MetersT> factory) {
+    if (!(context instanceof InternalDriverContext)) {
+      return null;
+    }
+    InternalDriverContext internalContext = (InternalDriverContext) context;
+    Object registry = internalContext.getMetricRegistry();
+    if (registry == null || !isMicrometerRegistry(registry)) {
+      return null;
+    }
+    return factory.create(
+        registry,
+        internalContext
+            .getConfig()
+            .getDefaultProfile()
+            .getString(DefaultDriverOption.METRICS_ID_GENERATOR_PREFIX, ""),
+        internalContext.getSessionName());
+  }
+
+  private static boolean isMicrometerRegistry(Object registry) {
+    try {
+      return Class.forName(
+              "io.micrometer.core.instrument.MeterRegistry",
+              false,
+              registry.getClass().getClassLoader())
+          .isInstance(registry);
+    } catch (ClassNotFoundException | LinkageError e) {
+      return false;
+    }
+  }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright DataStax, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.quarkus.runtime.internal.driver;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import io.netty.channel.EventLoopGroup;
+import io.netty.util.Timeout;
+import io.netty.util.Timer;
+import io.netty.util.TimerTask;
+import io.netty.util.concurrent.EventExecutor;
+import io.netty.util.concurrent.ScheduledFuture;
+import io.netty.util.internal.ThreadExecutorMap;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link Timer} that schedules its tasks on the event loops of the shared Quarkus event loop
+ * group, instead of a dedicated {@link io.netty.util.HashedWheelTimer} thread.
+ *
+ * <p>When a timeout is created from an event loop of the group, which is the case for most driver
+ * timeouts since they are created in channel callbacks, the task is scheduled on that same event
+ * loop, and fires there without any thread handoff. Otherwise, the next event loop of the group is
+ * used.
+ *
+ * <p>The event loops outlive the session, so the timer keeps track of its pending timeouts: {@link
+ * #stop()} cancels them, so that they don't hold on to the state of the closed session until they
+ * would have fired, and returns them.
+ */
+public class EventLoopTimer implements Timer {
+
+  private static final Logger LOG = LoggerFactory.getLogger(EventLoopTimer.class);
+
+  private final EventLoopGroup eventLoopGroup;
+  private final Set<EventTimeout> pending = ConcurrentHashMap.newKeySet();
+  private volatile boolean stopped;
+
+  public EventLoopTimer(@NonNull EventLoopGroup eventLoopGroup) {
+    this.eventLoopGroup = eventLoopGroup;
+  }
+
+  @Override
+  public Timeout newTimeout(TimerTask task, long delay, TimeUnit unit) {
+    if (stopped) {
+      throw new IllegalStateException("cannot be started once stopped");
+    }
+    EventTimeout timeout = new EventTimeout(task);
+    pending.add(timeout);
+    timeout.future = currentEventLoop().schedule(timeout, Math.max(delay, 0), unit);
+    if (stopped) {
+      // stop() may have missed the future if it ran concurrently
+      timeout.cancel();
+    }
+    return timeout;
+  }
+
+  @Override
+  public Set<Timeout> stop() {
+    stopped = true;
+    Set<Timeout> cancelled = new HashSet<>();
+    for (EventTimeout timeout : pending) {
+      if (timeout.cancel()) {
+        cancelled.add(timeout);
+      }
+    }
+    return cancelled;
+  }
+
+  private EventExecutor currentEventLoop() {
+    EventExecutor current = ThreadExecutorMap.currentExecutor();
+    if (current != null && current.parent() == eventLoopGroup) {
+      return current;
+    }
+    return eventLoopGroup.next();
+  }
+
+  private class EventTimeout implements Timeout, Runnable {
+
+    private final TimerTask task;
+    private volatile ScheduledFuture<?> future;
+    private volatile boolean expired;
+
+    private EventTimeout(TimerTask task) {
+      this.task = task;
+    }
+
+    @Override
+    public void run() {
+      pending.remove(this);
+      if (stopped) {
+        return;
+      }
+      expired = true;
+      try {
+        task.run(this);
+      } catch (Throwable t) {
+        LOG.warn("An exception was thrown by {}", task.getClass().getSimpleName(), t);
+      }
+    }
+
+    @Override
+    public Timer timer() {
+      return EventLoopTimer.this;
+    }
+
+    @Override
+    public TimerTask task() {
+      return task;
+    }
+
+    @Override
+    public boolean isExpired() {
+      return expired;
+    }
+
+    @Override
+    public boolean isCancelled() {
+      ScheduledFuture<?> future = this.future;
+      return future != null && future.isCancelled();
+    }
+
+    @Override
+    public boolean cancel() {
+      ScheduledFuture<?> future = this.future;
+      if (!expired && future != null && future.cancel(false)) {
+        pending.remove(this);
+        return true;
+      }
+      return false;
+    }
+  }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright DataStax, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.quarkus.runtime.internal.driver;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.vertx.core.buffer.impl.VertxByteBufAllocator;
+import java.util.Locale;
+
+/**
+ * The Netty ByteBuf allocators that the driver can use when sharing the Quarkus event loop group.
+ *
+ * <p>By default, the driver allocates from Netty's default allocator while Vert.x allocates from a
+ * pooled allocator of its own, so each of them maintains separate arenas and the application pays
+ * twice for the same direct memory.
+ */
+public enum NettyAllocator {
+
+  /** Netty's default allocator. */
+  DEFAULT,
+
+  /** The pooled allocator that Vert.x uses for its own connections. */
+  VERTX,
+
+  /**
+   * A pooled allocator dedicated to the session, with thread caches on event loop threads only, so
+   * that buffers allocated from application threads do not create caches that are rarely used.
+   */
+  POOLED,
+  ;
+
+  /**
+   * Parses the given configuration value.
+   *
+   * @throws IllegalArgumentException if the value is not a valid allocator name.
+   */
+  @NonNull
+  public static NettyAllocator fromConfig(@NonNull String value) {
+    try {
+      return valueOf(value.trim().toUpperCase(Locale.ROOT));
+    } catch (IllegalArgumentException e) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Invalid ByteBuf allocator: %s, expecting one of default, vertx or pooled", value));
+    }
+  }
+
+  /**
+   * Returns the allocator.
+   *
+   * @param arenas the number of heap and direct arenas; only used by {@link #POOLED}.
+   */
+  @NonNull
+  public ByteBufAllocator allocator(int arenas) {
+    switch (this) {
+      case VERTX:
+        return VertxByteBufAllocator.POOLED_ALLOCATOR;
+      case POOLED:
+        return new PooledByteBufAllocator(
+            true,
+            arenas,
+            arenas,
+            PooledByteBufAllocator.defaultPageSize(),
+            PooledByteBufAllocator.defaultMaxOrder(),
+            PooledByteBufAllocator.defaultSmallCacheSize(),
+            PooledByteBufAllocator.defaultNormalCacheSize(),
+            false);
+      default:
+        return ByteBufAllocator.DEFAULT;
+    }
+  }
+}
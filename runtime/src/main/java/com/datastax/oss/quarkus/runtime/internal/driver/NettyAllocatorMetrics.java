@@ -0,0 +1,141 @@
+/*
+ * Copyright DataStax, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.quarkus.runtime.internal.driver;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.ByteBufAllocatorMetric;
+import io.netty.buffer.ByteBufAllocatorMetricProvider;
+import io.netty.buffer.PoolArenaMetric;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.buffer.PooledByteBufAllocatorMetric;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.ToLongFunction;
+
+/**
+ * Publishes Micrometer meters for the ByteBuf allocator of a session.
+ *
+ * <p>This class references Micrometer types and must only be loaded when Micrometer is on the
+ * classpath.
+ *
+ * <p>The following meters are registered, all tagged with the session name:
+ *
+ * <ul>
+ *   <li>{@code <prefix>.netty.allocator.memory.used}: the used heap or direct memory, in bytes (tag
+ *       {@code area}: {@code heap} or {@code direct});
+ *   <li>{@code <prefix>.netty.allocator.arenas}: the number of heap or direct arenas (pooled
+ *       allocators only);
+ *   <li>{@code <prefix>.netty.allocator.thread-caches}: the number of thread-local caches (pooled
+ *       allocators only);
+ *   <li>{@code <prefix>.netty.allocator.arena.allocations}: the number of allocations served by the
+ *       arenas, by size class (tag {@code size}: {@code small}, {@code normal} or {@code huge});
+ *       small and normal allocations served by a thread cache are not counted, so the slower this
+ *       counter grows relative to the request rate, the better the thread caches perform (pooled
+ *       allocators only).
+ * </ul>
+ */
+public class NettyAllocatorMetrics {
+
+  private final MeterRegistry registry;
+  private final List<Meter> meters = new ArrayList<>();
+
+  public NettyAllocatorMetrics(
+      @NonNull Object registry,
+      @NonNull ByteBufAllocator allocator,
+      @NonNull String prefix,
+      @NonNull String sessionName) {
+    this.registry = (MeterRegistry) registry;
+    String baseName = prefix.isEmpty() ? "netty.allocator." : prefix + ".netty.allocator.";
+    Tags tags = Tags.of("session", sessionName);
+    if (allocator instanceof ByteBufAllocatorMetricProvider) {
+      ByteBufAllocatorMetric metric = ((ByteBufAllocatorMetricProvider) allocator).metric();
+      meters.add(
+          Gauge.builder(baseName + "memory.used", metric, ByteBufAllocatorMetric::usedDirectMemory)
+              .tags(tags.and("area", "direct"))
+              .description("The direct memory used by the allocator")
+              .baseUnit("bytes")
+              .register(this.registry));
+      meters.add(
+          Gauge.builder(baseName + "memory.used", metric, ByteBufAllocatorMetric::usedHeapMemory)
+              .tags(tags.and("area", "heap"))
+              .description("The heap memory used by the allocator")
+              .baseUnit("bytes")
+              .register(this.registry));
+    }
+    if (allocator instanceof PooledByteBufAllocator) {
+      PooledByteBufAllocatorMetric metric = ((PooledByteBufAllocator) allocator).metric();
+      meters.add(
+          Gauge.builder(baseName + "arenas", metric, PooledByteBufAllocatorMetric::numDirectArenas)
+              .tags(tags.and("area", "direct"))
+              .description("The number of direct arenas of the allocator")
+              .register(this.registry));
+      meters.add(
+          Gauge.builder(baseName + "arenas", metric, PooledByteBufAllocatorMetric::numHeapArenas)
+              .tags(tags.and("area", "heap"))
+              .description("The number of heap arenas of the allocator")
+              .register(this.registry));
+      meters.add(
+          Gauge.builder(
+                  baseName + "thread-caches",
+                  metric,
+                  PooledByteBufAllocatorMetric::numThreadLocalCaches)
+              .tags(tags)
+              .description("The number of thread-local caches of the allocator")
+              .register(this.registry));
+      registerAllocations(baseName, tags, metric, "small", PoolArenaMetric::numSmallAllocations);
+      registerAllocations(baseName, tags, metric, "normal", PoolArenaMetric::numNormalAllocations);
+      registerAllocations(baseName, tags, metric, "huge", PoolArenaMetric::numHugeAllocations);
+    }
+  }
+
+  private void registerAllocations(
+      String baseName,
+      Tags tags,
+      PooledByteBufAllocatorMetric metric,
+      String size,
+      ToLongFunction<PoolArenaMetric> allocations) {
+    meters.add(
+        FunctionCounter.builder(
+                baseName + "arena.allocations",
+                metric,
+                m -> sum(m.directArenas(), allocations) + sum(m.heapArenas(), allocations))
+            .tags(tags.and("size", size))
+            .description("The number of allocations served by the arenas of the allocator")
+            .register(registry));
+  }
+
+  private static double sum(List<PoolArenaMetric> arenas, ToLongFunction<PoolArenaMetric> f) {
+    long sum = 0;
+    for (PoolArenaMetric arena : arenas) {
+      sum += f.applyAsLong(arena);
+    }
+    return sum;
+  }
+
+  /** Removes all the meters registered by this instance. */
+  public void close() {
+    for (Meter meter : meters) {
+      registry.remove(meter);
+    }
+    meters.clear();
+  }
+}
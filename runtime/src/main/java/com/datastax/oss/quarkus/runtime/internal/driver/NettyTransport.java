@@ -0,0 +1,140 @@
+/*
+ * Copyright DataStax, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.quarkus.runtime.internal.driver;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.socket.nio.NioSocketChannel;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The Netty transports that the driver can use when sharing the Quarkus event loop group.
+ *
+ * <p>A channel must be registered with an event loop of the same transport, so the channel class is
+ * chosen after the type of the event loop group created by Vert.x: when {@code
+ * quarkus.vertx.prefer-native-transport} is true and a native transport is available, Vert.x
+ * creates epoll, io_uring or kqueue event loops, otherwise NIO ones. Native classes are loaded
+ * reflectively, since native transport libraries are optional dependencies.
+ */
+public enum NettyTransport {
+  EPOLL(
+      "io.netty.channel.epoll.EpollEventLoopGroup",
+      "io.netty.channel.epoll.EpollSocketChannel",
+      "io.netty.channel.epoll.EpollChannelOption",
+      true,
+      true),
+  IO_URING(
+      "io.netty.incubator.channel.uring.IOUringEventLoopGroup",
+      "io.netty.incubator.channel.uring.IOUringSocketChannel",
+      "io.netty.incubator.channel.uring.IOUringChannelOption",
+      true,
+      false),
+  KQUEUE(
+      "io.netty.channel.kqueue.KQueueEventLoopGroup",
+      "io.netty.channel.kqueue.KQueueSocketChannel",
+      "io.netty.channel.kqueue.KQueueChannelOption",
+      false,
+      false),
+  NIO(null, NioSocketChannel.class.getName(), null, false, false),
+  ;
+
+  private static final Logger LOG = LoggerFactory.getLogger(NettyTransport.class);
+
+  private final String eventLoopGroupClassName;
+  private final String channelClassName;
+  private final String channelOptionClassName;
+  private final boolean supportsTcpQuickAck;
+  private final boolean supportsBusyPoll;
+
+  NettyTransport(
+      String eventLoopGroupClassName,
+      String channelClassName,
+      String channelOptionClassName,
+      boolean supportsTcpQuickAck,
+      boolean supportsBusyPoll) {
+    this.eventLoopGroupClassName = eventLoopGroupClassName;
+    this.channelClassName = channelClassName;
+    this.channelOptionClassName = channelOptionClassName;
+    this.supportsTcpQuickAck = supportsTcpQuickAck;
+    this.supportsBusyPoll = supportsBusyPoll;
+  }
+
+  /**
+   * Returns the transport matching the given event loop group; falls back to {@link #NIO} if the
+   * group type is not recognized.
+   */
+  @NonNull
+  public static NettyTransport forEventLoopGroup(@NonNull EventLoopGroup eventLoopGroup) {
+    for (NettyTransport transport : values()) {
+      if (transport.eventLoopGroupClassName != null
+          && isInstance(eventLoopGroup, transport.eventLoopGroupClassName)) {
+        return transport;
+      }
+    }
+    return NIO;
+  }
+
+  @SuppressWarnings("unchecked")
+  @NonNull
+  public Class<? extends Channel> channelClass(@NonNull ClassLoader classLoader) {
+    try {
+      return (Class<? extends Channel>) Class.forName(channelClassName, true, classLoader);
+    } catch (ClassNotFoundException | LinkageError e) {
+      LOG.warn(
+          "Could not load channel class {} for {} transport, falling back to NIO",
+          channelClassName,
+          this,
+          e);
+      return NioSocketChannel.class;
+    }
+  }
+
+  /** The TCP_QUICKACK option of this transport, or null if the transport does not support it. */
+  @Nullable
+  public ChannelOption<Boolean> tcpQuickAck(@NonNull ClassLoader classLoader) {
+    return supportsTcpQuickAck ? channelOption("TCP_QUICKACK", classLoader) : null;
+  }
+
+  /** The SO_BUSY_POLL option of this transport, or null if the transport does not support it. */
+  @Nullable
+  public ChannelOption<Integer> busyPoll(@NonNull ClassLoader classLoader) {
+    return supportsBusyPoll ? channelOption("SO_BUSY_POLL", classLoader) : null;
+  }
+
+  @SuppressWarnings("unchecked")
+  private <T> ChannelOption<T> channelOption(String name, ClassLoader classLoader) {
+    try {
+      return (ChannelOption<T>)
+          Class.forName(channelOptionClassName, true, classLoader).getField(name).get(null);
+    } catch (ReflectiveOperationException | LinkageError e) {
+      LOG.warn("Could not load channel option {} for {} transport, ignoring", name, this, e);
+      return null;
+    }
+  }
+
+  private static boolean isInstance(Object object, String className) {
+    for (Class<?> c = object.getClass(); c != null; c = c.getSuperclass()) {
+      if (c.getName().equals(className)) {
+        return true;
+      }
+    }
+    return false;
+  }
+}
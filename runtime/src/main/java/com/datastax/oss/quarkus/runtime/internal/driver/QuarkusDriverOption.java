@@ -0,0 +1,175 @@
+/*
+ * Copyright DataStax, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.quarkus.runtime.internal.driver;
+
+import com.datastax.oss.driver.api.core.config.DriverOption;
+import edu.umd.cs.findbugs.annotations.NonNull;
+
+/**
+ * Driver options specific to the Quarkus extension; they can be set in {@code application.conf} or
+ * {@code application.json} like any other driver option, or with their {@code quarkus.cassandra}
+ * counterparts.
+ */
+public enum QuarkusDriverOption implements DriverOption {
+
+  /**
+   * Whether to enable TCP_QUICKACK on driver connections; only honored by the epoll and io_uring
+   * native transports.
+   *
+   * <p>Value-type: boolean
+   */
+  SOCKET_TCP_QUICKACK("advanced.socket.tcp-quick-ack"),
+
+  /**
+   * The SO_BUSY_POLL value of driver connections, in microseconds; only honored by the epoll native
+   * transport.
+   *
+   * <p>Value-type: int
+   */
+  SOCKET_BUSY_POLL("advanced.socket.busy-poll"),
+
+  /**
+   * Whether to run administrative tasks on a dedicated executor group, sized after {@code
+   * advanced.netty.admin-group.size}, when sharing the Quarkus event loop group.
+   *
+   * <p>Value-type: boolean
+   */
+  NETTY_ADMIN_DEDICATED("advanced.netty.admin-group.dedicated"),
+
+  /**
+   * The ByteBuf allocator to use when sharing the Quarkus event loop group: {@code default}, {@code
+   * vertx} or {@code pooled}.
+   *
+   * <p>Value-type: String
+   */
+  NETTY_ALLOCATOR("advanced.netty.allocator.type"),
+
+  /**
+   * The number of heap and direct arenas of the {@code pooled} allocator.
+   *
+   * <p>Value-type: int
+   */
+  NETTY_ALLOCATOR_ARENAS("advanced.netty.allocator.arenas"),
+
+  /**
+   * Whether to schedule timer tasks on the Quarkus event loop group instead of a dedicated
+   * HashedWheelTimer thread, when sharing the Quarkus event loop group.
+   *
+   * <p>Value-type: boolean
+   */
+  NETTY_TIMER_EVENT_LOOP("advanced.netty.timer.event-loop"),
+
+  /**
+   * The maximum number of pages of a reactive result set that are fetched ahead of the page being
+   * consumed.
+   *
+   * <p>Value-type: int
+   */
+  REQUEST_READ_AHEAD_PAGES("advanced.reactive.read-ahead.pages"),
+
+  /**
+   * The maximum size, in bytes, of the pages of a reactive result set that are fetched but not
+   * consumed yet; read-ahead is suspended while this budget is exceeded.
+   *
+   * <p>Value-type: {@link com.datastax.oss.driver.api.core.config.DriverExecutionProfile#getBytes
+   * bytes}
+   */
+  REQUEST_READ_AHEAD_BUDGET("advanced.reactive.read-ahead.memory-budget"),
+
+  /**
+   * The maximum number of requests in flight for streaming bulk writes, across all the DAOs of a
+   * session.
+   *
+   * <p>Value-type: int
+   */
+  REQUEST_BULK_MAX_IN_FLIGHT("advanced.bulk-write.max-in-flight"),
+
+  /**
+   * The number of consecutive entities of a streaming bulk write that are grouped by partition into
+   * unlogged batches; batching is disabled when not set, or lower than 2.
+   *
+   * <p>Value-type: int
+   */
+  REQUEST_BULK_BATCH_SIZE("advanced.bulk-write.batch-size"),
+
+  /**
+   * How long a batch of a streaming bulk write waits for more entities before being sent, when
+   * batching is enabled with {@link #REQUEST_BULK_BATCH_SIZE}.
+   *
+   * <p>Value-type: {@link java.time.Duration}
+   */
+  REQUEST_BULK_BATCH_MAX_DELAY("advanced.bulk-write.batch-max-delay"),
+
+  /**
+   * The maximum number of requests in flight for multi-get reads, across all the DAOs of a session.
+   *
+   * <p>Value-type: int
+   */
+  REQUEST_MULTI_GET_MAX_IN_FLIGHT("advanced.multi-get.max-in-flight"),
+
+  /**
+   * How long writes submitted for coalescing wait for other writes to the same partition before
+   * being sent.
+   *
+   * <p>Value-type: {@link java.time.Duration Duration}
+   */
+  REQUEST_COALESCING_WINDOW("advanced.write-coalescing.window"),
+
+  /**
+   * The maximum number of writes coalesced into a single unlogged batch.
+   *
+   * <p>Value-type: int
+   */
+  REQUEST_COALESCING_MAX_STATEMENTS("advanced.write-coalescing.max-statements"),
+
+  /**
+   * Whether concurrent executions of identical reads share a single in-flight request, when
+   * executed reactively.
+   *
+   * <p>Value-type: boolean
+   */
+  REQUEST_SINGLE_FLIGHT("advanced.request.single-flight"),
+
+  /**
+   * Whether reactive executions of statements use DSE continuous paging instead of regular paging.
+   * The continuous paging settings are read from the same execution profile, under {@code
+   * advanced.continuous-paging}.
+   *
+   * <p>Value-type: boolean
+   */
+  REQUEST_CONTINUOUS_PAGING("advanced.continuous-paging.reactive"),
+
+  /**
+   * How long to wait, when the application shuts down, for the requests in flight to complete
+   * before closing the session; zero disables draining.
+   *
+   * <p>Value-type: {@link java.time.Duration Duration}
+   */
+  SHUTDOWN_DRAIN_TIMEOUT("advanced.shutdown.drain-timeout"),
+  ;
+
+  private final String path;
+
+  QuarkusDriverOption(String path) {
+    this.path = path;
+  }
+
+  @NonNull
+  @Override
+  public String getPath() {
+    return path;
+  }
+}
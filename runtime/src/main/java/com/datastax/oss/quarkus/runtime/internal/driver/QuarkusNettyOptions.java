@@ -19,19 +19,25 @@ import com.datastax.oss.driver.api.core.config.DefaultDriverOption;
 import com.datastax.oss.driver.api.core.config.DriverExecutionProfile;
 import com.datastax.oss.driver.internal.core.context.NettyOptions;
 import com.datastax.oss.driver.internal.core.util.concurrent.BlockingOperation;
+import com.datastax.oss.driver.internal.core.util.concurrent.PromiseCombiner;
 import com.datastax.oss.driver.shaded.guava.common.util.concurrent.ThreadFactoryBuilder;
 import com.datastax.oss.quarkus.runtime.internal.context.QuarkusDriverContext;
+import com.datastax.oss.quarkus.runtime.internal.context.SessionMeters;
 import io.netty.bootstrap.Bootstrap;
 import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.PooledByteBufAllocator;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelOption;
+import io.netty.channel.DefaultEventLoopGroup;
 import io.netty.channel.EventLoopGroup;
 import io.netty.channel.FixedRecvByteBufAllocator;
-import io.netty.channel.socket.nio.NioSocketChannel;
 import io.netty.util.HashedWheelTimer;
 import io.netty.util.Timer;
 import io.netty.util.concurrent.EventExecutorGroup;
 import io.netty.util.concurrent.Future;
+import io.netty.util.concurrent.GlobalEventExecutor;
+import io.netty.util.concurrent.MultithreadEventExecutorGroup;
+import io.netty.util.concurrent.Promise;
 import io.netty.util.concurrent.SucceededFuture;
 import io.netty.util.internal.PlatformDependent;
 import java.time.Duration;
@@ -46,25 +52,84 @@ public class QuarkusNettyOptions implements NettyOptions {
   private final DriverExecutionProfile config;
   private final EventLoopGroup ioEventLoopGroup;
   private final EventLoopGroup adminEventLoopGroup;
+  private final boolean ownsAdminEventLoopGroup;
   private final Timer timer;
+  private final NettyTransport transport;
+  private final Class<? extends Channel> channelClass;
+  private final ByteBufAllocator allocator;
+  private final NettyAllocatorMetrics allocatorMetrics;
 
   public QuarkusNettyOptions(
       QuarkusDriverContext context,
       EventLoopGroup ioEventLoopGroup,
       EventLoopGroup adminEventLoopGroup) {
+    this(context, ioEventLoopGroup, adminEventLoopGroup, false);
+  }
+
+  /**
+   * @param ownsAdminEventLoopGroup whether the admin event loop group was created for this session
+   *     only, and must therefore be shut down when the session is closed.
+   */
+  public QuarkusNettyOptions(
+      QuarkusDriverContext context,
+      EventLoopGroup ioEventLoopGroup,
+      EventLoopGroup adminEventLoopGroup,
+      boolean ownsAdminEventLoopGroup) {
     this.config = context.getConfig().getDefaultProfile();
     // The following options are ignored when using Quarkus Netty event loops:
     // NETTY_IO_SHUTDOWN_QUIET_PERIOD
     // NETTY_IO_SHUTDOWN_TIMEOUT
     // NETTY_IO_SHUTDOWN_UNIT
+    // The following options are ignored unless the admin event loop group is dedicated:
     // NETTY_ADMIN_SHUTDOWN_QUIET_PERIOD
     // NETTY_ADMIN_SHUTDOWN_TIMEOUT
     // NETTY_ADMIN_SHUTDOWN_UNIT
 
     this.ioEventLoopGroup = ioEventLoopGroup;
     this.adminEventLoopGroup = adminEventLoopGroup;
+    this.ownsAdminEventLoopGroup = ownsAdminEventLoopGroup;
+
+    // use the same transport as the event loop group, channels cannot be registered otherwise
+    this.transport = NettyTransport.forEventLoopGroup(ioEventLoopGroup);
+    this.channelClass = transport.channelClass(ioEventLoopGroup.getClass().getClassLoader());
+    LOG.debug("Using {} transport, channel class = {}", transport, channelClass.getName());
+
+    // setup the allocator
+    NettyAllocator allocatorType =
+        NettyAllocator.fromConfig(config.getString(QuarkusDriverOption.NETTY_ALLOCATOR, "default"));
+    int arenas =
+        config.isDefined(QuarkusDriverOption.NETTY_ALLOCATOR_ARENAS)
+            ? config.getInt(QuarkusDriverOption.NETTY_ALLOCATOR_ARENAS)
+            : ioEventLoopGroup instanceof MultithreadEventExecutorGroup
+                ? ((MultithreadEventExecutorGroup) ioEventLoopGroup).executorCount()
+                : PooledByteBufAllocator.defaultNumDirectArena();
+    this.allocator = allocatorType.allocator(arenas);
+    LOG.debug("Using {} allocator, arenas = {}", allocatorType, arenas);
+    this.allocatorMetrics =
+        SessionMeters.register(
+            context,
+            (registry, prefix, sessionName) ->
+                new NettyAllocatorMetrics(registry, allocator, prefix, sessionName));
 
     // setup the Timer
+    Timer timer;
+    if (config.getBoolean(QuarkusDriverOption.NETTY_TIMER_EVENT_LOOP, false)) {
+      LOG.debug("Using the Quarkus event loop group as timer");
+      timer = new EventLoopTimer(ioEventLoopGroup);
+    } else {
+      timer = newHashedWheelTimer(context);
+    }
+    this.ioEventLoopGroup
+        .terminationFuture()
+        .addListener(
+            future -> {
+              LOG.trace("Stopping Netty timer");
+              timer.stop();
+            });
+    this.timer = timer;
+  }
+
+  private HashedWheelTimer newHashedWheelTimer(QuarkusDriverContext context) {
     ThreadFactory safeFactory = new BlockingOperation.SafeThreadFactory();
     boolean daemon = config.getBoolean(DefaultDriverOption.NETTY_DAEMON);
     ThreadFactory timerThreadFactory =
@@ -91,14 +156,7 @@ public class QuarkusNettyOptions implements NettyOptions {
             TimeUnit.NANOSECONDS,
             config.getInt(DefaultDriverOption.NETTY_TIMER_TICKS_PER_WHEEL));
     timer.start();
-    this.ioEventLoopGroup
-        .terminationFuture()
-        .addListener(
-            future -> {
-              LOG.trace("Stopping Netty timer");
-              timer.stop();
-            });
-    this.timer = timer;
+    return timer;
   }
 
   @Override
@@ -113,12 +171,12 @@ public class QuarkusNettyOptions implements NettyOptions {
 
   @Override
   public Class<? extends Channel> channelClass() {
-    return NioSocketChannel.class;
+    return channelClass;
   }
 
   @Override
   public ByteBufAllocator allocator() {
-    return ByteBufAllocator.DEFAULT;
+    return allocator;
   }
 
   @Override
@@ -152,6 +210,25 @@ public class QuarkusNettyOptions implements NettyOptions {
       bootstrap.option(
           ChannelOption.CONNECT_TIMEOUT_MILLIS, Long.valueOf(connectTimeout.toMillis()).intValue());
     }
+    ClassLoader classLoader = channelClass.getClassLoader();
+    if (config.isDefined(QuarkusDriverOption.SOCKET_TCP_QUICKACK)) {
+      boolean tcpQuickAck = config.getBoolean(QuarkusDriverOption.SOCKET_TCP_QUICKACK);
+      ChannelOption<Boolean> option = transport.tcpQuickAck(classLoader);
+      if (option != null) {
+        bootstrap.option(option, tcpQuickAck);
+      } else {
+        LOG.warn("TCP_QUICKACK is not supported by the {} transport, ignoring", transport);
+      }
+    }
+    if (config.isDefined(QuarkusDriverOption.SOCKET_BUSY_POLL)) {
+      int busyPoll = config.getInt(QuarkusDriverOption.SOCKET_BUSY_POLL);
+      ChannelOption<Integer> option = transport.busyPoll(classLoader);
+      if (option != null) {
+        bootstrap.option(option, busyPoll);
+      } else {
+        LOG.warn("SO_BUSY_POLL is not supported by the {} transport, ignoring", transport);
+      }
+    }
   }
 
   @Override
@@ -159,8 +236,43 @@ public class QuarkusNettyOptions implements NettyOptions {
     // nothing to do
   }
 
+  /**
+   * Creates a dedicated admin event loop group, sized after {@code
+   * advanced.netty.admin-group.size}, for sessions that share the Quarkus event loop group for I/O
+   * only.
+   */
+  public static EventLoopGroup newAdminEventLoopGroup(QuarkusDriverContext context) {
+    DriverExecutionProfile config = context.getConfig().getDefaultProfile();
+    ThreadFactory adminThreadFactory =
+        new ThreadFactoryBuilder()
+            .setThreadFactory(new BlockingOperation.SafeThreadFactory())
+            .setNameFormat(context.getSessionName() + "-admin-%d")
+            .setDaemon(config.getBoolean(DefaultDriverOption.NETTY_DAEMON))
+            .build();
+    return new DefaultEventLoopGroup(
+        config.getInt(DefaultDriverOption.NETTY_ADMIN_SIZE), adminThreadFactory);
+  }
+
   @Override
   public Future<Void> onClose() {
+    if (allocatorMetrics != null) {
+      allocatorMetrics.close();
+    }
+    if (ownsAdminEventLoopGroup) {
+      // only the dedicated admin event loop group is closed; the I/O event loop group is managed
+      // by Quarkus.
+      Promise<Void> closeFuture = GlobalEventExecutor.INSTANCE.newPromise();
+      GlobalEventExecutor.INSTANCE.execute(
+          () ->
+              PromiseCombiner.combine(
+                  closeFuture,
+                  adminEventLoopGroup.shutdownGracefully(
+                      config.getInt(DefaultDriverOption.NETTY_ADMIN_SHUTDOWN_QUIET_PERIOD),
+                      config.getInt(DefaultDriverOption.NETTY_ADMIN_SHUTDOWN_TIMEOUT),
+                      TimeUnit.valueOf(
+                          config.getString(DefaultDriverOption.NETTY_ADMIN_SHUTDOWN_UNIT)))));
+      return closeFuture;
+    }
     // return immediately completed future. We should not close event loops because they are
     // managed by Quarkus.
     return new SucceededFuture<>(adminEventLoopGroup.next(), null);
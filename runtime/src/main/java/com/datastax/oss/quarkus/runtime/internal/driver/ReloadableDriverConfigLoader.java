@@ -0,0 +1,246 @@
+/*
+ * Copyright DataStax, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.quarkus.runtime.internal.driver;
+
+import com.datastax.dse.driver.api.core.config.DseDriverOption;
+import com.datastax.oss.driver.api.core.config.DefaultDriverOption;
+import com.datastax.oss.driver.api.core.config.DriverConfig;
+import com.datastax.oss.driver.api.core.config.DriverConfigLoader;
+import com.datastax.oss.driver.api.core.config.DriverOption;
+import com.datastax.oss.driver.api.core.context.DriverContext;
+import com.datastax.oss.driver.internal.core.config.ConfigChangeEvent;
+import com.datastax.oss.driver.internal.core.config.typesafe.DefaultDriverConfigLoader;
+import com.datastax.oss.driver.internal.core.context.EventBus;
+import com.datastax.oss.driver.internal.core.context.InternalDriverContext;
+import com.datastax.oss.quarkus.runtime.api.config.CassandraConfigChangeEvent;
+import com.datastax.oss.quarkus.runtime.api.config.CassandraConfigChangeEvent.Change;
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigValueFactory;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import io.quarkus.runtime.configuration.DurationConverter;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A config loader that can only change a fixed set of hot-reloadable options while the session is
+ * running.
+ *
+ * <p>The configuration the session was created with, including the driver's {@code
+ * application.conf} file, is loaded once; at each reload, only the whitelisted options are read
+ * again from the Quarkus configuration, and applied through the driver's own reload path. The
+ * driver notifies its components of the change, for example connection pools resize themselves;
+ * this loader then notifies a listener of the options that changed.
+ *
+ * <p>The whitelisted options are the ones the driver reads again for every request, or reacts to
+ * when they change. Options that are only read when a component is created, such as the delay of
+ * the speculative execution policy, are not reloadable.
+ */
+public class ReloadableDriverConfigLoader implements DriverConfigLoader {
+
+  private static final Logger LOG = LoggerFactory.getLogger(ReloadableDriverConfigLoader.class);
+
+  /** The hot-reloadable options. */
+  static final List<ReloadableOption> RELOADABLE_OPTIONS =
+      List.of(
+          new ReloadableOption(
+              "request.timeout", DefaultDriverOption.REQUEST_TIMEOUT, Duration.class),
+          new ReloadableOption(
+              "request.consistency-level", DefaultDriverOption.REQUEST_CONSISTENCY, String.class),
+          new ReloadableOption(
+              "request.serial-consistency-level",
+              DefaultDriverOption.REQUEST_SERIAL_CONSISTENCY,
+              String.class),
+          new ReloadableOption(
+              "request.page-size", DefaultDriverOption.REQUEST_PAGE_SIZE, Integer.class),
+          new ReloadableOption(
+              "request.read-ahead-pages",
+              QuarkusDriverOption.REQUEST_READ_AHEAD_PAGES,
+              Integer.class),
+          new ReloadableOption(
+              "pool.local-size", DefaultDriverOption.CONNECTION_POOL_LOCAL_SIZE, Integer.class),
+          new ReloadableOption(
+              "pool.remote-size", DefaultDriverOption.CONNECTION_POOL_REMOTE_SIZE, Integer.class),
+          new ReloadableOption(
+              "graph.request.timeout", DseDriverOption.GRAPH_TIMEOUT, Duration.class));
+
+  private final String clientName;
+  private final Config initialConfig;
+  private final Function<String, Optional<String>> properties;
+  private final Consumer<CassandraConfigChangeEvent> listener;
+  private final DefaultDriverConfigLoader delegate;
+
+  private volatile Config lastConfig;
+  private volatile List<Change> pendingChanges = List.of();
+
+  private volatile String sessionName;
+  private volatile EventBus eventBus;
+  private volatile Object configChangeListenerKey;
+
+  /**
+   * @param configSupplier supplies the configuration the session is created with; only invoked
+   *     once.
+   * @param clientName the name of the client, or null for the default client.
+   * @param properties looks up the current value of a Quarkus property by its full name.
+   * @param listener notified when hot-reloadable options changed.
+   */
+  public ReloadableDriverConfigLoader(
+      @NonNull Supplier<Config> configSupplier,
+      @Nullable String clientName,
+      @NonNull Function<String, Optional<String>> properties,
+      @NonNull Consumer<CassandraConfigChangeEvent> listener) {
+    this.clientName = clientName;
+    this.initialConfig = configSupplier.get();
+    this.properties = properties;
+    this.listener = listener;
+    this.delegate = new DefaultDriverConfigLoader(this::loadConfig);
+  }
+
+  @NonNull
+  @Override
+  public DriverConfig getInitialConfig() {
+    return delegate.getInitialConfig();
+  }
+
+  @Override
+  public void onDriverInit(@NonNull DriverContext context) {
+    InternalDriverContext internalContext = (InternalDriverContext) context;
+    sessionName = internalContext.getSessionName();
+    eventBus = internalContext.getEventBus();
+    // the driver fires this event once it applied a changed configuration
+    configChangeListenerKey =
+        eventBus.register(ConfigChangeEvent.class, event -> onConfigChanged());
+    delegate.onDriverInit(context);
+  }
+
+  @NonNull
+  @Override
+  public CompletionStage<Boolean> reload() {
+    return delegate.reload();
+  }
+
+  @Override
+  public boolean supportsReloading() {
+    return true;
+  }
+
+  @Override
+  public void close() {
+    EventBus eventBus = this.eventBus;
+    if (eventBus != null) {
+      eventBus.unregister(configChangeListenerKey, ConfigChangeEvent.class);
+    }
+    delegate.close();
+  }
+
+  /** Overrides the initial configuration with the current values of the reloadable options. */
+  private Config loadConfig() {
+    Config config = initialConfig;
+    for (ReloadableOption option : RELOADABLE_OPTIONS) {
+      Optional<String> value = lookup(option.property);
+      if (value.isPresent()) {
+        config =
+            config.withValue(
+                option.driverOption.getPath(),
+                ConfigValueFactory.fromAnyRef(option.parse(value.get().trim())));
+      }
+    }
+    Config previous = lastConfig;
+    if (previous != null) {
+      List<Change> changes = new ArrayList<>();
+      for (ReloadableOption option : RELOADABLE_OPTIONS) {
+        String previousValue = option.render(previous);
+        String newValue = option.render(config);
+        if (!Objects.equals(previousValue, newValue)) {
+          changes.add(new Change(option.property, previousValue, newValue));
+        }
+      }
+      pendingChanges = changes;
+    }
+    lastConfig = config;
+    return config;
+  }
+
+  private Optional<String> lookup(String property) {
+    if (clientName == null) {
+      return properties.apply("quarkus.cassandra." + property);
+    }
+    Optional<String> value =
+        properties.apply("quarkus.cassandra.\"" + clientName + "\"." + property);
+    if (value.isEmpty() && !clientName.contains(".")) {
+      value = properties.apply("quarkus.cassandra." + clientName + "." + property);
+    }
+    return value;
+  }
+
+  private void onConfigChanged() {
+    List<Change> changes = pendingChanges;
+    pendingChanges = List.of();
+    if (changes.isEmpty()) {
+      return;
+    }
+    LOG.info("[{}] Applied new configuration values: {}", sessionName, changes);
+    try {
+      listener.accept(new CassandraConfigChangeEvent(clientName, sessionName, changes));
+    } catch (RuntimeException e) {
+      LOG.warn("[{}] Unexpected error while notifying a configuration change", sessionName, e);
+    }
+  }
+
+  static class ReloadableOption {
+
+    final String property;
+    final DriverOption driverOption;
+    final Class<?> type;
+
+    ReloadableOption(String property, DriverOption driverOption, Class<?> type) {
+      this.property = property;
+      this.driverOption = driverOption;
+      this.type = type;
+    }
+
+    Object parse(String value) {
+      if (type == Duration.class) {
+        return DurationConverter.parseDuration(value);
+      } else if (type == Integer.class) {
+        return Integer.valueOf(value);
+      } else {
+        return value;
+      }
+    }
+
+    /** Renders the value of the option in the given config, or null if it has none. */
+    String render(Config config) {
+      String path = driverOption.getPath();
+      if (!config.hasPath(path)) {
+        return null;
+      } else if (type == Duration.class) {
+        return config.getDuration(path).toString();
+      } else {
+        return String.valueOf(config.getValue(path).unwrapped());
+      }
+    }
+  }
+}
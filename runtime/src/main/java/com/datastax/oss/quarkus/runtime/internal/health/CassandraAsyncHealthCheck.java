@@ -18,14 +18,18 @@ package com.datastax.oss.quarkus.runtime.internal.health;
 import com.datastax.oss.driver.api.core.AsyncPagingIterable;
 import com.datastax.oss.driver.api.core.cql.Row;
 import com.datastax.oss.quarkus.runtime.api.session.QuarkusCqlSession;
+import com.datastax.oss.quarkus.runtime.internal.quarkus.CassandraClientProducer;
 import com.datastax.oss.quarkus.runtime.internal.quarkus.CassandraClientRecorder;
 import io.quarkus.arc.Arc;
 import io.smallrye.health.api.AsyncHealthCheck;
 import io.smallrye.mutiny.Uni;
 import jakarta.annotation.PostConstruct;
 import jakarta.enterprise.context.ApplicationScoped;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import org.eclipse.microprofile.health.HealthCheckResponse;
 import org.eclipse.microprofile.health.HealthCheckResponseBuilder;
@@ -52,41 +56,112 @@ public class CassandraAsyncHealthCheck implements AsyncHealthCheck {
     this.cqlSessionCompletionStage = sessionBean();
   }
 
+  /**
+   * Returns the session stages of the named clients that were produced so far, keyed by client
+   * name.
+   */
+  public Map<String, CompletionStage<QuarkusCqlSession>> namedSessionBeans() {
+    CassandraClientProducer producer =
+        Arc.container().instance(CassandraClientProducer.class).get();
+    return producer == null ? Collections.emptyMap() : producer.getNamedSessionStages();
+  }
+
   @Override
   public Uni<HealthCheckResponse> call() {
+    Map<String, CompletionStage<QuarkusCqlSession>> namedSessions = namedSessionBeans();
+    if (namedSessions.isEmpty()) {
+      return Uni.createFrom().completionStage(check(cqlSessionCompletionStage));
+    }
+    // named clients are reported in the same response, their data being prefixed with the
+    // client name; the response is down as soon as one of the clients is down.
+    Map<String, CompletionStage<HealthCheckResponse>> responses = new LinkedHashMap<>();
+    responses.put(null, checkOrDown(cqlSessionCompletionStage));
+    for (Map.Entry<String, CompletionStage<QuarkusCqlSession>> entry : namedSessions.entrySet()) {
+      responses.put(entry.getKey(), checkOrDown(entry.getValue()));
+    }
     return Uni.createFrom()
         .completionStage(
-            cqlSessionCompletionStage.thenCompose(
-                cqlSession ->
-                    cqlSession
-                        .executeAsync(HEALTH_CHECK_QUERY)
-                        .thenApply(AsyncPagingIterable::one)
-                        .thenApply(
-                            result -> {
-                              HealthCheckResponseBuilder builder =
-                                  HealthCheckResponse.named(HEALTH_CHECK_NAME).up();
-                              if (result == null) {
-                                return builder
-                                    .down()
-                                    .withData("reason", "system.local returned null")
-                                    .build();
-                              }
-                              for (Map.Entry<String, String> entry :
-                                  extractInfoFromResult(result).entrySet()) {
-                                builder.withData(entry.getKey(), entry.getValue());
-                              }
-                              return builder
-                                  .withData(
-                                      "numberOfNodes", cqlSession.getMetadata().getNodes().size())
-                                  .up()
-                                  .build();
-                            })
-                        .exceptionally(
-                            ex -> {
-                              HealthCheckResponseBuilder builder =
-                                  HealthCheckResponse.named(HEALTH_CHECK_NAME).up();
-                              return builder.down().withData("reason", ex.getMessage()).build();
-                            })));
+            CompletableFuture.allOf(
+                    responses.values().stream()
+                        .map(CompletionStage::toCompletableFuture)
+                        .toArray(CompletableFuture[]::new))
+                .thenApply(
+                    v -> {
+                      HealthCheckResponseBuilder builder =
+                          HealthCheckResponse.named(HEALTH_CHECK_NAME).up();
+                      for (Map.Entry<String, CompletionStage<HealthCheckResponse>> entry :
+                          responses.entrySet()) {
+                        HealthCheckResponse response =
+                            entry.getValue().toCompletableFuture().join();
+                        String prefix = entry.getKey() == null ? "" : entry.getKey() + ".";
+                        if (response.getStatus() == HealthCheckResponse.Status.DOWN) {
+                          builder.down();
+                        }
+                        response
+                            .getData()
+                            .ifPresent(
+                                data ->
+                                    data.forEach(
+                                        (key, value) -> withData(builder, prefix + key, value)));
+                      }
+                      return builder.build();
+                    }));
+  }
+
+  private CompletionStage<HealthCheckResponse> check(
+      CompletionStage<QuarkusCqlSession> sessionStage) {
+    return sessionStage.thenCompose(
+        cqlSession ->
+            cqlSession
+                .executeAsync(HEALTH_CHECK_QUERY)
+                .thenApply(AsyncPagingIterable::one)
+                .thenApply(
+                    result -> {
+                      HealthCheckResponseBuilder builder =
+                          HealthCheckResponse.named(HEALTH_CHECK_NAME).up();
+                      if (result == null) {
+                        return builder
+                            .down()
+                            .withData("reason", "system.local returned null")
+                            .build();
+                      }
+                      for (Map.Entry<String, String> entry :
+                          extractInfoFromResult(result).entrySet()) {
+                        builder.withData(entry.getKey(), entry.getValue());
+                      }
+                      return builder
+                          .withData("numberOfNodes", cqlSession.getMetadata().getNodes().size())
+                          .up()
+                          .build();
+                    })
+                .exceptionally(
+                    ex -> {
+                      HealthCheckResponseBuilder builder =
+                          HealthCheckResponse.named(HEALTH_CHECK_NAME).up();
+                      return builder.down().withData("reason", ex.getMessage()).build();
+                    }));
+  }
+
+  private CompletionStage<HealthCheckResponse> checkOrDown(
+      CompletionStage<QuarkusCqlSession> sessionStage) {
+    // a client that failed to initialize must not prevent the other clients from being reported
+    return check(sessionStage)
+        .exceptionally(
+            ex ->
+                HealthCheckResponse.named(HEALTH_CHECK_NAME)
+                    .down()
+                    .withData("reason", ex.getMessage())
+                    .build());
+  }
+
+  private static void withData(HealthCheckResponseBuilder builder, String key, Object value) {
+    if (value instanceof Number) {
+      builder.withData(key, ((Number) value).longValue());
+    } else if (value instanceof Boolean) {
+      builder.withData(key, (Boolean) value);
+    } else {
+      builder.withData(key, (String) value);
+    }
   }
 
   private Map<String, String> extractInfoFromResult(Row result) {
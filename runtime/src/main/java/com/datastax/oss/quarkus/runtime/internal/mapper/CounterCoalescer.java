@@ -0,0 +1,341 @@
+/*
+ * Copyright DataStax, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.quarkus.runtime.internal.mapper;
+
+import com.datastax.oss.driver.api.core.context.DriverContext;
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
+import com.datastax.oss.driver.api.core.cql.BoundStatement;
+import com.datastax.oss.driver.api.core.cql.Statement;
+import com.datastax.oss.driver.api.mapper.MapperContext;
+import com.datastax.oss.driver.internal.core.context.InternalDriverContext;
+import com.datastax.oss.quarkus.runtime.internal.context.QuarkusDriverContext;
+import com.datastax.oss.quarkus.runtime.internal.context.SessionMeters;
+import com.datastax.oss.quarkus.runtime.internal.reactive.InFlightLimiter;
+import com.datastax.oss.quarkus.runtime.internal.reactive.MutinyWrappers;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import io.smallrye.mutiny.Uni;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.LongConsumer;
+import java.util.function.LongSupplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Accumulates the increments of a counter table in memory, and writes them as one aggregated
+ * increment per primary key; used by generated DAO methods annotated with {@link
+ * com.datastax.oss.quarkus.runtime.api.mapper.CoalescedIncrement}.
+ *
+ * <p>Pending increments are kept in a concurrent map keyed by primary key values, holding one sum
+ * per counter column. Adding an increment only locks the bin of its key in the map, so that
+ * concurrent increments of different keys don't contend. A flush is scheduled a fixed delay after
+ * the first increment added since the previous flush, or runs right away once the maximum number of
+ * pending keys is reached. A flush removes every pending key from the map, and writes its sums with
+ * a single statement; increments added to a key while it is being flushed start a new entry, and
+ * are written by the next flush.
+ */
+public class CounterCoalescer {
+
+  private static final Logger LOG = LoggerFactory.getLogger(CounterCoalescer.class);
+
+  /**
+   * Creates a coalescer for the given DAO method, and registers its meters if metrics are enabled
+   * with Micrometer.
+   *
+   * @param binder creates the statement that writes the given increments to the given key.
+   * @param executor executes the statements.
+   */
+  @NonNull
+  public static CounterCoalescer create(
+      @NonNull MapperContext context,
+      @NonNull String daoName,
+      @NonNull String methodName,
+      long flushIntervalNanos,
+      int maxPendingKeys,
+      @NonNull BiFunction<List<Object>, long[], BoundStatement> binder,
+      @NonNull Function<Statement<?>, CompletionStage<AsyncResultSet>> executor) {
+    InternalDriverContext driverContext = (InternalDriverContext) context.getSession().getContext();
+    CounterCoalescer coalescer =
+        new CounterCoalescer(
+            flushIntervalNanos,
+            maxPendingKeys,
+            binder,
+            executor,
+            driverContext.getNettyOptions().adminEventExecutorGroup(),
+            limiter(driverContext),
+            System::nanoTime);
+    CounterCoalescerMetrics metrics =
+        SessionMeters.register(
+            driverContext,
+            (registry, prefix, sessionName) ->
+                new CounterCoalescerMetrics(
+                    registry, coalescer, prefix, sessionName, daoName, methodName));
+    if (metrics != null) {
+      coalescer.meterRemover = metrics::remove;
+    }
+    if (driverContext instanceof QuarkusDriverContext) {
+      QuarkusDriverContext quarkusContext = (QuarkusDriverContext) driverContext;
+      quarkusContext.addCounterCoalescer(coalescer);
+      coalescer.unregister = () -> quarkusContext.removeCounterCoalescer(coalescer);
+    }
+    LOG.debug(
+        "Coalescing the increments of {}.{} (flush interval = {} ns, max pending keys = {})",
+        daoName,
+        methodName,
+        flushIntervalNanos,
+        maxPendingKeys);
+    return coalescer;
+  }
+
+  private final long flushIntervalNanos;
+  private final int maxPendingKeys;
+  private final BiFunction<List<Object>, long[], BoundStatement> binder;
+  private final Function<Statement<?>, CompletionStage<AsyncResultSet>> executor;
+  private final ScheduledExecutorService scheduler;
+  private final InFlightLimiter limiter;
+  private final LongSupplier clock;
+
+  private final ConcurrentHashMap<List<Object>, Pending> pending = new ConcurrentHashMap<>();
+  private final AtomicBoolean flushScheduled = new AtomicBoolean();
+  private volatile boolean closed;
+
+  private volatile Runnable meterRemover;
+  private volatile Runnable unregister;
+  private volatile LongConsumer flushLagRecorder;
+
+  private final LongAdder increments = new LongAdder();
+  private final LongAdder writes = new LongAdder();
+
+  CounterCoalescer(
+      long flushIntervalNanos,
+      int maxPendingKeys,
+      @NonNull BiFunction<List<Object>, long[], BoundStatement> binder,
+      @NonNull Function<Statement<?>, CompletionStage<AsyncResultSet>> executor,
+      @NonNull ScheduledExecutorService scheduler,
+      @Nullable InFlightLimiter limiter,
+      @NonNull LongSupplier clock) {
+    if (flushIntervalNanos <= 0) {
+      throw new IllegalArgumentException("flushIntervalNanos must be strictly positive");
+    }
+    if (maxPendingKeys <= 0) {
+      throw new IllegalArgumentException("maxPendingKeys must be strictly positive");
+    }
+    this.flushIntervalNanos = flushIntervalNanos;
+    this.maxPendingKeys = maxPendingKeys;
+    this.binder = binder;
+    this.executor = executor;
+    this.scheduler = scheduler;
+    this.limiter = limiter;
+    this.clock = clock;
+  }
+
+  /**
+   * Adds the given increments to the given key, and returns a stage that completes when they are
+   * written. Once this coalescer is closed, increments are written right away.
+   *
+   * @param key the primary key values.
+   * @param deltas the increments, one per counter column, in the order of the statement.
+   */
+  @NonNull
+  public CompletionStage<Void> add(@NonNull List<Object> key, @NonNull long[] deltas) {
+    increments.increment();
+    if (closed) {
+      Pending single = new Pending(deltas.length, clock.getAsLong());
+      single.add(deltas);
+      return write(key, single);
+    }
+    long now = clock.getAsLong();
+    Pending[] added = new Pending[1];
+    pending.compute(
+        key,
+        (k, entry) -> {
+          if (entry == null) {
+            entry = new Pending(deltas.length, now);
+          }
+          entry.add(deltas);
+          added[0] = entry;
+          return entry;
+        });
+    if (pending.size() >= maxPendingKeys) {
+      flush();
+    } else {
+      scheduleFlush();
+    }
+    return added[0].result;
+  }
+
+  /**
+   * Returns a {@link Uni} that adds the given increments to the given key on subscription, and
+   * completes when they are written.
+   */
+  @NonNull
+  public Uni<Void> addUni(@NonNull List<Object> key, @NonNull long[] deltas) {
+    return MutinyWrappers.toUni(() -> add(key, deltas));
+  }
+
+  /**
+   * Writes all the pending increments, and returns a stage that completes when they are written.
+   * The stage never fails: write failures are reported to the callers of {@link #add}.
+   */
+  @NonNull
+  public CompletionStage<Void> flush() {
+    flushScheduled.set(false);
+    List<CompletableFuture<Void>> results = new ArrayList<>();
+    for (List<Object> key : pending.keySet()) {
+      Pending entry = pending.remove(key);
+      if (entry != null) {
+        results.add(write(key, entry).exceptionally(error -> null));
+      }
+    }
+    if (!pending.isEmpty() && !closed) {
+      // increments were added while flushing
+      scheduleFlush();
+    }
+    return CompletableFuture.allOf(results.toArray(new CompletableFuture<?>[0]));
+  }
+
+  /**
+   * Flushes the pending increments, and removes the meters of this coalescer, if any. The coalescer
+   * remains usable, but writes further increments right away.
+   */
+  @NonNull
+  public CompletionStage<Void> close() {
+    closed = true;
+    Runnable unregister = this.unregister;
+    if (unregister != null) {
+      this.unregister = null;
+      unregister.run();
+    }
+    Runnable remover = meterRemover;
+    if (remover != null) {
+      meterRemover = null;
+      remover.run();
+    }
+    return flush();
+  }
+
+  /** The number of keys with pending increments. */
+  public int getPendingKeys() {
+    return pending.size();
+  }
+
+  /** The number of increments added to this coalescer. */
+  public long getIncrements() {
+    return increments.sum();
+  }
+
+  /** The number of statements written by this coalescer. */
+  public long getWrites() {
+    return writes.sum();
+  }
+
+  /**
+   * Sets the consumer notified, for every written key, of the time in nanoseconds between its first
+   * pending increment and the completion of its write.
+   */
+  void setFlushLagRecorder(@Nullable LongConsumer flushLagRecorder) {
+    this.flushLagRecorder = flushLagRecorder;
+  }
+
+  private void scheduleFlush() {
+    if (flushScheduled.compareAndSet(false, true)) {
+      try {
+        scheduler.schedule((Runnable) this::flush, flushIntervalNanos, TimeUnit.NANOSECONDS);
+      } catch (RejectedExecutionException e) {
+        // the scheduler is shutting down along with the session: don't wait
+        flush();
+      }
+    }
+  }
+
+  private CompletableFuture<Void> write(List<Object> key, Pending entry) {
+    if (entry.isZero()) {
+      entry.result.complete(null);
+      return entry.result;
+    }
+    CompletionStage<AsyncResultSet> stage;
+    try {
+      BoundStatement statement = binder.apply(key, entry.deltas);
+      stage =
+          limiter == null
+              ? executor.apply(statement)
+              : limiter.execute(() -> executor.apply(statement));
+    } catch (Throwable t) {
+      stage = CompletableFuture.failedFuture(t);
+    }
+    writes.increment();
+    stage.whenComplete(
+        (resultSet, error) -> {
+          LongConsumer recorder = flushLagRecorder;
+          if (recorder != null) {
+            recorder.accept(clock.getAsLong() - entry.since);
+          }
+          if (error == null) {
+            entry.result.complete(null);
+          } else {
+            LOG.warn("Could not write the coalesced increments of key {}", key, error);
+            entry.result.completeExceptionally(error);
+          }
+        });
+    return entry.result;
+  }
+
+  @Nullable
+  private static InFlightLimiter limiter(DriverContext context) {
+    return context instanceof QuarkusDriverContext
+        ? ((QuarkusDriverContext) context).getBulkWriteLimiter()
+        : null;
+  }
+
+  private static class Pending {
+
+    // only accessed while the key is locked in the map, or once it was removed from the map
+    final long[] deltas;
+    final long since;
+    final CompletableFuture<Void> result = new CompletableFuture<>();
+
+    Pending(int counters, long since) {
+      this.deltas = new long[counters];
+      this.since = since;
+    }
+
+    void add(long[] increments) {
+      for (int i = 0; i < deltas.length; i++) {
+        deltas[i] += increments[i];
+      }
+    }
+
+    boolean isZero() {
+      for (long delta : deltas) {
+        if (delta != 0) {
+          return false;
+        }
+      }
+      return true;
+    }
+  }
+}
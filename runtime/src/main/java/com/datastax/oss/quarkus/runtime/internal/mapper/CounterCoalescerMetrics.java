@@ -0,0 +1,96 @@
+/*
+ * Copyright DataStax, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.quarkus.runtime.internal.mapper;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Publishes Micrometer meters for a {@link CounterCoalescer}.
+ *
+ * <p>This class references Micrometer types and must only be loaded when Micrometer is on the
+ * classpath.
+ *
+ * <p>The following meters are registered, all tagged with the session name, the DAO and the method:
+ *
+ * <ul>
+ *   <li>{@code <prefix>.dao.coalesced-increments.increments}: the number of increments added;
+ *   <li>{@code <prefix>.dao.coalesced-increments.writes}: the number of aggregated increments
+ *       written;
+ *   <li>{@code <prefix>.dao.coalesced-increments.pending-keys}: the current number of keys with
+ *       pending increments;
+ *   <li>{@code <prefix>.dao.coalesced-increments.flush-lag}: the time between the first pending
+ *       increment of a key and the completion of its write.
+ * </ul>
+ *
+ * The counters and the gauge only hold a weak reference to the coalescer; all meters are removed
+ * from the registry when the DAO is evicted from its mapper.
+ */
+public class CounterCoalescerMetrics {
+
+  private final MeterRegistry registry;
+  private final List<Meter> meters = new ArrayList<>();
+
+  public CounterCoalescerMetrics(
+      @NonNull Object registry,
+      @NonNull CounterCoalescer coalescer,
+      @NonNull String prefix,
+      @NonNull String sessionName,
+      @NonNull String daoName,
+      @NonNull String methodName) {
+    this.registry = (MeterRegistry) registry;
+    String baseName =
+        prefix.isEmpty() ? "dao.coalesced-increments." : prefix + ".dao.coalesced-increments.";
+    Tags tags = Tags.of("session", sessionName, "dao", daoName, "method", methodName);
+    meters.add(
+        FunctionCounter.builder(baseName + "increments", coalescer, CounterCoalescer::getIncrements)
+            .tags(tags)
+            .description("Increments added to the coalescer")
+            .register(this.registry));
+    meters.add(
+        FunctionCounter.builder(baseName + "writes", coalescer, CounterCoalescer::getWrites)
+            .tags(tags)
+            .description("Aggregated increments written by the coalescer")
+            .register(this.registry));
+    meters.add(
+        Gauge.builder(baseName + "pending-keys", coalescer, CounterCoalescer::getPendingKeys)
+            .tags(tags)
+            .description("The number of keys with pending increments")
+            .register(this.registry));
+    Timer flushLag =
+        Timer.builder(baseName + "flush-lag")
+            .tags(tags)
+            .description(
+                "The time between the first pending increment of a key and the completion of "
+                    + "its write")
+            .register(this.registry);
+    meters.add(flushLag);
+    coalescer.setFlushLagRecorder(nanos -> flushLag.record(nanos, TimeUnit.NANOSECONDS));
+  }
+
+  /** Removes all the meters of the coalescer from the registry. */
+  public void remove() {
+    meters.forEach(registry::remove);
+  }
+}
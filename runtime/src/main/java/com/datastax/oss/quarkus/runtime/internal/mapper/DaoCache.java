@@ -0,0 +1,365 @@
+/*
+ * Copyright DataStax, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.quarkus.runtime.internal.mapper;
+
+import com.datastax.oss.driver.api.core.CqlIdentifier;
+import com.datastax.oss.driver.api.mapper.MapperContext;
+import com.datastax.oss.quarkus.runtime.internal.context.SessionMeters;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A bounded in-process cache of entities, keyed by primary key values, used by generated DAO
+ * methods annotated with {@link com.datastax.oss.quarkus.runtime.api.mapper.Cached}.
+ *
+ * <p>Entries are evicted in least-recently-used order once the maximum size is reached, and expire
+ * a fixed delay after they were loaded. Null results are never cached.
+ *
+ * <p>Every invalidation bumps a generation counter; a load only stores its result if no
+ * invalidation happened since it started. Writes go through the {@code invalidating} methods, which
+ * invalidate the written key both before the write is executed and once it has completed: the first
+ * invalidation discards the reads that are in flight during the write, the second one the entries
+ * loaded by reads that started after the first invalidation, but before the write was applied.
+ */
+public class DaoCache<EntityT> {
+
+  private static final Logger LOG = LoggerFactory.getLogger(DaoCache.class);
+
+  /**
+   * Creates a cache for the given DAO, and registers its meters if metrics are enabled with
+   * Micrometer.
+   */
+  @NonNull
+  public static <EntityT> DaoCache<EntityT> create(
+      @NonNull MapperContext context,
+      @NonNull String daoName,
+      @NonNull String entityName,
+      long maximumSize,
+      long expireAfterWriteNanos) {
+    DaoCache<EntityT> cache = new DaoCache<>(maximumSize, expireAfterWriteNanos, System::nanoTime);
+    DaoCacheMetrics metrics =
+        SessionMeters.register(
+            context.getSession().getContext(),
+            (registry, prefix, sessionName) ->
+                new DaoCacheMetrics(
+                    registry,
+                    cache,
+                    prefix,
+                    sessionName,
+                    daoName,
+                    entityName,
+                    tagValue(context.getKeyspaceId()),
+                    tagValue(context.getTableId())));
+    if (metrics != null) {
+      cache.meterRemover = metrics::remove;
+    }
+    LOG.debug(
+        "Caching {} entities of {} (maximum size = {}, expire after write = {} ns)",
+        entityName,
+        daoName,
+        maximumSize,
+        expireAfterWriteNanos);
+    return cache;
+  }
+
+  private final long maximumSize;
+  private final long expireAfterWriteNanos;
+  private final LongSupplier clock;
+
+  // access-ordered, guarded by this
+  private final LinkedHashMap<List<Object>, Entry<EntityT>> entries =
+      new LinkedHashMap<>(16, 0.75f, true);
+  private long generation;
+
+  private volatile Runnable meterRemover;
+
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder evictions = new LongAdder();
+
+  DaoCache(long maximumSize, long expireAfterWriteNanos, @NonNull LongSupplier clock) {
+    if (maximumSize <= 0) {
+      throw new IllegalArgumentException("maximumSize must be strictly positive");
+    }
+    this.maximumSize = maximumSize;
+    this.expireAfterWriteNanos = expireAfterWriteNanos;
+    this.clock = clock;
+  }
+
+  /** Returns the cached entity for the given key, or loads it synchronously. */
+  public EntityT get(@NonNull List<Object> key, @NonNull Supplier<EntityT> loader) {
+    EntityT cached = lookup(key);
+    if (cached != null) {
+      return cached;
+    }
+    long loadGeneration = generation();
+    EntityT entity = loader.get();
+    store(key, entity, loadGeneration);
+    return entity;
+  }
+
+  /** Returns the cached entity for the given key, or loads it asynchronously. */
+  @NonNull
+  public CompletionStage<EntityT> getAsync(
+      @NonNull List<Object> key, @NonNull Supplier<CompletionStage<EntityT>> loader) {
+    EntityT cached = lookup(key);
+    if (cached != null) {
+      return CompletableFuture.completedFuture(cached);
+    }
+    long loadGeneration = generation();
+    return loader
+        .get()
+        .thenApply(
+            entity -> {
+              store(key, entity, loadGeneration);
+              return entity;
+            });
+  }
+
+  /**
+   * Returns a {@link Uni} that emits the cached entity for the given key, or loads it. The cache is
+   * looked up anew for every subscription.
+   */
+  @NonNull
+  public Uni<EntityT> getUni(@NonNull List<Object> key, @NonNull Supplier<Uni<EntityT>> loader) {
+    return Uni.createFrom()
+        .deferred(
+            () -> {
+              EntityT cached = lookup(key);
+              if (cached != null) {
+                return Uni.createFrom().item(cached);
+              }
+              long loadGeneration = generation();
+              return loader.get().invoke(entity -> store(key, entity, loadGeneration));
+            });
+  }
+
+  /**
+   * Executes a synchronous write that returns nothing, invalidating the given key around it.
+   *
+   * @param key the primary key values of the written entity, or null to invalidate all entries.
+   */
+  public void invalidatingVoid(@Nullable List<Object> key, @NonNull Runnable write) {
+    invalidate0(key);
+    try {
+      write.run();
+    } finally {
+      // even if it failed, the write may have been applied
+      invalidate0(key);
+    }
+  }
+
+  /**
+   * Executes a synchronous write, invalidating the given key around it.
+   *
+   * @param key the primary key values of the written entity, or null to invalidate all entries.
+   */
+  public <ResultT> ResultT invalidating(
+      @Nullable List<Object> key, @NonNull Supplier<ResultT> write) {
+    invalidate0(key);
+    try {
+      return write.get();
+    } finally {
+      invalidate0(key);
+    }
+  }
+
+  /**
+   * Executes an asynchronous write, invalidating the given key before it is executed and once it
+   * has completed.
+   *
+   * @param key the primary key values of the written entity, or null to invalidate all entries.
+   */
+  @NonNull
+  public <ResultT> CompletionStage<ResultT> invalidatingAsync(
+      @Nullable List<Object> key, @NonNull Supplier<? extends CompletionStage<ResultT>> write) {
+    invalidate0(key);
+    CompletionStage<ResultT> stage;
+    try {
+      stage = write.get();
+    } catch (Throwable t) {
+      invalidate0(key);
+      throw t;
+    }
+    return stage.whenComplete((result, error) -> invalidate0(key));
+  }
+
+  /**
+   * Returns a {@link Uni} that executes a write when subscribed to, invalidating the given key
+   * before it is executed and once it has terminated.
+   *
+   * @param key the primary key values of the written entity, or null to invalidate all entries.
+   */
+  @NonNull
+  public <ResultT> Uni<ResultT> invalidatingUni(
+      @Nullable List<Object> key, @NonNull Supplier<Uni<ResultT>> write) {
+    return Uni.createFrom()
+        .deferred(
+            () -> {
+              invalidate0(key);
+              return write.get();
+            })
+        .onTermination()
+        .invoke(() -> invalidate0(key));
+  }
+
+  /**
+   * Returns a {@link Multi} that executes a write when subscribed to, invalidating the given key
+   * before it is executed and once it has terminated.
+   *
+   * @param key the primary key values of the written entity, or null to invalidate all entries.
+   */
+  @NonNull
+  public <ElementT> Multi<ElementT> invalidatingMulti(
+      @Nullable List<Object> key, @NonNull Supplier<Multi<ElementT>> write) {
+    return Multi.createFrom()
+        .deferred(
+            () -> {
+              invalidate0(key);
+              return write.get();
+            })
+        .onTermination()
+        .invoke(() -> invalidate0(key));
+  }
+
+  /** Removes the entity cached for the given key, if any. */
+  public void invalidate(@NonNull List<Object> key) {
+    synchronized (this) {
+      generation++;
+      entries.remove(key);
+    }
+  }
+
+  /** Removes all the cached entities. */
+  public void invalidateAll() {
+    synchronized (this) {
+      generation++;
+      entries.clear();
+    }
+  }
+
+  private void invalidate0(List<Object> key) {
+    if (key == null) {
+      invalidateAll();
+    } else {
+      invalidate(key);
+    }
+  }
+
+  /**
+   * Removes all the cached entities and the meters of this cache, if any. The cache remains usable.
+   */
+  public void close() {
+    invalidateAll();
+    Runnable remover = meterRemover;
+    if (remover != null) {
+      meterRemover = null;
+      remover.run();
+    }
+  }
+
+  public synchronized int size() {
+    return entries.size();
+  }
+
+  public long getHits() {
+    return hits.sum();
+  }
+
+  public long getMisses() {
+    return misses.sum();
+  }
+
+  /** The number of entries evicted because of the maximum size or because they expired. */
+  public long getEvictions() {
+    return evictions.sum();
+  }
+
+  private EntityT lookup(List<Object> key) {
+    EntityT entity = null;
+    synchronized (this) {
+      Entry<EntityT> entry = entries.get(key);
+      if (entry != null) {
+        if (isExpired(entry, clock.getAsLong())) {
+          entries.remove(key);
+          evictions.increment();
+        } else {
+          entity = entry.entity;
+        }
+      }
+    }
+    if (entity == null) {
+      misses.increment();
+    } else {
+      hits.increment();
+    }
+    return entity;
+  }
+
+  private synchronized long generation() {
+    return generation;
+  }
+
+  private void store(List<Object> key, EntityT entity, long loadGeneration) {
+    if (entity == null) {
+      return;
+    }
+    synchronized (this) {
+      if (generation != loadGeneration) {
+        return;
+      }
+      long now = clock.getAsLong();
+      entries.put(key, new Entry<>(entity, now));
+      // entries are in access order: the eldest one is the least recently used
+      Iterator<Entry<EntityT>> iterator = entries.values().iterator();
+      while (entries.size() > maximumSize) {
+        iterator.next();
+        iterator.remove();
+        evictions.increment();
+      }
+    }
+  }
+
+  private boolean isExpired(Entry<EntityT> entry, long now) {
+    return expireAfterWriteNanos > 0 && now - entry.loadedAt >= expireAfterWriteNanos;
+  }
+
+  private static String tagValue(CqlIdentifier identifier) {
+    return identifier == null ? "" : identifier.asInternal();
+  }
+
+  private static class Entry<EntityT> {
+    final EntityT entity;
+    final long loadedAt;
+
+    Entry(EntityT entity, long loadedAt) {
+      this.entity = entity;
+      this.loadedAt = loadedAt;
+    }
+  }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright DataStax, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.quarkus.runtime.internal.mapper;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Publishes Micrometer meters for a {@link DaoCache}.
+ *
+ * <p>This class references Micrometer types and must only be loaded when Micrometer is on the
+ * classpath.
+ *
+ * <p>The following meters are registered, all tagged with the session name, the DAO, the entity,
+ * and the keyspace and table the DAO was created with, if any:
+ *
+ * <ul>
+ *   <li>{@code <prefix>.dao.cache.hits}: the number of lookups served by the cache;
+ *   <li>{@code <prefix>.dao.cache.misses}: the number of lookups that went to the database;
+ *   <li>{@code <prefix>.dao.cache.evictions}: the number of entries evicted because the cache was
+ *       full or because they expired;
+ *   <li>{@code <prefix>.dao.cache.size}: the current number of entries.
+ * </ul>
+ *
+ * Meters only hold a weak reference to the cache, and stop reporting once the DAO has been garbage
+ * collected; they are removed from the registry when the DAO is evicted from its mapper.
+ */
+public class DaoCacheMetrics {
+
+  private final MeterRegistry registry;
+  private final List<Meter> meters = new ArrayList<>();
+
+  public DaoCacheMetrics(
+      @NonNull Object registry,
+      @NonNull DaoCache<?> cache,
+      @NonNull String prefix,
+      @NonNull String sessionName,
+      @NonNull String daoName,
+      @NonNull String entityName,
+      @NonNull String keyspace,
+      @NonNull String table) {
+    this.registry = (MeterRegistry) registry;
+    String baseName = prefix.isEmpty() ? "dao.cache." : prefix + ".dao.cache.";
+    Tags tags =
+        Tags.of(
+            "session", sessionName,
+            "dao", daoName,
+            "entity", entityName,
+            "keyspace", keyspace,
+            "table", table);
+    registerCounter(
+        baseName + "hits", tags, cache, DaoCache::getHits, "Lookups served by the DAO cache");
+    registerCounter(
+        baseName + "misses", tags, cache, DaoCache::getMisses, "Lookups missed by the DAO cache");
+    registerCounter(
+        baseName + "evictions",
+        tags,
+        cache,
+        DaoCache::getEvictions,
+        "Entries evicted from the DAO cache because it was full or they expired");
+    meters.add(
+        Gauge.builder(baseName + "size", cache, DaoCache::size)
+            .tags(tags)
+            .description("The number of entries in the DAO cache")
+            .register(this.registry));
+  }
+
+  /** Removes all the meters of the cache from the registry. */
+  public void remove() {
+    meters.forEach(registry::remove);
+  }
+
+  private void registerCounter(
+      String name,
+      Tags tags,
+      DaoCache<?> cache,
+      ToDoubleFunction<DaoCache<?>> count,
+      String description) {
+    meters.add(
+        FunctionCounter.builder(name, cache, count)
+            .tags(tags)
+            .description(description)
+            .register(registry));
+  }
+}
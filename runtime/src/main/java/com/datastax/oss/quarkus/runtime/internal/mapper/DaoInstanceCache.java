@@ -0,0 +1,262 @@
+/*
+ * Copyright DataStax, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.quarkus.runtime.internal.mapper;
+
+import com.datastax.oss.driver.api.mapper.MapperContext;
+import com.datastax.oss.driver.internal.core.util.concurrent.CompletableFutures;
+import com.datastax.oss.driver.internal.mapper.DaoCacheKey;
+import com.datastax.oss.quarkus.runtime.internal.context.SessionMeters;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A bounded cache of the DAO instances created by a mapper's {@code @DaoFactory} method that takes
+ * {@code @DaoKeyspace}, {@code @DaoTable} or {@code @DaoProfile} parameters.
+ *
+ * <p>Instances are evicted in least-recently-used order once the maximum size is reached, and
+ * expire when they have not been requested for a fixed delay. Evicted instances are {@linkplain
+ * ReleasableDao#releaseResources() released}; their prepared statements are not referenced anymore
+ * and can be reclaimed by the session's prepared statement cache. A DAO that is still referenced
+ * elsewhere remains usable after it has been evicted.
+ *
+ * <p>The cached values are either DAOs or stages of DAOs, depending on the return type of the
+ * factory method; a stage that fails is removed from the cache, so that the next call retries.
+ */
+public class DaoInstanceCache<DaoT> {
+
+  private static final Logger LOG = LoggerFactory.getLogger(DaoInstanceCache.class);
+
+  /**
+   * Creates a cache for the given DAO factory method, and registers its meters if metrics are
+   * enabled with Micrometer.
+   */
+  @NonNull
+  public static <DaoT> DaoInstanceCache<DaoT> create(
+      @NonNull MapperContext context,
+      @NonNull String mapperName,
+      @NonNull String methodName,
+      long maximumSize,
+      long expireAfterAccessNanos) {
+    DaoInstanceCache<DaoT> cache =
+        new DaoInstanceCache<>(maximumSize, expireAfterAccessNanos, System::nanoTime);
+    SessionMeters.register(
+        context.getSession().getContext(),
+        (registry, prefix, sessionName) ->
+            new DaoInstanceCacheMetrics(
+                registry, cache, prefix, sessionName, mapperName, methodName));
+    LOG.debug(
+        "Caching DAO instances of {}.{} (maximum size = {}, expire after access = {} ns)",
+        mapperName,
+        methodName,
+        maximumSize,
+        expireAfterAccessNanos);
+    return cache;
+  }
+
+  private final long maximumSize;
+  private final long expireAfterAccessNanos;
+  private final LongSupplier clock;
+
+  // access-ordered, guarded by this
+  private final LinkedHashMap<DaoCacheKey, Entry<DaoT>> entries =
+      new LinkedHashMap<>(16, 0.75f, true);
+  // the DAOs being created, guarded by this
+  private final Map<DaoCacheKey, CompletableFuture<DaoT>> loading = new HashMap<>();
+
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder evictions = new LongAdder();
+
+  DaoInstanceCache(long maximumSize, long expireAfterAccessNanos, @NonNull LongSupplier clock) {
+    if (maximumSize <= 0) {
+      throw new IllegalArgumentException("maximumSize must be strictly positive");
+    }
+    this.maximumSize = maximumSize;
+    this.expireAfterAccessNanos = expireAfterAccessNanos;
+    this.clock = clock;
+  }
+
+  /**
+   * Returns the DAO cached for the given key, or creates it. The factory is invoked outside of any
+   * lock, and at most once at a time for a given key: threads that request a key while its DAO is
+   * being created wait for it, instead of each creating (and preparing the statements of) their
+   * own.
+   */
+  @NonNull
+  public DaoT get(@NonNull DaoCacheKey key, @NonNull Function<DaoCacheKey, DaoT> factory) {
+    List<DaoT> evicted = new ArrayList<>();
+    DaoT dao;
+    CompletableFuture<DaoT> inFlight;
+    CompletableFuture<DaoT> creating = null;
+    synchronized (this) {
+      dao = lookup(key, evicted);
+      inFlight = dao == null ? loading.get(key) : null;
+      if (dao == null && inFlight == null) {
+        creating = new CompletableFuture<>();
+        loading.put(key, creating);
+      }
+    }
+    evicted.forEach(DaoInstanceCache::release);
+    if (dao != null) {
+      hits.increment();
+      return dao;
+    }
+    misses.increment();
+    if (inFlight != null) {
+      return CompletableFutures.getUninterruptibly(inFlight);
+    }
+    try {
+      dao = factory.apply(key);
+    } catch (Throwable t) {
+      synchronized (this) {
+        loading.remove(key);
+      }
+      creating.completeExceptionally(t);
+      throw t;
+    }
+    evicted.clear();
+    synchronized (this) {
+      loading.remove(key);
+      entries.put(key, new Entry<>(dao, clock.getAsLong()));
+      evictEldest(evicted);
+    }
+    creating.complete(dao);
+    if (dao instanceof CompletionStage) {
+      DaoT stage = dao;
+      ((CompletionStage<?>) stage)
+          .whenComplete(
+              (instance, error) -> {
+                if (error != null) {
+                  remove(key, stage);
+                }
+              });
+    }
+    evicted.forEach(DaoInstanceCache::release);
+    return dao;
+  }
+
+  /** Removes and releases all the cached DAOs. */
+  public void invalidateAll() {
+    List<DaoT> evicted;
+    synchronized (this) {
+      evicted = new ArrayList<>(entries.size());
+      for (Entry<DaoT> entry : entries.values()) {
+        evicted.add(entry.dao);
+      }
+      entries.clear();
+    }
+    evicted.forEach(DaoInstanceCache::release);
+  }
+
+  public synchronized int size() {
+    return entries.size();
+  }
+
+  public long getHits() {
+    return hits.sum();
+  }
+
+  public long getMisses() {
+    return misses.sum();
+  }
+
+  /** The number of DAOs evicted because of the maximum size or because they expired. */
+  public long getEvictions() {
+    return evictions.sum();
+  }
+
+  // must be called while holding the lock
+  private DaoT lookup(DaoCacheKey key, List<DaoT> evicted) {
+    Entry<DaoT> entry = entries.get(key);
+    if (entry == null) {
+      return null;
+    }
+    long now = clock.getAsLong();
+    if (isExpired(entry, now)) {
+      entries.remove(key);
+      evictions.increment();
+      evicted.add(entry.dao);
+      return null;
+    }
+    entry.accessedAt = now;
+    return entry.dao;
+  }
+
+  // must be called while holding the lock
+  private void evictEldest(List<DaoT> evicted) {
+    long now = clock.getAsLong();
+    // entries are in access order: the eldest one is the least recently used, and expires first
+    Iterator<Entry<DaoT>> iterator = entries.values().iterator();
+    while (iterator.hasNext()) {
+      Entry<DaoT> eldest = iterator.next();
+      if (entries.size() <= maximumSize && !isExpired(eldest, now)) {
+        break;
+      }
+      iterator.remove();
+      evictions.increment();
+      evicted.add(eldest.dao);
+    }
+  }
+
+  private void remove(DaoCacheKey key, DaoT dao) {
+    synchronized (this) {
+      Entry<DaoT> entry = entries.get(key);
+      if (entry != null && entry.dao == dao) {
+        entries.remove(key);
+      }
+    }
+  }
+
+  private boolean isExpired(Entry<DaoT> entry, long now) {
+    return expireAfterAccessNanos > 0 && now - entry.accessedAt >= expireAfterAccessNanos;
+  }
+
+  private static void release(Object dao) {
+    if (dao instanceof ReleasableDao) {
+      ((ReleasableDao) dao).releaseResources();
+    } else if (dao instanceof CompletionStage) {
+      ((CompletionStage<?>) dao)
+          .thenAccept(
+              instance -> {
+                if (instance instanceof ReleasableDao) {
+                  ((ReleasableDao) instance).releaseResources();
+                }
+              });
+    }
+  }
+
+  private static class Entry<DaoT> {
+    final DaoT dao;
+    long accessedAt;
+
+    Entry(DaoT dao, long accessedAt) {
+      this.dao = dao;
+      this.accessedAt = accessedAt;
+    }
+  }
+}
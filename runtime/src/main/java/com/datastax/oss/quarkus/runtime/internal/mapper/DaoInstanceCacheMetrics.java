@@ -0,0 +1,92 @@
+/*
+ * Copyright DataStax, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.quarkus.runtime.internal.mapper;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Publishes Micrometer meters for a {@link DaoInstanceCache}.
+ *
+ * <p>This class references Micrometer types and must only be loaded when Micrometer is on the
+ * classpath.
+ *
+ * <p>The following meters are registered, all tagged with the session name, the mapper and the DAO
+ * factory method:
+ *
+ * <ul>
+ *   <li>{@code <prefix>.mapper.dao-instances.hits}: the number of calls that returned a cached DAO;
+ *   <li>{@code <prefix>.mapper.dao-instances.misses}: the number of calls that created a DAO;
+ *   <li>{@code <prefix>.mapper.dao-instances.evictions}: the number of DAOs evicted because the
+ *       cache was full or because they expired;
+ *   <li>{@code <prefix>.mapper.dao-instances.size}: the current number of cached DAOs.
+ * </ul>
+ */
+public class DaoInstanceCacheMetrics {
+
+  private final MeterRegistry registry;
+
+  public DaoInstanceCacheMetrics(
+      @NonNull Object registry,
+      @NonNull DaoInstanceCache<?> cache,
+      @NonNull String prefix,
+      @NonNull String sessionName,
+      @NonNull String mapperName,
+      @NonNull String methodName) {
+    this.registry = (MeterRegistry) registry;
+    String baseName =
+        prefix.isEmpty() ? "mapper.dao-instances." : prefix + ".mapper.dao-instances.";
+    Tags tags = Tags.of("session", sessionName, "mapper", mapperName, "method", methodName);
+    registerCounter(
+        baseName + "hits",
+        tags,
+        cache,
+        DaoInstanceCache::getHits,
+        "DAO factory calls that returned a cached DAO");
+    registerCounter(
+        baseName + "misses",
+        tags,
+        cache,
+        DaoInstanceCache::getMisses,
+        "DAO factory calls that created a DAO");
+    registerCounter(
+        baseName + "evictions",
+        tags,
+        cache,
+        DaoInstanceCache::getEvictions,
+        "DAOs evicted from the mapper because it was full or they expired");
+    Gauge.builder(baseName + "size", cache, DaoInstanceCache::size)
+        .tags(tags)
+        .description("The number of DAOs cached by the mapper")
+        .register(this.registry);
+  }
+
+  private void registerCounter(
+      String name,
+      Tags tags,
+      DaoInstanceCache<?> cache,
+      ToDoubleFunction<DaoInstanceCache<?>> count,
+      String description) {
+    FunctionCounter.builder(name, cache, count)
+        .tags(tags)
+        .description(description)
+        .register(registry);
+  }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright DataStax, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.quarkus.runtime.internal.mapper;
+
+import com.datastax.oss.driver.internal.core.util.concurrent.CompletableFutures;
+import com.datastax.oss.quarkus.runtime.api.reactive.MutinyReactiveResultSet;
+import com.datastax.oss.quarkus.runtime.api.reactive.mapper.MutinyMappedReactiveResultSet;
+import com.datastax.oss.quarkus.runtime.internal.reactive.DeferredMutinyReactiveResultSet;
+import com.datastax.oss.quarkus.runtime.internal.reactive.MutinyWrappers;
+import com.datastax.oss.quarkus.runtime.internal.reactive.mapper.DeferredMutinyMappedReactiveResultSet;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+
+/**
+ * The target of a generated lazy mapper or DAO facade: a bean that may still be initializing.
+ *
+ * <p>The operations returning a Mutiny type or a {@link CompletionStage} compose on the
+ * initialization and never block; {@link #get()} blocks until the bean is ready, and is only meant
+ * for the facade methods that return a value synchronously.
+ *
+ * <p>The Mutiny operations invoke the target bean on the caller's Vert.x context, if any, even when
+ * the initialization completes on another thread.
+ *
+ * @param <T> the type of the target bean.
+ */
+public class LazyDelegate<T> {
+
+  @NonNull
+  public static <T> LazyDelegate<T> of(@NonNull CompletionStage<T> stage) {
+    return new LazyDelegate<>(stage);
+  }
+
+  private final CompletionStage<T> stage;
+
+  private LazyDelegate(CompletionStage<T> stage) {
+    this.stage = stage;
+  }
+
+  /** Returns the stage that completes when the target bean is initialized. */
+  @NonNull
+  public CompletionStage<T> stage() {
+    return stage;
+  }
+
+  /** Blocks until the target bean is initialized, then returns it. */
+  @NonNull
+  public T get() {
+    return CompletableFutures.getUninterruptibly(stage);
+  }
+
+  /**
+   * Returns a delegate for the bean obtained by applying {@code factory} to the target bean. The
+   * factory may block, e.g. to prepare the statements of a DAO; it is therefore invoked on the
+   * Mutiny default worker pool.
+   */
+  @NonNull
+  public <R> LazyDelegate<R> map(@NonNull Function<? super T, ? extends R> factory) {
+    return new LazyDelegate<>(stage.thenApplyAsync(factory, Infrastructure.getDefaultWorkerPool()));
+  }
+
+  @NonNull
+  public <R> CompletionStage<R> stage(
+      @NonNull Function<? super T, ? extends CompletionStage<R>> call) {
+    return stage.thenCompose(call);
+  }
+
+  @NonNull
+  public <R> Uni<R> uni(@NonNull Function<? super T, Uni<? extends R>> call) {
+    return ready().flatMap(call);
+  }
+
+  @NonNull
+  public <R> Multi<R> multi(@NonNull Function<? super T, ? extends Multi<? extends R>> call) {
+    return ready().onItem().transformToMulti(call);
+  }
+
+  @NonNull
+  public MutinyReactiveResultSet resultSet(
+      @NonNull Function<? super T, MutinyReactiveResultSet> call) {
+    return new DeferredMutinyReactiveResultSet(ready().map(call));
+  }
+
+  @NonNull
+  public <R> MutinyMappedReactiveResultSet<R> mappedResultSet(
+      @NonNull Function<? super T, MutinyMappedReactiveResultSet<R>> call) {
+    return new DeferredMutinyMappedReactiveResultSet<>(ready().map(call));
+  }
+
+  /**
+   * Emits the target bean once it is initialized, on the Vert.x context of the caller if there is
+   * one: the initialization may complete on a driver or worker thread.
+   */
+  private Uni<T> ready() {
+    return MutinyWrappers.toUni(() -> stage);
+  }
+}
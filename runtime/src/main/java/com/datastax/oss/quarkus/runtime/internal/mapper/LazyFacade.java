@@ -0,0 +1,31 @@
+/*
+ * Copyright DataStax, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.quarkus.runtime.internal.mapper;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+
+/**
+ * Implemented by the lazy mapper and DAO facades generated for synchronous bean producers.
+ *
+ * <p>A facade is returned immediately by its producer; it forwards each call to its {@linkplain
+ * #lazyDelegate() delegate}, so that injecting it never waits for the session, the mapper or the
+ * DAO to be initialized.
+ */
+public interface LazyFacade {
+
+  @NonNull
+  LazyDelegate<?> lazyDelegate();
+}
@@ -0,0 +1,32 @@
+/*
+ * Copyright DataStax, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.quarkus.runtime.internal.mapper;
+
+/**
+ * Implemented by generated DAOs that hold resources beyond their prepared statements, such as the
+ * entity caches of methods annotated with {@link
+ * com.datastax.oss.quarkus.runtime.api.mapper.Cached}, or the pending increments of methods
+ * annotated with {@link com.datastax.oss.quarkus.runtime.api.mapper.CoalescedIncrement}.
+ */
+public interface ReleasableDao {
+
+  /**
+   * Releases the resources held by this DAO when it is evicted from its mapper. The DAO remains
+   * usable, but its caches are emptied, its pending increments are flushed and its meters are
+   * removed.
+   */
+  void releaseResources();
+}
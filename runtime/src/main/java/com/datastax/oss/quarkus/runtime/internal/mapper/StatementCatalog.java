@@ -0,0 +1,59 @@
+/*
+ * Copyright DataStax, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.quarkus.runtime.internal.mapper;
+
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+import com.datastax.oss.driver.api.mapper.MapperContext;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.List;
+
+/**
+ * Implemented by generated mappers to list, at startup, the statements that their DAOs prepare when
+ * they are initialized.
+ *
+ * <p>The list is generated at build time from the DAOs returned by the DAO factory methods without
+ * parameters; the statements are built by the same code as in the {@code initAsync} method of each
+ * DAO implementation, so once they are prepared on the session of the mapper, the DAOs find them in
+ * the prepared statement cache of that session. DAOs returned by DAO factory methods with
+ * parameters are not listed, since their keyspace, table and execution profile are only known at
+ * runtime.
+ */
+public interface StatementCatalog {
+
+  /** The session that the DAOs of this mapper prepare their statements on. */
+  @NonNull
+  CqlSession getCatalogSession();
+
+  /** The statements that the DAOs of this mapper prepare when they are initialized. */
+  @NonNull
+  List<SimpleStatement> getCatalogStatements();
+
+  /**
+   * Applies the execution profile of the given DAO context to the given statement, like the DAO
+   * does before preparing it.
+   */
+  @NonNull
+  static SimpleStatement withExecutionProfile(
+      @NonNull SimpleStatement statement, @NonNull MapperContext context) {
+    if (context.getExecutionProfileName() != null) {
+      return statement.setExecutionProfileName(context.getExecutionProfileName());
+    } else if (context.getExecutionProfile() != null) {
+      return statement.setExecutionProfile(context.getExecutionProfile());
+    }
+    return statement;
+  }
+}
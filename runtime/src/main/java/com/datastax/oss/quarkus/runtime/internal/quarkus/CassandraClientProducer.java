@@ -18,22 +18,25 @@ package com.datastax.oss.quarkus.runtime.internal.quarkus;
 import com.datastax.dse.driver.api.core.config.DseDriverOption;
 import com.datastax.oss.driver.api.core.CqlSession;
 import com.datastax.oss.driver.api.core.config.DefaultDriverOption;
-import com.datastax.oss.driver.api.core.config.DriverConfig;
 import com.datastax.oss.driver.api.core.config.DriverConfigLoader;
 import com.datastax.oss.driver.api.core.config.ProgrammaticDriverConfigLoaderBuilder;
-import com.datastax.oss.driver.api.core.context.DriverContext;
 import com.datastax.oss.driver.internal.core.auth.PlainTextAuthProvider;
 import com.datastax.oss.driver.internal.core.config.typesafe.DefaultDriverConfigLoader;
 import com.datastax.oss.driver.internal.core.config.typesafe.DefaultProgrammaticDriverConfigLoaderBuilder;
 import com.datastax.oss.driver.internal.core.metrics.TaggingMetricIdGenerator;
-import com.datastax.oss.driver.internal.core.util.concurrent.CompletableFutures;
 import com.datastax.oss.quarkus.runtime.api.config.CassandraClientConfig;
+import com.datastax.oss.quarkus.runtime.api.config.CassandraClientSessionConfig;
+import com.datastax.oss.quarkus.runtime.api.config.CassandraConfigChangeEvent;
+import com.datastax.oss.quarkus.runtime.api.session.CassandraClient;
 import com.datastax.oss.quarkus.runtime.api.session.QuarkusCqlSession;
+import com.datastax.oss.quarkus.runtime.internal.driver.QuarkusDriverOption;
+import com.datastax.oss.quarkus.runtime.internal.driver.ReloadableDriverConfigLoader;
 import com.datastax.oss.quarkus.runtime.internal.session.QuarkusCqlSessionBuilder;
 import com.typesafe.config.ConfigFactory;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import io.netty.channel.EventLoopGroup;
 import io.netty.util.concurrent.MultithreadEventExecutorGroup;
+import io.quarkus.arc.Arc;
 import io.quarkus.arc.Unremovable;
 import io.quarkus.netty.MainEventLoopGroup;
 import io.smallrye.mutiny.Uni;
@@ -42,9 +45,13 @@ import jakarta.enterprise.inject.Produces;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.atomic.AtomicBoolean;
+import org.eclipse.microprofile.config.ConfigProvider;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -57,6 +64,9 @@ public class CassandraClientProducer {
 
   private final AtomicBoolean produced = new AtomicBoolean(false);
 
+  private final ConcurrentMap<String, CompletionStage<QuarkusCqlSession>> namedSessions =
+      new ConcurrentHashMap<>();
+
   // injected by CassandraClientRecorder
   private String protocolCompression;
   private Object metricRegistry;
@@ -74,7 +84,96 @@ public class CassandraClientProducer {
         "Producing CompletionStage<QuarkusCqlSession> bean, metricRegistry = {}, useQuarkusEventLoop = {}",
         metricRegistry,
         config.cassandraClientInitConfig().useQuarkusEventLoop());
-    ProgrammaticDriverConfigLoaderBuilder configLoaderBuilder = createDriverConfigLoaderBuilder();
+    CompletionStage<QuarkusCqlSession> sessionFuture =
+        buildSessionStage(null, config, mainEventLoop);
+    produced.set(true);
+    return sessionFuture;
+  }
+
+  @Produces
+  @ApplicationScoped
+  @Unremovable
+  public QuarkusCqlSession produceQuarkusCqlSession(
+      CompletionStage<QuarkusCqlSession> sessionFuture, CassandraClientConfig config)
+      throws ExecutionException, InterruptedException {
+    LOG.debug(
+        "Producing QuarkusCqlSession bean, eagerSessionInit = {}",
+        config.cassandraClientInitConfig().eagerInit());
+    printEagerInitInfo(config);
+    return sessionFuture.toCompletableFuture().get();
+  }
+
+  @Produces
+  @ApplicationScoped
+  @Unremovable
+  public Uni<QuarkusCqlSession> produceQuarkusCqlSessionUni(
+      CompletionStage<QuarkusCqlSession> sessionFuture) {
+    LOG.debug("Producing Uni<QuarkusCqlSession>");
+    return Uni.createFrom().completionStage(sessionFuture);
+  }
+
+  /**
+   * Produces the session stage of the named client {@code clientName}. This method is invoked by
+   * the synthetic beans registered for each {@link CassandraClient} injection point; it always
+   * returns the same stage for a given client name.
+   */
+  public CompletionStage<QuarkusCqlSession> produceNamedQuarkusCqlSessionStage(String clientName) {
+    return namedSessions.computeIfAbsent(
+        clientName,
+        name -> {
+          CassandraClientSessionConfig config = namedClientConfig(name);
+          LOG.debug(
+              "Producing CompletionStage<QuarkusCqlSession> bean for client {}, metricRegistry = {}, useQuarkusEventLoop = {}",
+              name,
+              metricRegistry,
+              config.cassandraClientInitConfig().useQuarkusEventLoop());
+          EventLoopGroup mainEventLoop =
+              Arc.container()
+                  .select(EventLoopGroup.class, MainEventLoopGroup.Literal.INSTANCE)
+                  .get();
+          return buildSessionStage(name, config, mainEventLoop);
+        });
+  }
+
+  /** Produces the {@link QuarkusCqlSession} of the named client {@code clientName}. */
+  public QuarkusCqlSession produceNamedQuarkusCqlSession(String clientName)
+      throws ExecutionException, InterruptedException {
+    CassandraClientSessionConfig config = namedClientConfig(clientName);
+    LOG.debug(
+        "Producing QuarkusCqlSession bean for client {}, eagerSessionInit = {}",
+        clientName,
+        config.cassandraClientInitConfig().eagerInit());
+    printEagerInitInfo(config);
+    return produceNamedQuarkusCqlSessionStage(clientName).toCompletableFuture().get();
+  }
+
+  /** Produces the {@code Uni<QuarkusCqlSession>} of the named client {@code clientName}. */
+  public Uni<QuarkusCqlSession> produceNamedQuarkusCqlSessionUni(String clientName) {
+    LOG.debug("Producing Uni<QuarkusCqlSession> for client {}", clientName);
+    return Uni.createFrom().completionStage(produceNamedQuarkusCqlSessionStage(clientName));
+  }
+
+  /**
+   * Returns the session stages of the named clients produced so far, keyed by client name. Named
+   * clients that were never injected nor looked up are absent from the returned map.
+   */
+  public Map<String, CompletionStage<QuarkusCqlSession>> getNamedSessionStages() {
+    return Collections.unmodifiableMap(namedSessions);
+  }
+
+  private CassandraClientSessionConfig namedClientConfig(String clientName) {
+    CassandraClientConfig config = Arc.container().instance(CassandraClientConfig.class).get();
+    return config.namedClients().get(clientName);
+  }
+
+  private CompletionStage<QuarkusCqlSession> buildSessionStage(
+      String clientName, CassandraClientSessionConfig config, EventLoopGroup mainEventLoop) {
+    ProgrammaticDriverConfigLoaderBuilder configLoaderBuilder =
+        createDriverConfigLoaderBuilder(clientName);
+    if (clientName != null) {
+      // the session name is used in log messages and as the session tag of all metrics
+      configLoaderBuilder.withString(DefaultDriverOption.SESSION_NAME, clientName);
+    }
     configureRuntimeSettings(configLoaderBuilder, config);
     configureMetricsSettings(configLoaderBuilder, config);
     configureProtocolCompression(configLoaderBuilder);
@@ -88,7 +187,9 @@ public class CassandraClientProducer {
       builder.withMetricRegistry(metricRegistry);
     }
     if (config.cassandraClientInitConfig().useQuarkusEventLoop()) {
-      if (mainEventLoop instanceof MultithreadEventExecutorGroup) {
+      // with a dedicated admin executor, admin tasks cannot block the main event loop
+      if (!config.cassandraClientInitConfig().dedicatedAdminExecutor()
+          && mainEventLoop instanceof MultithreadEventExecutorGroup) {
         // Check event loop group size. The default in Quarkus is 2 * cores, which is usually fine.
         // https://quarkus.io/guides/vertx-reference#quarkus-vertx-core_quarkus.vertx.event-loops-pool-size
         int executors = ((MultithreadEventExecutorGroup) mainEventLoop).executorCount();
@@ -98,26 +199,17 @@ public class CassandraClientProducer {
               executors);
           LOG.warn(
               "Please either set the quarkus.vertx.event-loops-pool-size property to a value >= {}, or "
+                  + "set the quarkus.cassandra.init.dedicated-admin-executor property to true, or "
                   + "set the quarkus.cassandra.use-quarkus-event-loop property to false.",
               MIN_EVENT_LOOP_GROUP_SIZE);
         }
       }
       builder.withQuarkusEventLoop(mainEventLoop);
     }
-    CompletionStage<QuarkusCqlSession> sessionFuture = builder.buildAsync();
-    produced.set(true);
-    return sessionFuture;
+    return builder.buildAsync();
   }
 
-  @Produces
-  @ApplicationScoped
-  @Unremovable
-  public QuarkusCqlSession produceQuarkusCqlSession(
-      CompletionStage<QuarkusCqlSession> sessionFuture, CassandraClientConfig config)
-      throws ExecutionException, InterruptedException {
-    LOG.debug(
-        "Producing QuarkusCqlSession bean, eagerSessionInit = {}",
-        config.cassandraClientInitConfig().eagerInit());
+  private void printEagerInitInfo(CassandraClientSessionConfig config) {
     if (!config.cassandraClientInitConfig().eagerInit()
         && config.cassandraClientInitConfig().printEagerInitInfo()) {
       LOG.info(
@@ -133,16 +225,6 @@ public class CassandraClientProducer {
           "Set the config property quarkus.cassandra.init.print-eager-init-info = false "
               + "to suppress this message.");
     }
-    return sessionFuture.toCompletableFuture().get();
-  }
-
-  @Produces
-  @ApplicationScoped
-  @Unremovable
-  public Uni<QuarkusCqlSession> produceQuarkusCqlSessionUni(
-      CompletionStage<QuarkusCqlSession> sessionFuture) {
-    LOG.debug("Producing Uni<QuarkusCqlSession>");
-    return Uni.createFrom().completionStage(sessionFuture);
   }
 
   public void setMetricsFactoryClassName(String metricsFactoryClass) {
@@ -169,7 +251,7 @@ public class CassandraClientProducer {
     this.nodeStateListeners.add(clz);
   }
 
-  private ProgrammaticDriverConfigLoaderBuilder createDriverConfigLoaderBuilder() {
+  private ProgrammaticDriverConfigLoaderBuilder createDriverConfigLoaderBuilder(String clientName) {
     return new DefaultProgrammaticDriverConfigLoaderBuilder(
         () ->
             // The fallback supplier specified here is similar to the default
@@ -182,11 +264,20 @@ public class CassandraClientProducer {
       @NonNull
       @Override
       public DriverConfigLoader build() {
-        return new NonReloadableDriverConfigLoader(super.build());
+        // only the hot-reloadable options can change after the session is created
+        return new ReloadableDriverConfigLoader(
+            ((DefaultDriverConfigLoader) super.build()).getConfigSupplier(),
+            clientName,
+            name -> ConfigProvider.getConfig().getOptionalValue(name, String.class),
+            CassandraClientProducer::fireConfigChangeEvent);
       }
     };
   }
 
+  private static void fireConfigChangeEvent(CassandraConfigChangeEvent event) {
+    Arc.container().beanManager().getEvent().select(CassandraConfigChangeEvent.class).fire(event);
+  }
+
   private void configureProtocolCompression(
       ProgrammaticDriverConfigLoaderBuilder configLoaderBuilder) {
     configLoaderBuilder.withString(DefaultDriverOption.PROTOCOL_COMPRESSION, protocolCompression);
@@ -208,7 +299,8 @@ public class CassandraClientProducer {
   }
 
   private void configureMetricsSettings(
-      ProgrammaticDriverConfigLoaderBuilder configLoaderBuilder, CassandraClientConfig config) {
+      ProgrammaticDriverConfigLoaderBuilder configLoaderBuilder,
+      CassandraClientSessionConfig config) {
     if (metricRegistry != null && metricsFactoryClass != null) {
       List<String> enabledNodeMetrics =
           config
@@ -250,7 +342,8 @@ public class CassandraClientProducer {
   }
 
   private void configureRuntimeSettings(
-      ProgrammaticDriverConfigLoaderBuilder configLoaderBuilder, CassandraClientConfig config) {
+      ProgrammaticDriverConfigLoaderBuilder configLoaderBuilder,
+      CassandraClientSessionConfig config) {
     // connection settings
     config
         .cassandraClientConnectionConfig()
@@ -283,6 +376,41 @@ public class CassandraClientProducer {
     configLoaderBuilder.withBoolean(
         DefaultDriverOption.RECONNECT_ON_INIT,
         config.cassandraClientInitConfig().reconnectOnInit());
+    configLoaderBuilder.withBoolean(
+        QuarkusDriverOption.NETTY_ADMIN_DEDICATED,
+        config.cassandraClientInitConfig().dedicatedAdminExecutor());
+    config
+        .cassandraClientInitConfig()
+        .adminExecutorSize()
+        .ifPresent(v -> configLoaderBuilder.withInt(DefaultDriverOption.NETTY_ADMIN_SIZE, v));
+    configLoaderBuilder.withString(
+        QuarkusDriverOption.NETTY_ALLOCATOR, config.cassandraClientInitConfig().allocator());
+    config
+        .cassandraClientInitConfig()
+        .allocatorArenas()
+        .ifPresent(v -> configLoaderBuilder.withInt(QuarkusDriverOption.NETTY_ALLOCATOR_ARENAS, v));
+    configLoaderBuilder.withBoolean(
+        QuarkusDriverOption.NETTY_TIMER_EVENT_LOOP,
+        config.cassandraClientInitConfig().useEventLoopTimer());
+    // config reload settings
+    configLoaderBuilder.withDuration(
+        DefaultDriverOption.CONFIG_RELOAD_INTERVAL,
+        config.cassandraClientReloadConfig().interval());
+    // pool settings
+    config
+        .cassandraClientPoolConfig()
+        .localSize()
+        .ifPresent(
+            v -> configLoaderBuilder.withInt(DefaultDriverOption.CONNECTION_POOL_LOCAL_SIZE, v));
+    config
+        .cassandraClientPoolConfig()
+        .remoteSize()
+        .ifPresent(
+            v -> configLoaderBuilder.withInt(DefaultDriverOption.CONNECTION_POOL_REMOTE_SIZE, v));
+    // shutdown settings
+    configLoaderBuilder.withDuration(
+        QuarkusDriverOption.SHUTDOWN_DRAIN_TIMEOUT,
+        config.cassandraClientShutdownConfig().drainTimeout());
     // request settings
     config
         .cassandraClientRequestConfig()
@@ -308,6 +436,70 @@ public class CassandraClientProducer {
             v ->
                 configLoaderBuilder.withBoolean(
                     DefaultDriverOption.REQUEST_DEFAULT_IDEMPOTENCE, v));
+    config
+        .cassandraClientRequestConfig()
+        .readAheadPages()
+        .ifPresent(
+            v -> configLoaderBuilder.withInt(QuarkusDriverOption.REQUEST_READ_AHEAD_PAGES, v));
+    config
+        .cassandraClientRequestConfig()
+        .readAheadBudget()
+        .ifPresent(
+            v ->
+                configLoaderBuilder.withBytes(
+                    QuarkusDriverOption.REQUEST_READ_AHEAD_BUDGET, v.asLongValue()));
+    config
+        .cassandraClientRequestConfig()
+        .bulkMaxInFlight()
+        .ifPresent(
+            v -> configLoaderBuilder.withInt(QuarkusDriverOption.REQUEST_BULK_MAX_IN_FLIGHT, v));
+    config
+        .cassandraClientRequestConfig()
+        .bulkBatchSize()
+        .ifPresent(
+            v -> configLoaderBuilder.withInt(QuarkusDriverOption.REQUEST_BULK_BATCH_SIZE, v));
+    config
+        .cassandraClientRequestConfig()
+        .bulkBatchMaxDelay()
+        .ifPresent(
+            v ->
+                configLoaderBuilder.withDuration(
+                    QuarkusDriverOption.REQUEST_BULK_BATCH_MAX_DELAY, v));
+    config
+        .cassandraClientRequestConfig()
+        .multiGetMaxInFlight()
+        .ifPresent(
+            v ->
+                configLoaderBuilder.withInt(
+                    QuarkusDriverOption.REQUEST_MULTI_GET_MAX_IN_FLIGHT, v));
+    config
+        .cassandraClientRequestConfig()
+        .coalescingWindow()
+        .ifPresent(
+            v ->
+                configLoaderBuilder.withDuration(QuarkusDriverOption.REQUEST_COALESCING_WINDOW, v));
+    config
+        .cassandraClientRequestConfig()
+        .coalescingMaxStatements()
+        .ifPresent(
+            v ->
+                configLoaderBuilder.withInt(
+                    QuarkusDriverOption.REQUEST_COALESCING_MAX_STATEMENTS, v));
+    config
+        .cassandraClientRequestConfig()
+        .singleFlight()
+        .ifPresent(
+            v -> configLoaderBuilder.withBoolean(QuarkusDriverOption.REQUEST_SINGLE_FLIGHT, v));
+    // socket settings
+    config
+        .cassandraClientSocketConfig()
+        .tcpQuickAck()
+        .ifPresent(
+            v -> configLoaderBuilder.withBoolean(QuarkusDriverOption.SOCKET_TCP_QUICKACK, v));
+    config
+        .cassandraClientSocketConfig()
+        .busyPoll()
+        .ifPresent(v -> configLoaderBuilder.withInt(QuarkusDriverOption.SOCKET_BUSY_POLL, v));
     // auth settings
     if (config.cassandraClientAuthConfig().username().isPresent()
         && config.cassandraClientAuthConfig().password().isPresent()) {
@@ -344,41 +536,4 @@ public class CassandraClientProducer {
   public boolean isProduced() {
     return produced.get();
   }
-
-  private static class NonReloadableDriverConfigLoader implements DriverConfigLoader {
-
-    private final DriverConfigLoader delegate;
-
-    public NonReloadableDriverConfigLoader(DriverConfigLoader delegate) {
-      this.delegate = delegate;
-    }
-
-    @NonNull
-    @Override
-    public DriverConfig getInitialConfig() {
-      return delegate.getInitialConfig();
-    }
-
-    @Override
-    public void onDriverInit(@NonNull DriverContext context) {
-      delegate.onDriverInit(context);
-    }
-
-    @NonNull
-    @Override
-    public CompletionStage<Boolean> reload() {
-      return CompletableFutures.failedFuture(
-          new UnsupportedOperationException("reload not supported"));
-    }
-
-    @Override
-    public boolean supportsReloading() {
-      return false;
-    }
-
-    @Override
-    public void close() {
-      delegate.close();
-    }
-  }
 }
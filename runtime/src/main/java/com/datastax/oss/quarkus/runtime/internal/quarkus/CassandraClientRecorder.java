@@ -15,14 +15,25 @@
  */
 package com.datastax.oss.quarkus.runtime.internal.quarkus;
 
+import com.datastax.oss.driver.api.core.config.DefaultDriverOption;
 import com.datastax.oss.quarkus.runtime.api.session.QuarkusCqlSession;
+import com.datastax.oss.quarkus.runtime.internal.context.QuarkusDriverContext;
+import com.datastax.oss.quarkus.runtime.internal.driver.QuarkusDriverOption;
+import com.datastax.oss.quarkus.runtime.internal.session.RequestDrainer;
 import io.quarkus.arc.Arc;
 import io.quarkus.runtime.RuntimeValue;
 import io.quarkus.runtime.ShutdownContext;
 import io.quarkus.runtime.annotations.Recorder;
+import io.smallrye.mutiny.Uni;
 import jakarta.enterprise.util.TypeLiteral;
+import java.time.Duration;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -49,32 +60,42 @@ public class CassandraClientRecorder {
                 "Executing shutdown hook, session stage bean produced = {}",
                 cassandraClientProducer.isProduced());
             if (cassandraClientProducer.isProduced()) {
-              CompletableFuture<QuarkusCqlSession> sessionFuture =
-                  sessionStage.toCompletableFuture();
-              LOG.debug(
-                  "Session future done = {}, cancelled = {}",
-                  sessionFuture.isDone(),
-                  sessionFuture.isCancelled());
-              try {
-                QuarkusCqlSession session = sessionFuture.getNow(null);
-                LOG.debug("Session object = {}", session);
-                if (session != null) {
-                  LOG.info("Closing Quarkus Cassandra session.");
-                  session.close();
-                } else {
-                  LOG.info("Cancelling Quarkus Cassandra session initialization.");
-                  sessionFuture.cancel(true);
-                }
-              } catch (RuntimeException e) {
-                // no need to log this again, it was logged already
-                LOG.trace("Quarkus Cassandra session could not be closed normally.", e);
-              }
+              closeSession("Quarkus Cassandra session", sessionStage);
+            }
+            for (Map.Entry<String, CompletionStage<QuarkusCqlSession>> entry :
+                cassandraClientProducer.getNamedSessionStages().entrySet()) {
+              closeSession(
+                  String.format("Quarkus Cassandra session [%s]", entry.getKey()),
+                  entry.getValue());
             }
           }
         });
     return new RuntimeValue<>(sessionStage);
   }
 
+  public Supplier<CompletionStage<QuarkusCqlSession>> namedSessionStageSupplier(String clientName) {
+    return () -> getProducerInstance().produceNamedQuarkusCqlSessionStage(clientName);
+  }
+
+  public Supplier<QuarkusCqlSession> namedSessionSupplier(String clientName) {
+    return () -> {
+      try {
+        return getProducerInstance().produceNamedQuarkusCqlSession(clientName);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new IllegalStateException(
+            String.format("Interrupted while initializing Cassandra client %s", clientName), e);
+      } catch (ExecutionException e) {
+        throw new IllegalStateException(
+            String.format("Failed to initialize Cassandra client %s", clientName), e.getCause());
+      }
+    };
+  }
+
+  public Supplier<Uni<QuarkusCqlSession>> namedSessionUniSupplier(String clientName) {
+    return () -> getProducerInstance().produceNamedQuarkusCqlSessionUni(clientName);
+  }
+
   public void configureMicrometerMetrics() {
     LOG.info("Enabling Cassandra metrics using Micrometer.");
     try {
@@ -95,6 +116,90 @@ public class CassandraClientRecorder {
     producer.setProtocolCompression(protocolCompression);
   }
 
+  private static void closeSession(
+      String description, CompletionStage<QuarkusCqlSession> sessionStage) {
+    CompletableFuture<QuarkusCqlSession> sessionFuture = sessionStage.toCompletableFuture();
+    LOG.debug(
+        "Session future done = {}, cancelled = {}",
+        sessionFuture.isDone(),
+        sessionFuture.isCancelled());
+    try {
+      QuarkusCqlSession session = sessionFuture.getNow(null);
+      LOG.debug("Session object = {}", session);
+      if (session != null) {
+        flushCounterCoalescers(description, session);
+        boolean drained = drainRequests(description, session);
+        LOG.info("Closing {}.", description);
+        if (drained) {
+          session.close();
+        } else {
+          session.forceCloseAsync().toCompletableFuture().join();
+        }
+        if (session.getContext() instanceof QuarkusDriverContext) {
+          ((QuarkusDriverContext) session.getContext()).getRequestDrainer().close();
+        }
+      } else {
+        LOG.info("Cancelling {} initialization.", description);
+        sessionFuture.cancel(true);
+      }
+    } catch (RuntimeException e) {
+      // no need to log this again, it was logged already
+      LOG.trace("{} could not be closed normally.", description, e);
+    }
+  }
+
+  /**
+   * Writes the increments still pending in coalesced DAO methods, waiting at most for the request
+   * timeout of the session.
+   */
+  private static void flushCounterCoalescers(String description, QuarkusCqlSession session) {
+    if (!(session.getContext() instanceof QuarkusDriverContext)) {
+      return;
+    }
+    QuarkusDriverContext context = (QuarkusDriverContext) session.getContext();
+    Duration timeout =
+        context.getConfig().getDefaultProfile().getDuration(DefaultDriverOption.REQUEST_TIMEOUT);
+    try {
+      context
+          .flushCounterCoalescers()
+          .toCompletableFuture()
+          .get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (ExecutionException | TimeoutException e) {
+      LOG.warn("Could not write the pending counter increments of {}.", description, e);
+    }
+  }
+
+  /**
+   * Rejects new requests, and waits for the requests in flight to complete, at most for the drain
+   * timeout of the session.
+   *
+   * @return false if requests were still in flight when the timeout elapsed.
+   */
+  private static boolean drainRequests(String description, QuarkusCqlSession session) {
+    if (!(session.getContext() instanceof QuarkusDriverContext)) {
+      return true;
+    }
+    QuarkusDriverContext context = (QuarkusDriverContext) session.getContext();
+    Duration timeout =
+        context
+            .getConfig()
+            .getDefaultProfile()
+            .getDuration(
+                QuarkusDriverOption.SHUTDOWN_DRAIN_TIMEOUT, RequestDrainer.DEFAULT_DRAIN_TIMEOUT);
+    if (timeout.isZero() || timeout.isNegative()) {
+      return true;
+    }
+    LOG.info("Draining {}.", description);
+    try {
+      return context.getRequestDrainer().drain(timeout);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+
   private CassandraClientProducer getProducerInstance() {
     return Arc.container().instance(CassandraClientProducer.class).get();
   }
@@ -15,31 +15,61 @@
  */
 package com.datastax.oss.quarkus.runtime.internal.quarkus;
 
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.cql.SimpleStatement;
 import com.datastax.oss.quarkus.runtime.api.config.CassandraClientConfig;
+import com.datastax.oss.quarkus.runtime.api.config.CassandraClientSessionConfig;
 import com.datastax.oss.quarkus.runtime.api.mapper.QuarkusGeneratedDaoBean;
 import com.datastax.oss.quarkus.runtime.api.mapper.QuarkusGeneratedMapperBean;
+import com.datastax.oss.quarkus.runtime.api.session.CassandraClient;
 import com.datastax.oss.quarkus.runtime.api.session.QuarkusCqlSession;
+import com.datastax.oss.quarkus.runtime.internal.mapper.LazyFacade;
+import com.datastax.oss.quarkus.runtime.internal.mapper.StatementCatalog;
 import io.quarkus.arc.ClientProxy;
 import io.quarkus.runtime.StartupEvent;
 import io.smallrye.mutiny.Uni;
 import jakarta.enterprise.context.Dependent;
 import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.inject.Any;
 import jakarta.enterprise.inject.Instance;
+import jakarta.enterprise.inject.spi.Bean;
 import jakarta.inject.Inject;
+import java.lang.reflect.Type;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
  * A component that triggers eager initialization of {@link QuarkusCqlSession} and DAOs.
  *
+ * <p>Sessions are initialized first. Once they are all ready, the statement catalogs generated at
+ * build time for each mapper (see {@link StatementCatalog}) are prepared concurrently, but no more
+ * than {@code prepare-concurrency} statements at a time; then mappers and DAOs are initialized
+ * concurrently, no more than {@code prepare-concurrency} at a time, and find their statements
+ * already prepared. The whole process must complete within {@code eager-init-timeout}; the time
+ * spent initializing each bean is logged afterwards.
+ *
+ * <p>Named clients are initialized eagerly when their own {@code
+ * quarkus.cassandra."client-name".init.eager-init} property is true.
+ *
  * @see <a href="https://quarkus.io/guides/cdi-reference#eager-instantiation-of-beans">Eager
  *     Instantiation of Beans</a>
  */
@@ -50,56 +80,292 @@ public class CassandraClientStarter {
 
   @Inject CassandraClientConfig config;
   @Inject Instance<CompletionStage<QuarkusCqlSession>> sessions;
+  @Inject @Any Instance<CompletionStage<QuarkusCqlSession>> allSessions;
   @Inject @QuarkusGeneratedMapperBean Instance<Object> mappers;
   @Inject @QuarkusGeneratedDaoBean Instance<Object> daos;
 
   @SuppressWarnings("unused")
   public void onStartup(@Observes StartupEvent event)
       throws ExecutionException, InterruptedException {
+    boolean eagerInit = config.cassandraClientInitConfig().eagerInit();
     if (LOG.isDebugEnabled()) {
       LOG.debug(
           "CassandraClientStarter.startup, eager = {}, sessions = {}, mappers = {}, daos = {}",
-          config.cassandraClientInitConfig().eagerInit(),
+          eagerInit,
           sessions.stream().count(),
           mappers.stream().count(),
           daos.stream().count());
     }
-    if (config.cassandraClientInitConfig().eagerInit()) {
-      LOG.info("Eagerly initializing Quarkus Cassandra client.");
-      Duration timeout = config.cassandraClientInitConfig().eagerInitTimeout();
-      ExecutorService executor = Executors.newSingleThreadExecutor();
-      Future<Void> initFuture =
-          executor.submit(
-              () -> {
-                initializeBeans(sessions);
-                initializeBeans(mappers);
-                initializeBeans(daos);
-                return null;
-              });
-      try {
-        initFuture.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
-      } catch (TimeoutException e) {
-        initFuture.cancel(true);
-        LOG.warn(
-            "Eager initialization of Quarkus Cassandra client did not complete within {}; "
-                + "resuming application startup with an uninitialized client.",
-            timeout);
+    List<InitTask> sessionTasks = new ArrayList<>();
+    if (eagerInit) {
+      for (Instance.Handle<CompletionStage<QuarkusCqlSession>> handle : sessions.handles()) {
+        sessionTasks.add(new InitTask("session", () -> handle.get().toCompletableFuture()));
       }
-      executor.shutdownNow();
-    } else {
+    }
+    for (Map.Entry<String, CassandraClientSessionConfig> entry : config.namedClients().entrySet()) {
+      Instance<CompletionStage<QuarkusCqlSession>> namedSessions =
+          allSessions.select(CassandraClient.Literal.of(entry.getKey()));
+      if (entry.getValue().cassandraClientInitConfig().eagerInit()
+          && namedSessions.isResolvable()) {
+        sessionTasks.add(
+            new InitTask(
+                "session [" + entry.getKey() + "]",
+                () -> namedSessions.get().toCompletableFuture()));
+      }
+    }
+    if (sessionTasks.isEmpty()) {
       LOG.debug(
           "Eager initialization of Quarkus Cassandra client at startup is disabled by configuration.");
+      return;
+    }
+    LOG.info("Eagerly initializing Quarkus Cassandra client.");
+    Duration timeout = config.cassandraClientInitConfig().eagerInitTimeout();
+    int concurrency = Math.max(1, config.cassandraClientInitConfig().prepareConcurrency());
+    ExecutorService executor = Executors.newFixedThreadPool(concurrency, new InitThreadFactory());
+    List<InitTask> catalogTasks = new ArrayList<>();
+    List<InitTask> beanTasks = new ArrayList<>();
+    if (eagerInit) {
+      catalogTasks.add(
+          new InitTask("statement catalog", () -> prepareCatalogs(executor, concurrency)));
+      for (Instance.Handle<Object> handle : mappers.handles()) {
+        beanTasks.add(newBeanTask(handle, executor));
+      }
+      for (Instance.Handle<Object> handle : daos.handles()) {
+        beanTasks.add(newBeanTask(handle, executor));
+      }
+    }
+    long start = System.nanoTime();
+    CompletableFuture<Void> initFuture =
+        runConcurrently(sessionTasks, sessionTasks.size())
+            .thenCompose(v -> runConcurrently(catalogTasks, 1))
+            .thenCompose(v -> runConcurrently(beanTasks, concurrency));
+    initFuture.whenComplete((v, error) -> executor.shutdown());
+    try {
+      initFuture.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+      LOG.info(
+          "Eager initialization of Quarkus Cassandra client completed in {} ms.",
+          TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    } catch (TimeoutException e) {
+      LOG.warn(
+          "Eager initialization of Quarkus Cassandra client did not complete within {}; "
+              + "resuming application startup with an uninitialized client.",
+          timeout);
+      LOG.warn(
+          "Beans still initializing: {}.",
+          concat(sessionTasks, catalogTasks, beanTasks).stream()
+              .filter(task -> !task.isDone())
+              .map(task -> task.name)
+              .collect(Collectors.joining(", ")));
+    }
+    logTimings(concat(sessionTasks, catalogTasks, beanTasks));
+  }
+
+  private InitTask newBeanTask(Instance.Handle<Object> handle, ExecutorService executor) {
+    return new InitTask(describe(handle.getBean()), () -> resolve(handle.get(), executor));
+  }
+
+  /** Returns the instance behind the given mapper or DAO bean, once it is initialized. */
+  private static CompletableFuture<?> resolve(Object bean, ExecutorService executor) {
+    if (bean instanceof CompletionStage) {
+      return ((CompletionStage<?>) bean).toCompletableFuture();
+    } else if (bean instanceof Uni) {
+      return ((Uni<?>) bean).subscribeAsCompletionStage();
+    } else {
+      return CompletableFuture.supplyAsync(() -> ClientProxy.unwrap(bean), executor)
+          .thenCompose(CassandraClientStarter::awaitDelegate);
+    }
+  }
+
+  /**
+   * Synchronous mapper and DAO beans are lazy facades that are returned before the underlying
+   * instance is ready; this waits for the latter to be initialized.
+   */
+  private static CompletableFuture<?> awaitDelegate(Object bean) {
+    if (bean instanceof LazyFacade) {
+      return ((LazyFacade) bean).lazyDelegate().stage().toCompletableFuture();
     }
+    return CompletableFuture.completedFuture(bean);
   }
 
-  private void initializeBeans(Instance<?> beans) throws InterruptedException, ExecutionException {
-    for (Object bean : beans) {
-      ClientProxy.unwrap(bean);
-      if (bean instanceof CompletionStage) {
-        ((CompletionStage<?>) bean).toCompletableFuture().get();
-      } else if (bean instanceof Uni) {
-        ((Uni<?>) bean).await().indefinitely();
+  /**
+   * Prepares the statements of the {@link StatementCatalog} of each mapper, no more than {@code
+   * concurrency} at a time, so that the DAOs find them in the prepared statement cache of their
+   * session when they are initialized. Failures are only logged: the mapper or DAO involved fails
+   * its own initialization with the same error afterwards.
+   */
+  private CompletableFuture<Void> prepareCatalogs(ExecutorService executor, int concurrency) {
+    List<CompletableFuture<?>> resolvedMappers = new ArrayList<>();
+    for (Instance.Handle<Object> handle : mappers.handles()) {
+      resolvedMappers.add(resolve(handle.get(), executor).exceptionally(error -> null));
+    }
+    return CompletableFuture.allOf(resolvedMappers.toArray(new CompletableFuture<?>[0]))
+        .thenCompose(
+            v -> {
+              // several mappers may share a session, and several DAOs the same statements
+              Map<CqlSession, Set<SimpleStatement>> catalogs = new IdentityHashMap<>();
+              for (CompletableFuture<?> resolvedMapper : resolvedMappers) {
+                Object mapper = resolvedMapper.join();
+                if (mapper instanceof StatementCatalog) {
+                  StatementCatalog catalog = (StatementCatalog) mapper;
+                  try {
+                    catalogs
+                        .computeIfAbsent(catalog.getCatalogSession(), k -> new LinkedHashSet<>())
+                        .addAll(catalog.getCatalogStatements());
+                  } catch (RuntimeException e) {
+                    LOG.debug("Could not build the statement catalog of {}", mapper, e);
+                  }
+                }
+              }
+              List<InitTask> prepareTasks = new ArrayList<>();
+              catalogs.forEach(
+                  (session, statements) -> {
+                    for (SimpleStatement statement : statements) {
+                      prepareTasks.add(
+                          new InitTask(
+                              statement.getQuery(),
+                              () ->
+                                  session
+                                      .prepareAsync(statement)
+                                      .handle(
+                                          (prepared, error) -> {
+                                            if (error != null) {
+                                              LOG.debug(
+                                                  "Could not prepare catalog statement {}",
+                                                  statement.getQuery(),
+                                                  error);
+                                            }
+                                            return null;
+                                          })));
+                    }
+                  });
+              LOG.debug("Preparing {} catalog statements.", prepareTasks.size());
+              return runConcurrently(prepareTasks, concurrency);
+            });
+  }
+
+  /**
+   * Starts the given tasks, keeping at most {@code concurrency} of them in flight; the returned
+   * future completes when all tasks are done, or as soon as one of them fails.
+   */
+  private static CompletableFuture<Void> runConcurrently(List<InitTask> tasks, int concurrency) {
+    if (tasks.isEmpty()) {
+      return CompletableFuture.completedFuture(null);
+    }
+    CompletableFuture<Void> done = new CompletableFuture<>();
+    AtomicInteger next = new AtomicInteger();
+    AtomicInteger remaining = new AtomicInteger(tasks.size());
+    for (int i = 0; i < Math.min(concurrency, tasks.size()); i++) {
+      startNext(tasks, next, remaining, done);
+    }
+    return done;
+  }
+
+  private static void startNext(
+      List<InitTask> tasks,
+      AtomicInteger next,
+      AtomicInteger remaining,
+      CompletableFuture<Void> done) {
+    int i = next.getAndIncrement();
+    if (i >= tasks.size() || done.isDone()) {
+      return;
+    }
+    tasks
+        .get(i)
+        .start()
+        .whenComplete(
+            (v, error) -> {
+              if (error != null) {
+                done.completeExceptionally(error);
+              } else if (remaining.decrementAndGet() == 0) {
+                done.complete(null);
+              } else {
+                startNext(tasks, next, remaining, done);
+              }
+            });
+  }
+
+  private static void logTimings(List<InitTask> tasks) {
+    String timings =
+        tasks.stream()
+            .filter(InitTask::isDone)
+            .sorted(Comparator.comparingLong(InitTask::elapsedNanos).reversed())
+            .map(
+                task ->
+                    String.format(
+                        "%n  %6d ms  %s",
+                        TimeUnit.NANOSECONDS.toMillis(task.elapsedNanos()), task.name))
+            .collect(Collectors.joining());
+    LOG.info("Eager initialization time per bean:{}", timings);
+  }
+
+  @SafeVarargs
+  private static List<InitTask> concat(List<InitTask>... taskLists) {
+    List<InitTask> all = new ArrayList<>();
+    for (List<InitTask> tasks : taskLists) {
+      all.addAll(tasks);
+    }
+    return all;
+  }
+
+  private static String describe(Bean<?> bean) {
+    return bean.getTypes().stream()
+        .filter(type -> type != Object.class)
+        .map(Type::getTypeName)
+        .sorted()
+        .findFirst()
+        .orElse(bean.getBeanClass().getName());
+  }
+
+  /** The initialization of a single bean, timed from its start to its completion. */
+  private static class InitTask {
+
+    private final String name;
+    private final Supplier<CompletionStage<?>> initializer;
+    private volatile long startNanos;
+    private volatile long endNanos;
+    private volatile boolean done;
+
+    private InitTask(String name, Supplier<CompletionStage<?>> initializer) {
+      this.name = name;
+      this.initializer = initializer;
+    }
+
+    private CompletionStage<?> start() {
+      startNanos = System.nanoTime();
+      CompletionStage<?> stage;
+      try {
+        stage = initializer.get();
+      } catch (RuntimeException e) {
+        CompletableFuture<Void> failed = new CompletableFuture<>();
+        failed.completeExceptionally(e);
+        stage = failed;
       }
+      return stage.whenComplete(
+          (v, error) -> {
+            endNanos = System.nanoTime();
+            done = true;
+          });
+    }
+
+    private boolean isDone() {
+      return done;
+    }
+
+    private long elapsedNanos() {
+      return endNanos - startNanos;
+    }
+  }
+
+  private static class InitThreadFactory implements ThreadFactory {
+
+    private final AtomicInteger count = new AtomicInteger();
+
+    @Override
+    public Thread newThread(Runnable r) {
+      Thread thread = new Thread(r, "cassandra-client-init-" + count.incrementAndGet());
+      // do not prevent the application from exiting if initialization is stuck
+      thread.setDaemon(true);
+      return thread;
     }
   }
 }
@@ -0,0 +1,207 @@
+/*
+ * Copyright DataStax, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.quarkus.runtime.internal.reactive;
+
+import com.datastax.oss.driver.api.core.config.DriverExecutionProfile;
+import com.datastax.oss.driver.api.core.context.DriverContext;
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
+import com.datastax.oss.driver.api.core.cql.BatchStatement;
+import com.datastax.oss.driver.api.core.cql.BatchStatementBuilder;
+import com.datastax.oss.driver.api.core.cql.BatchType;
+import com.datastax.oss.driver.api.core.cql.BatchableStatement;
+import com.datastax.oss.driver.api.core.cql.BoundStatement;
+import com.datastax.oss.driver.api.core.cql.Statement;
+import com.datastax.oss.quarkus.runtime.internal.context.QuarkusDriverContext;
+import com.datastax.oss.quarkus.runtime.internal.driver.QuarkusDriverOption;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import io.smallrye.mutiny.Multi;
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+
+/**
+ * Writes a stream of entities with a bounded number of requests in flight.
+ *
+ * <p>Entities are requested from upstream as earlier writes complete, so that the upstream {@code
+ * Multi} is never consumed faster than the cluster can write. The number of requests in flight is
+ * bounded per stream, and also across all the streams of a session, by the limiter of the {@link
+ * QuarkusDriverContext}. When {@code advanced.bulk-write.batch-size} is set, consecutive entities
+ * are grouped by partition key into unlogged batches; a batch waits at most {@code
+ * advanced.bulk-write.batch-max-delay} for more entities.
+ */
+public class BulkWrites {
+
+  static final Duration DEFAULT_BATCH_MAX_DELAY = Duration.ofMillis(10);
+
+  /**
+   * Writes the given entities, and emits each of them once it's been written and the write was
+   * applied.
+   *
+   * @param entities the entities to write.
+   * @param binder creates the statement writing an entity.
+   * @param batchable whether statements can be grouped into batches; conditional statements must
+   *     not be.
+   * @param executor executes a statement.
+   * @param context the driver context, providing the settings and the shared limiter.
+   */
+  @NonNull
+  public static <EntityT> Multi<EntityT> writeAll(
+      @NonNull Multi<EntityT> entities,
+      @NonNull Function<EntityT, BoundStatement> binder,
+      boolean batchable,
+      @NonNull Function<Statement<?>, CompletionStage<AsyncResultSet>> executor,
+      @NonNull DriverContext context) {
+    Context vertxContext = Vertx.currentContext();
+    InFlightLimiter limiter = limiter(context);
+    Multi<Write<EntityT>> writes =
+        entities
+            .onItem()
+            .transform(
+                entity -> new Write<>(Collections.singletonList(entity), binder.apply(entity)));
+    if (batchable) {
+      // the batching settings come from the profile each statement resolves to, and a batch only
+      // groups statements of the same profile
+      writes =
+          writes
+              .group()
+              .by(write -> ReadAheadPages.resolveProfile(write.statement, context))
+              .onItem()
+              .transformToMultiAndMerge(group -> batchByPartition(group, group.key()));
+    }
+    Multi<EntityT> written =
+        writes
+            .onItem()
+            .transformToMulti(
+                write ->
+                    Multi.createFrom()
+                        .completionStage(
+                            () -> limiter.execute(() -> executor.apply(write.statement)))
+                        .onItem()
+                        .transformToIterable(
+                            resultSet ->
+                                resultSet.wasApplied()
+                                    ? write.entities
+                                    : Collections.<EntityT>emptyList()))
+            .merge(limiter.getMaxInFlight());
+    if (vertxContext != null) {
+      // writes complete on driver threads, make sure entities are emitted on the context of the
+      // caller
+      written = written.emitOn(new VertxContextExecutor(vertxContext));
+    }
+    return written;
+  }
+
+  private static InFlightLimiter limiter(DriverContext context) {
+    if (context instanceof QuarkusDriverContext) {
+      return ((QuarkusDriverContext) context).getBulkWriteLimiter();
+    }
+    return new InFlightLimiter(
+        context
+            .getConfig()
+            .getDefaultProfile()
+            .getInt(
+                QuarkusDriverOption.REQUEST_BULK_MAX_IN_FLIGHT,
+                InFlightLimiter.DEFAULT_BULK_MAX_IN_FLIGHT));
+  }
+
+  /**
+   * Groups consecutive writes by partition into unlogged batches, if the given profile enables
+   * batching. A batch is sent as soon as it is full, or once {@code
+   * advanced.bulk-write.batch-max-delay} has elapsed since its first write.
+   */
+  private static <EntityT> Multi<Write<EntityT>> batchByPartition(
+      Multi<Write<EntityT>> writes, DriverExecutionProfile profile) {
+    int batchSize = profile.getInt(QuarkusDriverOption.REQUEST_BULK_BATCH_SIZE, 1);
+    if (batchSize < 2) {
+      return writes;
+    }
+    Duration maxDelay =
+        profile.getDuration(
+            QuarkusDriverOption.REQUEST_BULK_BATCH_MAX_DELAY, DEFAULT_BATCH_MAX_DELAY);
+    return writes
+        .group()
+        .intoLists()
+        .of(batchSize, maxDelay)
+        .onItem()
+        .transformToIterable(BulkWrites::groupByPartition);
+  }
+
+  /**
+   * Groups the statements of the given writes by routing key, in order of first occurrence.
+   * Statements without a routing key are never grouped.
+   */
+  static <EntityT> List<Write<EntityT>> groupByPartition(List<Write<EntityT>> chunk) {
+    Map<ByteBuffer, List<EntityT>> entitiesByKey = new LinkedHashMap<>();
+    Map<ByteBuffer, List<BatchableStatement<?>>> statementsByKey = new LinkedHashMap<>();
+    List<Write<EntityT>> writes = new ArrayList<>();
+    for (Write<EntityT> write : chunk) {
+      ByteBuffer routingKey = write.statement.getRoutingKey();
+      if (routingKey == null) {
+        writes.add(write);
+      } else {
+        entitiesByKey.computeIfAbsent(routingKey, k -> new ArrayList<>()).addAll(write.entities);
+        statementsByKey
+            .computeIfAbsent(routingKey, k -> new ArrayList<>())
+            .add((BatchableStatement<?>) write.statement);
+      }
+    }
+    for (Map.Entry<ByteBuffer, List<BatchableStatement<?>>> entry : statementsByKey.entrySet()) {
+      writes.add(new Write<>(entitiesByKey.get(entry.getKey()), toBatch(entry.getValue())));
+    }
+    return writes;
+  }
+
+  /**
+   * Returns the given statement if it's the only one, or an unlogged batch of the given statements
+   * otherwise, with the attributes of the first statement.
+   */
+  static Statement<?> toBatch(List<? extends BatchableStatement<?>> statements) {
+    BatchableStatement<?> first = statements.get(0);
+    if (statements.size() == 1) {
+      return first;
+    }
+    // a batch does not inherit the attributes of its children
+    BatchStatementBuilder batch =
+        BatchStatement.builder(BatchType.UNLOGGED)
+            .addStatements(new ArrayList<>(statements))
+            .setExecutionProfileName(first.getExecutionProfileName())
+            .setExecutionProfile(first.getExecutionProfile())
+            .setConsistencyLevel(first.getConsistencyLevel())
+            .setSerialConsistencyLevel(first.getSerialConsistencyLevel())
+            .setTimeout(first.getTimeout())
+            .setIdempotence(first.isIdempotent());
+    return batch.build();
+  }
+
+  static class Write<EntityT> {
+
+    final List<EntityT> entities;
+    final Statement<?> statement;
+
+    Write(List<EntityT> entities, Statement<?> statement) {
+      this.entities = entities;
+      this.statement = statement;
+    }
+  }
+}
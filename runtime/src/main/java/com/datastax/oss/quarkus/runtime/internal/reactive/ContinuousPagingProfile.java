@@ -0,0 +1,76 @@
+/*
+ * Copyright DataStax, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.quarkus.runtime.internal.reactive;
+
+import com.datastax.oss.driver.api.core.config.DriverExecutionProfile;
+import com.datastax.oss.driver.api.core.context.DriverContext;
+import com.datastax.oss.driver.api.core.cql.Statement;
+import edu.umd.cs.findbugs.annotations.NonNull;
+
+/**
+ * The execution profile that enables continuous paging for the statements of one DAO method.
+ *
+ * <p>The profile is derived on the first execution, and reused as long as the statements resolve to
+ * the same base profile, which is the case unless they are customized per invocation. Reusing the
+ * same instance avoids allocating a new profile on each invocation, and lets the components that
+ * group statements by execution profile, such as {@link SingleFlightReads} and {@link
+ * PartitionWriteCoalescer}, group the statements of the method together. Derived profiles follow
+ * the reloads of their base profile.
+ */
+public class ContinuousPagingProfile {
+
+  private final int maxPagesPerSecond;
+  private final int maxEnqueuedPages;
+
+  private volatile Derivation derivation;
+
+  /**
+   * @param maxPagesPerSecond the maximum number of pages per second, or zero for no limit; negative
+   *     to keep the value of the base profile.
+   * @param maxEnqueuedPages the maximum number of enqueued pages; zero or negative to keep the
+   *     value of the base profile.
+   */
+  public ContinuousPagingProfile(int maxPagesPerSecond, int maxEnqueuedPages) {
+    this.maxPagesPerSecond = maxPagesPerSecond;
+    this.maxEnqueuedPages = maxEnqueuedPages;
+  }
+
+  /** Returns a copy of the given statement that uses the continuous paging profile. */
+  @NonNull
+  public <StatementT extends Statement<StatementT>> StatementT apply(
+      @NonNull StatementT statement, @NonNull DriverContext context) {
+    DriverExecutionProfile base = ReadAheadPages.resolveProfile(statement, context);
+    Derivation current = derivation;
+    if (current == null || current.base != base) {
+      // racing invocations may derive the profile more than once, which is harmless
+      current =
+          new Derivation(
+              base, ContinuousReads.deriveProfile(base, maxPagesPerSecond, maxEnqueuedPages));
+      derivation = current;
+    }
+    return statement.setExecutionProfile(current.profile);
+  }
+
+  private static class Derivation {
+    final DriverExecutionProfile base;
+    final DriverExecutionProfile profile;
+
+    Derivation(DriverExecutionProfile base, DriverExecutionProfile profile) {
+      this.base = base;
+      this.profile = profile;
+    }
+  }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright DataStax, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.quarkus.runtime.internal.reactive;
+
+import com.datastax.dse.driver.api.core.config.DseDriverOption;
+import com.datastax.dse.driver.internal.core.cql.continuous.ContinuousCqlRequestAsyncProcessor;
+import com.datastax.dse.driver.internal.core.cql.continuous.reactive.DefaultContinuousReactiveResultSet;
+import com.datastax.oss.driver.api.core.config.DriverExecutionProfile;
+import com.datastax.oss.driver.api.core.context.DriverContext;
+import com.datastax.oss.driver.api.core.cql.Statement;
+import com.datastax.oss.driver.api.core.session.Session;
+import com.datastax.oss.quarkus.runtime.internal.driver.QuarkusDriverOption;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.Objects;
+
+/**
+ * Executes reactive reads with DSE continuous paging: the server pushes result pages as fast as the
+ * client consumes them, instead of waiting for a request for each page.
+ */
+public class ContinuousReads {
+
+  /** Whether reactive executions with the given profile should use continuous paging. */
+  public static boolean isEnabled(@NonNull DriverExecutionProfile profile) {
+    return profile.getBoolean(QuarkusDriverOption.REQUEST_CONTINUOUS_PAGING, false);
+  }
+
+  /**
+   * Executes the given statement continuously with the given session; result pages are handed over
+   * to the current Vert.x context, if any, one page at a time.
+   */
+  @NonNull
+  public static DefaultMutinyReactiveResultSet execute(
+      @NonNull Session session, @NonNull Statement<?> statement) {
+    // equivalent to execute(statement, CONTINUOUS_REACTIVE_RESULT_SET)
+    return new DefaultMutinyReactiveResultSet(
+        new DefaultContinuousReactiveResultSet(
+            VertxContextPages.continuousOnCurrentContext(
+                () ->
+                    Objects.requireNonNull(
+                        session.execute(
+                            statement,
+                            ContinuousCqlRequestAsyncProcessor.CONTINUOUS_RESULT_ASYNC)))));
+  }
+
+  /**
+   * Returns a copy of the given statement whose execution profile enables continuous paging for
+   * reactive executions, overriding the maximum number of pages per second and of enqueued pages if
+   * they are positive, or zero for the pages per second (no limit).
+   */
+  @NonNull
+  public static <StatementT extends Statement<StatementT>> StatementT withContinuousPaging(
+      @NonNull StatementT statement,
+      @NonNull DriverContext context,
+      int maxPagesPerSecond,
+      int maxEnqueuedPages) {
+    return statement.setExecutionProfile(
+        deriveProfile(
+            ReadAheadPages.resolveProfile(statement, context),
+            maxPagesPerSecond,
+            maxEnqueuedPages));
+  }
+
+  /**
+   * Derives, from the given profile, a profile that enables continuous paging for reactive
+   * executions, with the same limits as {@link #withContinuousPaging}.
+   */
+  @NonNull
+  static DriverExecutionProfile deriveProfile(
+      @NonNull DriverExecutionProfile base, int maxPagesPerSecond, int maxEnqueuedPages) {
+    DriverExecutionProfile profile =
+        base.withBoolean(QuarkusDriverOption.REQUEST_CONTINUOUS_PAGING, true);
+    if (maxPagesPerSecond >= 0) {
+      profile =
+          profile.withInt(
+              DseDriverOption.CONTINUOUS_PAGING_MAX_PAGES_PER_SECOND, maxPagesPerSecond);
+    }
+    if (maxEnqueuedPages > 0) {
+      profile =
+          profile.withInt(DseDriverOption.CONTINUOUS_PAGING_MAX_ENQUEUED_PAGES, maxEnqueuedPages);
+    }
+    return profile;
+  }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright DataStax, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.quarkus.runtime.internal.reactive;
+
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
+import com.datastax.oss.driver.api.core.cql.ColumnDefinitions;
+import com.datastax.oss.driver.api.core.cql.ExecutionInfo;
+import com.datastax.oss.driver.api.core.cql.PagingState;
+import com.datastax.oss.driver.api.core.cql.Row;
+import com.datastax.oss.quarkus.runtime.api.reactive.MutinyPage;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+public class DefaultMutinyPage<T> implements MutinyPage<T> {
+
+  /** Creates a page with the rows of the current page of the given result set. */
+  @NonNull
+  public static <T> MutinyPage<T> of(
+      @NonNull AsyncResultSet resultSet, @NonNull Function<Row, T> mapper) {
+    List<T> items = new ArrayList<>(resultSet.remaining());
+    for (Row row : resultSet.currentPage()) {
+      items.add(mapper.apply(row));
+    }
+    return new DefaultMutinyPage<>(
+        Collections.unmodifiableList(items),
+        resultSet.hasMorePages(),
+        resultSet.getColumnDefinitions(),
+        resultSet.getExecutionInfo());
+  }
+
+  private final List<T> items;
+  private final boolean hasMorePages;
+  private final ColumnDefinitions columnDefinitions;
+  private final ExecutionInfo executionInfo;
+
+  public DefaultMutinyPage(
+      List<T> items,
+      boolean hasMorePages,
+      ColumnDefinitions columnDefinitions,
+      ExecutionInfo executionInfo) {
+    this.items = items;
+    this.hasMorePages = hasMorePages;
+    this.columnDefinitions = columnDefinitions;
+    this.executionInfo = executionInfo;
+  }
+
+  @NonNull
+  @Override
+  public List<T> getItems() {
+    return items;
+  }
+
+  @Override
+  public boolean hasMorePages() {
+    return hasMorePages;
+  }
+
+  @Override
+  public PagingState getPagingState() {
+    return hasMorePages ? executionInfo.getSafePagingState() : null;
+  }
+
+  @NonNull
+  @Override
+  public ColumnDefinitions getColumnDefinitions() {
+    return columnDefinitions;
+  }
+
+  @NonNull
+  @Override
+  public ExecutionInfo getExecutionInfo() {
+    return executionInfo;
+  }
+}
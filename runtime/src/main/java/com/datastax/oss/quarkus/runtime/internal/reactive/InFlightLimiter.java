@@ -0,0 +1,127 @@
+/*
+ * Copyright DataStax, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.quarkus.runtime.internal.reactive;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Supplier;
+
+/**
+ * Bounds the number of requests in flight, without blocking: requests submitted while the limit is
+ * reached are queued, and started in submission order as earlier requests complete.
+ */
+public class InFlightLimiter {
+
+  /** The default maximum number of requests in flight for streaming bulk writes. */
+  public static final int DEFAULT_BULK_MAX_IN_FLIGHT = 128;
+
+  /** The default maximum number of requests in flight for multi-get reads. */
+  public static final int DEFAULT_MULTI_GET_MAX_IN_FLIGHT = 32;
+
+  private final int maxInFlight;
+
+  // all guarded by this
+  private final Queue<Runnable> waiting = new ArrayDeque<>();
+  private int inFlight;
+  private boolean draining;
+
+  public InFlightLimiter(int maxInFlight) {
+    if (maxInFlight < 1) {
+      throw new IllegalArgumentException("maxInFlight must be strictly positive");
+    }
+    this.maxInFlight = maxInFlight;
+  }
+
+  public int getMaxInFlight() {
+    return maxInFlight;
+  }
+
+  /** Returns the number of requests in flight. */
+  public synchronized int getInFlight() {
+    return inFlight;
+  }
+
+  /** Returns the number of requests waiting to be started. */
+  public synchronized int getWaiting() {
+    return waiting.size();
+  }
+
+  /**
+   * Starts the given request as soon as the limit allows it, and returns a stage that completes
+   * with its result.
+   */
+  @NonNull
+  public <T> CompletionStage<T> execute(@NonNull Supplier<? extends CompletionStage<T>> request) {
+    CompletableFuture<T> result = new CompletableFuture<>();
+    Runnable start =
+        () -> {
+          CompletionStage<T> stage;
+          try {
+            stage = request.get();
+          } catch (Throwable t) {
+            release();
+            result.completeExceptionally(t);
+            return;
+          }
+          stage.whenComplete(
+              (value, error) -> {
+                release();
+                if (error != null) {
+                  result.completeExceptionally(error);
+                } else {
+                  result.complete(value);
+                }
+              });
+        };
+    synchronized (this) {
+      waiting.add(start);
+    }
+    drain();
+    return result;
+  }
+
+  private void release() {
+    synchronized (this) {
+      inFlight -= 1;
+    }
+    drain();
+  }
+
+  private void drain() {
+    synchronized (this) {
+      if (draining) {
+        // requests that complete synchronously end up here: let the outer loop start the next ones
+        // instead of recursing
+        return;
+      }
+      draining = true;
+    }
+    while (true) {
+      Runnable next;
+      synchronized (this) {
+        if (inFlight >= maxInFlight || (next = waiting.poll()) == null) {
+          draining = false;
+          return;
+        }
+        inFlight += 1;
+      }
+      next.run();
+    }
+  }
+}
@@ -0,0 +1,180 @@
+/*
+ * Copyright DataStax, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.quarkus.runtime.internal.reactive;
+
+import com.datastax.oss.driver.api.core.context.DriverContext;
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
+import com.datastax.oss.driver.api.core.cql.BoundStatement;
+import com.datastax.oss.driver.api.core.cql.Row;
+import com.datastax.oss.driver.api.core.cql.Statement;
+import com.datastax.oss.quarkus.runtime.internal.context.QuarkusDriverContext;
+import com.datastax.oss.quarkus.runtime.internal.driver.QuarkusDriverOption;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+
+/**
+ * Reads the entities of many keys with a bounded number of requests in flight.
+ *
+ * <p>Each key is read with its own single-partition statement, which the driver routes to a replica
+ * of the partition; this spreads the load across the cluster, unlike an {@code IN} clause that
+ * makes a single coordinator fan out to all the partitions. The number of requests in flight is
+ * bounded per read, and also across all the reads of a session, by the limiter of the {@link
+ * QuarkusDriverContext}.
+ */
+public class MultiGets {
+
+  /**
+   * Reads the given keys, and emits the rows of each key as they arrive, in no particular order
+   * across keys.
+   *
+   * @param keys the keys to read.
+   * @param binder creates the statement reading a key.
+   * @param mapper converts a row.
+   * @param executor executes a statement.
+   * @param context the driver context, providing the settings and the shared limiter.
+   */
+  @NonNull
+  public static <KeyT, T> Multi<T> readAll(
+      @NonNull Multi<KeyT> keys,
+      @NonNull Function<KeyT, BoundStatement> binder,
+      @NonNull Function<Row, T> mapper,
+      @NonNull Function<Statement<?>, CompletionStage<AsyncResultSet>> executor,
+      @NonNull DriverContext context) {
+    Context vertxContext = Vertx.currentContext();
+    InFlightLimiter limiter = limiter(context);
+    Multi<T> items =
+        keys.onItem()
+            .transformToMulti(
+                key ->
+                    Multi.createFrom()
+                        .completionStage(
+                            () -> limiter.execute(() -> executor.apply(binder.apply(key))))
+                        .onItem()
+                        .transformToMulti(resultSet -> rows(resultSet, mapper, limiter))
+                        .concatenate())
+            .merge(limiter.getMaxInFlight());
+    if (vertxContext != null) {
+      // reads complete on driver threads, make sure items are emitted on the context of the caller
+      items = items.emitOn(new VertxContextExecutor(vertxContext));
+    }
+    return items;
+  }
+
+  /**
+   * Reads the first row of each of the given keys, and emits them as a map, in the iteration order
+   * of the keys. Keys without any row are not present in the map.
+   *
+   * @param keys the keys to read; duplicate keys are only read once.
+   * @param binder creates the statement reading a key.
+   * @param mapper converts a row.
+   * @param executor executes a statement.
+   * @param context the driver context, providing the settings and the shared limiter.
+   */
+  @NonNull
+  public static <KeyT, T> Uni<Map<KeyT, T>> readAllByKey(
+      @NonNull Collection<KeyT> keys,
+      @NonNull Function<KeyT, BoundStatement> binder,
+      @NonNull Function<Row, T> mapper,
+      @NonNull Function<Statement<?>, CompletionStage<AsyncResultSet>> executor,
+      @NonNull DriverContext context) {
+    Context vertxContext = Vertx.currentContext();
+    InFlightLimiter limiter = limiter(context);
+    List<KeyT> distinctKeys = new ArrayList<>(new LinkedHashSet<>(keys));
+    Uni<Map<KeyT, T>> found =
+        Multi.createFrom()
+            .iterable(distinctKeys)
+            .onItem()
+            .transformToMulti(
+                key ->
+                    Multi.createFrom()
+                        .completionStage(
+                            () -> limiter.execute(() -> executor.apply(binder.apply(key))))
+                        .onItem()
+                        .transformToIterable(
+                            resultSet -> {
+                              Row row = resultSet.one();
+                              return row == null
+                                  ? Collections.<Map.Entry<KeyT, T>>emptyList()
+                                  : Collections.singletonList(
+                                      new AbstractMap.SimpleEntry<>(key, mapper.apply(row)));
+                            }))
+            .merge(limiter.getMaxInFlight())
+            .collect()
+            .asMap(Map.Entry::getKey, Map.Entry::getValue)
+            .map(entries -> inKeyOrder(distinctKeys, entries));
+    if (vertxContext != null) {
+      found = found.emitOn(new VertxContextExecutor(vertxContext));
+    }
+    return found;
+  }
+
+  private static InFlightLimiter limiter(DriverContext context) {
+    if (context instanceof QuarkusDriverContext) {
+      return ((QuarkusDriverContext) context).getMultiGetLimiter();
+    }
+    return new InFlightLimiter(
+        context
+            .getConfig()
+            .getDefaultProfile()
+            .getInt(
+                QuarkusDriverOption.REQUEST_MULTI_GET_MAX_IN_FLIGHT,
+                InFlightLimiter.DEFAULT_MULTI_GET_MAX_IN_FLIGHT));
+  }
+
+  /** Emits the rows of the given page, then of the next pages, fetched through the limiter. */
+  private static <T> Multi<T> rows(
+      AsyncResultSet resultSet, Function<Row, T> mapper, InFlightLimiter limiter) {
+    List<T> items = new ArrayList<>(resultSet.remaining());
+    for (Row row : resultSet.currentPage()) {
+      items.add(mapper.apply(row));
+    }
+    Multi<T> page = Multi.createFrom().iterable(items);
+    if (!resultSet.hasMorePages()) {
+      return page;
+    }
+    Multi<T> nextPages =
+        Multi.createFrom()
+            .completionStage(() -> limiter.execute(resultSet::fetchNextPage))
+            .onItem()
+            .transformToMulti(next -> rows(next, mapper, limiter))
+            .concatenate();
+    return Multi.createBy().concatenating().streams(page, nextPages);
+  }
+
+  private static <KeyT, T> Map<KeyT, T> inKeyOrder(List<KeyT> keys, Map<KeyT, T> entries) {
+    Map<KeyT, T> ordered = new LinkedHashMap<>();
+    for (KeyT key : keys) {
+      T value = entries.get(key);
+      if (value != null) {
+        ordered.put(key, value);
+      }
+    }
+    return Collections.unmodifiableMap(ordered);
+  }
+}
@@ -16,12 +16,12 @@
 package com.datastax.oss.quarkus.runtime.internal.reactive;
 
 import com.datastax.oss.quarkus.runtime.api.reactive.MultiPublisher;
-import edu.umd.cs.findbugs.annotations.NonNull;
 import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
 import io.vertx.core.Context;
 import io.vertx.core.Vertx;
-import java.util.concurrent.Executor;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Supplier;
 import mutiny.zero.flow.adapters.AdaptersToFlow;
 import org.reactivestreams.Publisher;
 
@@ -45,17 +45,12 @@ public class MutinyWrappers {
     return uni;
   }
 
-  private static class VertxContextExecutor implements Executor {
-
-    private final Context context;
-
-    public VertxContextExecutor(Context context) {
-      this.context = context;
-    }
-
-    @Override
-    public void execute(@NonNull Runnable command) {
-      context.runOnContext(x -> command.run());
+  public static <T> Uni<T> toUni(Supplier<? extends CompletionStage<? extends T>> source) {
+    Uni<T> uni = Uni.createFrom().completionStage(source);
+    Context context = Vertx.currentContext();
+    if (context != null) {
+      uni = uni.emitOn(new VertxContextExecutor(context));
     }
+    return uni;
   }
 }
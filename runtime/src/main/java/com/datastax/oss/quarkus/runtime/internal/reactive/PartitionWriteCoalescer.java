@@ -0,0 +1,228 @@
+/*
+ * Copyright DataStax, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.quarkus.runtime.internal.reactive;
+
+import com.datastax.oss.driver.api.core.CqlIdentifier;
+import com.datastax.oss.driver.api.core.context.DriverContext;
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
+import com.datastax.oss.driver.api.core.cql.BatchableStatement;
+import com.datastax.oss.driver.api.core.cql.Statement;
+import com.datastax.oss.driver.api.core.metadata.token.Token;
+import com.datastax.oss.driver.api.core.session.Session;
+import com.datastax.oss.quarkus.runtime.internal.context.QuarkusDriverContext;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import io.smallrye.mutiny.Uni;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Groups the writes submitted within a short window by partition into unlogged batches.
+ *
+ * <p>Statements are grouped by routing keyspace and routing token, or routing key if no token is
+ * set, and by the attributes that a batch can't mix: execution profile, consistency level and
+ * idempotence. A group is sent as soon as it holds {@code advanced.write-coalescing.max-statements}
+ * statements, or when {@code advanced.write-coalescing.window} has elapsed since its first
+ * statement was submitted. A group of a single statement is sent as is. Since all the statements of
+ * a batch share the same routing information, the batch is routed to a replica of their partition.
+ *
+ * <p>Statements without routing information can't be grouped, and are sent right away.
+ */
+public class PartitionWriteCoalescer {
+
+  private static final Logger LOG = LoggerFactory.getLogger(PartitionWriteCoalescer.class);
+
+  /** The default window during which writes to the same partition are grouped. */
+  public static final Duration DEFAULT_WINDOW = Duration.ofMillis(2);
+
+  /** The default maximum number of statements in a group. */
+  public static final int DEFAULT_MAX_STATEMENTS = 32;
+
+  private final long windowNanos;
+  private final int maxStatements;
+  private final ScheduledExecutorService scheduler;
+
+  // guarded by this
+  private final Map<List<Object>, Group> groups = new HashMap<>();
+
+  public PartitionWriteCoalescer(
+      @NonNull Duration window, int maxStatements, @NonNull ScheduledExecutorService scheduler) {
+    this.windowNanos = window.toNanos();
+    this.maxStatements = maxStatements;
+    this.scheduler = scheduler;
+  }
+
+  /**
+   * Submits the given statement, and returns a stage that completes with the result of the batch
+   * it's sent with.
+   *
+   * @param statement the statement to submit.
+   * @param executor executes the statement, or the batch it belongs to.
+   */
+  @NonNull
+  public CompletionStage<AsyncResultSet> submit(
+      @NonNull BatchableStatement<?> statement,
+      @NonNull Function<Statement<?>, CompletionStage<AsyncResultSet>> executor) {
+    List<Object> key = groupKey(statement);
+    if (key == null || maxStatements < 2) {
+      return executor.apply(statement);
+    }
+    CompletableFuture<AsyncResultSet> result = new CompletableFuture<>();
+    Group created = null;
+    Group full = null;
+    synchronized (this) {
+      Group group = groups.get(key);
+      if (group == null) {
+        group = new Group(key, executor);
+        groups.put(key, group);
+        created = group;
+      }
+      group.statements.add(statement);
+      group.results.add(result);
+      if (group.statements.size() >= maxStatements) {
+        groups.remove(key);
+        full = group;
+      }
+    }
+    if (full != null) {
+      ScheduledFuture<?> timeout = full.timeout;
+      if (timeout != null) {
+        timeout.cancel(false);
+      }
+      send(full);
+    } else if (created != null) {
+      Group group = created;
+      try {
+        group.timeout =
+            scheduler.schedule(() -> sendIfPending(group), windowNanos, TimeUnit.NANOSECONDS);
+      } catch (RejectedExecutionException e) {
+        // the scheduler is shutting down along with the session: don't wait
+        sendIfPending(group);
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Submits the given statement to the coalescer of the given session, and returns a {@link Uni}
+   * that completes when the batch it's sent with is written. The statement is executed right away
+   * if the session has no coalescer.
+   */
+  @NonNull
+  public static Uni<Void> execute(
+      @NonNull Session session, @NonNull BatchableStatement<?> statement) {
+    DriverContext context = session.getContext();
+    Function<Statement<?>, CompletionStage<AsyncResultSet>> executor =
+        request -> session.execute(request, Statement.ASYNC);
+    return MutinyWrappers.<AsyncResultSet>toUni(
+            () ->
+                context instanceof QuarkusDriverContext
+                    ? ((QuarkusDriverContext) context)
+                        .getPartitionWriteCoalescer()
+                        .submit(statement, executor)
+                    : executor.apply(statement))
+        .replaceWithVoid();
+  }
+
+  /** Returns the number of groups waiting to be sent. */
+  public synchronized int getPendingGroups() {
+    return groups.size();
+  }
+
+  private void sendIfPending(Group group) {
+    synchronized (this) {
+      if (!groups.remove(group.key, group)) {
+        // already sent because it was full
+        return;
+      }
+    }
+    send(group);
+  }
+
+  private void send(Group group) {
+    CompletionStage<AsyncResultSet> stage;
+    try {
+      stage = group.executor.apply(BulkWrites.toBatch(group.statements));
+    } catch (Throwable t) {
+      stage = CompletableFuture.failedFuture(t);
+    }
+    LOG.trace("Sent group of {} statements", group.statements.size());
+    stage.whenComplete(
+        (resultSet, error) -> {
+          for (CompletableFuture<AsyncResultSet> result : group.results) {
+            if (error != null) {
+              result.completeExceptionally(error);
+            } else {
+              result.complete(resultSet);
+            }
+          }
+        });
+  }
+
+  /**
+   * Returns the key of the group the given statement belongs to, or null if it can't be grouped
+   * since it has no routing information.
+   */
+  static List<Object> groupKey(BatchableStatement<?> statement) {
+    Object routing;
+    Token token = statement.getRoutingToken();
+    if (token != null) {
+      routing = token;
+    } else {
+      ByteBuffer routingKey = statement.getRoutingKey();
+      if (routingKey == null) {
+        return null;
+      }
+      routing = routingKey;
+    }
+    CqlIdentifier keyspace =
+        statement.getKeyspace() != null ? statement.getKeyspace() : statement.getRoutingKeyspace();
+    return Arrays.asList(
+        keyspace,
+        routing,
+        statement.getExecutionProfileName(),
+        statement.getExecutionProfile(),
+        statement.getConsistencyLevel(),
+        statement.isIdempotent());
+  }
+
+  private static class Group {
+
+    final List<Object> key;
+    final Function<Statement<?>, CompletionStage<AsyncResultSet>> executor;
+    final List<BatchableStatement<?>> statements = new ArrayList<>();
+    final List<CompletableFuture<AsyncResultSet>> results = new ArrayList<>();
+    volatile ScheduledFuture<?> timeout;
+
+    Group(List<Object> key, Function<Statement<?>, CompletionStage<AsyncResultSet>> executor) {
+      this.key = key;
+      this.executor = executor;
+    }
+  }
+}
@@ -0,0 +1,258 @@
+/*
+ * Copyright DataStax, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.quarkus.runtime.internal.reactive;
+
+import com.datastax.oss.driver.api.core.config.DriverConfig;
+import com.datastax.oss.driver.api.core.config.DriverExecutionProfile;
+import com.datastax.oss.driver.api.core.context.DriverContext;
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
+import com.datastax.oss.driver.api.core.cql.ColumnDefinitions;
+import com.datastax.oss.driver.api.core.cql.ExecutionInfo;
+import com.datastax.oss.driver.api.core.cql.Row;
+import com.datastax.oss.driver.api.core.cql.Statement;
+import com.datastax.oss.quarkus.runtime.internal.driver.QuarkusDriverOption;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.Iterator;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Controls how many pages of a reactive result set are fetched ahead of the page being consumed.
+ *
+ * <p>The driver's reactive result sets request the next page as soon as a page is received, and
+ * keep up to 4 pages in memory, regardless of their size and of the pace of the subscriber. This
+ * class throttles these fetches: the next page is only fetched while at most {@code
+ * advanced.reactive.read-ahead.pages} received pages are not fully consumed yet, and while the
+ * response size of these pages stays below {@code advanced.reactive.read-ahead.memory-budget}
+ * bytes. The next page is always fetched once all received pages are consumed, so that the result
+ * set always makes progress.
+ *
+ * <p>Read-ahead does not apply to continuous paging, for which the server pushes pages and the
+ * driver setting {@code advanced.continuous-paging.max-enqueued-pages} applies instead.
+ */
+public class ReadAheadPages {
+
+  /**
+   * Returns a first page callable whose pages, including all the following ones, are fetched
+   * according to the read-ahead settings of the given profile. Returns the callable unchanged if
+   * the profile defines no read-ahead setting.
+   */
+  @NonNull
+  public static Callable<CompletionStage<AsyncResultSet>> withReadAhead(
+      @NonNull Callable<CompletionStage<AsyncResultSet>> firstPage,
+      @NonNull DriverExecutionProfile profile) {
+    boolean pagesDefined = profile.isDefined(QuarkusDriverOption.REQUEST_READ_AHEAD_PAGES);
+    boolean budgetDefined = profile.isDefined(QuarkusDriverOption.REQUEST_READ_AHEAD_BUDGET);
+    if (!pagesDefined && !budgetDefined) {
+      return firstPage;
+    }
+    int maxPagesAhead =
+        pagesDefined
+            ? profile.getInt(QuarkusDriverOption.REQUEST_READ_AHEAD_PAGES)
+            : Integer.MAX_VALUE;
+    long budget =
+        budgetDefined
+            ? profile.getBytes(QuarkusDriverOption.REQUEST_READ_AHEAD_BUDGET)
+            : Long.MAX_VALUE;
+    return () -> new Controller(maxPagesAhead, budget).wrap(firstPage.call());
+  }
+
+  /** Returns the execution profile of the given statement. */
+  @NonNull
+  public static DriverExecutionProfile resolveProfile(
+      @NonNull Statement<?> statement, @NonNull DriverContext context) {
+    if (statement.getExecutionProfile() != null) {
+      return statement.getExecutionProfile();
+    }
+    DriverConfig config = context.getConfig();
+    String profileName = statement.getExecutionProfileName();
+    return profileName == null || profileName.isEmpty()
+        ? config.getDefaultProfile()
+        : config.getProfile(profileName);
+  }
+
+  /** Keeps track of the pages of one result set that are received but not fully consumed. */
+  static class Controller {
+
+    private final int maxPagesAhead;
+    private final long budget;
+
+    // all guarded by this
+    private int unconsumedPages;
+    private long unconsumedBytes;
+    private Runnable pendingFetch;
+
+    Controller(int maxPagesAhead, long budget) {
+      this.maxPagesAhead = maxPagesAhead;
+      this.budget = budget;
+    }
+
+    CompletionStage<AsyncResultSet> wrap(CompletionStage<AsyncResultSet> page) {
+      return page.thenApply(rs -> new ReadAheadAsyncResultSet(rs, this));
+    }
+
+    synchronized int getUnconsumedPages() {
+      return unconsumedPages;
+    }
+
+    synchronized long getUnconsumedBytes() {
+      return unconsumedBytes;
+    }
+
+    private synchronized void pageReceived(int size) {
+      unconsumedPages++;
+      unconsumedBytes += size;
+    }
+
+    private void pageConsumed(int size) {
+      synchronized (this) {
+        unconsumedPages--;
+        unconsumedBytes -= size;
+      }
+      maybeFetch();
+    }
+
+    private void fetchWhenAllowed(Runnable fetch) {
+      synchronized (this) {
+        pendingFetch = fetch;
+      }
+      maybeFetch();
+    }
+
+    private void maybeFetch() {
+      Runnable fetch;
+      synchronized (this) {
+        if (pendingFetch == null
+            || (unconsumedPages > 0
+                && (unconsumedPages > maxPagesAhead || unconsumedBytes >= budget))) {
+          return;
+        }
+        fetch = pendingFetch;
+        pendingFetch = null;
+      }
+      fetch.run();
+    }
+  }
+
+  private static class ReadAheadAsyncResultSet implements AsyncResultSet {
+
+    private final AsyncResultSet delegate;
+    private final Controller controller;
+    private final int size;
+    private final AtomicBoolean consumed = new AtomicBoolean();
+
+    private ReadAheadAsyncResultSet(AsyncResultSet delegate, Controller controller) {
+      this.delegate = delegate;
+      this.controller = controller;
+      this.size = Math.max(delegate.getExecutionInfo().getResponseSizeInBytes(), 0);
+      controller.pageReceived(size);
+    }
+
+    @NonNull
+    @Override
+    public ColumnDefinitions getColumnDefinitions() {
+      return delegate.getColumnDefinitions();
+    }
+
+    @NonNull
+    @Override
+    public ExecutionInfo getExecutionInfo() {
+      return delegate.getExecutionInfo();
+    }
+
+    @Override
+    public int remaining() {
+      return delegate.remaining();
+    }
+
+    @NonNull
+    @Override
+    public Iterable<Row> currentPage() {
+      Iterable<Row> rows = delegate.currentPage();
+      return () -> new ConsumptionTrackingIterator(rows.iterator());
+    }
+
+    @Override
+    public boolean hasMorePages() {
+      return delegate.hasMorePages();
+    }
+
+    @NonNull
+    @Override
+    public CompletionStage<AsyncResultSet> fetchNextPage() throws IllegalStateException {
+      CompletableFuture<AsyncResultSet> result = new CompletableFuture<>();
+      controller.fetchWhenAllowed(
+          () -> {
+            try {
+              controller
+                  .wrap(delegate.fetchNextPage())
+                  .whenComplete(
+                      (rs, error) -> {
+                        if (error != null) {
+                          result.completeExceptionally(error);
+                        } else {
+                          result.complete(rs);
+                        }
+                      });
+            } catch (Throwable t) {
+              result.completeExceptionally(t);
+            }
+          });
+      return result;
+    }
+
+    @Override
+    public boolean wasApplied() {
+      return delegate.wasApplied();
+    }
+
+    private void markConsumed() {
+      if (consumed.compareAndSet(false, true)) {
+        controller.pageConsumed(size);
+      }
+    }
+
+    /** Reports the page as consumed once its last row has been read. */
+    private class ConsumptionTrackingIterator implements Iterator<Row> {
+
+      private final Iterator<Row> rows;
+
+      private ConsumptionTrackingIterator(Iterator<Row> rows) {
+        this.rows = rows;
+      }
+
+      @Override
+      public boolean hasNext() {
+        boolean hasNext = rows.hasNext();
+        if (!hasNext) {
+          markConsumed();
+        }
+        return hasNext;
+      }
+
+      @Override
+      public Row next() {
+        Row row = rows.next();
+        if (!rows.hasNext()) {
+          markConsumed();
+        }
+        return row;
+      }
+    }
+  }
+}
@@ -0,0 +1,259 @@
+/*
+ * Copyright DataStax, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.quarkus.runtime.internal.reactive;
+
+import com.datastax.oss.driver.api.core.CqlIdentifier;
+import com.datastax.oss.driver.api.core.config.DriverExecutionProfile;
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
+import com.datastax.oss.driver.api.core.cql.BoundStatement;
+import com.datastax.oss.driver.api.core.cql.ColumnDefinitions;
+import com.datastax.oss.driver.api.core.cql.ExecutionInfo;
+import com.datastax.oss.driver.api.core.cql.Row;
+import com.datastax.oss.driver.api.core.cql.Statement;
+import com.datastax.oss.driver.api.core.session.Session;
+import com.datastax.oss.protocol.internal.ProtocolConstants;
+import com.datastax.oss.quarkus.runtime.internal.context.QuarkusDriverContext;
+import com.datastax.oss.quarkus.runtime.internal.driver.QuarkusDriverOption;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+/**
+ * Shares a single in-flight request between concurrent executions of identical reads.
+ *
+ * <p>Reads are identical when they are bound statements with the same prepared statement id, bound
+ * values, consistency levels, execution profile, page size, paging state, routing key and token,
+ * and query timestamp. Reads that target a specific node are never shared. While a read is in
+ * flight, identical reads wait for its result instead of sending their own request; each of them
+ * then consumes its own view of the shared pages, and following pages are also fetched once for all
+ * of them. Once the first page is received, later reads send a new request: results are never
+ * cached.
+ *
+ * <p>This only applies to statements whose execution profile sets {@code
+ * advanced.request.single-flight} to true, and that are reads, i.e. bound statements whose result
+ * metadata defines columns, none of them being {@code [applied]}.
+ */
+public class SingleFlightReads {
+
+  private static final Object UNSET = new Object();
+
+  private static final CqlIdentifier APPLIED = CqlIdentifier.fromInternal("[applied]");
+
+  /**
+   * Executes the given statement with the given session, sharing the request with identical
+   * in-flight reads if the statement's execution profile enables it.
+   */
+  @NonNull
+  public static CompletionStage<AsyncResultSet> execute(
+      @NonNull Session session, @NonNull Statement<?> statement) {
+    Function<Statement<?>, CompletionStage<AsyncResultSet>> executor =
+        request -> session.execute(request, Statement.ASYNC);
+    if (session.getContext() instanceof QuarkusDriverContext) {
+      DriverExecutionProfile profile =
+          ReadAheadPages.resolveProfile(statement, session.getContext());
+      if (profile.getBoolean(QuarkusDriverOption.REQUEST_SINGLE_FLIGHT, false)) {
+        return ((QuarkusDriverContext) session.getContext())
+            .getSingleFlightReads()
+            .execute(statement, executor);
+      }
+    }
+    return executor.apply(statement);
+  }
+
+  private final ConcurrentMap<List<Object>, CompletableFuture<SharedPage>> inFlight =
+      new ConcurrentHashMap<>();
+
+  /**
+   * Executes the given statement with the given executor, or waits for an identical read in flight.
+   */
+  @NonNull
+  public CompletionStage<AsyncResultSet> execute(
+      @NonNull Statement<?> statement,
+      @NonNull Function<Statement<?>, CompletionStage<AsyncResultSet>> executor) {
+    List<Object> key = readKey(statement);
+    if (key == null) {
+      return executor.apply(statement);
+    }
+    CompletableFuture<SharedPage> created = new CompletableFuture<>();
+    CompletableFuture<SharedPage> shared = inFlight.putIfAbsent(key, created);
+    if (shared == null) {
+      shared = created;
+      CompletionStage<AsyncResultSet> stage;
+      try {
+        stage = executor.apply(statement);
+      } catch (Throwable t) {
+        stage = CompletableFuture.failedFuture(t);
+      }
+      stage.whenComplete(
+          (resultSet, error) -> {
+            inFlight.remove(key, created);
+            if (error != null) {
+              created.completeExceptionally(error);
+            } else {
+              created.complete(new SharedPage(resultSet));
+            }
+          });
+    }
+    return shared.thenApply(SharedPageView::new);
+  }
+
+  /** Returns the number of distinct reads in flight. */
+  public int getInFlight() {
+    return inFlight.size();
+  }
+
+  /**
+   * Returns the key identifying the given read, or null if the statement is not a bound read
+   * statement, or targets a specific node.
+   */
+  static List<Object> readKey(Statement<?> statement) {
+    if (!(statement instanceof BoundStatement) || statement.getNode() != null) {
+      return null;
+    }
+    BoundStatement bound = (BoundStatement) statement;
+    ColumnDefinitions resultDefinitions = bound.getPreparedStatement().getResultSetDefinitions();
+    if (resultDefinitions.size() == 0 || resultDefinitions.contains(APPLIED)) {
+      return null;
+    }
+    List<Object> values = new ArrayList<>(bound.getValues().size());
+    for (ByteBuffer value : bound.getValues()) {
+      // unset values are empty buffers, that would otherwise be equal to empty values
+      values.add(value == ProtocolConstants.UNSET_VALUE ? UNSET : value);
+    }
+    return Arrays.asList(
+        bound.getPreparedStatement().getId(),
+        values,
+        bound.getConsistencyLevel(),
+        bound.getSerialConsistencyLevel(),
+        bound.getExecutionProfileName(),
+        bound.getExecutionProfile(),
+        bound.getPageSize(),
+        bound.getPagingState(),
+        bound.getRoutingKey(),
+        bound.getRoutingToken(),
+        bound.getQueryTimestamp());
+  }
+
+  /** A page of results shared by identical reads; the next page is fetched once for all. */
+  static class SharedPage {
+
+    final List<Row> rows = new ArrayList<>();
+    final AsyncResultSet source;
+
+    // guarded by this
+    private CompletionStage<SharedPage> nextPage;
+
+    SharedPage(AsyncResultSet source) {
+      this.source = source;
+      source.currentPage().forEach(rows::add);
+    }
+
+    synchronized CompletionStage<SharedPage> fetchNextPage() {
+      if (nextPage == null) {
+        nextPage = source.fetchNextPage().thenApply(SharedPage::new);
+      }
+      return nextPage;
+    }
+  }
+
+  /** The view of a shared page consumed by one of the reads that share it. */
+  static class SharedPageView implements AsyncResultSet {
+
+    private final SharedPage page;
+    private final Iterator<Row> iterator;
+    private int remaining;
+
+    SharedPageView(SharedPage page) {
+      this.page = page;
+      this.iterator = page.rows.iterator();
+      this.remaining = page.rows.size();
+    }
+
+    @NonNull
+    @Override
+    public ColumnDefinitions getColumnDefinitions() {
+      return page.source.getColumnDefinitions();
+    }
+
+    @NonNull
+    @Override
+    public ExecutionInfo getExecutionInfo() {
+      return page.source.getExecutionInfo();
+    }
+
+    @Override
+    public int remaining() {
+      return remaining;
+    }
+
+    @NonNull
+    @Override
+    public Iterable<Row> currentPage() {
+      // like the driver's result sets, iterating consumes the rows
+      return () ->
+          new Iterator<Row>() {
+            @Override
+            public boolean hasNext() {
+              return iterator.hasNext();
+            }
+
+            @Override
+            public Row next() {
+              Row next = iterator.next();
+              remaining -= 1;
+              return next;
+            }
+          };
+    }
+
+    @Override
+    public Row one() {
+      if (!iterator.hasNext()) {
+        return null;
+      }
+      remaining -= 1;
+      return iterator.next();
+    }
+
+    @Override
+    public boolean hasMorePages() {
+      return page.source.hasMorePages();
+    }
+
+    @NonNull
+    @Override
+    public CompletionStage<AsyncResultSet> fetchNextPage() throws IllegalStateException {
+      if (!hasMorePages()) {
+        throw new IllegalStateException(
+            "No next page. Use #hasMorePages before calling this method to avoid this error.");
+      }
+      return page.fetchNextPage().thenApply(SharedPageView::new);
+    }
+
+    @Override
+    public boolean wasApplied() {
+      return page.source.wasApplied();
+    }
+  }
+}
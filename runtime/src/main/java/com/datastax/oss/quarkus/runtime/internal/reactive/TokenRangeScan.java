@@ -0,0 +1,484 @@
+/*
+ * Copyright DataStax, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.quarkus.runtime.internal.reactive;
+
+import com.datastax.dse.driver.api.core.cql.reactive.ReactiveRow;
+import com.datastax.oss.driver.api.core.CqlIdentifier;
+import com.datastax.oss.driver.api.core.cql.BoundStatement;
+import com.datastax.oss.driver.api.core.cql.PrepareRequest;
+import com.datastax.oss.driver.api.core.cql.PreparedStatement;
+import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+import com.datastax.oss.driver.api.core.metadata.Metadata;
+import com.datastax.oss.driver.api.core.metadata.TokenMap;
+import com.datastax.oss.driver.api.core.metadata.schema.ColumnMetadata;
+import com.datastax.oss.driver.api.core.metadata.schema.KeyspaceMetadata;
+import com.datastax.oss.driver.api.core.metadata.schema.TableMetadata;
+import com.datastax.oss.driver.api.core.metadata.token.Token;
+import com.datastax.oss.driver.api.core.metadata.token.TokenRange;
+import com.datastax.oss.driver.internal.core.cql.DefaultPrepareRequest;
+import com.datastax.oss.driver.internal.core.metadata.token.DefaultTokenMap;
+import com.datastax.oss.quarkus.runtime.api.reactive.MutinyReactiveSession;
+import com.datastax.oss.quarkus.runtime.api.reactive.ScanOptions;
+import com.datastax.oss.quarkus.runtime.internal.context.QuarkusDriverContext;
+import com.datastax.oss.quarkus.runtime.internal.session.DefaultQuarkusCqlSession;
+import com.datastax.oss.quarkus.runtime.internal.session.RequestDrainer;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.helpers.Subscriptions;
+import io.smallrye.mutiny.operators.AbstractMulti;
+import io.smallrye.mutiny.subscription.MultiSubscriber;
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Flow;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Scans a whole table by splitting the token ring into ranges, and querying each range with {@code
+ * token(pk) > ? AND token(pk) <= ?}.
+ *
+ * <p>Each range query is routed with the end token of the ring range it belongs to, so that the
+ * token-aware load balancing policy sends it to a replica of that range. Wrapped ranges are
+ * unwrapped, and the range ending with the minimum token is queried with {@code token(pk) > ?}
+ * only, since no partition has a token greater than the minimum token.
+ */
+public class TokenRangeScan {
+
+  @NonNull
+  public static Multi<ReactiveRow> scan(
+      @NonNull MutinyReactiveSession session,
+      @NonNull CqlIdentifier keyspace,
+      @NonNull CqlIdentifier table,
+      @NonNull List<CqlIdentifier> columns,
+      @NonNull ScanOptions options) {
+    if (session.getContext() instanceof QuarkusDriverContext) {
+      // the scan holds a single permit of the drainer for its whole duration, its own range
+      // queries must not be rejected if the session starts draining in the meantime
+      RequestDrainer drainer = ((QuarkusDriverContext) session.getContext()).getRequestDrainer();
+      MutinyReactiveSession scanSession =
+          session instanceof DefaultQuarkusCqlSession
+              ? ((DefaultQuarkusCqlSession) session).withoutAdmission()
+              : session;
+      Multi<ReactiveRow> rows =
+          scan(scanSession, keyspace, table, columns, options, Vertx.currentContext());
+      return Multi.createFrom()
+          .deferred(
+              () ->
+                  drainer.tryAcquire()
+                      ? rows.onTermination().invoke(drainer::release)
+                      : Multi.createFrom().failure(drainer.newRejection()));
+    }
+    return scan(session, keyspace, table, columns, options, Vertx.currentContext());
+  }
+
+  private static Multi<ReactiveRow> scan(
+      MutinyReactiveSession session,
+      CqlIdentifier keyspace,
+      CqlIdentifier table,
+      List<CqlIdentifier> columns,
+      ScanOptions options,
+      Context context) {
+    Multi<ReactiveRow> rows =
+        Multi.createFrom()
+            .deferred(
+                () -> {
+                  Metadata metadata = session.getMetadata();
+                  TableMetadata tableMetadata = findTable(metadata, keyspace, table);
+                  TokenMap tokenMap =
+                      metadata
+                          .getTokenMap()
+                          .orElseThrow(
+                              () ->
+                                  new IllegalStateException(
+                                      "Token metadata is not available, "
+                                          + "check that advanced.metadata.token-map.enabled is true"));
+                  List<ScanRange> ranges =
+                      split(tokenMap.getTokenRanges(), options.getSplits(), minToken(tokenMap));
+                  List<CqlIdentifier> partitionKey =
+                      tableMetadata.getPartitionKey().stream()
+                          .map(ColumnMetadata::getName)
+                          .collect(Collectors.toList());
+                  return Uni.combine()
+                      .all()
+                      .unis(
+                          prepare(
+                              session,
+                              buildQuery(keyspace, table, columns, partitionKey, true),
+                              options),
+                          prepare(
+                              session,
+                              buildQuery(keyspace, table, columns, partitionKey, false),
+                              options))
+                      .asTuple()
+                      .onItem()
+                      .transformToMulti(
+                          statements ->
+                              scanRanges(
+                                  session,
+                                  ranges,
+                                  statements.getItem1(),
+                                  statements.getItem2(),
+                                  options));
+                });
+    if (context != null) {
+      // range queries may be started from driver threads, make sure rows are emitted on the
+      // context of the caller
+      rows = rows.emitOn(new VertxContextExecutor(context));
+    }
+    return rows;
+  }
+
+  private static Multi<ReactiveRow> scanRanges(
+      MutinyReactiveSession session,
+      List<ScanRange> ranges,
+      PreparedStatement bounded,
+      PreparedStatement unbounded,
+      ScanOptions options) {
+    if (options.isOrdered()) {
+      List<Supplier<Multi<ReactiveRow>>> queries = new ArrayList<>(ranges.size());
+      for (ScanRange range : ranges) {
+        queries.add(() -> queryRange(session, range, bounded, unbounded, options));
+      }
+      return concatenateAhead(queries, options.getConcurrency());
+    } else {
+      return Multi.createFrom()
+          .iterable(ranges)
+          .onItem()
+          .transformToMulti(range -> queryRange(session, range, bounded, unbounded, options))
+          .merge(options.getConcurrency());
+    }
+  }
+
+  /**
+   * Emits the items of the given streams one stream after the other, while subscribing to up to
+   * {@code concurrency} streams ahead of their turn. A stream subscribed to ahead of its turn only
+   * requests its first item, so that its first page is fetched while earlier streams are consumed,
+   * without buffering more than one page per stream.
+   */
+  @NonNull
+  static <T> Multi<T> concatenateAhead(@NonNull List<Supplier<Multi<T>>> streams, int concurrency) {
+    return Multi.createFrom()
+        .deferred(
+            () -> {
+              Iterator<Supplier<Multi<T>>> remaining = streams.iterator();
+              Deque<Prefetched<T>> started = new ArrayDeque<>();
+              return Multi.createFrom()
+                  .range(0, streams.size())
+                  .onItem()
+                  .transformToMulti(
+                      i -> {
+                        synchronized (started) {
+                          while (started.size() < concurrency && remaining.hasNext()) {
+                            Prefetched<T> stream = new Prefetched<>();
+                            started.add(stream);
+                            stream.start(remaining.next().get());
+                          }
+                          return started.poll();
+                        }
+                      })
+                  .concatenate()
+                  .onTermination()
+                  .invoke(
+                      () -> {
+                        // streams started ahead of their turn must not be left pending if the
+                        // scan is cancelled or fails
+                        synchronized (started) {
+                          started.forEach(Prefetched::cancel);
+                          started.clear();
+                        }
+                      });
+            });
+  }
+
+  private static Multi<ReactiveRow> queryRange(
+      MutinyReactiveSession session,
+      ScanRange range,
+      PreparedStatement bounded,
+      PreparedStatement unbounded,
+      ScanOptions options) {
+    BoundStatement statement =
+        range.bounded
+            ? bounded
+                .bind()
+                .setToken(0, range.tokenRange.getStart())
+                .setToken(1, range.tokenRange.getEnd())
+            : unbounded.bind().setToken(0, range.tokenRange.getStart());
+    statement = statement.setRoutingToken(range.routingToken);
+    if (options.getPageSize() > 0) {
+      statement = statement.setPageSize(options.getPageSize());
+    }
+    return session.executeReactive(statement);
+  }
+
+  private static Uni<PreparedStatement> prepare(
+      MutinyReactiveSession session, String query, ScanOptions options) {
+    SimpleStatement statement =
+        SimpleStatement.newInstance(query)
+            .setExecutionProfileName(options.getExecutionProfileName());
+    return Uni.createFrom()
+        .completionStage(
+            () ->
+                Objects.requireNonNull(
+                    session.execute(new DefaultPrepareRequest(statement), PrepareRequest.ASYNC)));
+  }
+
+  private static TableMetadata findTable(
+      Metadata metadata, CqlIdentifier keyspace, CqlIdentifier table) {
+    KeyspaceMetadata keyspaceMetadata =
+        metadata
+            .getKeyspace(keyspace)
+            .orElseThrow(
+                () -> new IllegalArgumentException("Unknown keyspace " + keyspace.asCql(true)));
+    return keyspaceMetadata
+        .getTable(table)
+        .orElseThrow(
+            () ->
+                new IllegalArgumentException(
+                    "Unknown table " + keyspace.asCql(true) + "." + table.asCql(true)));
+  }
+
+  private static Token minToken(TokenMap tokenMap) {
+    if (!(tokenMap instanceof DefaultTokenMap)) {
+      throw new IllegalStateException(
+          "Unsupported token map implementation: " + tokenMap.getClass().getName());
+    }
+    return ((DefaultTokenMap) tokenMap).getTokenFactory().minToken();
+  }
+
+  /**
+   * Builds the range query, with two bind markers for the bounds of the range, or one for its start
+   * only if {@code bounded} is false.
+   */
+  @NonNull
+  static String buildQuery(
+      @NonNull CqlIdentifier keyspace,
+      @NonNull CqlIdentifier table,
+      @NonNull List<CqlIdentifier> columns,
+      @NonNull List<CqlIdentifier> partitionKey,
+      boolean bounded) {
+    String selectors =
+        columns.isEmpty()
+            ? "*"
+            : columns.stream().map(c -> c.asCql(true)).collect(Collectors.joining(","));
+    String token =
+        partitionKey.stream()
+            .map(c -> c.asCql(true))
+            .collect(Collectors.joining(",", "token(", ")"));
+    StringBuilder query =
+        new StringBuilder("SELECT ")
+            .append(selectors)
+            .append(" FROM ")
+            .append(keyspace.asCql(true))
+            .append('.')
+            .append(table.asCql(true))
+            .append(" WHERE ")
+            .append(token)
+            .append(" > ?");
+    if (bounded) {
+      query.append(" AND ").append(token).append(" <= ?");
+    }
+    return query.toString();
+  }
+
+  /**
+   * Splits the given ring ranges into at least {@code splits} non-wrapping ranges, sorted in token
+   * order.
+   */
+  @NonNull
+  static List<ScanRange> split(
+      @NonNull Set<TokenRange> ringRanges, int splits, @NonNull Token minToken) {
+    int splitsPerRange = Math.max(1, (splits + ringRanges.size() - 1) / ringRanges.size());
+    List<ScanRange> ranges = new ArrayList<>();
+    for (TokenRange ringRange : ringRanges) {
+      List<TokenRange> subRanges =
+          splitsPerRange == 1 ? List.of(ringRange) : ringRange.splitEvenly(splitsPerRange);
+      for (TokenRange subRange : subRanges) {
+        for (TokenRange unwrapped : subRange.unwrap()) {
+          if (!unwrapped.isEmpty()) {
+            ranges.add(
+                new ScanRange(unwrapped, ringRange.getEnd(), !unwrapped.getEnd().equals(minToken)));
+          }
+        }
+      }
+    }
+    ranges.sort((r1, r2) -> r1.tokenRange.compareTo(r2.tokenRange));
+    return ranges;
+  }
+
+  /**
+   * A stream subscribed to ahead of its single downstream subscriber: it requests one item right
+   * away and holds it, along with its termination, until the downstream subscriber requests items.
+   */
+  static class Prefetched<T> extends AbstractMulti<T> implements Flow.Subscription {
+
+    // all fields are guarded by this
+    private Flow.Subscription upstream;
+    private long pendingDemand;
+    private MultiSubscriber<? super T> downstream;
+    private boolean requested;
+    private T first;
+    private boolean done;
+    private Throwable failure;
+    private boolean terminated;
+    private boolean cancelled;
+
+    void start(Multi<T> stream) {
+      stream.subscribe().withSubscriber(new Upstream());
+    }
+
+    @Override
+    public synchronized void subscribe(MultiSubscriber<? super T> subscriber) {
+      if (downstream != null) {
+        Subscriptions.fail(
+            subscriber, new IllegalStateException("This stream only supports one subscriber"));
+        return;
+      }
+      downstream = subscriber;
+      subscriber.onSubscribe(this);
+      tryTerminate();
+    }
+
+    @Override
+    public void request(long n) {
+      Flow.Subscription subscription;
+      long demand = n;
+      synchronized (this) {
+        if (cancelled || n <= 0) {
+          return;
+        }
+        if (!requested) {
+          // the first item was requested when the stream was started
+          requested = true;
+          demand = n == Long.MAX_VALUE ? n : n - 1;
+          T item = first;
+          first = null;
+          if (item != null) {
+            downstream.onItem(item);
+          }
+          tryTerminate();
+        }
+        subscription = upstream;
+        if (subscription == null) {
+          pendingDemand = Subscriptions.add(pendingDemand, demand);
+        }
+      }
+      if (subscription != null && demand > 0) {
+        subscription.request(demand);
+      }
+    }
+
+    @Override
+    public void cancel() {
+      Flow.Subscription subscription;
+      synchronized (this) {
+        cancelled = true;
+        first = null;
+        subscription = upstream;
+      }
+      if (subscription != null) {
+        subscription.cancel();
+      }
+    }
+
+    private class Upstream implements MultiSubscriber<T> {
+
+      @Override
+      public void onSubscribe(Flow.Subscription subscription) {
+        long demand;
+        synchronized (Prefetched.this) {
+          if (upstream != null || cancelled) {
+            demand = -1;
+          } else {
+            upstream = subscription;
+            demand = pendingDemand;
+            pendingDemand = 0;
+          }
+        }
+        if (demand < 0) {
+          subscription.cancel();
+        } else {
+          subscription.request(demand == Long.MAX_VALUE ? demand : demand + 1);
+        }
+      }
+
+      @Override
+      public void onItem(T item) {
+        MultiSubscriber<? super T> subscriber;
+        synchronized (Prefetched.this) {
+          if (cancelled) {
+            return;
+          }
+          if (!requested) {
+            first = item;
+            return;
+          }
+          subscriber = downstream;
+        }
+        subscriber.onItem(item);
+      }
+
+      @Override
+      public void onFailure(Throwable error) {
+        synchronized (Prefetched.this) {
+          done = true;
+          failure = error;
+          tryTerminate();
+        }
+      }
+
+      @Override
+      public void onCompletion() {
+        synchronized (Prefetched.this) {
+          done = true;
+          tryTerminate();
+        }
+      }
+    }
+
+    private void tryTerminate() {
+      assert Thread.holdsLock(this);
+      if (done && !terminated && !cancelled && downstream != null && first == null) {
+        terminated = true;
+        if (failure == null) {
+          downstream.onCompletion();
+        } else {
+          downstream.onFailure(failure);
+        }
+      }
+    }
+  }
+
+  static class ScanRange {
+
+    final TokenRange tokenRange;
+    final Token routingToken;
+    final boolean bounded;
+
+    ScanRange(TokenRange tokenRange, Token routingToken, boolean bounded) {
+      this.tokenRange = tokenRange;
+      this.routingToken = routingToken;
+      this.bounded = bounded;
+    }
+  }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright DataStax, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.quarkus.runtime.internal.reactive;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import io.vertx.core.Context;
+import io.vertx.core.impl.ContextInternal;
+import java.util.concurrent.Executor;
+
+/**
+ * Emits signals on the subscriber's Vert.x context.
+ *
+ * <p>When the driver shares the Quarkus event loop, its callbacks usually already run on the
+ * subscriber's event loop thread; signals are then emitted inline, instead of being scheduled as a
+ * separate {@code runOnContext} task each. They are only dispatched to the context when they arrive
+ * on another thread.
+ */
+class VertxContextExecutor implements Executor {
+
+  private final Context context;
+
+  VertxContextExecutor(Context context) {
+    this.context = context;
+  }
+
+  @Override
+  public void execute(@NonNull Runnable command) {
+    if (context instanceof ContextInternal) {
+      ContextInternal internal = (ContextInternal) context;
+      if (internal.isRunningOnContext()) {
+        command.run();
+        return;
+      }
+      if (internal.inThread()) {
+        // right thread, but the context is not the current one: make it current while emitting
+        internal.dispatch(command);
+        return;
+      }
+    }
+    context.runOnContext(x -> command.run());
+  }
+}
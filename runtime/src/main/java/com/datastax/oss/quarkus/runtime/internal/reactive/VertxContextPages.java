@@ -0,0 +1,211 @@
+/*
+ * Copyright DataStax, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.quarkus.runtime.internal.reactive;
+
+import com.datastax.dse.driver.api.core.cql.continuous.ContinuousAsyncResultSet;
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
+import com.datastax.oss.driver.api.core.cql.ColumnDefinitions;
+import com.datastax.oss.driver.api.core.cql.ExecutionInfo;
+import com.datastax.oss.driver.api.core.cql.Row;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+/**
+ * Hands driver result pages over to the caller's Vert.x context, one page at a time.
+ *
+ * <p>The driver's reactive result sets drain a page as soon as it is received, on the thread that
+ * completed it. By completing each page on the subscriber's context, the whole page is moved to the
+ * context in a single task, and its rows are then emitted there as downstream demand allows,
+ * instead of being dispatched to the context one row at a time.
+ */
+public class VertxContextPages {
+
+  /**
+   * Returns a first page callable whose pages, including all the following ones, complete on the
+   * current Vert.x context. Returns the callable unchanged if there is no current context.
+   */
+  @NonNull
+  public static Callable<CompletionStage<AsyncResultSet>> onCurrentContext(
+      @NonNull Callable<CompletionStage<AsyncResultSet>> firstPage) {
+    Context context = Vertx.currentContext();
+    if (context == null) {
+      return firstPage;
+    }
+    Executor executor = new VertxContextExecutor(context);
+    return () ->
+        handOver(firstPage.call(), executor, rs -> new ContextAsyncResultSet(rs, executor));
+  }
+
+  /** Same as {@link #onCurrentContext}, for continuous paging results. */
+  @NonNull
+  public static Callable<CompletionStage<ContinuousAsyncResultSet>> continuousOnCurrentContext(
+      @NonNull Callable<CompletionStage<ContinuousAsyncResultSet>> firstPage) {
+    Context context = Vertx.currentContext();
+    if (context == null) {
+      return firstPage;
+    }
+    Executor executor = new VertxContextExecutor(context);
+    return () ->
+        handOver(
+            firstPage.call(), executor, rs -> new ContextContinuousAsyncResultSet(rs, executor));
+  }
+
+  private static <T> CompletionStage<T> handOver(
+      CompletionStage<T> page, Executor executor, Function<T, T> wrapper) {
+    CompletableFuture<T> result = new CompletableFuture<>();
+    page.whenComplete(
+        (rs, error) ->
+            executor.execute(
+                () -> {
+                  if (error != null) {
+                    result.completeExceptionally(error);
+                  } else {
+                    result.complete(wrapper.apply(rs));
+                  }
+                }));
+    return result;
+  }
+
+  private static class ContextAsyncResultSet implements AsyncResultSet {
+
+    private final AsyncResultSet delegate;
+    private final Executor executor;
+
+    private ContextAsyncResultSet(AsyncResultSet delegate, Executor executor) {
+      this.delegate = delegate;
+      this.executor = executor;
+    }
+
+    @NonNull
+    @Override
+    public ColumnDefinitions getColumnDefinitions() {
+      return delegate.getColumnDefinitions();
+    }
+
+    @NonNull
+    @Override
+    public ExecutionInfo getExecutionInfo() {
+      return delegate.getExecutionInfo();
+    }
+
+    @Override
+    public int remaining() {
+      return delegate.remaining();
+    }
+
+    @NonNull
+    @Override
+    public Iterable<Row> currentPage() {
+      return delegate.currentPage();
+    }
+
+    @Override
+    public Row one() {
+      return delegate.one();
+    }
+
+    @Override
+    public boolean hasMorePages() {
+      return delegate.hasMorePages();
+    }
+
+    @NonNull
+    @Override
+    public CompletionStage<AsyncResultSet> fetchNextPage() throws IllegalStateException {
+      return handOver(
+          delegate.fetchNextPage(), executor, rs -> new ContextAsyncResultSet(rs, executor));
+    }
+
+    @Override
+    public boolean wasApplied() {
+      return delegate.wasApplied();
+    }
+  }
+
+  private static class ContextContinuousAsyncResultSet implements ContinuousAsyncResultSet {
+
+    private final ContinuousAsyncResultSet delegate;
+    private final Executor executor;
+
+    private ContextContinuousAsyncResultSet(ContinuousAsyncResultSet delegate, Executor executor) {
+      this.delegate = delegate;
+      this.executor = executor;
+    }
+
+    @NonNull
+    @Override
+    public ColumnDefinitions getColumnDefinitions() {
+      return delegate.getColumnDefinitions();
+    }
+
+    @NonNull
+    @Override
+    public ExecutionInfo getExecutionInfo() {
+      return delegate.getExecutionInfo();
+    }
+
+    @Override
+    public int pageNumber() {
+      return delegate.pageNumber();
+    }
+
+    @Override
+    public void cancel() {
+      delegate.cancel();
+    }
+
+    @Override
+    public int remaining() {
+      return delegate.remaining();
+    }
+
+    @NonNull
+    @Override
+    public Iterable<Row> currentPage() {
+      return delegate.currentPage();
+    }
+
+    @Override
+    public Row one() {
+      return delegate.one();
+    }
+
+    @Override
+    public boolean hasMorePages() {
+      return delegate.hasMorePages();
+    }
+
+    @NonNull
+    @Override
+    public CompletionStage<ContinuousAsyncResultSet> fetchNextPage() throws IllegalStateException {
+      return handOver(
+          delegate.fetchNextPage(),
+          executor,
+          rs -> new ContextContinuousAsyncResultSet(rs, executor));
+    }
+
+    @Override
+    public boolean wasApplied() {
+      return delegate.wasApplied();
+    }
+  }
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright DataStax, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.quarkus.runtime.internal.reactive.mapper;
+
+import com.datastax.oss.quarkus.runtime.api.reactive.mapper.LwtResult;
+
+public class DefaultLwtResult<EntityT> implements LwtResult<EntityT> {
+
+  private final boolean applied;
+  private final EntityT entity;
+
+  public DefaultLwtResult(boolean applied, EntityT entity) {
+    this.applied = applied;
+    this.entity = entity;
+  }
+
+  @Override
+  public boolean wasApplied() {
+    return applied;
+  }
+
+  @Override
+  public EntityT getEntity() {
+    return entity;
+  }
+
+  @Override
+  public String toString() {
+    return "LwtResult(applied=" + applied + ", entity=" + entity + ")";
+  }
+}
@@ -0,0 +1,36 @@
+/*
+ * Copyright DataStax, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.quarkus.runtime.internal.reactive.mapper;
+
+import com.datastax.oss.driver.api.core.cql.Row;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.function.Function;
+
+/**
+ * Creates a positional entity decoder for the columns of a result set. Implementations are
+ * generated by the mapper processor for reactive DAO reads, see cassandra-quarkus-mapper-processor
+ * module.
+ */
+@FunctionalInterface
+public interface EntityDecoderFactory<EntityT> {
+
+  /**
+   * Resolves the columns read by the decoder, and returns a function that decodes each row of the
+   * result set by position.
+   */
+  @NonNull
+  Function<Row, EntityT> newDecoder(@NonNull PositionalColumns columns);
+}
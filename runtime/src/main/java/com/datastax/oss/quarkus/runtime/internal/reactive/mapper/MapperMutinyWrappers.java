@@ -16,15 +16,35 @@
 package com.datastax.oss.quarkus.runtime.internal.reactive.mapper;
 
 import com.datastax.dse.driver.api.core.cql.reactive.ReactiveResultSet;
+import com.datastax.dse.driver.api.mapper.reactive.MappedReactiveResultSet;
+import com.datastax.dse.driver.internal.mapper.reactive.DefaultMappedReactiveResultSet;
 import com.datastax.oss.driver.api.core.CqlIdentifier;
+import com.datastax.oss.driver.api.core.context.DriverContext;
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
+import com.datastax.oss.driver.api.core.cql.BoundStatement;
+import com.datastax.oss.driver.api.core.cql.BoundStatementBuilder;
 import com.datastax.oss.driver.api.core.cql.ColumnDefinitions;
+import com.datastax.oss.driver.api.core.cql.PagingState;
 import com.datastax.oss.driver.api.core.cql.Row;
+import com.datastax.oss.driver.api.core.cql.Statement;
 import com.datastax.oss.driver.api.core.type.DataTypes;
 import com.datastax.oss.driver.api.mapper.MapperException;
 import com.datastax.oss.driver.api.mapper.entity.EntityHelper;
+import com.datastax.oss.quarkus.runtime.api.reactive.MutinyPage;
+import com.datastax.oss.quarkus.runtime.api.reactive.mapper.LwtResult;
+import com.datastax.oss.quarkus.runtime.internal.reactive.BulkWrites;
+import com.datastax.oss.quarkus.runtime.internal.reactive.DefaultMutinyPage;
+import com.datastax.oss.quarkus.runtime.internal.reactive.MultiGets;
 import com.datastax.oss.quarkus.runtime.internal.reactive.MutinyWrappers;
 import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 /**
  * Methods in this class are only referenced by generated mapper code, see
@@ -47,6 +67,64 @@ public class MapperMutinyWrappers {
     return MutinyWrappers.toUni(source).map(row -> extractEntity(row, entityHelper));
   }
 
+  @SuppressWarnings("unused")
+  public static <EntityT> Uni<EntityT> toEntityUni(
+      ReactiveResultSet source, EntityDecoderFactory<EntityT> decoderFactory) {
+    return MutinyWrappers.toUni(source).map(new DecodingFunction<>(decoderFactory, true));
+  }
+
+  @SuppressWarnings("unused")
+  public static <EntityT> MappedReactiveResultSet<EntityT> toDecodedResultSet(
+      ReactiveResultSet source, EntityDecoderFactory<EntityT> decoderFactory) {
+    DecodingFunction<EntityT> decodingFunction = new DecodingFunction<>(decoderFactory, false);
+    return new DefaultMappedReactiveResultSet<>(source, decodingFunction::apply);
+  }
+
+  @SuppressWarnings("unused")
+  public static <EntityT> Uni<MutinyPage<EntityT>> toEntityPageUni(
+      Supplier<CompletionStage<AsyncResultSet>> source, EntityHelper<EntityT> entityHelper) {
+    return MutinyWrappers.<AsyncResultSet>toUni(source)
+        .map(resultSet -> DefaultMutinyPage.of(resultSet, row -> entityHelper.get(row, false)));
+  }
+
+  @SuppressWarnings("unused")
+  public static <EntityT> Uni<MutinyPage<EntityT>> toEntityPageUni(
+      Supplier<CompletionStage<AsyncResultSet>> source,
+      EntityDecoderFactory<EntityT> decoderFactory) {
+    return MutinyWrappers.<AsyncResultSet>toUni(source)
+        .map(
+            resultSet ->
+                DefaultMutinyPage.of(resultSet, new DecodingFunction<>(decoderFactory, false)));
+  }
+
+  @SuppressWarnings("unused")
+  public static Uni<MutinyPage<Row>> toRowPageUni(
+      Supplier<CompletionStage<AsyncResultSet>> source) {
+    return MutinyWrappers.<AsyncResultSet>toUni(source)
+        .map(resultSet -> DefaultMutinyPage.of(resultSet, Function.identity()));
+  }
+
+  /** Resumes the statement being built from the given paging state, if not null. */
+  @SuppressWarnings("unused")
+  public static BoundStatementBuilder withPagingState(
+      BoundStatementBuilder builder, PagingState pagingState) {
+    return pagingState == null ? builder : builder.setPagingState(pagingState.getRawPagingState());
+  }
+
+  /**
+   * Checks that the given paging state, if not null, was created for the given statement.
+   *
+   * @throws IllegalArgumentException if the paging state does not match the statement.
+   */
+  @SuppressWarnings("unused")
+  public static void checkPagingState(BoundStatement statement, PagingState pagingState) {
+    if (pagingState != null && !pagingState.matches(statement)) {
+      throw new IllegalArgumentException(
+          "Paging state mismatch, this means that either the paging state contents were altered, "
+              + "or you're trying to apply it to a different statement");
+    }
+  }
+
   @SuppressWarnings("unused")
   public static Uni<Void> toVoidUni(ReactiveResultSet source) {
     return MutinyWrappers.toUni(source).map(ignored -> null);
@@ -54,9 +132,15 @@ public class MapperMutinyWrappers {
 
   @SuppressWarnings("unused")
   public static Uni<Boolean> toWasAppliedUni(ReactiveResultSet source) {
-    return MutinyWrappers.toUni(source)
-        // The main publisher must complete in order for wasApplied to complete
-        .flatMap(ignored -> MutinyWrappers.toUni(source.wasApplied()));
+    // Read [applied] from the first row rather than subscribing to source.wasApplied(), which
+    // only completes after the main publisher, and would need a second subscription
+    return MutinyWrappers.toUni(source).map(MapperMutinyWrappers::wasApplied);
+  }
+
+  @SuppressWarnings("unused")
+  public static <EntityT> Uni<LwtResult<EntityT>> toLwtResultUni(
+      ReactiveResultSet source, EntityHelper<EntityT> entityHelper) {
+    return MutinyWrappers.toUni(source).map(row -> extractLwtResult(row, entityHelper));
   }
 
   @SuppressWarnings("unused")
@@ -74,6 +158,129 @@ public class MapperMutinyWrappers {
     return MutinyWrappers.toMulti(source).onItem().castTo(Row.class);
   }
 
+  /**
+   * Writes the given entities with a bounded number of requests in flight, and emits each of them
+   * once it's been written and the write was applied.
+   */
+  @SuppressWarnings("unused")
+  public static <EntityT> Multi<EntityT> toWrittenEntityMulti(
+      Multi<EntityT> entities,
+      Function<EntityT, BoundStatement> binder,
+      boolean batchable,
+      Function<Statement<?>, CompletionStage<AsyncResultSet>> executor,
+      DriverContext context) {
+    return BulkWrites.writeAll(entities, binder, batchable, executor, context);
+  }
+
+  /**
+   * Same as {@link #toWrittenEntityMulti(Multi, Function, boolean, Function, DriverContext)}, but
+   * also invokes {@code onWritten} with each entity once its write was applied.
+   */
+  @SuppressWarnings("unused")
+  public static <EntityT> Multi<EntityT> toWrittenEntityMulti(
+      Multi<EntityT> entities,
+      Function<EntityT, BoundStatement> binder,
+      boolean batchable,
+      Function<Statement<?>, CompletionStage<AsyncResultSet>> executor,
+      DriverContext context,
+      Consumer<EntityT> onWritten) {
+    return BulkWrites.writeAll(entities, binder, batchable, executor, context)
+        .onItem()
+        .invoke(onWritten);
+  }
+
+  /**
+   * Writes the given entities with a bounded number of requests in flight, and emits the number of
+   * writes that were applied.
+   */
+  @SuppressWarnings("unused")
+  public static <EntityT> Uni<Long> toWrittenCountUni(
+      Multi<EntityT> entities,
+      Function<EntityT, BoundStatement> binder,
+      boolean batchable,
+      Function<Statement<?>, CompletionStage<AsyncResultSet>> executor,
+      DriverContext context) {
+    return BulkWrites.writeAll(entities, binder, batchable, executor, context)
+        .collect()
+        .with(Collectors.counting());
+  }
+
+  /**
+   * Same as {@link #toWrittenCountUni(Multi, Function, boolean, Function, DriverContext)}, but also
+   * invokes {@code onWritten} with each entity once its write was applied.
+   */
+  @SuppressWarnings("unused")
+  public static <EntityT> Uni<Long> toWrittenCountUni(
+      Multi<EntityT> entities,
+      Function<EntityT, BoundStatement> binder,
+      boolean batchable,
+      Function<Statement<?>, CompletionStage<AsyncResultSet>> executor,
+      DriverContext context,
+      Consumer<EntityT> onWritten) {
+    return toWrittenEntityMulti(entities, binder, batchable, executor, context, onWritten)
+        .collect()
+        .with(Collectors.counting());
+  }
+
+  /** Writes the given entities with a bounded number of requests in flight. */
+  @SuppressWarnings("unused")
+  public static <EntityT> Uni<Void> toWrittenVoidUni(
+      Multi<EntityT> entities,
+      Function<EntityT, BoundStatement> binder,
+      boolean batchable,
+      Function<Statement<?>, CompletionStage<AsyncResultSet>> executor,
+      DriverContext context) {
+    return BulkWrites.writeAll(entities, binder, batchable, executor, context)
+        .onItem()
+        .ignoreAsUni();
+  }
+
+  /**
+   * Same as {@link #toWrittenVoidUni(Multi, Function, boolean, Function, DriverContext)}, but also
+   * invokes {@code onWritten} with each entity once its write was applied.
+   */
+  @SuppressWarnings("unused")
+  public static <EntityT> Uni<Void> toWrittenVoidUni(
+      Multi<EntityT> entities,
+      Function<EntityT, BoundStatement> binder,
+      boolean batchable,
+      Function<Statement<?>, CompletionStage<AsyncResultSet>> executor,
+      DriverContext context,
+      Consumer<EntityT> onWritten) {
+    return toWrittenEntityMulti(entities, binder, batchable, executor, context, onWritten)
+        .onItem()
+        .ignoreAsUni();
+  }
+
+  /**
+   * Reads the given keys with one single-partition request each and a bounded number of requests in
+   * flight, and emits the entities as they arrive.
+   */
+  @SuppressWarnings("unused")
+  public static <KeyT, EntityT> Multi<EntityT> toMultiGetEntityMulti(
+      Multi<KeyT> keys,
+      Function<KeyT, BoundStatement> binder,
+      EntityHelper<EntityT> entityHelper,
+      Function<Statement<?>, CompletionStage<AsyncResultSet>> executor,
+      DriverContext context) {
+    return MultiGets.readAll(keys, binder, row -> entityHelper.get(row, false), executor, context);
+  }
+
+  /**
+   * Reads the given keys with one single-partition request each and a bounded number of requests in
+   * flight, and emits the entities found, by key, in the order of the keys.
+   */
+  @SuppressWarnings("unused")
+  public static <KeyT, EntityT> Uni<Map<KeyT, EntityT>> toMultiGetEntityMapUni(
+      Collection<KeyT> keys,
+      Function<KeyT, BoundStatement> binder,
+      EntityHelper<EntityT> entityHelper,
+      Function<Statement<?>, CompletionStage<AsyncResultSet>> executor,
+      DriverContext context) {
+    return MultiGets.readAllByKey(
+        keys, binder, row -> entityHelper.get(row, false), executor, context);
+  }
+
   @SuppressWarnings("unused")
   public static <T> Uni<T> failedUni(Throwable error) {
     return Uni.createFrom().failure(error);
@@ -92,13 +299,38 @@ public class MapperMutinyWrappers {
     // Special case for INSERT IF NOT EXISTS. If the row did not exist, the
     // query returns only [applied], we want to return null to indicate there
     // was no previous entity
-    ColumnDefinitions cols = row.getColumnDefinitions();
-    if (cols.size() == 1 && cols.get(0).getName().equals(APPLIED)) {
+    if (isAppliedOnly(row.getColumnDefinitions())) {
       return null;
     }
     return entityHelper.get(row, false);
   }
 
+  /** Same as {@code AsyncResultSet#wasApplied()}, for the first row of a result set. */
+  private static boolean wasApplied(Row row) {
+    if (row == null) {
+      return true;
+    }
+    ColumnDefinitions columns = row.getColumnDefinitions();
+    return !columns.contains(APPLIED)
+        || !columns.get(APPLIED).getType().equals(DataTypes.BOOLEAN)
+        || row.getBoolean(APPLIED);
+  }
+
+  private static <EntityT> LwtResult<EntityT> extractLwtResult(
+      Row row, EntityHelper<EntityT> entityHelper) {
+    if (wasApplied(row)) {
+      return new DefaultLwtResult<>(true, null);
+    }
+    // Conditional updates and deletes only return the columns of their conditions, hence the
+    // lenient decoding
+    EntityT entity = isAppliedOnly(row.getColumnDefinitions()) ? null : entityHelper.get(row, true);
+    return new DefaultLwtResult<>(false, entity);
+  }
+
+  private static boolean isAppliedOnly(ColumnDefinitions cols) {
+    return cols.size() == 1 && cols.get(0).getName().equals(APPLIED);
+  }
+
   /** Copy of {@code DaoBase#extractCount(Row)}. */
   private static Uni<Long> extractCount(Row row) {
     if (row == null) {
@@ -110,4 +342,40 @@ public class MapperMutinyWrappers {
     }
     return Uni.createFrom().item(row.getLong(0));
   }
+
+  /**
+   * Decodes rows with a positional decoder, created for the column definitions of the first row,
+   * and created again only if a row comes with different column definitions. Rows of a result set
+   * are decoded one at a time, so the decoder does not need to be thread-safe.
+   */
+  private static class DecodingFunction<EntityT> implements Function<Row, EntityT> {
+
+    private final EntityDecoderFactory<EntityT> decoderFactory;
+    private final boolean checkApplied;
+
+    private ColumnDefinitions definitions;
+    private Function<Row, EntityT> decoder;
+
+    DecodingFunction(EntityDecoderFactory<EntityT> decoderFactory, boolean checkApplied) {
+      this.decoderFactory = decoderFactory;
+      this.checkApplied = checkApplied;
+    }
+
+    @Override
+    public EntityT apply(Row row) {
+      if (row == null) {
+        return null;
+      }
+      if (row.getColumnDefinitions() != definitions) {
+        PositionalColumns columns = new PositionalColumns(row);
+        // Special case for INSERT IF NOT EXISTS, see extractEntity
+        decoder =
+            checkApplied && isAppliedOnly(columns.getDefinitions())
+                ? ignored -> null
+                : decoderFactory.newDecoder(columns);
+        definitions = columns.getDefinitions();
+      }
+      return decoder.apply(row);
+    }
+  }
 }
@@ -0,0 +1,151 @@
+/*
+ * Copyright DataStax, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.quarkus.runtime.internal.reactive.mapper;
+
+import com.datastax.oss.driver.api.core.ProtocolVersion;
+import com.datastax.oss.driver.api.core.cql.ColumnDefinitions;
+import com.datastax.oss.driver.api.core.cql.Row;
+import com.datastax.oss.driver.api.core.type.codec.PrimitiveBooleanCodec;
+import com.datastax.oss.driver.api.core.type.codec.PrimitiveByteCodec;
+import com.datastax.oss.driver.api.core.type.codec.PrimitiveDoubleCodec;
+import com.datastax.oss.driver.api.core.type.codec.PrimitiveFloatCodec;
+import com.datastax.oss.driver.api.core.type.codec.PrimitiveIntCodec;
+import com.datastax.oss.driver.api.core.type.codec.PrimitiveLongCodec;
+import com.datastax.oss.driver.api.core.type.codec.PrimitiveShortCodec;
+import com.datastax.oss.driver.api.core.type.codec.TypeCodec;
+import com.datastax.oss.driver.api.core.type.codec.registry.CodecRegistry;
+import com.datastax.oss.driver.api.core.type.reflect.GenericType;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.nio.ByteBuffer;
+
+/**
+ * The columns of a result set, as seen by generated positional entity decoders.
+ *
+ * <p>Decoders resolve the index and the codec of each column they read once, when they are created
+ * for a result set, then read each row by position. The primitive getters of this class mirror the
+ * ones of {@link Row}, but take the resolved codec instead of looking it up for each value.
+ *
+ * <p>Methods in this class are only referenced by generated mapper code, see
+ * cassandra-quarkus-mapper-processor module.
+ */
+public final class PositionalColumns {
+
+  private final ColumnDefinitions definitions;
+  private final CodecRegistry codecRegistry;
+  private final ProtocolVersion protocolVersion;
+
+  PositionalColumns(@NonNull Row row) {
+    this.definitions = row.getColumnDefinitions();
+    this.codecRegistry = row.codecRegistry();
+    this.protocolVersion = row.protocolVersion();
+  }
+
+  @NonNull
+  ColumnDefinitions getDefinitions() {
+    return definitions;
+  }
+
+  /**
+   * Returns the index of the first column with the given name, in the same format as {@link
+   * ColumnDefinitions#firstIndexOf(String)}.
+   *
+   * @throws IllegalArgumentException if the result set has no such column.
+   */
+  public int indexOf(@NonNull String name) {
+    int index = definitions.firstIndexOf(name);
+    if (index < 0) {
+      throw new IllegalArgumentException(name + " is not a column in this row");
+    }
+    return index;
+  }
+
+  @NonNull
+  public <T> TypeCodec<T> codecFor(int index, @NonNull Class<T> javaType) {
+    return codecRegistry.codecFor(definitions.get(index).getType(), javaType);
+  }
+
+  @NonNull
+  public <T> TypeCodec<T> codecFor(int index, @NonNull GenericType<T> javaType) {
+    return codecRegistry.codecFor(definitions.get(index).getType(), javaType);
+  }
+
+  public boolean getBoolean(@NonNull Row row, int index, @NonNull TypeCodec<Boolean> codec) {
+    ByteBuffer bytes = row.getBytesUnsafe(index);
+    if (codec instanceof PrimitiveBooleanCodec) {
+      return ((PrimitiveBooleanCodec) codec).decodePrimitive(bytes, protocolVersion);
+    }
+    Boolean value = codec.decode(bytes, protocolVersion);
+    return value != null && value;
+  }
+
+  public byte getByte(@NonNull Row row, int index, @NonNull TypeCodec<Byte> codec) {
+    ByteBuffer bytes = row.getBytesUnsafe(index);
+    if (codec instanceof PrimitiveByteCodec) {
+      return ((PrimitiveByteCodec) codec).decodePrimitive(bytes, protocolVersion);
+    }
+    Byte value = codec.decode(bytes, protocolVersion);
+    return value == null ? 0 : value;
+  }
+
+  public double getDouble(@NonNull Row row, int index, @NonNull TypeCodec<Double> codec) {
+    ByteBuffer bytes = row.getBytesUnsafe(index);
+    if (codec instanceof PrimitiveDoubleCodec) {
+      return ((PrimitiveDoubleCodec) codec).decodePrimitive(bytes, protocolVersion);
+    }
+    Double value = codec.decode(bytes, protocolVersion);
+    return value == null ? 0 : value;
+  }
+
+  public float getFloat(@NonNull Row row, int index, @NonNull TypeCodec<Float> codec) {
+    ByteBuffer bytes = row.getBytesUnsafe(index);
+    if (codec instanceof PrimitiveFloatCodec) {
+      return ((PrimitiveFloatCodec) codec).decodePrimitive(bytes, protocolVersion);
+    }
+    Float value = codec.decode(bytes, protocolVersion);
+    return value == null ? 0 : value;
+  }
+
+  public int getInt(@NonNull Row row, int index, @NonNull TypeCodec<Integer> codec) {
+    ByteBuffer bytes = row.getBytesUnsafe(index);
+    if (codec instanceof PrimitiveIntCodec) {
+      return ((PrimitiveIntCodec) codec).decodePrimitive(bytes, protocolVersion);
+    }
+    Integer value = codec.decode(bytes, protocolVersion);
+    return value == null ? 0 : value;
+  }
+
+  public long getLong(@NonNull Row row, int index, @NonNull TypeCodec<Long> codec) {
+    ByteBuffer bytes = row.getBytesUnsafe(index);
+    if (codec instanceof PrimitiveLongCodec) {
+      return ((PrimitiveLongCodec) codec).decodePrimitive(bytes, protocolVersion);
+    }
+    Long value = codec.decode(bytes, protocolVersion);
+    return value == null ? 0 : value;
+  }
+
+  public short getShort(@NonNull Row row, int index, @NonNull TypeCodec<Short> codec) {
+    ByteBuffer bytes = row.getBytesUnsafe(index);
+    if (codec instanceof PrimitiveShortCodec) {
+      return ((PrimitiveShortCodec) codec).decodePrimitive(bytes, protocolVersion);
+    }
+    Short value = codec.decode(bytes, protocolVersion);
+    return value == null ? 0 : value;
+  }
+
+  public <T> T get(@NonNull Row row, int index, @NonNull TypeCodec<T> codec) {
+    return codec.decode(row.getBytesUnsafe(index), protocolVersion);
+  }
+}
@@ -16,13 +16,122 @@
 package com.datastax.oss.quarkus.runtime.internal.session;
 
 import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.cql.Statement;
+import com.datastax.oss.driver.api.core.session.Request;
+import com.datastax.oss.driver.api.core.type.reflect.GenericType;
 import com.datastax.oss.driver.internal.core.session.SessionWrapper;
+import com.datastax.oss.quarkus.runtime.api.reactive.MutinyContinuousReactiveResultSet;
+import com.datastax.oss.quarkus.runtime.api.reactive.MutinyReactiveResultSet;
 import com.datastax.oss.quarkus.runtime.api.session.QuarkusCqlSession;
+import com.datastax.oss.quarkus.runtime.internal.context.QuarkusDriverContext;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 
 public class DefaultQuarkusCqlSession extends SessionWrapper implements QuarkusCqlSession {
 
+  private final RequestDrainer drainer;
+  private final boolean admission;
+  private final DefaultQuarkusCqlSession withoutAdmission;
+
   public DefaultQuarkusCqlSession(@NonNull CqlSession delegate) {
+    this(
+        delegate,
+        delegate.getContext() instanceof QuarkusDriverContext
+            ? ((QuarkusDriverContext) delegate.getContext()).getRequestDrainer()
+            : null,
+        true);
+  }
+
+  private DefaultQuarkusCqlSession(
+      @NonNull CqlSession delegate, @Nullable RequestDrainer drainer, boolean admission) {
     super(delegate);
+    this.drainer = drainer;
+    this.admission = admission;
+    this.withoutAdmission =
+        admission ? new DefaultQuarkusCqlSession(delegate, drainer, false) : this;
+  }
+
+  /**
+   * Returns a view of this session whose requests are tracked, but never rejected while the session
+   * is draining; for operations that already hold a permit of the drainer, such as table scans.
+   */
+  @NonNull
+  public DefaultQuarkusCqlSession withoutAdmission() {
+    return withoutAdmission;
+  }
+
+  @Nullable
+  @Override
+  public <RequestT extends Request, ResultT> ResultT execute(
+      @NonNull RequestT request, @NonNull GenericType<ResultT> resultType) {
+    if (drainer == null) {
+      return super.execute(request, resultType);
+    }
+    boolean async = CompletionStage.class.isAssignableFrom(resultType.getRawType());
+    if (!admission) {
+      drainer.acquire();
+    } else if (!drainer.tryAcquire()) {
+      if (async) {
+        @SuppressWarnings("unchecked")
+        ResultT failed = (ResultT) CompletableFuture.failedFuture(drainer.newRejection());
+        return failed;
+      }
+      throw drainer.newRejection();
+    }
+    ResultT result;
+    try {
+      result = super.execute(request, resultType);
+    } catch (Throwable t) {
+      drainer.release();
+      throw t;
+    }
+    if (result instanceof CompletionStage) {
+      ((CompletionStage<?>) result).whenComplete((r, error) -> drainer.release());
+    } else {
+      // synchronous requests are complete. Reactive result sets are tracked for their whole
+      // lifetime by executeReactive; the next pages of synchronous and asynchronous result sets
+      // are fetched on demand by the caller, which never signals that it is done with them, so
+      // they are not tracked
+      drainer.release();
+    }
+    return result;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>The returned result set holds a single permit of the drainer until its rows terminate, so
+   * that its pages are all fetched before the session is closed. Views without admission, whose
+   * operation already holds a permit, do not acquire another one.
+   */
+  @NonNull
+  @Override
+  public MutinyReactiveResultSet executeReactive(@NonNull Statement<?> statement) {
+    if (drainer == null || !admission) {
+      return QuarkusCqlSession.super.executeReactive(statement);
+    }
+    // once admitted, the requests of the query must not be rejected if the session starts draining
+    return new DrainedMutinyReactiveResultSet(
+        withoutAdmission().executeReactive(statement), drainer);
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>The returned result set holds a single permit of the drainer until its rows terminate, so
+   * that its pages are all fetched before the session is closed. Views without admission, whose
+   * operation already holds a permit, do not acquire another one.
+   */
+  @NonNull
+  @Override
+  public MutinyContinuousReactiveResultSet executeContinuouslyReactive(
+      @NonNull Statement<?> statement) {
+    if (drainer == null || !admission) {
+      return QuarkusCqlSession.super.executeContinuouslyReactive(statement);
+    }
+    return new DrainedMutinyReactiveResultSet(
+        withoutAdmission().executeContinuouslyReactive(statement), drainer);
   }
 }
@@ -0,0 +1,109 @@
+/*
+ * Copyright DataStax, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.quarkus.runtime.internal.session;
+
+import com.datastax.dse.driver.api.core.cql.reactive.ReactiveRow;
+import com.datastax.oss.driver.api.core.cql.ColumnDefinitions;
+import com.datastax.oss.driver.api.core.cql.ExecutionInfo;
+import com.datastax.oss.quarkus.runtime.api.reactive.MultiPublisher;
+import com.datastax.oss.quarkus.runtime.api.reactive.MutinyContinuousReactiveResultSet;
+import com.datastax.oss.quarkus.runtime.api.reactive.MutinyReactiveQueryMetadata;
+import com.datastax.oss.quarkus.runtime.api.reactive.MutinyReactiveResultSet;
+import com.datastax.oss.quarkus.runtime.internal.reactive.DefaultMultiPublisher;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+import io.smallrye.mutiny.operators.AbstractMulti;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import java.util.function.Function;
+import mutiny.zero.flow.adapters.AdaptersToFlow;
+import org.reactivestreams.Subscriber;
+
+/**
+ * A reactive result set that holds a single permit of the drainer from the subscription to its rows
+ * until they terminate, i.e. complete, fail or are cancelled; so that the session is not closed
+ * while its pages are still being fetched.
+ *
+ * <p>If the session is already draining when the rows are subscribed to, the query is not executed,
+ * and the rows and the metadata publishers fail with the rejection.
+ */
+public class DrainedMutinyReactiveResultSet extends AbstractMulti<ReactiveRow>
+    implements MutinyReactiveResultSet, MutinyContinuousReactiveResultSet {
+
+  private final Multi<ReactiveRow> inner;
+  private final CompletableFuture<MutinyReactiveQueryMetadata> admitted = new CompletableFuture<>();
+  private final MultiPublisher<ColumnDefinitions> columnDefinitions;
+  private final MultiPublisher<ExecutionInfo> executionInfos;
+  private final MultiPublisher<Boolean> wasApplied;
+
+  public <ResultSetT extends Multi<ReactiveRow> & MutinyReactiveQueryMetadata>
+      DrainedMutinyReactiveResultSet(
+          @NonNull ResultSetT delegate, @NonNull RequestDrainer drainer) {
+    inner =
+        Multi.createFrom()
+            .deferred(
+                () -> {
+                  if (!drainer.tryAcquire()) {
+                    Throwable rejection = drainer.newRejection();
+                    admitted.completeExceptionally(rejection);
+                    return Multi.createFrom().failure(rejection);
+                  }
+                  admitted.complete(delegate);
+                  return delegate.onTermination().invoke(drainer::release);
+                });
+    columnDefinitions = metadata(MutinyReactiveQueryMetadata::getColumnDefinitions);
+    executionInfos = metadata(MutinyReactiveQueryMetadata::getExecutionInfos);
+    wasApplied = metadata(MutinyReactiveQueryMetadata::wasApplied);
+  }
+
+  private <T> MultiPublisher<T> metadata(
+      Function<MutinyReactiveQueryMetadata, MultiPublisher<T>> publisher) {
+    // the metadata of the delegate is only emitted once its rows are subscribed to, which never
+    // happens if the result set is rejected
+    return new DefaultMultiPublisher<>(
+        Uni.createFrom().completionStage(admitted::copy).onItem().transformToMulti(publisher));
+  }
+
+  @NonNull
+  @Override
+  public MultiPublisher<ColumnDefinitions> getColumnDefinitions() {
+    return columnDefinitions;
+  }
+
+  @NonNull
+  @Override
+  public MultiPublisher<ExecutionInfo> getExecutionInfos() {
+    return executionInfos;
+  }
+
+  @NonNull
+  @Override
+  public MultiPublisher<Boolean> wasApplied() {
+    return wasApplied;
+  }
+
+  @Override
+  public void subscribe(Flow.Subscriber<? super ReactiveRow> subscriber) {
+    inner.subscribe(Infrastructure.onMultiSubscription(inner, subscriber));
+  }
+
+  @Override
+  public void subscribe(Subscriber<? super ReactiveRow> subscriber) {
+    subscribe(AdaptersToFlow.subscriber(subscriber));
+  }
+}
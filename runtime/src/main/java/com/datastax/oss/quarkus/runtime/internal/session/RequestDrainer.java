@@ -0,0 +1,201 @@
+/*
+ * Copyright DataStax, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.quarkus.runtime.internal.session;
+
+import com.datastax.oss.driver.api.core.RequestThrottlingException;
+import com.datastax.oss.driver.internal.core.context.InternalDriverContext;
+import com.datastax.oss.quarkus.runtime.internal.context.SessionMeters;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongConsumer;
+import java.util.function.LongSupplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Tracks the requests in flight of a session, so that it can be drained before it is closed.
+ *
+ * <p>Requests are acquired when they are submitted, and released when they complete. Once draining
+ * has started, new requests are rejected, and the drain completes when the last request in flight
+ * is released. Long-running operations, such as reactive queries and table scans, acquire a single
+ * permit for their whole duration, and submit their own requests without being rejected.
+ */
+public class RequestDrainer {
+
+  private static final Logger LOG = LoggerFactory.getLogger(RequestDrainer.class);
+
+  /** The default drain timeout. */
+  public static final Duration DEFAULT_DRAIN_TIMEOUT = Duration.ofSeconds(5);
+
+  /**
+   * Creates a drainer for the session of the given context, and registers its meters if metrics are
+   * enabled with Micrometer.
+   */
+  @NonNull
+  public static RequestDrainer create(@NonNull InternalDriverContext context) {
+    RequestDrainer drainer = new RequestDrainer(context.getSessionName());
+    SessionMeters.register(
+        context,
+        (registry, prefix, sessionName) ->
+            new RequestDrainerMetrics(registry, drainer, prefix, sessionName));
+    return drainer;
+  }
+
+  private final String logPrefix;
+  private final LongSupplier clock;
+
+  private final AtomicInteger inFlight = new AtomicInteger();
+  private final CompletableFuture<Void> drained = new CompletableFuture<>();
+  private volatile boolean draining;
+
+  private final LongAdder rejected = new LongAdder();
+  private final LongAdder aborted = new LongAdder();
+
+  private volatile LongConsumer drainDurationRecorder;
+  private volatile Runnable meterRemover;
+
+  public RequestDrainer(@NonNull String logPrefix) {
+    this(logPrefix, System::nanoTime);
+  }
+
+  RequestDrainer(@NonNull String logPrefix, @NonNull LongSupplier clock) {
+    this.logPrefix = logPrefix;
+    this.clock = clock;
+  }
+
+  /**
+   * Acquires a permit for a new request, unless the session is draining; in that case the request
+   * is counted as rejected, and must fail with {@link #newRejection()}.
+   */
+  public boolean tryAcquire() {
+    if (draining) {
+      rejected.increment();
+      return false;
+    }
+    inFlight.incrementAndGet();
+    if (draining) {
+      // draining started concurrently, and may have seen this request or not: back off
+      release();
+      rejected.increment();
+      return false;
+    }
+    return true;
+  }
+
+  /**
+   * Acquires a permit even if the session is draining; only for requests that belong to an
+   * operation that already holds a permit.
+   */
+  public void acquire() {
+    inFlight.incrementAndGet();
+  }
+
+  public void release() {
+    if (inFlight.decrementAndGet() == 0 && draining) {
+      drained.complete(null);
+    }
+  }
+
+  @NonNull
+  public RequestThrottlingException newRejection() {
+    return new RequestThrottlingException(
+        String.format("[%s] The session is shutting down, new requests are rejected", logPrefix));
+  }
+
+  public boolean isDraining() {
+    return draining;
+  }
+
+  /** The number of requests in flight. */
+  public int getInFlight() {
+    return inFlight.get();
+  }
+
+  /** The number of requests rejected because the session was draining. */
+  public long getRejectedRequests() {
+    return rejected.sum();
+  }
+
+  /** The number of requests still in flight when the drain timed out. */
+  public long getAbortedRequests() {
+    return aborted.sum();
+  }
+
+  /**
+   * Starts draining, and waits until the requests in flight complete or the given timeout elapses.
+   * Further requests are rejected, even after this method returns.
+   *
+   * @return whether all the requests in flight completed.
+   */
+  public boolean drain(@NonNull Duration timeout) throws InterruptedException {
+    long start = clock.getAsLong();
+    draining = true;
+    if (inFlight.get() == 0) {
+      drained.complete(null);
+    }
+    boolean complete;
+    try {
+      drained.get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+      complete = true;
+    } catch (TimeoutException e) {
+      complete = false;
+    } catch (ExecutionException e) {
+      // never completed exceptionally
+      throw new AssertionError(e);
+    }
+    long duration = clock.getAsLong() - start;
+    LongConsumer recorder = drainDurationRecorder;
+    if (recorder != null) {
+      recorder.accept(duration);
+    }
+    if (complete) {
+      LOG.debug("[{}] Drained requests in flight in {} ns", logPrefix, duration);
+    } else {
+      int remaining = inFlight.get();
+      aborted.add(remaining);
+      LOG.warn(
+          "[{}] {} requests were still in flight after {}, they will be aborted",
+          logPrefix,
+          remaining,
+          timeout);
+    }
+    return complete;
+  }
+
+  /**
+   * Sets the consumer notified of the duration of the drain, in nanoseconds, and the action that
+   * removes the meters of this drainer.
+   */
+  void setMetrics(@NonNull LongConsumer drainDurationRecorder, @NonNull Runnable meterRemover) {
+    this.drainDurationRecorder = drainDurationRecorder;
+    this.meterRemover = meterRemover;
+  }
+
+  /** Removes the meters of this drainer, if any. */
+  public void close() {
+    Runnable remover = meterRemover;
+    if (remover != null) {
+      meterRemover = null;
+      remover.run();
+    }
+  }
+}
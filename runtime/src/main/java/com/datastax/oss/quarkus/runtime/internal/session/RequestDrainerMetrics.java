@@ -0,0 +1,85 @@
+/*
+ * Copyright DataStax, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.quarkus.runtime.internal.session;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Publishes Micrometer meters for a {@link RequestDrainer}.
+ *
+ * <p>This class references Micrometer types and must only be loaded when Micrometer is on the
+ * classpath.
+ *
+ * <p>The following meters are registered, all tagged with the session name:
+ *
+ * <ul>
+ *   <li>{@code <prefix>.session.drain.duration}: how long the session waited for its requests in
+ *       flight to complete before closing;
+ *   <li>{@code <prefix>.session.drain.rejected-requests}: the number of requests rejected because
+ *       the session was draining;
+ *   <li>{@code <prefix>.session.drain.aborted-requests}: the number of requests still in flight
+ *       when the drain timed out.
+ * </ul>
+ *
+ * Meters are removed from the registry once the session is closed.
+ */
+public class RequestDrainerMetrics {
+
+  private final MeterRegistry registry;
+  private final List<Meter> meters = new ArrayList<>();
+
+  public RequestDrainerMetrics(
+      @NonNull Object registry,
+      @NonNull RequestDrainer drainer,
+      @NonNull String prefix,
+      @NonNull String sessionName) {
+    this.registry = (MeterRegistry) registry;
+    String baseName = prefix.isEmpty() ? "session.drain." : prefix + ".session.drain.";
+    Tags tags = Tags.of("session", sessionName);
+    Timer duration =
+        Timer.builder(baseName + "duration")
+            .tags(tags)
+            .description("How long the session waited for its requests in flight before closing")
+            .register(this.registry);
+    meters.add(duration);
+    meters.add(
+        FunctionCounter.builder(
+                baseName + "rejected-requests", drainer, RequestDrainer::getRejectedRequests)
+            .tags(tags)
+            .description("Requests rejected because the session was draining")
+            .register(this.registry));
+    meters.add(
+        FunctionCounter.builder(
+                baseName + "aborted-requests", drainer, RequestDrainer::getAbortedRequests)
+            .tags(tags)
+            .description("Requests still in flight when the drain timed out")
+            .register(this.registry));
+    drainer.setMetrics(nanos -> duration.record(nanos, TimeUnit.NANOSECONDS), this::remove);
+  }
+
+  /** Removes all the meters of the drainer from the registry. */
+  public void remove() {
+    meters.forEach(registry::remove);
+  }
+}
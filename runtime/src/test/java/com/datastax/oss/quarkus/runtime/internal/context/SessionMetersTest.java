@@ -0,0 +1,71 @@
+/*
+ * Copyright DataStax, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.quarkus.runtime.internal.context;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.datastax.oss.driver.api.core.config.DefaultDriverOption;
+import com.datastax.oss.driver.api.core.config.DriverConfig;
+import com.datastax.oss.driver.api.core.config.DriverExecutionProfile;
+import com.datastax.oss.driver.api.core.context.DriverContext;
+import com.datastax.oss.driver.internal.core.context.InternalDriverContext;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+public class SessionMetersTest {
+
+  @Test
+  public void should_create_meters_with_the_session_prefix_and_name() {
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    InternalDriverContext context = mockContext(registry);
+
+    List<Object> meters =
+        SessionMeters.register(
+            context,
+            (actualRegistry, prefix, sessionName) ->
+                Arrays.asList(actualRegistry, prefix, sessionName));
+
+    assertThat(meters).containsExactly(registry, "my-prefix", "s0");
+  }
+
+  @Test
+  public void should_not_create_meters_without_micrometer_registry() {
+    assertThat(SessionMeters.register(mockContext(null), this::fail)).isNull();
+    assertThat(SessionMeters.register(mockContext(new Object()), this::fail)).isNull();
+    assertThat(SessionMeters.register(mock(DriverContext.class), this::fail)).isNull();
+  }
+
+  private InternalDriverContext mockContext(Object registry) {
+    DriverExecutionProfile profile = mock(DriverExecutionProfile.class);
+    when(profile.getString(DefaultDriverOption.METRICS_ID_GENERATOR_PREFIX, ""))
+        .thenReturn("my-prefix");
+    DriverConfig config = mock(DriverConfig.class);
+    when(config.getDefaultProfile()).thenReturn(profile);
+    InternalDriverContext context = mock(InternalDriverContext.class);
+    when(context.getConfig()).thenReturn(config);
+    when(context.getSessionName()).thenReturn("s0");
+    when(context.getMetricRegistry()).thenReturn(registry);
+    return context;
+  }
+
+  private Object fail(Object registry, String prefix, String sessionName) {
+    throw new AssertionError("Meters should not be created");
+  }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright DataStax, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.quarkus.runtime.internal.driver;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.netty.channel.DefaultEventLoopGroup;
+import io.netty.channel.EventLoop;
+import io.netty.channel.EventLoopGroup;
+import io.netty.util.Timeout;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class EventLoopTimerTest {
+
+  private EventLoopGroup group;
+  private EventLoopTimer timer;
+
+  @BeforeEach
+  public void setup() {
+    group = new DefaultEventLoopGroup(4);
+    timer = new EventLoopTimer(group);
+  }
+
+  @AfterEach
+  public void teardown() {
+    timer.stop();
+    group.shutdownGracefully(0, 1, TimeUnit.SECONDS).syncUninterruptibly();
+  }
+
+  @Test
+  public void should_fire_timeout_on_the_event_loop_that_created_it() throws Exception {
+    EventLoop eventLoop = group.next();
+    CompletableFuture<Thread> creatingThread = new CompletableFuture<>();
+    CompletableFuture<Thread> firingThread = new CompletableFuture<>();
+    eventLoop.execute(
+        () -> {
+          creatingThread.complete(Thread.currentThread());
+          timer.newTimeout(
+              t -> firingThread.complete(Thread.currentThread()), 10, TimeUnit.MILLISECONDS);
+        });
+    assertThat(firingThread.get(5, TimeUnit.SECONDS)).isSameAs(creatingThread.get());
+  }
+
+  @Test
+  public void should_fire_timeout_created_outside_of_the_group() throws Exception {
+    CompletableFuture<Timeout> fired = new CompletableFuture<>();
+    Timeout timeout = timer.newTimeout(fired::complete, 10, TimeUnit.MILLISECONDS);
+    assertThat(fired.get(5, TimeUnit.SECONDS)).isSameAs(timeout);
+    assertThat(timeout.isExpired()).isTrue();
+    assertThat(timeout.isCancelled()).isFalse();
+    assertThat(timeout.timer()).isSameAs(timer);
+  }
+
+  @Test
+  public void should_not_fire_cancelled_timeout() throws Exception {
+    CompletableFuture<Timeout> fired = new CompletableFuture<>();
+    Timeout timeout = timer.newTimeout(fired::complete, 100, TimeUnit.MILLISECONDS);
+    assertThat(timeout.cancel()).isTrue();
+    assertThat(timeout.isCancelled()).isTrue();
+    Thread.sleep(200);
+    assertThat(fired).isNotDone();
+    assertThat(timeout.isExpired()).isFalse();
+  }
+
+  @Test
+  public void should_cancel_pending_timeouts_and_reject_new_ones_once_stopped() throws Exception {
+    CompletableFuture<Timeout> fired = new CompletableFuture<>();
+    Timeout timeout = timer.newTimeout(fired::complete, 100, TimeUnit.MILLISECONDS);
+    Timeout expired = timer.newTimeout(t -> {}, 0, TimeUnit.MILLISECONDS);
+    while (!expired.isExpired()) {
+      Thread.sleep(1);
+    }
+    // pending timeouts are cancelled, so that the event loops don't retain them
+    assertThat(timer.stop()).containsExactly(timeout);
+    assertThat(timeout.isCancelled()).isTrue();
+    assertThatThrownBy(() -> timer.newTimeout(t -> {}, 1, TimeUnit.MILLISECONDS))
+        .isInstanceOf(IllegalStateException.class);
+    Thread.sleep(200);
+    assertThat(fired).isNotDone();
+  }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright DataStax, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.quarkus.runtime.internal.driver;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.vertx.core.buffer.impl.VertxByteBufAllocator;
+import org.junit.jupiter.api.Test;
+
+public class NettyAllocatorMetricsTest {
+
+  @Test
+  public void should_parse_allocator_names() {
+    assertThat(NettyAllocator.fromConfig("default")).isEqualTo(NettyAllocator.DEFAULT);
+    assertThat(NettyAllocator.fromConfig("Vertx")).isEqualTo(NettyAllocator.VERTX);
+    assertThat(NettyAllocator.fromConfig(" pooled ")).isEqualTo(NettyAllocator.POOLED);
+    assertThatThrownBy(() -> NettyAllocator.fromConfig("unpooled"))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("unpooled");
+  }
+
+  @Test
+  public void should_create_allocators() {
+    assertThat(NettyAllocator.DEFAULT.allocator(1)).isSameAs(ByteBufAllocator.DEFAULT);
+    assertThat(NettyAllocator.VERTX.allocator(1)).isSameAs(VertxByteBufAllocator.POOLED_ALLOCATOR);
+    ByteBufAllocator pooled = NettyAllocator.POOLED.allocator(3);
+    assertThat(pooled).isInstanceOf(PooledByteBufAllocator.class);
+    assertThat(((PooledByteBufAllocator) pooled).metric().numDirectArenas()).isEqualTo(3);
+    assertThat(((PooledByteBufAllocator) pooled).metric().numHeapArenas()).isEqualTo(3);
+  }
+
+  @Test
+  public void should_publish_and_remove_allocator_meters() {
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    ByteBufAllocator allocator = NettyAllocator.POOLED.allocator(2);
+    NettyAllocatorMetrics metrics =
+        new NettyAllocatorMetrics(registry, allocator, "cassandra", "s0");
+
+    ByteBuf buf = allocator.directBuffer(1024);
+    try {
+      assertThat(
+              registry
+                  .get("cassandra.netty.allocator.memory.used")
+                  .tags("session", "s0", "area", "direct")
+                  .gauge()
+                  .value())
+          .isGreaterThan(0);
+      assertThat(
+              registry
+                  .get("cassandra.netty.allocator.arenas")
+                  .tags("area", "direct")
+                  .gauge()
+                  .value())
+          .isEqualTo(2);
+      assertThat(
+              registry
+                  .get("cassandra.netty.allocator.arena.allocations")
+                  .tags("size", "small")
+                  .functionCounter()
+                  .count())
+          .isEqualTo(1);
+      assertThat(registry.find("cassandra.netty.allocator.thread-caches").gauge()).isNotNull();
+    } finally {
+      buf.release();
+    }
+
+    metrics.close();
+    assertThat(registry.getMeters()).isEmpty();
+  }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright DataStax, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.quarkus.runtime.internal.driver;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.netty.channel.DefaultEventLoopGroup;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.nio.NioSocketChannel;
+import org.junit.jupiter.api.Test;
+
+public class NettyTransportTest {
+
+  @Test
+  public void should_use_nio_transport_for_nio_event_loop_group() {
+    EventLoopGroup group = new NioEventLoopGroup(1);
+    try {
+      NettyTransport transport = NettyTransport.forEventLoopGroup(group);
+      assertThat(transport).isEqualTo(NettyTransport.NIO);
+      assertThat(transport.channelClass(getClass().getClassLoader()))
+          .isEqualTo(NioSocketChannel.class);
+      assertThat(transport.tcpQuickAck(getClass().getClassLoader())).isNull();
+      assertThat(transport.busyPoll(getClass().getClassLoader())).isNull();
+    } finally {
+      group.shutdownGracefully();
+    }
+  }
+
+  @Test
+  public void should_fall_back_to_nio_transport_for_unknown_event_loop_group() {
+    EventLoopGroup group = new DefaultEventLoopGroup(1);
+    try {
+      assertThat(NettyTransport.forEventLoopGroup(group)).isEqualTo(NettyTransport.NIO);
+    } finally {
+      group.shutdownGracefully();
+    }
+  }
+
+  @Test
+  public void should_fall_back_to_nio_channel_when_native_library_is_missing() {
+    // the epoll library is not a dependency of this module
+    assertThat(NettyTransport.EPOLL.channelClass(getClass().getClassLoader()))
+        .isEqualTo(NioSocketChannel.class);
+  }
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright DataStax, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.quarkus.runtime.internal.driver;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.datastax.dse.driver.api.core.config.DseDriverOption;
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.config.DefaultDriverOption;
+import com.datastax.oss.driver.api.core.config.DriverExecutionProfile;
+import com.datastax.oss.driver.internal.core.context.EventBus;
+import com.datastax.oss.driver.internal.core.context.InternalDriverContext;
+import com.datastax.oss.driver.internal.core.context.NettyOptions;
+import com.datastax.oss.quarkus.runtime.api.config.CassandraConfigChangeEvent;
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+import io.netty.channel.DefaultEventLoopGroup;
+import io.netty.channel.EventLoopGroup;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class ReloadableDriverConfigLoaderTest {
+
+  private EventLoopGroup adminGroup;
+  private Map<String, String> properties;
+  private List<CassandraConfigChangeEvent> events;
+
+  @BeforeEach
+  public void setup() {
+    adminGroup = new DefaultEventLoopGroup(1);
+    properties = new ConcurrentHashMap<>();
+    events = new CopyOnWriteArrayList<>();
+  }
+
+  @AfterEach
+  public void teardown() {
+    adminGroup.shutdownGracefully(0, 1, TimeUnit.SECONDS).syncUninterruptibly();
+  }
+
+  @Test
+  public void should_apply_changed_reloadable_options_and_notify_changes() throws Exception {
+    properties.put("quarkus.cassandra.request.timeout", "PT2S");
+    ReloadableDriverConfigLoader loader = newLoader(null);
+    DriverExecutionProfile profile = loader.getInitialConfig().getDefaultProfile();
+    assertThat(profile.getDuration(DefaultDriverOption.REQUEST_TIMEOUT))
+        .isEqualTo(Duration.ofSeconds(2));
+
+    properties.put("quarkus.cassandra.request.timeout", "PT5S");
+    properties.put("quarkus.cassandra.pool.local-size", "4");
+
+    assertThat(loader.reload().toCompletableFuture().get(5, TimeUnit.SECONDS)).isTrue();
+    assertThat(profile.getDuration(DefaultDriverOption.REQUEST_TIMEOUT))
+        .isEqualTo(Duration.ofSeconds(5));
+    assertThat(profile.getInt(DefaultDriverOption.CONNECTION_POOL_LOCAL_SIZE)).isEqualTo(4);
+    assertThat(events).hasSize(1);
+    CassandraConfigChangeEvent event = events.get(0);
+    assertThat(event.getClientName()).isNull();
+    assertThat(event.getSessionName()).isEqualTo("s0");
+    assertThat(event.getChanges())
+        .extracting(CassandraConfigChangeEvent.Change::getProperty)
+        .containsExactly("request.timeout", "pool.local-size");
+    assertThat(event.getChanges().get(0).getPreviousValue()).isEqualTo("PT2S");
+    assertThat(event.getChanges().get(0).getNewValue()).isEqualTo("PT5S");
+  }
+
+  @Test
+  public void should_reload_graph_request_timeout() throws Exception {
+    ReloadableDriverConfigLoader loader = newLoader(null);
+    DriverExecutionProfile profile = loader.getInitialConfig().getDefaultProfile();
+
+    properties.put("quarkus.cassandra.graph.request.timeout", "PT10S");
+
+    assertThat(loader.reload().toCompletableFuture().get(5, TimeUnit.SECONDS)).isTrue();
+    assertThat(profile.getDuration(DseDriverOption.GRAPH_TIMEOUT))
+        .isEqualTo(Duration.ofSeconds(10));
+    assertThat(events).hasSize(1);
+    assertThat(events.get(0).getChanges())
+        .extracting(CassandraConfigChangeEvent.Change::getProperty)
+        .containsExactly("graph.request.timeout");
+  }
+
+  @Test
+  public void should_not_reload_options_outside_of_the_whitelist() throws Exception {
+    ReloadableDriverConfigLoader loader = newLoader(null);
+    DriverExecutionProfile profile = loader.getInitialConfig().getDefaultProfile();
+
+    properties.put("quarkus.cassandra.request.default-idempotence", "true");
+    properties.put("quarkus.cassandra.keyspace", "other");
+
+    assertThat(loader.reload().toCompletableFuture().get(5, TimeUnit.SECONDS)).isFalse();
+    assertThat(profile.getBoolean(DefaultDriverOption.REQUEST_DEFAULT_IDEMPOTENCE)).isFalse();
+    assertThat(profile.isDefined(DefaultDriverOption.SESSION_KEYSPACE)).isFalse();
+    assertThat(events).isEmpty();
+  }
+
+  @Test
+  public void should_read_options_of_named_client() throws Exception {
+    ReloadableDriverConfigLoader loader = newLoader("analytics");
+    DriverExecutionProfile profile = loader.getInitialConfig().getDefaultProfile();
+
+    properties.put("quarkus.cassandra.request.page-size", "100");
+    properties.put("quarkus.cassandra.\"analytics\".request.page-size", "200");
+
+    assertThat(loader.reload().toCompletableFuture().get(5, TimeUnit.SECONDS)).isTrue();
+    assertThat(profile.getInt(DefaultDriverOption.REQUEST_PAGE_SIZE)).isEqualTo(200);
+    assertThat(events).hasSize(1);
+    assertThat(events.get(0).getClientName()).isEqualTo("analytics");
+  }
+
+  private ReloadableDriverConfigLoader newLoader(String clientName) {
+    ReloadableDriverConfigLoader loader =
+        new ReloadableDriverConfigLoader(
+            ReloadableDriverConfigLoaderTest::referenceConfig,
+            clientName,
+            name -> Optional.ofNullable(properties.get(name)),
+            events::add);
+    InternalDriverContext context = mock(InternalDriverContext.class);
+    NettyOptions nettyOptions = mock(NettyOptions.class);
+    when(nettyOptions.adminEventExecutorGroup()).thenReturn(adminGroup);
+    when(context.getNettyOptions()).thenReturn(nettyOptions);
+    when(context.getSessionName()).thenReturn("s0");
+    when(context.getEventBus()).thenReturn(new EventBus("s0"));
+    when(context.getConfig()).thenReturn(loader.getInitialConfig());
+    loader.onDriverInit(context);
+    return loader;
+  }
+
+  private static Config referenceConfig() {
+    return ConfigFactory.defaultReference(CqlSession.class.getClassLoader())
+        .resolve()
+        .getConfig("datastax-java-driver");
+  }
+}
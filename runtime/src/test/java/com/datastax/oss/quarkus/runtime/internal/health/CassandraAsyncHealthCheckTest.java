@@ -28,6 +28,7 @@ import com.datastax.oss.driver.shaded.guava.common.collect.ImmutableMap;
 import com.datastax.oss.quarkus.runtime.api.session.QuarkusCqlSession;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import java.time.Duration;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.Map;
@@ -109,6 +110,53 @@ public class CassandraAsyncHealthCheckTest {
         .isEqualTo(ImmutableMap.of("reason", "system.local returned null"));
   }
 
+  @Test
+  public void should_report_named_clients_with_prefixed_details() {
+    // given
+    CompletionStage<QuarkusCqlSession> session =
+        mockCqlSessionWithResultSet("dc1", "v1", "cluster_1", "v1", 1L);
+    CompletionStage<QuarkusCqlSession> analyticsSession =
+        mockCqlSessionWithResultSet("dc2", "v2", "cluster_2", "v2", 3L);
+
+    // when
+    CassandraAsyncHealthCheckMock cassandraHealthIndicator =
+        new CassandraAsyncHealthCheckMock(session, ImmutableMap.of("analytics", analyticsSession));
+    cassandraHealthIndicator.init();
+
+    // then
+    HealthCheckResponse health =
+        cassandraHealthIndicator.call().await().atMost(Duration.ofSeconds(1));
+    assertThat(health.getStatus()).isEqualTo(Status.UP);
+    assertThat(health.getData().get())
+        .containsEntry("datacenter", "dc1")
+        .containsEntry("numberOfNodes", 1L)
+        .containsEntry("analytics.datacenter", "dc2")
+        .containsEntry("analytics.clusterName", "cluster_2")
+        .containsEntry("analytics.numberOfNodes", 3L);
+  }
+
+  @Test
+  public void should_return_status_down_when_named_client_is_down() {
+    // given
+    CompletionStage<QuarkusCqlSession> session =
+        mockCqlSessionWithResultSet("dc1", "v1", "cluster_1", "v1", 1L);
+    CompletionStage<QuarkusCqlSession> analyticsSession =
+        CompletableFutures.failedFuture(new RuntimeException("problem"));
+
+    // when
+    CassandraAsyncHealthCheckMock cassandraHealthIndicator =
+        new CassandraAsyncHealthCheckMock(session, ImmutableMap.of("analytics", analyticsSession));
+    cassandraHealthIndicator.init();
+
+    // then
+    HealthCheckResponse health =
+        cassandraHealthIndicator.call().await().atMost(Duration.ofSeconds(1));
+    assertThat(health.getStatus()).isEqualTo(Status.DOWN);
+    assertThat(health.getData().get())
+        .containsEntry("datacenter", "dc1")
+        .containsKeys("analytics.reason");
+  }
+
   @NonNull
   private QuarkusCqlSession mockCqlSessionWithOneNullResult() {
     QuarkusCqlSession session = mock(QuarkusCqlSession.class);
@@ -152,14 +200,27 @@ public class CassandraAsyncHealthCheckTest {
   private static class CassandraAsyncHealthCheckMock extends CassandraAsyncHealthCheck {
 
     private final CompletionStage<QuarkusCqlSession> quarkusCqlSession;
+    private final Map<String, CompletionStage<QuarkusCqlSession>> namedSessions;
 
     public CassandraAsyncHealthCheckMock(CompletionStage<QuarkusCqlSession> quarkusCqlSession) {
+      this(quarkusCqlSession, Collections.emptyMap());
+    }
+
+    public CassandraAsyncHealthCheckMock(
+        CompletionStage<QuarkusCqlSession> quarkusCqlSession,
+        Map<String, CompletionStage<QuarkusCqlSession>> namedSessions) {
       this.quarkusCqlSession = quarkusCqlSession;
+      this.namedSessions = namedSessions;
     }
 
     @Override
     public CompletionStage<QuarkusCqlSession> sessionBean() {
       return quarkusCqlSession;
     }
+
+    @Override
+    public Map<String, CompletionStage<QuarkusCqlSession>> namedSessionBeans() {
+      return namedSessions;
+    }
   }
 }
@@ -0,0 +1,154 @@
+/*
+ * Copyright DataStax, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.quarkus.runtime.internal.mapper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
+import com.datastax.oss.driver.api.core.cql.BoundStatement;
+import com.datastax.oss.driver.api.core.cql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+class CounterCoalescerTest {
+
+  private final List<List<Object>> writtenKeys = new ArrayList<>();
+  private final List<long[]> writtenDeltas = new ArrayList<>();
+  private final List<CompletableFuture<AsyncResultSet>> pending = new ArrayList<>();
+
+  private final BiFunction<List<Object>, long[], BoundStatement> binder =
+      (key, deltas) -> {
+        writtenKeys.add(key);
+        writtenDeltas.add(deltas.clone());
+        return mock(BoundStatement.class);
+      };
+
+  private final Function<Statement<?>, CompletionStage<AsyncResultSet>> executor =
+      statement -> {
+        CompletableFuture<AsyncResultSet> future = new CompletableFuture<>();
+        pending.add(future);
+        return future;
+      };
+
+  private final ScheduledExecutorService scheduler = mock(ScheduledExecutorService.class);
+
+  private long now;
+
+  @Test
+  void should_write_one_aggregated_increment_per_key_when_interval_elapses() {
+    // given
+    ScheduledFuture<?> scheduled = mock(ScheduledFuture.class);
+    ArgumentCaptor<Runnable> task = ArgumentCaptor.forClass(Runnable.class);
+    when(scheduler.schedule(task.capture(), anyLong(), any())).then(invocation -> scheduled);
+    CounterCoalescer coalescer =
+        new CounterCoalescer(100_000_000, 10, binder, executor, scheduler, null, () -> now);
+    List<Long> lags = new ArrayList<>();
+    coalescer.setFlushLagRecorder(lags::add);
+
+    // when
+    CompletionStage<Void> first = coalescer.add(Arrays.asList(1), new long[] {1, 0});
+    now = 10;
+    CompletionStage<Void> second = coalescer.add(Arrays.asList(1), new long[] {2, -1});
+    coalescer.add(Arrays.asList(2), new long[] {5, 5});
+
+    // then
+    verify(scheduler).schedule(task.getValue(), 100_000_000, TimeUnit.NANOSECONDS);
+    assertThat(task.getAllValues()).hasSize(1);
+    assertThat(writtenKeys).isEmpty();
+    assertThat(coalescer.getPendingKeys()).isEqualTo(2);
+    assertThat(coalescer.getIncrements()).isEqualTo(3);
+
+    // when
+    now = 30;
+    task.getValue().run();
+
+    // then
+    assertThat(writtenKeys).containsExactly(Arrays.asList(1), Arrays.asList(2));
+    assertThat(writtenDeltas.get(0)).containsExactly(3, -1);
+    assertThat(writtenDeltas.get(1)).containsExactly(5, 5);
+    assertThat(coalescer.getPendingKeys()).isZero();
+    assertThat(coalescer.getWrites()).isEqualTo(2);
+    assertThat(first.toCompletableFuture()).isNotDone();
+
+    // when
+    now = 50;
+    pending.get(0).complete(null);
+    pending.get(1).completeExceptionally(new IllegalStateException("write failed"));
+
+    // then
+    assertThat(first.toCompletableFuture()).isCompleted();
+    assertThat(second.toCompletableFuture()).isCompleted();
+    assertThat(lags).containsExactly(50L, 40L);
+  }
+
+  @Test
+  void should_flush_when_max_pending_keys_reached_and_skip_zero_sums() {
+    // given
+    CounterCoalescer coalescer =
+        new CounterCoalescer(100_000_000, 2, binder, executor, scheduler, null, () -> now);
+
+    // when
+    CompletionStage<Void> zero = coalescer.add(Arrays.asList(1), new long[] {1});
+    coalescer.add(Arrays.asList(1), new long[] {-1});
+    coalescer.add(Arrays.asList(2), new long[] {4});
+
+    // then
+    assertThat(zero.toCompletableFuture()).isCompleted();
+    assertThat(writtenKeys).containsExactly(Arrays.asList(2));
+    assertThat(coalescer.getPendingKeys()).isZero();
+  }
+
+  @Test
+  void should_flush_on_close_and_write_right_away_afterwards() {
+    // given
+    ScheduledFuture<?> scheduled = mock(ScheduledFuture.class);
+    when(scheduler.schedule(any(Runnable.class), anyLong(), any())).then(invocation -> scheduled);
+    CounterCoalescer coalescer =
+        new CounterCoalescer(100_000_000, 10, binder, executor, scheduler, null, () -> now);
+    coalescer.add(Arrays.asList(1), new long[] {1});
+
+    // when
+    CompletionStage<Void> closed = coalescer.close();
+
+    // then
+    assertThat(writtenKeys).containsExactly(Arrays.asList(1));
+    assertThat(closed.toCompletableFuture()).isNotDone();
+
+    // when
+    pending.get(0).completeExceptionally(new IllegalStateException("write failed"));
+    coalescer.add(Arrays.asList(2), new long[] {1});
+
+    // then
+    // failures are reported to the callers of add, not to the flush
+    assertThat(closed.toCompletableFuture()).isCompleted();
+    assertThat(writtenKeys).containsExactly(Arrays.asList(1), Arrays.asList(2));
+  }
+}
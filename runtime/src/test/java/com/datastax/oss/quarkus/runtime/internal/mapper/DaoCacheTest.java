@@ -0,0 +1,169 @@
+/*
+ * Copyright DataStax, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.quarkus.runtime.internal.mapper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.smallrye.mutiny.Uni;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class DaoCacheTest {
+
+  private static final List<Object> KEY1 = Arrays.asList("a", 1);
+  private static final List<Object> KEY2 = Arrays.asList("b", 2);
+  private static final List<Object> KEY3 = Arrays.asList("c", 3);
+
+  private final AtomicLong clock = new AtomicLong();
+  private final AtomicInteger loads = new AtomicInteger();
+
+  @Test
+  void should_evict_least_recently_used_and_expired_entries() {
+    // given
+    DaoCache<String> cache = new DaoCache<>(2, TimeUnit.SECONDS.toNanos(10), clock::get);
+    cache.get(KEY1, () -> load("v1"));
+    cache.get(KEY2, () -> load("v2"));
+    cache.get(KEY1, () -> load("v1"));
+
+    // when
+    cache.get(KEY3, () -> load("v3"));
+
+    // then
+    assertThat(cache.get(KEY1, () -> load("v1"))).isEqualTo("v1");
+    assertThat(cache.get(KEY2, () -> load("v2"))).isEqualTo("v2");
+    assertThat(loads).hasValue(4);
+    assertThat(cache.getHits()).isEqualTo(2);
+    assertThat(cache.getMisses()).isEqualTo(4);
+    assertThat(cache.getEvictions()).isEqualTo(2);
+
+    // when
+    clock.addAndGet(TimeUnit.SECONDS.toNanos(10));
+
+    // then
+    assertThat(cache.get(KEY1, () -> load("v1"))).isEqualTo("v1");
+    assertThat(loads).hasValue(5);
+    assertThat(cache.getEvictions()).isEqualTo(3);
+    assertThat(cache.size()).isEqualTo(2);
+  }
+
+  @Test
+  void should_not_cache_null_results_nor_loads_racing_with_an_invalidation() {
+    // given
+    DaoCache<String> cache = new DaoCache<>(10, 0, clock::get);
+    CompletableFuture<String> inFlight = new CompletableFuture<>();
+    CompletionStage<String> result = cache.getAsync(KEY1, () -> inFlight);
+
+    // when
+    cache.invalidate(KEY1);
+    inFlight.complete("stale");
+    cache.get(KEY2, () -> null);
+
+    // then
+    assertThat(result.toCompletableFuture()).isCompletedWithValue("stale");
+    assertThat(cache.size()).isZero();
+    assertThat(cache.getAsync(KEY1, () -> CompletableFuture.completedFuture(load("v1"))))
+        .isCompletedWithValue("v1");
+    assertThat(cache.getAsync(KEY1, () -> CompletableFuture.completedFuture(load("v1"))))
+        .isCompletedWithValue("v1");
+    assertThat(loads).hasValue(1);
+  }
+
+  @Test
+  void should_look_up_cache_on_every_uni_subscription() {
+    // given
+    DaoCache<String> cache = new DaoCache<>(10, 0, clock::get);
+    Uni<String> uni = cache.getUni(KEY1, () -> Uni.createFrom().item(() -> load("v1")));
+
+    // when
+    String first = uni.await().indefinitely();
+    String second = uni.await().indefinitely();
+    cache.invalidateAll();
+    String third = uni.await().indefinitely();
+
+    // then
+    assertThat(first).isEqualTo("v1");
+    assertThat(second).isEqualTo("v1");
+    assertThat(third).isEqualTo("v1");
+    assertThat(loads).hasValue(2);
+    assertThat(cache.getHits()).isEqualTo(1);
+    assertThat(cache.getMisses()).isEqualTo(2);
+  }
+
+  @Test
+  void should_invalidate_before_and_after_async_writes() {
+    // given
+    DaoCache<String> cache = new DaoCache<>(10, 0, clock::get);
+    cache.get(KEY1, () -> load("old"));
+    CompletableFuture<Void> write = new CompletableFuture<>();
+
+    // when
+    CompletionStage<Void> result = cache.invalidatingAsync(KEY1, () -> write);
+    int sizeAfterIssue = cache.size();
+    // a read that starts once the write was issued, but completes before it was applied
+    cache.get(KEY1, () -> load("old"));
+    int sizeBeforeCompletion = cache.size();
+    write.complete(null);
+
+    // then
+    assertThat(result.toCompletableFuture()).isCompleted();
+    assertThat(sizeAfterIssue).isZero();
+    assertThat(sizeBeforeCompletion).isEqualTo(1);
+    assertThat(cache.size()).isZero();
+    assertThat(cache.get(KEY1, () -> load("new"))).isEqualTo("new");
+    assertThat(loads).hasValue(3);
+  }
+
+  @Test
+  void should_invalidate_before_and_after_reactive_and_sync_writes() {
+    // given
+    DaoCache<String> cache = new DaoCache<>(10, 0, clock::get);
+    Uni<Boolean> write =
+        cache.invalidatingUni(
+            KEY1,
+            () ->
+                Uni.createFrom()
+                    .item(
+                        () -> {
+                          // the entry loaded while the write is executing is not kept
+                          cache.get(KEY1, () -> load("old"));
+                          return true;
+                        }));
+    cache.get(KEY1, () -> load("old"));
+    cache.get(KEY2, () -> load("old"));
+
+    // when
+    boolean applied = write.await().indefinitely();
+    int sizeAfterUni = cache.size();
+    cache.get(KEY1, () -> load("old"));
+    cache.invalidatingVoid(null, () -> cache.get(KEY2, () -> load("old")));
+
+    // then
+    assertThat(applied).isTrue();
+    assertThat(sizeAfterUni).isEqualTo(1);
+    assertThat(cache.size()).isZero();
+  }
+
+  private String load(String value) {
+    loads.incrementAndGet();
+    return value;
+  }
+}
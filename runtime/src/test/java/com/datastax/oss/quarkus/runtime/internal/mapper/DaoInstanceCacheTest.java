@@ -0,0 +1,153 @@
+/*
+ * Copyright DataStax, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.quarkus.runtime.internal.mapper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.datastax.oss.driver.api.core.CqlIdentifier;
+import com.datastax.oss.driver.internal.mapper.DaoCacheKey;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import org.junit.jupiter.api.Test;
+
+class DaoInstanceCacheTest {
+
+  private static final DaoCacheKey KEY1 = key("tenant1");
+  private static final DaoCacheKey KEY2 = key("tenant2");
+  private static final DaoCacheKey KEY3 = key("tenant3");
+
+  private final AtomicLong clock = new AtomicLong();
+  private final List<TestDao> released = new ArrayList<>();
+
+  @Test
+  void should_evict_and_release_least_recently_used_and_expired_daos() {
+    // given
+    DaoInstanceCache<TestDao> cache =
+        new DaoInstanceCache<>(2, TimeUnit.SECONDS.toNanos(10), clock::get);
+    TestDao dao1 = cache.get(KEY1, this::newDao);
+    TestDao dao2 = cache.get(KEY2, this::newDao);
+    assertThat(cache.get(KEY1, this::newDao)).isSameAs(dao1);
+
+    // when
+    TestDao dao3 = cache.get(KEY3, this::newDao);
+
+    // then
+    assertThat(released).containsExactly(dao2);
+    assertThat(cache.size()).isEqualTo(2);
+    assertThat(cache.getHits()).isEqualTo(1);
+    assertThat(cache.getMisses()).isEqualTo(3);
+    assertThat(cache.getEvictions()).isEqualTo(1);
+
+    // when
+    clock.addAndGet(TimeUnit.SECONDS.toNanos(5));
+    cache.get(KEY3, this::newDao);
+    clock.addAndGet(TimeUnit.SECONDS.toNanos(5));
+
+    // then: KEY1 was last accessed 10 seconds ago, KEY3 only 5 seconds ago
+    assertThat(cache.get(KEY1, this::newDao)).isNotSameAs(dao1);
+    assertThat(cache.get(KEY3, this::newDao)).isSameAs(dao3);
+    assertThat(released).containsExactly(dao2, dao1);
+    assertThat(cache.getEvictions()).isEqualTo(2);
+  }
+
+  @Test
+  void should_remove_failed_stage() {
+    // given
+    DaoInstanceCache<CompletionStage<TestDao>> cache = new DaoInstanceCache<>(10, 0, clock::get);
+    CompletableFuture<TestDao> failed = new CompletableFuture<>();
+    AtomicInteger creations = new AtomicInteger();
+
+    // when
+    cache.get(
+        KEY1,
+        k -> {
+          creations.incrementAndGet();
+          return failed;
+        });
+    failed.completeExceptionally(new IllegalStateException("cannot prepare"));
+    CompletionStage<TestDao> retried =
+        cache.get(
+            KEY1,
+            k -> {
+              creations.incrementAndGet();
+              return CompletableFuture.completedFuture(newDao(k));
+            });
+
+    // then
+    assertThat(creations).hasValue(2);
+    assertThat(retried.toCompletableFuture()).isCompleted();
+    assertThat(cache.size()).isEqualTo(1);
+  }
+
+  @Test
+  void should_create_dao_once_for_concurrent_misses() throws Exception {
+    // given
+    DaoInstanceCache<TestDao> cache = new DaoInstanceCache<>(10, 0, clock::get);
+    AtomicInteger creations = new AtomicInteger();
+    CountDownLatch creating = new CountDownLatch(1);
+    CompletableFuture<Void> proceed = new CompletableFuture<>();
+    Function<DaoCacheKey, TestDao> slowFactory =
+        k -> {
+          creations.incrementAndGet();
+          creating.countDown();
+          proceed.join();
+          return newDao(k);
+        };
+
+    // when
+    CompletableFuture<TestDao> first =
+        CompletableFuture.supplyAsync(() -> cache.get(KEY1, slowFactory));
+    assertThat(creating.await(5, TimeUnit.SECONDS)).isTrue();
+    CompletableFuture<TestDao> second =
+        CompletableFuture.supplyAsync(() -> cache.get(KEY1, slowFactory));
+    Thread.sleep(100);
+
+    // then
+    assertThat(second).isNotDone();
+
+    // when
+    proceed.complete(null);
+
+    // then
+    TestDao dao = first.get(5, TimeUnit.SECONDS);
+    assertThat(second.get(5, TimeUnit.SECONDS)).isSameAs(dao);
+    assertThat(creations).hasValue(1);
+    assertThat(released).isEmpty();
+    assertThat(cache.size()).isEqualTo(1);
+  }
+
+  private TestDao newDao(DaoCacheKey key) {
+    return new TestDao();
+  }
+
+  private static DaoCacheKey key(String keyspace) {
+    return new DaoCacheKey(CqlIdentifier.fromCql(keyspace), (CqlIdentifier) null, null, null);
+  }
+
+  private class TestDao implements ReleasableDao {
+    @Override
+    public void releaseResources() {
+      released.add(this);
+    }
+  }
+}
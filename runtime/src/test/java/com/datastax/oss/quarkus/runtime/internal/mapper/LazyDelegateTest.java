@@ -0,0 +1,154 @@
+/*
+ * Copyright DataStax, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.quarkus.runtime.internal.mapper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.datastax.oss.quarkus.runtime.api.reactive.mapper.MutinyMappedReactiveResultSet;
+import com.datastax.oss.quarkus.runtime.internal.reactive.MutinyWrappers;
+import com.datastax.oss.quarkus.runtime.internal.reactive.mapper.FailedMutinyMappedReactiveResultSet;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class LazyDelegateTest {
+
+  private final CompletableFuture<List<String>> initialization = new CompletableFuture<>();
+
+  @Test
+  void should_compose_on_initialization_without_blocking() {
+    // given
+    LazyDelegate<List<String>> delegate = LazyDelegate.of(initialization);
+
+    // when
+    CompletionStage<String> fromUni =
+        delegate
+            .<String>uni(target -> Uni.createFrom().item(target.get(0)))
+            .subscribeAsCompletionStage();
+    CompletionStage<String> fromStage =
+        delegate.stage(target -> CompletableFuture.completedFuture(target.get(0)));
+
+    // then
+    assertThat(fromUni.toCompletableFuture()).isNotDone();
+    assertThat(fromStage.toCompletableFuture()).isNotDone();
+
+    // when
+    initialization.complete(Collections.singletonList("ready"));
+
+    // then
+    assertThat(fromUni.toCompletableFuture()).isCompletedWithValue("ready");
+    assertThat(fromStage.toCompletableFuture()).isCompletedWithValue("ready");
+    assertThat(delegate.get()).containsExactly("ready");
+  }
+
+  @Test
+  void should_invoke_target_on_caller_context_when_initialized_on_another_thread()
+      throws Exception {
+    // given
+    Vertx vertx = Vertx.vertx();
+    try {
+      LazyDelegate<List<String>> delegate = LazyDelegate.of(initialization);
+      Context context = vertx.getOrCreateContext();
+      CompletableFuture<Context> uniContext = new CompletableFuture<>();
+      CompletableFuture<Context> multiContext = new CompletableFuture<>();
+      CompletableFuture<Context> resultSetContext = new CompletableFuture<>();
+      CompletableFuture<Void> subscribed = new CompletableFuture<>();
+
+      // when
+      context.runOnContext(
+          v -> {
+            delegate
+                .<String>uni(
+                    target -> {
+                      uniContext.complete(Vertx.currentContext());
+                      return Uni.createFrom().item(target.get(0));
+                    })
+                .subscribe()
+                .with(item -> {});
+            delegate
+                .<String>multi(
+                    target -> {
+                      multiContext.complete(Vertx.currentContext());
+                      return Multi.createFrom().iterable(target);
+                    })
+                .subscribe()
+                .with(item -> {});
+            delegate
+                .mappedResultSet(
+                    target -> {
+                      resultSetContext.complete(Vertx.currentContext());
+                      return new FailedMutinyMappedReactiveResultSet<String>(
+                          new IllegalStateException("boom"));
+                    })
+                .subscribe()
+                .with(item -> {}, error -> {});
+            subscribed.complete(null);
+          });
+      subscribed.get(5, TimeUnit.SECONDS);
+      // completes the initialization on the test thread, outside of any Vert.x context
+      initialization.complete(Collections.singletonList("ready"));
+
+      // then
+      assertThat(uniContext.get(5, TimeUnit.SECONDS)).isSameAs(context);
+      assertThat(multiContext.get(5, TimeUnit.SECONDS)).isSameAs(context);
+      assertThat(resultSetContext.get(5, TimeUnit.SECONDS)).isSameAs(context);
+    } finally {
+      vertx.close().toCompletionStage().toCompletableFuture().get(5, TimeUnit.SECONDS);
+    }
+  }
+
+  @Test
+  void should_produce_deferred_result_set_once() {
+    // given
+    LazyDelegate<List<String>> delegate = LazyDelegate.of(initialization);
+    AtomicInteger calls = new AtomicInteger();
+    IllegalStateException error = new IllegalStateException("boom");
+    MutinyMappedReactiveResultSet<String> resultSet =
+        delegate.mappedResultSet(
+            target -> {
+              calls.incrementAndGet();
+              return new FailedMutinyMappedReactiveResultSet<>(error);
+            });
+
+    // when
+    CompletableFuture<List<String>> rows =
+        resultSet.collect().asList().subscribeAsCompletionStage();
+    CompletableFuture<?> executionInfos =
+        MutinyWrappers.toMulti(resultSet.getExecutionInfos())
+            .collect()
+            .asList()
+            .subscribeAsCompletionStage();
+
+    // then
+    assertThat(calls).hasValue(0);
+
+    // when
+    initialization.complete(Collections.singletonList("ready"));
+
+    // then
+    assertThat(calls).hasValue(1);
+    assertThat(rows).isCompletedExceptionally();
+    assertThat(executionInfos).isCompletedExceptionally();
+  }
+}
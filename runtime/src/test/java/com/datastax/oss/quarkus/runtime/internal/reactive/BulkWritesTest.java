@@ -0,0 +1,218 @@
+/*
+ * Copyright DataStax, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.quarkus.runtime.internal.reactive;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.datastax.oss.driver.api.core.config.DriverConfig;
+import com.datastax.oss.driver.api.core.config.DriverExecutionProfile;
+import com.datastax.oss.driver.api.core.context.DriverContext;
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
+import com.datastax.oss.driver.api.core.cql.BatchStatement;
+import com.datastax.oss.driver.api.core.cql.BatchType;
+import com.datastax.oss.driver.api.core.cql.BoundStatement;
+import com.datastax.oss.driver.api.core.cql.Statement;
+import com.datastax.oss.quarkus.runtime.internal.driver.QuarkusDriverOption;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.helpers.test.AssertSubscriber;
+import io.smallrye.mutiny.operators.multi.processors.UnicastProcessor;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import org.junit.jupiter.api.Test;
+
+class BulkWritesTest {
+
+  private final List<Statement<?>> executed = new CopyOnWriteArrayList<>();
+  private final List<CompletableFuture<AsyncResultSet>> pending = new CopyOnWriteArrayList<>();
+
+  private final Function<Statement<?>, CompletionStage<AsyncResultSet>> executor =
+      statement -> {
+        executed.add(statement);
+        CompletableFuture<AsyncResultSet> future = new CompletableFuture<>();
+        pending.add(future);
+        return future;
+      };
+
+  @Test
+  void should_bound_requests_in_flight() {
+    // given
+    DriverContext context = context(2, null, null);
+    AssertSubscriber<Integer> subscriber = AssertSubscriber.create(Long.MAX_VALUE);
+
+    // when
+    BulkWrites.writeAll(
+            Multi.createFrom().range(0, 5), BulkWritesTest::bind, true, executor, context)
+        .subscribe(subscriber);
+
+    // then
+    assertThat(executed).hasSize(2);
+
+    // when
+    complete(0);
+
+    // then
+    assertThat(executed).hasSize(3);
+    subscriber.assertItems(0);
+
+    // when
+    for (int i = 1; i < 5; i++) {
+      complete(i);
+    }
+
+    // then
+    subscriber.assertCompleted();
+    assertThat(subscriber.getItems()).containsExactlyInAnyOrder(0, 1, 2, 3, 4);
+  }
+
+  @Test
+  void should_group_entities_by_partition_into_unlogged_batches() {
+    // given
+    DriverContext context = context(8, 4, Duration.ofMinutes(1));
+    AssertSubscriber<Integer> subscriber = AssertSubscriber.create(Long.MAX_VALUE);
+
+    // when
+    BulkWrites.writeAll(
+            Multi.createFrom().range(0, 6), BulkWritesTest::bind, true, executor, context)
+        .subscribe(subscriber);
+    for (int i = 0; i < executed.size(); i++) {
+      complete(i);
+    }
+
+    // then
+    // chunks [0, 1, 2, 3] and [4, 5], grouped by entity % 2
+    assertThat(executed).hasSize(4);
+    assertThat(executed.get(0)).isInstanceOf(BatchStatement.class);
+    BatchStatement batch = (BatchStatement) executed.get(0);
+    assertThat(batch.getBatchType()).isEqualTo(BatchType.UNLOGGED);
+    assertThat(batch.size()).isEqualTo(2);
+    assertThat(executed.get(2)).isInstanceOf(BoundStatement.class);
+    subscriber.assertCompleted();
+    assertThat(subscriber.getItems()).containsExactlyInAnyOrder(0, 1, 2, 3, 4, 5);
+  }
+
+  @Test
+  void should_not_group_entities_when_not_batchable() {
+    // given
+    DriverContext context = context(8, 4, Duration.ofMinutes(1));
+    AssertSubscriber<Integer> subscriber = AssertSubscriber.create(Long.MAX_VALUE);
+
+    // when
+    BulkWrites.writeAll(
+            Multi.createFrom().range(0, 4), BulkWritesTest::bind, false, executor, context)
+        .subscribe(subscriber);
+
+    // then
+    assertThat(executed).hasSize(4).allMatch(statement -> statement instanceof BoundStatement);
+  }
+
+  @Test
+  void should_send_incomplete_batch_after_max_delay() {
+    // given
+    DriverContext context = context(8, 4, Duration.ofMillis(50));
+    AssertSubscriber<Integer> subscriber = AssertSubscriber.create(Long.MAX_VALUE);
+    UnicastProcessor<Integer> entities = UnicastProcessor.create();
+
+    // when
+    BulkWrites.writeAll(entities, BulkWritesTest::bind, true, executor, context)
+        .subscribe(subscriber);
+    entities.onNext(0);
+    entities.onNext(2);
+
+    // then
+    assertThat(executed).isEmpty();
+    // the batch is sent although the stream neither fills it nor completes
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (executed.isEmpty() && System.nanoTime() < deadline) {
+      Thread.yield();
+    }
+    assertThat(executed).hasSize(1);
+    assertThat(((BatchStatement) executed.get(0)).size()).isEqualTo(2);
+
+    // when
+    complete(0);
+
+    // then
+    subscriber.awaitItems(2, Duration.ofSeconds(5));
+    assertThat(subscriber.getItems()).containsExactly(0, 2);
+  }
+
+  @Test
+  void should_read_batch_size_from_statement_profile() {
+    // given
+    DriverContext context = context(8, null, null);
+    DriverExecutionProfile batching = mock(DriverExecutionProfile.class);
+    when(batching.getInt(eq(QuarkusDriverOption.REQUEST_BULK_BATCH_SIZE), anyInt())).thenReturn(4);
+    when(batching.getDuration(eq(QuarkusDriverOption.REQUEST_BULK_BATCH_MAX_DELAY), any()))
+        .thenReturn(Duration.ofMinutes(1));
+    when(context.getConfig().getProfile("batching")).thenReturn(batching);
+    AssertSubscriber<Integer> subscriber = AssertSubscriber.create(Long.MAX_VALUE);
+
+    // when
+    BulkWrites.writeAll(
+            Multi.createFrom().range(0, 4),
+            entity -> {
+              BoundStatement statement = bind(entity);
+              when(statement.getExecutionProfileName()).thenReturn("batching");
+              return statement;
+            },
+            true,
+            executor,
+            context)
+        .subscribe(subscriber);
+
+    // then
+    assertThat(executed).hasSize(2).allMatch(statement -> statement instanceof BatchStatement);
+  }
+
+  private void complete(int index) {
+    pending.get(index).complete(new MockAsyncResultSet(new ArrayList<>(), null));
+  }
+
+  private static BoundStatement bind(Integer entity) {
+    BoundStatement statement = mock(BoundStatement.class);
+    ByteBuffer routingKey = ByteBuffer.allocate(4).putInt(0, entity % 2);
+    when(statement.getRoutingKey()).thenReturn(routingKey);
+    return statement;
+  }
+
+  private static DriverContext context(int maxInFlight, Integer batchSize, Duration batchMaxDelay) {
+    DriverExecutionProfile profile = mock(DriverExecutionProfile.class);
+    when(profile.getInt(eq(QuarkusDriverOption.REQUEST_BULK_MAX_IN_FLIGHT), anyInt()))
+        .thenReturn(maxInFlight);
+    when(profile.getInt(eq(QuarkusDriverOption.REQUEST_BULK_BATCH_SIZE), anyInt()))
+        .thenAnswer(invocation -> batchSize == null ? invocation.getArgument(1) : batchSize);
+    when(profile.getDuration(eq(QuarkusDriverOption.REQUEST_BULK_BATCH_MAX_DELAY), any()))
+        .thenAnswer(
+            invocation -> batchMaxDelay == null ? invocation.getArgument(1) : batchMaxDelay);
+    DriverConfig config = mock(DriverConfig.class);
+    when(config.getDefaultProfile()).thenReturn(profile);
+    DriverContext context = mock(DriverContext.class);
+    when(context.getConfig()).thenReturn(config);
+    return context;
+  }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright DataStax, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.quarkus.runtime.internal.reactive;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.datastax.dse.driver.api.core.config.DseDriverOption;
+import com.datastax.oss.driver.api.core.config.DriverConfig;
+import com.datastax.oss.driver.api.core.config.DriverConfigLoader;
+import com.datastax.oss.driver.api.core.config.DriverExecutionProfile;
+import com.datastax.oss.driver.api.core.context.DriverContext;
+import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+import org.junit.jupiter.api.Test;
+
+class ContinuousReadsTest {
+
+  private final DriverConfig config =
+      DriverConfigLoader.programmaticBuilder()
+          .withInt(DseDriverOption.CONTINUOUS_PAGING_MAX_ENQUEUED_PAGES, 8)
+          .startProfile("bulk")
+          .withInt(DseDriverOption.CONTINUOUS_PAGING_MAX_ENQUEUED_PAGES, 16)
+          .endProfile()
+          .build()
+          .getInitialConfig();
+
+  private final DriverContext context = mock(DriverContext.class);
+
+  @Test
+  void should_enable_continuous_paging_and_override_limits() {
+    // given
+    when(context.getConfig()).thenReturn(config);
+    SimpleStatement statement = SimpleStatement.newInstance("SELECT * FROM product");
+
+    // when
+    SimpleStatement continuous = ContinuousReads.withContinuousPaging(statement, context, 100, 4);
+
+    // then
+    DriverExecutionProfile profile = continuous.getExecutionProfile();
+    assertThat(ContinuousReads.isEnabled(profile)).isTrue();
+    assertThat(profile.getInt(DseDriverOption.CONTINUOUS_PAGING_MAX_PAGES_PER_SECOND))
+        .isEqualTo(100);
+    assertThat(profile.getInt(DseDriverOption.CONTINUOUS_PAGING_MAX_ENQUEUED_PAGES)).isEqualTo(4);
+    assertThat(ContinuousReads.isEnabled(config.getDefaultProfile())).isFalse();
+  }
+
+  @Test
+  void should_keep_limits_of_statement_profile_when_not_overridden() {
+    // given
+    when(context.getConfig()).thenReturn(config);
+    SimpleStatement statement =
+        SimpleStatement.newInstance("SELECT * FROM product").setExecutionProfileName("bulk");
+
+    // when
+    SimpleStatement continuous = ContinuousReads.withContinuousPaging(statement, context, -1, -1);
+
+    // then
+    DriverExecutionProfile profile = continuous.getExecutionProfile();
+    assertThat(ContinuousReads.isEnabled(profile)).isTrue();
+    assertThat(profile.getInt(DseDriverOption.CONTINUOUS_PAGING_MAX_PAGES_PER_SECOND))
+        .isEqualTo(
+            config
+                .getDefaultProfile()
+                .getInt(DseDriverOption.CONTINUOUS_PAGING_MAX_PAGES_PER_SECOND));
+    assertThat(profile.getInt(DseDriverOption.CONTINUOUS_PAGING_MAX_ENQUEUED_PAGES)).isEqualTo(16);
+  }
+
+  @Test
+  void should_reuse_derived_profile_while_statements_resolve_to_the_same_profile() {
+    // given
+    when(context.getConfig()).thenReturn(config);
+    ContinuousPagingProfile continuousPaging = new ContinuousPagingProfile(100, 4);
+    SimpleStatement statement = SimpleStatement.newInstance("SELECT * FROM product");
+    SimpleStatement bulkStatement = statement.setExecutionProfileName("bulk");
+
+    // when
+    DriverExecutionProfile first = continuousPaging.apply(statement, context).getExecutionProfile();
+    DriverExecutionProfile second =
+        continuousPaging.apply(statement, context).getExecutionProfile();
+    DriverExecutionProfile bulk =
+        continuousPaging.apply(bulkStatement, context).getExecutionProfile();
+
+    // then
+    assertThat(second).isSameAs(first);
+    assertThat(ContinuousReads.isEnabled(first)).isTrue();
+    assertThat(first.getInt(DseDriverOption.CONTINUOUS_PAGING_MAX_ENQUEUED_PAGES)).isEqualTo(4);
+    assertThat(bulk).isNotSameAs(first);
+    assertThat(bulk.getName()).isEqualTo("bulk");
+    assertThat(ContinuousReads.isEnabled(bulk)).isTrue();
+  }
+}
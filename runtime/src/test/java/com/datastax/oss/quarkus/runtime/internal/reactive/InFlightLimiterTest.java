@@ -0,0 +1,96 @@
+/*
+ * Copyright DataStax, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.quarkus.runtime.internal.reactive;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import org.junit.jupiter.api.Test;
+
+class InFlightLimiterTest {
+
+  @Test
+  void should_start_waiting_requests_in_order_as_earlier_ones_complete() {
+    // given
+    InFlightLimiter limiter = new InFlightLimiter(2);
+    List<CompletableFuture<Integer>> started = new ArrayList<>();
+    List<CompletionStage<Integer>> results = new ArrayList<>();
+
+    // when
+    for (int i = 0; i < 4; i++) {
+      results.add(
+          limiter.execute(
+              () -> {
+                CompletableFuture<Integer> future = new CompletableFuture<>();
+                started.add(future);
+                return future;
+              }));
+    }
+
+    // then
+    assertThat(started).hasSize(2);
+    assertThat(limiter.getInFlight()).isEqualTo(2);
+    assertThat(limiter.getWaiting()).isEqualTo(2);
+
+    // when
+    started.get(1).complete(1);
+
+    // then
+    assertThat(started).hasSize(3);
+    assertThat(results.get(1).toCompletableFuture()).isCompletedWithValue(1);
+    assertThat(results.get(0).toCompletableFuture()).isNotDone();
+  }
+
+  @Test
+  void should_not_recurse_when_requests_complete_synchronously() {
+    // given
+    InFlightLimiter limiter = new InFlightLimiter(1);
+    CompletableFuture<Integer> first = new CompletableFuture<>();
+    List<CompletionStage<Integer>> results = new ArrayList<>();
+    results.add(limiter.execute(() -> first));
+    for (int i = 0; i < 100_000; i++) {
+      results.add(limiter.execute(() -> CompletableFuture.completedFuture(0)));
+    }
+
+    // when
+    first.complete(0);
+
+    // then
+    assertThat(results).allMatch(result -> result.toCompletableFuture().isDone());
+    assertThat(limiter.getInFlight()).isZero();
+    assertThat(limiter.getWaiting()).isZero();
+  }
+
+  @Test
+  void should_release_permit_when_request_fails_to_start() {
+    // given
+    InFlightLimiter limiter = new InFlightLimiter(1);
+
+    // when
+    CompletionStage<Integer> result =
+        limiter.execute(
+            () -> {
+              throw new IllegalStateException("boom");
+            });
+
+    // then
+    assertThat(result.toCompletableFuture()).isCompletedExceptionally();
+    assertThat(limiter.getInFlight()).isZero();
+  }
+}
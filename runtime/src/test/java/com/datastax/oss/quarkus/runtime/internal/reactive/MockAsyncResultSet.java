@@ -65,6 +65,9 @@ public class MockAsyncResultSet implements AsyncResultSet {
 
   @Override
   public Row one() {
+    if (!iterator.hasNext()) {
+      return null;
+    }
     Row next = iterator.next();
     remaining--;
     return next;
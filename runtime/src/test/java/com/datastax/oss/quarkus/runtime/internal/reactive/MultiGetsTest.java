@@ -0,0 +1,139 @@
+/*
+ * Copyright DataStax, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.quarkus.runtime.internal.reactive;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.datastax.oss.driver.api.core.config.DriverConfig;
+import com.datastax.oss.driver.api.core.config.DriverExecutionProfile;
+import com.datastax.oss.driver.api.core.context.DriverContext;
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
+import com.datastax.oss.driver.api.core.cql.BoundStatement;
+import com.datastax.oss.driver.api.core.cql.Row;
+import com.datastax.oss.driver.api.core.cql.Statement;
+import com.datastax.oss.quarkus.runtime.internal.driver.QuarkusDriverOption;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.helpers.test.AssertSubscriber;
+import io.smallrye.mutiny.helpers.test.UniAssertSubscriber;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+import org.junit.jupiter.api.Test;
+
+class MultiGetsTest {
+
+  private final List<Integer> boundKeys = new ArrayList<>();
+  private final List<CompletableFuture<AsyncResultSet>> pending = new ArrayList<>();
+
+  private final Function<Statement<?>, CompletionStage<AsyncResultSet>> executor =
+      statement -> {
+        CompletableFuture<AsyncResultSet> future = new CompletableFuture<>();
+        pending.add(future);
+        return future;
+      };
+
+  @Test
+  void should_bound_requests_in_flight_and_emit_rows_as_they_arrive() {
+    // given
+    DriverContext context = context(2);
+    AssertSubscriber<Row> subscriber = AssertSubscriber.create(Long.MAX_VALUE);
+
+    // when
+    MultiGets.readAll(
+            Multi.createFrom().range(0, 5), this::bind, Function.identity(), executor, context)
+        .subscribe(subscriber);
+
+    // then
+    assertThat(boundKeys).containsExactly(0, 1);
+
+    // when
+    complete(1, true);
+
+    // then
+    subscriber.assertItems(new MockRow(1));
+    assertThat(boundKeys).containsExactly(0, 1, 2);
+
+    // when
+    complete(0, true);
+    for (int i = 2; i < 5; i++) {
+      complete(i, i != 3);
+    }
+
+    // then
+    subscriber.assertCompleted();
+    assertThat(subscriber.getItems())
+        .containsExactlyInAnyOrder(new MockRow(0), new MockRow(1), new MockRow(2), new MockRow(4));
+  }
+
+  @Test
+  void should_read_each_key_once_and_emit_found_rows_in_key_order() {
+    // given
+    DriverContext context = context(8);
+    UniAssertSubscriber<Map<Integer, Row>> subscriber = UniAssertSubscriber.create();
+
+    // when
+    MultiGets.readAllByKey(
+            Arrays.asList(3, 1, 3, 2), this::bind, Function.identity(), executor, context)
+        .subscribe()
+        .withSubscriber(subscriber);
+
+    // then
+    assertThat(boundKeys).containsExactly(3, 1, 2);
+
+    // when
+    for (int i = 2; i >= 0; i--) {
+      complete(i, boundKeys.get(i) != 1);
+    }
+
+    // then
+    Map<Integer, Row> rows = subscriber.assertCompleted().getItem();
+    assertThat(rows.keySet()).containsExactly(3, 2);
+    assertThat(rows.get(3)).isEqualTo(new MockRow(3));
+  }
+
+  private BoundStatement bind(Integer key) {
+    boundKeys.add(key);
+    return mock(BoundStatement.class);
+  }
+
+  /** Completes the request of the given index with the row of its key, or no row. */
+  private void complete(int index, boolean found) {
+    List<Row> rows = new ArrayList<>();
+    if (found) {
+      rows.add(new MockRow(boundKeys.get(index)));
+    }
+    pending.get(index).complete(new MockAsyncResultSet(rows, null));
+  }
+
+  private static DriverContext context(int maxInFlight) {
+    DriverExecutionProfile profile = mock(DriverExecutionProfile.class);
+    when(profile.getInt(eq(QuarkusDriverOption.REQUEST_MULTI_GET_MAX_IN_FLIGHT), anyInt()))
+        .thenReturn(maxInFlight);
+    DriverConfig config = mock(DriverConfig.class);
+    when(config.getDefaultProfile()).thenReturn(profile);
+    DriverContext context = mock(DriverContext.class);
+    when(context.getConfig()).thenReturn(config);
+    return context;
+  }
+}
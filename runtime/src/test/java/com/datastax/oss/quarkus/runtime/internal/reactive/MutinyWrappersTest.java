@@ -0,0 +1,91 @@
+/*
+ * Copyright DataStax, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.quarkus.runtime.internal.reactive;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import mutiny.zero.flow.adapters.AdaptersToReactiveStreams;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class MutinyWrappersTest {
+
+  private Vertx vertx;
+
+  @BeforeEach
+  void setup() {
+    vertx = Vertx.vertx();
+  }
+
+  @AfterEach
+  void teardown() throws Exception {
+    vertx.close().toCompletionStage().toCompletableFuture().get(5, TimeUnit.SECONDS);
+  }
+
+  @Test
+  void should_emit_inline_when_signals_arrive_on_subscriber_context() throws Exception {
+    // given
+    Context context = vertx.getOrCreateContext();
+    CompletableFuture<List<Integer>> itemsWhenSubscribed = new CompletableFuture<>();
+
+    // when
+    context.runOnContext(
+        v -> {
+          List<Integer> items = new CopyOnWriteArrayList<>();
+          MutinyWrappers.toMulti(
+                  AdaptersToReactiveStreams.publisher(Multi.createFrom().range(1, 5)))
+              .subscribe()
+              .with(items::add);
+          // all items were emitted before subscribe() returned, without any context hop
+          itemsWhenSubscribed.complete(List.copyOf(items));
+        });
+
+    // then
+    assertThat(itemsWhenSubscribed.get(5, TimeUnit.SECONDS)).containsExactly(1, 2, 3, 4);
+  }
+
+  @Test
+  void should_dispatch_to_subscriber_context_when_signals_arrive_on_another_thread()
+      throws Exception {
+    // given
+    Context context = vertx.getOrCreateContext();
+    CompletableFuture<Context> emittingContext = new CompletableFuture<>();
+
+    // when
+    context.runOnContext(
+        v ->
+            MutinyWrappers.toUni(
+                    AdaptersToReactiveStreams.publisher(
+                        Uni.createFrom()
+                            .item(42)
+                            .runSubscriptionOn(r -> new Thread(r).start())
+                            .toMulti()))
+                .subscribe()
+                .with(item -> emittingContext.complete(Vertx.currentContext())));
+
+    // then
+    assertThat(emittingContext.get(5, TimeUnit.SECONDS)).isSameAs(context);
+  }
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright DataStax, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.quarkus.runtime.internal.reactive;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
+import com.datastax.oss.driver.api.core.cql.BatchStatement;
+import com.datastax.oss.driver.api.core.cql.BoundStatement;
+import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+import com.datastax.oss.driver.api.core.cql.Statement;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+class PartitionWriteCoalescerTest {
+
+  private final List<Statement<?>> executed = new ArrayList<>();
+  private final List<CompletableFuture<AsyncResultSet>> pending = new ArrayList<>();
+
+  private final Function<Statement<?>, CompletionStage<AsyncResultSet>> executor =
+      statement -> {
+        executed.add(statement);
+        CompletableFuture<AsyncResultSet> future = new CompletableFuture<>();
+        pending.add(future);
+        return future;
+      };
+
+  private final ScheduledExecutorService scheduler = mock(ScheduledExecutorService.class);
+
+  @Test
+  void should_send_group_when_window_elapses() {
+    // given
+    ScheduledFuture<?> timeout = mock(ScheduledFuture.class);
+    ArgumentCaptor<Runnable> task = ArgumentCaptor.forClass(Runnable.class);
+    when(scheduler.schedule(task.capture(), anyLong(), any())).then(invocation -> timeout);
+    PartitionWriteCoalescer coalescer =
+        new PartitionWriteCoalescer(Duration.ofMillis(3), 10, scheduler);
+
+    // when
+    CompletionStage<AsyncResultSet> first = coalescer.submit(bound(1), executor);
+    CompletionStage<AsyncResultSet> second = coalescer.submit(bound(1), executor);
+    CompletionStage<AsyncResultSet> other = coalescer.submit(bound(2), executor);
+
+    // then
+    verify(scheduler).schedule(task.getAllValues().get(0), 3_000_000, TimeUnit.NANOSECONDS);
+    assertThat(executed).isEmpty();
+    assertThat(coalescer.getPendingGroups()).isEqualTo(2);
+
+    // when
+    task.getAllValues().get(0).run();
+
+    // then
+    assertThat(executed).hasSize(1);
+    assertThat(executed.get(0)).isInstanceOf(BatchStatement.class);
+    assertThat(((BatchStatement) executed.get(0)).size()).isEqualTo(2);
+
+    // when
+    AsyncResultSet resultSet = new MockAsyncResultSet(new ArrayList<>(), null);
+    pending.get(0).complete(resultSet);
+
+    // then
+    assertThat(first.toCompletableFuture()).isCompletedWithValue(resultSet);
+    assertThat(second.toCompletableFuture()).isCompletedWithValue(resultSet);
+    assertThat(other.toCompletableFuture()).isNotDone();
+
+    // when
+    task.getAllValues().get(1).run();
+
+    // then
+    assertThat(executed).hasSize(2);
+    assertThat(executed.get(1)).isInstanceOf(BoundStatement.class);
+    assertThat(coalescer.getPendingGroups()).isZero();
+  }
+
+  @Test
+  void should_send_group_as_soon_as_it_is_full() {
+    // given
+    ScheduledFuture<?> timeout = mock(ScheduledFuture.class);
+    ArgumentCaptor<Runnable> task = ArgumentCaptor.forClass(Runnable.class);
+    when(scheduler.schedule(task.capture(), anyLong(), any())).then(invocation -> timeout);
+    PartitionWriteCoalescer coalescer =
+        new PartitionWriteCoalescer(Duration.ofMillis(3), 3, scheduler);
+
+    // when
+    for (int i = 0; i < 3; i++) {
+      coalescer.submit(bound(1), executor);
+    }
+
+    // then
+    assertThat(executed).hasSize(1);
+    assertThat(((BatchStatement) executed.get(0)).size()).isEqualTo(3);
+    verify(timeout).cancel(false);
+
+    // when
+    task.getValue().run();
+
+    // then
+    assertThat(executed).hasSize(1);
+  }
+
+  @Test
+  void should_execute_statement_without_routing_information_right_away() {
+    // given
+    PartitionWriteCoalescer coalescer =
+        new PartitionWriteCoalescer(Duration.ofMillis(3), 10, scheduler);
+    SimpleStatement statement = SimpleStatement.newInstance("INSERT INTO t (k) VALUES (1)");
+
+    // when
+    coalescer.submit(statement, executor);
+
+    // then
+    assertThat(executed).containsExactly(statement);
+    verify(scheduler, never()).schedule(any(Runnable.class), anyLong(), eq(TimeUnit.NANOSECONDS));
+  }
+
+  private static BoundStatement bound(int partition) {
+    BoundStatement statement = mock(BoundStatement.class);
+    when(statement.getRoutingKey()).thenReturn(ByteBuffer.allocate(4).putInt(0, partition));
+    return statement;
+  }
+}
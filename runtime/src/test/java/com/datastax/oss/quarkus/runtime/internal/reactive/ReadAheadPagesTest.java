@@ -0,0 +1,171 @@
+/*
+ * Copyright DataStax, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.quarkus.runtime.internal.reactive;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.datastax.dse.driver.api.core.cql.reactive.ReactiveRow;
+import com.datastax.dse.driver.internal.core.cql.reactive.DefaultReactiveResultSet;
+import com.datastax.oss.driver.api.core.config.DriverExecutionProfile;
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
+import com.datastax.oss.driver.api.core.cql.Row;
+import com.datastax.oss.quarkus.runtime.internal.driver.QuarkusDriverOption;
+import io.smallrye.mutiny.helpers.test.AssertSubscriber;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class ReadAheadPagesTest {
+
+  private final AtomicInteger fetchedPages = new AtomicInteger();
+
+  @Test
+  void should_return_callable_unchanged_without_read_ahead_settings() {
+    Callable<CompletionStage<AsyncResultSet>> firstPage = () -> createResults(1, 1, 0);
+    assertThat(ReadAheadPages.withReadAhead(firstPage, mock(DriverExecutionProfile.class)))
+        .isSameAs(firstPage);
+  }
+
+  @Test
+  void should_fetch_all_pages_eagerly_without_read_ahead() {
+    // given
+    AssertSubscriber<ReactiveRow> subscriber = AssertSubscriber.create(1);
+
+    // when
+    subscribe(() -> createResults(4, 5, 0), subscriber);
+
+    // then
+    assertThat(fetchedPages.get()).isEqualTo(4);
+  }
+
+  @Test
+  void should_fetch_next_page_only_when_received_pages_are_consumed() {
+    // given
+    DriverExecutionProfile profile = profile(0, null);
+    AssertSubscriber<ReactiveRow> subscriber = AssertSubscriber.create(3);
+
+    // when
+    subscribe(ReadAheadPages.withReadAhead(() -> createResults(4, 5, 0), profile), subscriber);
+
+    // then
+    assertThat(fetchedPages.get()).isEqualTo(1);
+
+    // when
+    subscriber.request(2);
+
+    // then
+    assertThat(fetchedPages.get()).isEqualTo(2);
+
+    // when
+    subscriber.request(100);
+
+    // then
+    subscriber.assertCompleted();
+    assertThat(subscriber.getItems()).hasSize(20);
+    assertThat(fetchedPages.get()).isEqualTo(4);
+  }
+
+  @Test
+  void should_fetch_pages_ahead_of_the_page_being_consumed() {
+    // given
+    DriverExecutionProfile profile = profile(1, null);
+    AssertSubscriber<ReactiveRow> subscriber = AssertSubscriber.create(1);
+
+    // when
+    subscribe(ReadAheadPages.withReadAhead(() -> createResults(4, 5, 0), profile), subscriber);
+
+    // then
+    assertThat(fetchedPages.get()).isEqualTo(2);
+
+    // when
+    subscriber.request(4);
+
+    // then
+    assertThat(fetchedPages.get()).isEqualTo(3);
+  }
+
+  @Test
+  void should_suspend_read_ahead_when_memory_budget_is_exceeded() {
+    // given
+    DriverExecutionProfile profile = profile(null, 1500L);
+    AssertSubscriber<ReactiveRow> subscriber = AssertSubscriber.create(1);
+
+    // when
+    subscribe(ReadAheadPages.withReadAhead(() -> createResults(4, 5, 1000), profile), subscriber);
+
+    // then
+    assertThat(fetchedPages.get()).isEqualTo(2);
+
+    // when
+    subscriber.request(100);
+
+    // then
+    subscriber.assertCompleted();
+    assertThat(subscriber.getItems()).hasSize(20);
+  }
+
+  private void subscribe(
+      Callable<CompletionStage<AsyncResultSet>> firstPage,
+      AssertSubscriber<ReactiveRow> subscriber) {
+    new DefaultMutinyReactiveResultSet(new DefaultReactiveResultSet(firstPage))
+        .subscribe()
+        .withSubscriber(subscriber);
+  }
+
+  private static DriverExecutionProfile profile(Integer pages, Long budget) {
+    DriverExecutionProfile profile = mock(DriverExecutionProfile.class);
+    if (pages != null) {
+      when(profile.isDefined(QuarkusDriverOption.REQUEST_READ_AHEAD_PAGES)).thenReturn(true);
+      when(profile.getInt(QuarkusDriverOption.REQUEST_READ_AHEAD_PAGES)).thenReturn(pages);
+    }
+    if (budget != null) {
+      when(profile.isDefined(QuarkusDriverOption.REQUEST_READ_AHEAD_BUDGET)).thenReturn(true);
+      when(profile.getBytes(QuarkusDriverOption.REQUEST_READ_AHEAD_BUDGET)).thenReturn(budget);
+    }
+    return profile;
+  }
+
+  /** Same as {@link MockAsyncResultSet#createResults}, but counts page fetches. */
+  private CompletableFuture<AsyncResultSet> createResults(
+      int numPages, int elementsPerPage, int pageSizeInBytes) {
+    fetchedPages.incrementAndGet();
+    CompletableFuture<AsyncResultSet> previous = null;
+    for (int i = 0; i < numPages; i++) {
+      List<Row> rows = new ArrayList<>();
+      for (int j = 0; j < elementsPerPage; j++) {
+        rows.add(mock(Row.class));
+      }
+      CompletableFuture<AsyncResultSet> nextPage = previous;
+      MockAsyncResultSet page =
+          new MockAsyncResultSet(rows, nextPage) {
+            @Override
+            public CompletionStage<AsyncResultSet> fetchNextPage() {
+              fetchedPages.incrementAndGet();
+              return super.fetchNextPage();
+            }
+          };
+      when(page.getExecutionInfo().getResponseSizeInBytes()).thenReturn(pageSizeInBytes);
+      previous = CompletableFuture.completedFuture(page);
+    }
+    return previous;
+  }
+}
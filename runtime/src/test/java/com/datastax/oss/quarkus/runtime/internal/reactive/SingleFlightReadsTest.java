@@ -0,0 +1,177 @@
+/*
+ * Copyright DataStax, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.quarkus.runtime.internal.reactive;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.datastax.oss.driver.api.core.CqlIdentifier;
+import com.datastax.oss.driver.api.core.DefaultConsistencyLevel;
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
+import com.datastax.oss.driver.api.core.cql.BoundStatement;
+import com.datastax.oss.driver.api.core.cql.ColumnDefinitions;
+import com.datastax.oss.driver.api.core.cql.PreparedStatement;
+import com.datastax.oss.driver.api.core.cql.Row;
+import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+import com.datastax.oss.driver.api.core.cql.Statement;
+import com.datastax.oss.driver.api.core.metadata.Node;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+import org.junit.jupiter.api.Test;
+
+class SingleFlightReadsTest {
+
+  private final List<Statement<?>> executed = new ArrayList<>();
+  private final List<CompletableFuture<AsyncResultSet>> pending = new ArrayList<>();
+
+  private final Function<Statement<?>, CompletionStage<AsyncResultSet>> executor =
+      statement -> {
+        executed.add(statement);
+        CompletableFuture<AsyncResultSet> future = new CompletableFuture<>();
+        pending.add(future);
+        return future;
+      };
+
+  private final SingleFlightReads reads = new SingleFlightReads();
+
+  private final PreparedStatement select = prepared(1);
+
+  @Test
+  void should_share_request_between_identical_reads_in_flight() {
+    // given
+    CompletionStage<AsyncResultSet> first = reads.execute(bound(select, 42), executor);
+    CompletionStage<AsyncResultSet> second = reads.execute(bound(select, 42), executor);
+    CompletionStage<AsyncResultSet> other = reads.execute(bound(select, 43), executor);
+
+    // then
+    assertThat(executed).hasSize(2);
+    assertThat(reads.getInFlight()).isEqualTo(2);
+
+    // when
+    pending.get(0).complete(new MockAsyncResultSet(rows(3), null));
+
+    // then
+    assertThat(drain(first.toCompletableFuture().join())).hasSize(3);
+    assertThat(drain(second.toCompletableFuture().join())).hasSize(3);
+    assertThat(other.toCompletableFuture()).isNotDone();
+    assertThat(reads.getInFlight()).isEqualTo(1);
+
+    // when
+    reads.execute(bound(select, 42), executor);
+
+    // then
+    // the first read completed, results are not cached
+    assertThat(executed).hasSize(3);
+  }
+
+  @Test
+  void should_fetch_next_page_once_for_all_identical_reads() {
+    // given
+    CompletableFuture<AsyncResultSet> nextPage = new CompletableFuture<>();
+    MockAsyncResultSet firstPage = new MockAsyncResultSet(rows(2), nextPage);
+    CompletionStage<AsyncResultSet> first = reads.execute(bound(select, 42), executor);
+    CompletionStage<AsyncResultSet> second = reads.execute(bound(select, 42), executor);
+    pending.get(0).complete(firstPage);
+
+    // when
+    CompletionStage<AsyncResultSet> firstNext = first.toCompletableFuture().join().fetchNextPage();
+    CompletionStage<AsyncResultSet> secondNext =
+        second.toCompletableFuture().join().fetchNextPage();
+    nextPage.complete(new MockAsyncResultSet(rows(1), null));
+
+    // then
+    assertThat(drain(firstNext.toCompletableFuture().join())).hasSize(1);
+    assertThat(drain(secondNext.toCompletableFuture().join())).hasSize(1);
+    assertThat(secondNext.toCompletableFuture().join().hasMorePages()).isFalse();
+  }
+
+  @Test
+  void should_not_share_writes_nor_simple_statements() {
+    // given
+    PreparedStatement insert = prepared(0);
+    SimpleStatement simple = SimpleStatement.newInstance("SELECT * FROM t");
+
+    // when
+    reads.execute(bound(insert, 42), executor);
+    reads.execute(bound(insert, 42), executor);
+    reads.execute(simple, executor);
+    reads.execute(simple, executor);
+
+    // then
+    assertThat(executed).hasSize(4);
+    assertThat(reads.getInFlight()).isZero();
+  }
+
+  @Test
+  void should_not_share_reads_targeting_a_node_nor_with_different_attributes() {
+    // given
+    BoundStatement targeted = bound(select, 42);
+    when(targeted.getNode()).thenReturn(mock(Node.class));
+    BoundStatement serial = bound(select, 42);
+    when(serial.getSerialConsistencyLevel()).thenReturn(DefaultConsistencyLevel.LOCAL_SERIAL);
+    BoundStatement timestamped = bound(select, 42);
+    when(timestamped.getQueryTimestamp()).thenReturn(1234L);
+
+    // when
+    reads.execute(bound(select, 42), executor);
+    reads.execute(targeted, executor);
+    reads.execute(targeted, executor);
+    reads.execute(serial, executor);
+    reads.execute(timestamped, executor);
+
+    // then
+    assertThat(executed).hasSize(5);
+    assertThat(reads.getInFlight()).isEqualTo(3);
+  }
+
+  private static List<Row> drain(AsyncResultSet resultSet) {
+    List<Row> rows = new ArrayList<>();
+    resultSet.currentPage().forEach(rows::add);
+    assertThat(resultSet.remaining()).isZero();
+    return rows;
+  }
+
+  private static List<Row> rows(int count) {
+    List<Row> rows = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      rows.add(mock(Row.class));
+    }
+    return rows;
+  }
+
+  private static PreparedStatement prepared(int resultColumns) {
+    ColumnDefinitions definitions = mock(ColumnDefinitions.class);
+    when(definitions.size()).thenReturn(resultColumns);
+    when(definitions.contains(any(CqlIdentifier.class))).thenReturn(false);
+    PreparedStatement prepared = mock(PreparedStatement.class);
+    when(prepared.getId()).thenReturn(ByteBuffer.wrap(new byte[] {(byte) resultColumns}));
+    when(prepared.getResultSetDefinitions()).thenReturn(definitions);
+    return prepared;
+  }
+
+  private static BoundStatement bound(PreparedStatement prepared, int value) {
+    BoundStatement statement = mock(BoundStatement.class);
+    when(statement.getPreparedStatement()).thenReturn(prepared);
+    when(statement.getValues()).thenReturn(List.of(ByteBuffer.allocate(4).putInt(0, value)));
+    return statement;
+  }
+}
@@ -0,0 +1,193 @@
+/*
+ * Copyright DataStax, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.quarkus.runtime.internal.reactive;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.datastax.dse.driver.api.core.cql.reactive.ReactiveRow;
+import com.datastax.oss.driver.api.core.CqlIdentifier;
+import com.datastax.oss.driver.api.core.metadata.Metadata;
+import com.datastax.oss.driver.api.core.metadata.token.Token;
+import com.datastax.oss.driver.api.core.metadata.token.TokenRange;
+import com.datastax.oss.driver.internal.core.metadata.token.Murmur3Token;
+import com.datastax.oss.driver.internal.core.metadata.token.Murmur3TokenRange;
+import com.datastax.oss.quarkus.runtime.api.reactive.MutinyReactiveSession;
+import com.datastax.oss.quarkus.runtime.api.reactive.ScanOptions;
+import com.datastax.oss.quarkus.runtime.internal.reactive.TokenRangeScan.ScanRange;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.helpers.test.AssertSubscriber;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class TokenRangeScanTest {
+
+  private static final Token MIN = new Murmur3Token(Long.MIN_VALUE);
+
+  private static final CqlIdentifier KS = CqlIdentifier.fromCql("ks");
+  private static final CqlIdentifier TABLE = CqlIdentifier.fromCql("\"Products\"");
+
+  @Test
+  void should_build_bounded_and_unbounded_queries() {
+    List<CqlIdentifier> partitionKey =
+        List.of(CqlIdentifier.fromCql("k1"), CqlIdentifier.fromCql("k2"));
+    assertThat(TokenRangeScan.buildQuery(KS, TABLE, List.of(), partitionKey, true))
+        .isEqualTo("SELECT * FROM ks.\"Products\" WHERE token(k1,k2) > ? AND token(k1,k2) <= ?");
+    assertThat(
+            TokenRangeScan.buildQuery(
+                KS, TABLE, List.of(CqlIdentifier.fromCql("name")), partitionKey, false))
+        .isEqualTo("SELECT name FROM ks.\"Products\" WHERE token(k1,k2) > ?");
+  }
+
+  @Test
+  void should_unwrap_ring_and_sort_ranges() {
+    // given
+    Set<TokenRange> ring = Set.of(range(-100, 100), range(100, -100));
+
+    // when
+    List<ScanRange> ranges = TokenRangeScan.split(ring, 1, MIN);
+
+    // then
+    assertThat(ranges).hasSize(3);
+    assertRange(ranges.get(0), Long.MIN_VALUE, -100, -100, true);
+    assertRange(ranges.get(1), -100, 100, 100, true);
+    assertRange(ranges.get(2), 100, Long.MIN_VALUE, -100, false);
+  }
+
+  @Test
+  void should_split_ring_ranges_and_route_to_owner() {
+    // given
+    Set<TokenRange> ring = Set.of(range(0, 100), range(100, 0));
+
+    // when
+    List<ScanRange> ranges = TokenRangeScan.split(ring, 4, MIN);
+
+    // then
+    assertThat(ranges).hasSize(5);
+    assertThat(ranges.get(0).tokenRange.getStart()).isEqualTo(MIN);
+    assertThat(ranges.get(4).tokenRange.getEnd()).isEqualTo(MIN);
+    assertThat(ranges.get(4).bounded).isFalse();
+    assertThat(ranges.subList(0, 4)).allMatch(range -> range.bounded);
+    assertThat(ranges.stream().filter(r -> r.routingToken.equals(token(100)))).hasSize(2);
+    for (int i = 1; i < ranges.size(); i++) {
+      assertThat(ranges.get(i).tokenRange.getStart())
+          .isEqualTo(ranges.get(i - 1).tokenRange.getEnd());
+    }
+  }
+
+  @Test
+  void should_scan_full_ring_with_single_unbounded_range() {
+    List<ScanRange> ranges =
+        TokenRangeScan.split(Set.of(range(Long.MIN_VALUE, Long.MIN_VALUE)), 1, MIN);
+    assertThat(ranges).hasSize(1);
+    assertRange(ranges.get(0), Long.MIN_VALUE, Long.MIN_VALUE, Long.MIN_VALUE, false);
+  }
+
+  @Test
+  void should_fail_when_table_is_unknown() {
+    // given
+    MutinyReactiveSession session = mock(MutinyReactiveSession.class);
+    Metadata metadata = mock(Metadata.class);
+    when(session.getMetadata()).thenReturn(metadata);
+    when(metadata.getKeyspace(KS)).thenReturn(Optional.empty());
+    AssertSubscriber<ReactiveRow> subscriber = AssertSubscriber.create(1);
+
+    // when
+    TokenRangeScan.scan(session, KS, TABLE, List.of(), ScanOptions.DEFAULT).subscribe(subscriber);
+
+    // then
+    subscriber.assertFailedWith(IllegalArgumentException.class, "Unknown keyspace ks");
+  }
+
+  @Test
+  void should_prefetch_streams_ahead_and_emit_them_in_order() {
+    // given
+    List<String> events = new CopyOnWriteArrayList<>();
+    List<Supplier<Multi<Integer>>> streams =
+        List.of(stream(events, 0, 0, 1), stream(events, 1, 2, 3), stream(events, 2, 4, 5));
+    AssertSubscriber<Integer> subscriber = AssertSubscriber.create(1);
+
+    // when
+    TokenRangeScan.concatenateAhead(streams, 2).subscribe(subscriber);
+
+    // then
+    // the second stream is queried while the first one is consumed, but only for one item
+    subscriber.assertItems(0);
+    assertThat(events)
+        .containsExactly("subscribe 0", "request 0: 1", "subscribe 1", "request 1: 1");
+
+    // when
+    subscriber.request(Long.MAX_VALUE);
+
+    // then
+    subscriber.assertCompleted();
+    assertThat(subscriber.getItems()).containsExactly(0, 1, 2, 3, 4, 5);
+    // the third stream is queried once the first one is done, before the second one is consumed
+    assertThat(events)
+        .containsSubsequence(
+            "request 0: " + Long.MAX_VALUE, "subscribe 2", "request 1: " + Long.MAX_VALUE);
+  }
+
+  @Test
+  void should_cancel_streams_prefetched_ahead() {
+    // given
+    List<String> events = new CopyOnWriteArrayList<>();
+    List<Supplier<Multi<Integer>>> streams =
+        List.of(stream(events, 0, 0, 1), stream(events, 1, 2, 3), stream(events, 2, 4, 5));
+    AssertSubscriber<Integer> subscriber = AssertSubscriber.create(1);
+    TokenRangeScan.concatenateAhead(streams, 2).subscribe(subscriber);
+
+    // when
+    subscriber.cancel();
+
+    // then
+    assertThat(events).contains("cancel 0", "cancel 1").doesNotContain("subscribe 2");
+  }
+
+  private static Supplier<Multi<Integer>> stream(List<String> events, int index, int... items) {
+    return () ->
+        Multi.createFrom()
+            .items(IntStream.of(items).boxed())
+            .onSubscription()
+            .invoke(() -> events.add("subscribe " + index))
+            .onRequest()
+            .invoke(n -> events.add("request " + index + ": " + n))
+            .onCancellation()
+            .invoke(() -> events.add("cancel " + index));
+  }
+
+  private static void assertRange(
+      ScanRange range, long start, long end, long routingToken, boolean bounded) {
+    assertThat(range.tokenRange.getStart()).isEqualTo(token(start));
+    assertThat(range.tokenRange.getEnd()).isEqualTo(token(end));
+    assertThat(range.routingToken).isEqualTo(token(routingToken));
+    assertThat(range.bounded).isEqualTo(bounded);
+  }
+
+  private static TokenRange range(long start, long end) {
+    return new Murmur3TokenRange(token(start), token(end));
+  }
+
+  private static Murmur3Token token(long value) {
+    return new Murmur3Token(value);
+  }
+}
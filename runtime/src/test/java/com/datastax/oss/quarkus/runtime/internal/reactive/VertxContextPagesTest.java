@@ -0,0 +1,119 @@
+/*
+ * Copyright DataStax, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.quarkus.runtime.internal.reactive;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.datastax.dse.driver.internal.core.cql.reactive.DefaultReactiveResultSet;
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class VertxContextPagesTest {
+
+  private Vertx vertx;
+  private ExecutorService driverThread;
+
+  @BeforeEach
+  void setup() {
+    vertx = Vertx.vertx();
+    driverThread = Executors.newSingleThreadExecutor();
+  }
+
+  @AfterEach
+  void teardown() throws Exception {
+    driverThread.shutdownNow();
+    vertx.close().toCompletionStage().toCompletableFuture().get(5, TimeUnit.SECONDS);
+  }
+
+  @Test
+  void should_return_callable_unchanged_without_context() {
+    Callable<CompletionStage<AsyncResultSet>> firstPage =
+        () -> MockAsyncResultSet.createResults(1, 1);
+    assertThat(VertxContextPages.onCurrentContext(firstPage)).isSameAs(firstPage);
+  }
+
+  @Test
+  void should_emit_all_rows_on_subscriber_context() throws Exception {
+    // given
+    Context context = vertx.getOrCreateContext();
+    AtomicInteger rowsOnContext = new AtomicInteger();
+    AtomicInteger rowsElsewhere = new AtomicInteger();
+    CompletableFuture<Void> done = new CompletableFuture<>();
+
+    // when
+    context.runOnContext(
+        v ->
+            new DefaultMutinyReactiveResultSet(
+                    new DefaultReactiveResultSet(
+                        VertxContextPages.onCurrentContext(
+                            // the first page completes on another thread
+                            () ->
+                                MockAsyncResultSet.createResults(4, 5)
+                                    .thenApplyAsync(rs -> rs, driverThread))))
+                .subscribe()
+                .with(
+                    row -> {
+                      if (Vertx.currentContext() == context) {
+                        rowsOnContext.incrementAndGet();
+                      } else {
+                        rowsElsewhere.incrementAndGet();
+                      }
+                    },
+                    done::completeExceptionally,
+                    () -> done.complete(null)));
+
+    // then
+    done.get(5, TimeUnit.SECONDS);
+    assertThat(rowsOnContext.get()).isEqualTo(20);
+    assertThat(rowsElsewhere.get()).isZero();
+  }
+
+  @Test
+  void should_hand_over_failed_pages_to_subscriber_context() throws Exception {
+    // given
+    Context context = vertx.getOrCreateContext();
+    CompletableFuture<Context> failureContext = new CompletableFuture<>();
+
+    // when
+    context.runOnContext(
+        v ->
+            new DefaultMutinyReactiveResultSet(
+                    new DefaultReactiveResultSet(
+                        VertxContextPages.onCurrentContext(
+                            () ->
+                                CompletableFuture.<AsyncResultSet>supplyAsync(
+                                    () -> {
+                                      throw new IllegalStateException("boom");
+                                    },
+                                    driverThread))))
+                .subscribe()
+                .with(row -> {}, error -> failureContext.complete(Vertx.currentContext())));
+
+    // then
+    assertThat(failureContext.get(5, TimeUnit.SECONDS)).isSameAs(context);
+  }
+}
@@ -0,0 +1,223 @@
+/*
+ * Copyright DataStax, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.quarkus.runtime.internal.reactive.mapper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.datastax.dse.driver.internal.core.cql.reactive.DefaultReactiveResultSet;
+import com.datastax.oss.driver.api.core.CqlIdentifier;
+import com.datastax.oss.driver.api.core.DefaultProtocolVersion;
+import com.datastax.oss.driver.api.core.cql.ColumnDefinition;
+import com.datastax.oss.driver.api.core.cql.ColumnDefinitions;
+import com.datastax.oss.driver.api.core.cql.PagingState;
+import com.datastax.oss.driver.api.core.cql.Row;
+import com.datastax.oss.driver.api.core.type.DataTypes;
+import com.datastax.oss.driver.api.core.type.codec.TypeCodec;
+import com.datastax.oss.driver.api.core.type.codec.TypeCodecs;
+import com.datastax.oss.driver.api.core.type.codec.registry.CodecRegistry;
+import com.datastax.oss.driver.api.mapper.entity.EntityHelper;
+import com.datastax.oss.quarkus.runtime.api.reactive.MutinyPage;
+import com.datastax.oss.quarkus.runtime.api.reactive.mapper.LwtResult;
+import com.datastax.oss.quarkus.runtime.internal.reactive.MockAsyncResultSet;
+import io.smallrye.mutiny.helpers.test.AssertSubscriber;
+import io.smallrye.mutiny.helpers.test.UniAssertSubscriber;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class MapperMutinyWrappersTest {
+
+  private final AtomicInteger createdDecoders = new AtomicInteger();
+
+  private final EntityDecoderFactory<Integer> decoderFactory =
+      columns -> {
+        createdDecoders.incrementAndGet();
+        int index = columns.indexOf("v");
+        TypeCodec<Integer> codec = columns.codecFor(index, Integer.class);
+        return row -> columns.getInt(row, index, codec);
+      };
+
+  @Test
+  void should_decode_rows_by_position_with_one_decoder_per_result_set() {
+    // given
+    ColumnDefinitions definitions = columnDefinitions("k", "v");
+    List<Row> rows = new ArrayList<>();
+    for (int i = 0; i < 10; i++) {
+      rows.add(row(definitions, i));
+    }
+    AssertSubscriber<Integer> subscriber = AssertSubscriber.create(Long.MAX_VALUE);
+
+    // when
+    new DefaultMutinyMappedReactiveResultSet<>(
+            MapperMutinyWrappers.toDecodedResultSet(
+                new DefaultReactiveResultSet(
+                    () -> CompletableFuture.completedFuture(new MockAsyncResultSet(rows, null))),
+                decoderFactory))
+        .subscribe(subscriber);
+
+    // then
+    subscriber.assertCompleted().assertItems(0, 1, 2, 3, 4, 5, 6, 7, 8, 9);
+    assertThat(createdDecoders.get()).isEqualTo(1);
+  }
+
+  @Test
+  void should_decode_applied_only_row_as_null() {
+    // given
+    ColumnDefinitions definitions = columnDefinitions("[applied]");
+    Row row = row(definitions, 0);
+    UniAssertSubscriber<Integer> subscriber = UniAssertSubscriber.create();
+
+    // when
+    MapperMutinyWrappers.toEntityUni(
+            new DefaultReactiveResultSet(
+                () ->
+                    CompletableFuture.completedFuture(new MockAsyncResultSet(List.of(row), null))),
+            decoderFactory)
+        .subscribe()
+        .withSubscriber(subscriber);
+
+    // then
+    subscriber.assertCompleted().assertItem(null);
+    assertThat(createdDecoders.get()).isZero();
+  }
+
+  @Test
+  void should_fail_when_column_is_missing() {
+    // given
+    ColumnDefinitions definitions = columnDefinitions("k");
+    Row row = row(definitions, 0);
+    UniAssertSubscriber<Integer> subscriber = UniAssertSubscriber.create();
+
+    // when
+    MapperMutinyWrappers.toEntityUni(
+            new DefaultReactiveResultSet(
+                () ->
+                    CompletableFuture.completedFuture(new MockAsyncResultSet(List.of(row), null))),
+            decoderFactory)
+        .subscribe()
+        .withSubscriber(subscriber);
+
+    // then
+    subscriber.assertFailedWith(IllegalArgumentException.class, "v is not a column in this row");
+  }
+
+  @Test
+  void should_decode_single_page_and_expose_paging_state() {
+    // given
+    ColumnDefinitions definitions = columnDefinitions("k", "v");
+    List<Row> rows = List.of(row(definitions, 1), row(definitions, 2));
+    MockAsyncResultSet resultSet =
+        new MockAsyncResultSet(rows, new CompletableFuture<>()); // next page never fetched
+    PagingState pagingState = mock(PagingState.class);
+    when(resultSet.getExecutionInfo().getSafePagingState()).thenReturn(pagingState);
+    UniAssertSubscriber<MutinyPage<Integer>> subscriber = UniAssertSubscriber.create();
+
+    // when
+    MapperMutinyWrappers.toEntityPageUni(
+            () -> CompletableFuture.completedFuture(resultSet), decoderFactory)
+        .subscribe()
+        .withSubscriber(subscriber);
+
+    // then
+    MutinyPage<Integer> page = subscriber.assertCompleted().getItem();
+    assertThat(page.getItems()).containsExactly(1, 2);
+    assertThat(page.hasMorePages()).isTrue();
+    assertThat(page.getPagingState()).isSameAs(pagingState);
+  }
+
+  @Test
+  void should_read_applied_flag_and_current_entity_from_same_row() {
+    // given
+    CqlIdentifier applied = CqlIdentifier.fromInternal("[applied]");
+    ColumnDefinitions definitions = columnDefinitions("[applied]", "v");
+    ColumnDefinition appliedDefinition = mock(ColumnDefinition.class);
+    when(appliedDefinition.getType()).thenReturn(DataTypes.BOOLEAN);
+    when(definitions.contains(applied)).thenReturn(true);
+    when(definitions.get(applied)).thenReturn(appliedDefinition);
+    Row row = row(definitions, 42);
+    when(row.getBoolean(applied)).thenReturn(false);
+    @SuppressWarnings("unchecked")
+    EntityHelper<Integer> entityHelper = mock(EntityHelper.class);
+    when(entityHelper.get(any(Row.class), eq(true))).thenReturn(42);
+    UniAssertSubscriber<LwtResult<Integer>> subscriber = UniAssertSubscriber.create();
+
+    // when
+    MapperMutinyWrappers.toLwtResultUni(
+            new DefaultReactiveResultSet(
+                () ->
+                    CompletableFuture.completedFuture(new MockAsyncResultSet(List.of(row), null))),
+            entityHelper)
+        .subscribe()
+        .withSubscriber(subscriber);
+
+    // then
+    LwtResult<Integer> result = subscriber.assertCompleted().getItem();
+    assertThat(result.wasApplied()).isFalse();
+    assertThat(result.getEntity()).isEqualTo(42);
+  }
+
+  @Test
+  void should_report_applied_when_no_row_is_returned() {
+    // given
+    @SuppressWarnings("unchecked")
+    EntityHelper<Integer> entityHelper = mock(EntityHelper.class);
+    UniAssertSubscriber<LwtResult<Integer>> subscriber = UniAssertSubscriber.create();
+
+    // when
+    MapperMutinyWrappers.toLwtResultUni(
+            new DefaultReactiveResultSet(
+                () -> CompletableFuture.completedFuture(new MockAsyncResultSet(List.of(), null))),
+            entityHelper)
+        .subscribe()
+        .withSubscriber(subscriber);
+
+    // then
+    LwtResult<Integer> result = subscriber.assertCompleted().getItem();
+    assertThat(result.wasApplied()).isTrue();
+    assertThat(result.getEntity()).isNull();
+    verifyNoInteractions(entityHelper);
+  }
+
+  private static ColumnDefinitions columnDefinitions(String... names) {
+    ColumnDefinitions definitions = mock(ColumnDefinitions.class);
+    when(definitions.size()).thenReturn(names.length);
+    when(definitions.firstIndexOf("v")).thenReturn(-1);
+    for (int i = 0; i < names.length; i++) {
+      ColumnDefinition definition = mock(ColumnDefinition.class);
+      when(definition.getName()).thenReturn(CqlIdentifier.fromInternal(names[i]));
+      when(definition.getType()).thenReturn(DataTypes.INT);
+      when(definitions.get(i)).thenReturn(definition);
+      when(definitions.firstIndexOf(names[i])).thenReturn(i);
+    }
+    return definitions;
+  }
+
+  private static Row row(ColumnDefinitions definitions, int value) {
+    Row row = mock(Row.class);
+    when(row.getColumnDefinitions()).thenReturn(definitions);
+    when(row.codecRegistry()).thenReturn(CodecRegistry.DEFAULT);
+    when(row.protocolVersion()).thenReturn(DefaultProtocolVersion.V4);
+    when(row.getBytesUnsafe(1)).thenReturn(TypeCodecs.INT.encode(value, DefaultProtocolVersion.V4));
+    return row;
+  }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright DataStax, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.quarkus.runtime.internal.session;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.datastax.dse.driver.api.core.cql.reactive.ReactiveRow;
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.RequestThrottlingException;
+import com.datastax.oss.driver.api.core.config.DriverConfig;
+import com.datastax.oss.driver.api.core.config.DriverExecutionProfile;
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
+import com.datastax.oss.driver.api.core.cql.Row;
+import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+import com.datastax.oss.driver.api.core.cql.Statement;
+import com.datastax.oss.quarkus.runtime.api.reactive.MutinyReactiveResultSet;
+import com.datastax.oss.quarkus.runtime.internal.context.QuarkusDriverContext;
+import com.datastax.oss.quarkus.runtime.internal.reactive.MockAsyncResultSet;
+import io.smallrye.mutiny.helpers.test.AssertSubscriber;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class DefaultQuarkusCqlSessionTest {
+
+  private final RequestDrainer drainer = new RequestDrainer("test");
+  private final CompletableFuture<AsyncResultSet> secondPage = new CompletableFuture<>();
+  private CqlSession delegate;
+  private DefaultQuarkusCqlSession session;
+
+  @BeforeEach
+  void setup() {
+    DriverConfig config = mock(DriverConfig.class);
+    when(config.getDefaultProfile()).thenReturn(mock(DriverExecutionProfile.class));
+    QuarkusDriverContext context = mock(QuarkusDriverContext.class);
+    when(context.getConfig()).thenReturn(config);
+    when(context.getRequestDrainer()).thenReturn(drainer);
+    delegate = mock(CqlSession.class);
+    when(delegate.getContext()).thenReturn(context);
+    when(delegate.execute(any(Statement.class), eq(Statement.ASYNC)))
+        .thenReturn(
+            CompletableFuture.completedFuture(
+                new MockAsyncResultSet(List.of(mock(Row.class)), secondPage)));
+    session = new DefaultQuarkusCqlSession(delegate);
+  }
+
+  @Test
+  void should_drain_once_paged_reactive_read_completes() throws Exception {
+    // given
+    AssertSubscriber<ReactiveRow> subscriber = AssertSubscriber.create(Long.MAX_VALUE);
+    session.executeReactive(SimpleStatement.newInstance("SELECT")).subscribe(subscriber);
+    subscriber.awaitItems(1);
+
+    // when
+    CompletableFuture<Boolean> drained = drain();
+
+    // then
+    // the first page is received, but the read still fetches its second page
+    assertThat(drainer.getInFlight()).isEqualTo(1);
+    assertThat(drained).isNotDone();
+
+    // when
+    secondPage.complete(new MockAsyncResultSet(List.of(mock(Row.class)), null));
+
+    // then
+    subscriber.awaitCompletion();
+    assertThat(subscriber.getItems()).hasSize(2);
+    assertThat(drained.get()).isTrue();
+  }
+
+  @Test
+  void should_release_permit_when_reactive_read_is_cancelled() {
+    // given
+    AssertSubscriber<ReactiveRow> subscriber = AssertSubscriber.create(1);
+    session.executeReactive(SimpleStatement.newInstance("SELECT")).subscribe(subscriber);
+    subscriber.awaitItems(1);
+    assertThat(drainer.getInFlight()).isEqualTo(1);
+
+    // when
+    subscriber.cancel();
+
+    // then
+    assertThat(drainer.getInFlight()).isZero();
+  }
+
+  @Test
+  void should_reject_reactive_read_when_draining() throws Exception {
+    // given
+    assertThat(drainer.drain(Duration.ofSeconds(1))).isTrue();
+    AssertSubscriber<ReactiveRow> subscriber = AssertSubscriber.create(Long.MAX_VALUE);
+    AssertSubscriber<Boolean> wasApplied = AssertSubscriber.create(Long.MAX_VALUE);
+
+    // when
+    MutinyReactiveResultSet resultSet =
+        session.executeReactive(SimpleStatement.newInstance("SELECT"));
+    resultSet.wasApplied().subscribe(wasApplied);
+    resultSet.subscribe(subscriber);
+
+    // then
+    subscriber.assertFailedWith(RequestThrottlingException.class);
+    wasApplied.assertFailedWith(RequestThrottlingException.class);
+    assertThat(drainer.getInFlight()).isZero();
+    verify(delegate, never()).execute(any(Statement.class), eq(Statement.ASYNC));
+  }
+
+  private CompletableFuture<Boolean> drain() {
+    CompletableFuture<Boolean> drained =
+        CompletableFuture.supplyAsync(
+            () -> {
+              try {
+                return drainer.drain(Duration.ofSeconds(10));
+              } catch (InterruptedException e) {
+                throw new AssertionError(e);
+              }
+            });
+    while (!drainer.isDraining()) {
+      Thread.onSpinWait();
+    }
+    return drained;
+  }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright DataStax, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.quarkus.runtime.internal.session;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.datastax.oss.driver.api.core.RequestThrottlingException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class RequestDrainerTest {
+
+  @Test
+  void should_complete_drain_when_requests_in_flight_are_released() throws Exception {
+    // given
+    RequestDrainer drainer = new RequestDrainer("test");
+    assertThat(drainer.tryAcquire()).isTrue();
+    assertThat(drainer.tryAcquire()).isTrue();
+    assertThat(drainer.getInFlight()).isEqualTo(2);
+
+    // when
+    CompletableFuture<Boolean> drained =
+        CompletableFuture.supplyAsync(
+            () -> {
+              try {
+                return drainer.drain(Duration.ofSeconds(10));
+              } catch (InterruptedException e) {
+                throw new AssertionError(e);
+              }
+            });
+    while (!drainer.isDraining()) {
+      Thread.onSpinWait();
+    }
+    drainer.release();
+
+    // then
+    assertThat(drained).isNotDone();
+
+    // when
+    drainer.release();
+
+    // then
+    assertThat(drained.get()).isTrue();
+    assertThat(drainer.getAbortedRequests()).isZero();
+  }
+
+  @Test
+  void should_reject_new_requests_but_admit_requests_of_running_operations() throws Exception {
+    // given
+    RequestDrainer drainer = new RequestDrainer("test");
+    assertThat(drainer.drain(Duration.ofSeconds(1))).isTrue();
+
+    // when
+    boolean acquired = drainer.tryAcquire();
+    drainer.acquire();
+
+    // then
+    assertThat(acquired).isFalse();
+    assertThat(drainer.getRejectedRequests()).isEqualTo(1);
+    assertThat(drainer.getInFlight()).isEqualTo(1);
+    assertThat(drainer.newRejection())
+        .isInstanceOf(RequestThrottlingException.class)
+        .hasMessageContaining("[test]");
+  }
+
+  @Test
+  void should_count_aborted_requests_and_record_duration_when_drain_times_out() throws Exception {
+    // given
+    AtomicLong clock = new AtomicLong();
+    RequestDrainer drainer = new RequestDrainer("test", () -> clock.addAndGet(1_000));
+    List<Long> durations = new ArrayList<>();
+    List<Boolean> removed = new ArrayList<>();
+    drainer.setMetrics(durations::add, () -> removed.add(true));
+    drainer.acquire();
+    drainer.acquire();
+
+    // when
+    boolean drained = drainer.drain(Duration.ofMillis(10));
+
+    // then
+    assertThat(drained).isFalse();
+    assertThat(drainer.getAbortedRequests()).isEqualTo(2);
+    assertThat(durations).containsExactly(1_000L);
+
+    // when
+    drainer.close();
+    drainer.close();
+
+    // then
+    assertThat(removed).containsExactly(true);
+  }
+}